@@ -0,0 +1,105 @@
+package org.nextme.notificationservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.nextme.notificationservice.domain.SendReport;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.nextme.notificationservice.infrastructure.http.DownstreamLimiter;
+import org.nextme.notificationservice.infrastructure.slack.SlackApiClient;
+import org.nextme.notificationservice.infrastructure.slack.SlackChannelResolver;
+import org.nextme.notificationservice.infrastructure.slack.SlackMessageSend;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimiter;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * SlackMessageSend.send 전체 경로 (채널 캐시 → 템플릿 직렬화 → 풀링 HTTP → 응답 파싱) 를 스텁 Slack 에 대해 측정
+ *
+ * - rate limit 대기는 제외 (실제 처리량 상한은 Slack 한도가 정하므로 여기서는 우리 쪽 비용만)
+ * - 토큰은 주입하지 않음 (스텁은 Authorization 을 보지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class MessageSendBenchmark {
+
+	private static final List<String> RECIPIENTS = List.of("U0100001", "U0100002");
+
+	private StubSlackServer slack;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+	private SlackMessageSend messageSend;
+
+	@Setup
+	public void setUp() throws Exception {
+		slack = new StubSlackServer();
+
+		connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(16)
+			.setMaxConnPerRoute(16)
+			.build();
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+		RestClient restClient = RestClient.builder()
+			.baseUrl(slack.baseUrl())
+			.requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+			.build();
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		DownstreamLimiter downstreamLimiter = new DownstreamLimiter("slack", 16, Duration.ofSeconds(30), meterRegistry);
+		SlackApiClient slackApiClient = new SlackApiClient(
+			restClient, new UnthrottledRateLimiter(meterRegistry), downstreamLimiter,
+			new DownstreamCircuitBreakers(new StandardEnvironment(), meterRegistry), ObservationRegistry.NOOP);
+		SlackChannelResolver channelResolver = new SlackChannelResolver(10_000, Duration.ofHours(6), meterRegistry);
+		messageSend = new SlackMessageSend(
+			slackApiClient, channelResolver, new SlackMessageTemplates(), recipient -> Optional.empty(), 8, 16, false);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		httpClient.close();
+		connectionManager.close();
+		slack.close();
+	}
+
+	@Benchmark
+	public SendReport send() {
+		return messageSend.send(RECIPIENTS, "[ALERT] promotion-api p99 latency 2300ms > 1000ms");
+	}
+
+	/**
+	 * 토큰 버킷 대기 없이 바로 호출
+	 */
+	private static final class UnthrottledRateLimiter extends SlackRateLimiter {
+
+		UnthrottledRateLimiter(SimpleMeterRegistry meterRegistry) {
+			super(meterRegistry, Double.MAX_VALUE, Integer.MAX_VALUE, Duration.ofMinutes(1), 0, 1.0, 1.0);
+		}
+
+		@Override
+		public <T> T execute(String method, String channel, Supplier<T> call) {
+			return call.get();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package org.nextme.notificationservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.OutboundNotification;
+import org.nextme.notificationservice.application.Undelivered;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationBatchConsumer;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler;
+import org.nextme.notificationservice.infrastructure.kafka.dedup.MonitoringEventDeduplicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * monitoring.notification 배치 처리량: 레코드 하나씩 보내는 경로 vs 수신자 그룹별 병렬 전송 (MonitoringNotificationBatchConsumer)
+ *
+ * - 전송은 slackLatencyMicros 만큼 멈췄다가 성공하는 대역 (Slack 왕복 시간만 흉내, 우리 쪽 비용은 MessageSendBenchmark)
+ * - 배치 160건, 수신자 16명 → 그룹 16개
+ * - 점수는 레코드당 처리량 (ops = 레코드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MonitoringBatchDispatchBenchmark {
+
+	private static final int RECORDS = 160;
+	private static final int RECIPIENTS = 16;
+
+	@Param({"2000"})
+	public long slackLatencyMicros;
+
+	private MonitoringNotificationHandler handler;
+	private MonitoringNotificationBatchConsumer consumer;
+	private List<ConsumerRecord<String, byte[]>> records;
+
+	@Setup
+	public void setUp() {
+		long latencyNanos = TimeUnit.MICROSECONDS.toNanos(slackLatencyMicros);
+		NotificationService slack = new NotificationService(null, null, null, null, null) {
+			@Override
+			public Undelivered deliverDurably(OutboundNotification notification) {
+				LockSupport.parkNanos(latencyNanos);
+				return Undelivered.none();
+			}
+		};
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		// 같은 레코드를 반복해서 보내므로 중복 제거는 끔
+		MonitoringEventDeduplicator deduplicator = new MonitoringEventDeduplicator(
+			null, null, meterRegistry, false, false, Duration.ofHours(1), 4, 10_000, 0.000001, 10_000);
+		handler = new MonitoringNotificationHandler(slack, deduplicator, meterRegistry);
+		consumer = new MonitoringNotificationBatchConsumer(
+			handler, null, null, meterRegistry, ObservationRegistry.NOOP, 8, false);
+
+		records = new ArrayList<>(RECORDS);
+		for (int i = 0; i < RECORDS; i++) {
+			String value = """
+				{"slackUserIds":["U%07d"],"message":"alert %d","actionId":null,"actionValue":null}
+				""".formatted(i % RECIPIENTS, i);
+			records.add(new ConsumerRecord<>(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, 0, i, null,
+				value.getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public void serial() throws IOException {
+		for (ConsumerRecord<String, byte[]> record : records) {
+			handler.dispatch(handler.decode(record));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public void grouped() {
+		consumer.handleMonitoringNotifications(records);
+	}
+}
@@ -0,0 +1,85 @@
+package org.nextme.notificationservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * monitoring.notification 레코드 값(byte[]) → 이벤트 디코딩 비용
+ *
+ * - treeConvert: 이전 Consumer 경로 (String 변환 + readTree + convertValue)
+ * - typedRead: ObjectMapper 로 레코드에 바로 역직렬화
+ * - streamingJson: MonitoringNotificationEventCodec (JsonParser 토큰 루프)
+ * - streamingSmile: 같은 디코더, Smile 인코딩 (content-type: application/x-jackson-smile)
+ *
+ * 레코드당 할당량은 -prof gc 로 확인 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonitoringEventParseBenchmark {
+
+	private static final TypeReference<List<String>> SLACK_IDS_TYPE = new TypeReference<>() {};
+
+	@Param({"1", "20"})
+	int recipients;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private byte[] eventJson;
+	private byte[] eventSmile;
+
+	@Setup
+	public void setUp() throws IOException {
+		String ids = IntStream.range(0, recipients)
+			.mapToObj(i -> "\"U0" + (100000 + i) + "\"")
+			.collect(Collectors.joining(","));
+		eventJson = """
+			{"slackUserIds":[%s],"message":"[ALERT] promotion-api p99 latency 2300ms > 1000ms (5m)\\n- pod: promotion-api-7d9c\\n- region: ap-northeast-2","actionId":"scale_out","actionValue":"promotion-api:+2"}
+			""".formatted(ids).getBytes(StandardCharsets.UTF_8);
+		eventSmile = MonitoringNotificationEventCodec.encode(
+			MonitoringNotificationEventCodec.decode(eventJson, WireFormat.JSON), WireFormat.SMILE);
+	}
+
+	@Benchmark
+	public MonitoringNotificationEvent treeConvert() throws IOException {
+		JsonNode json = objectMapper.readTree(new String(eventJson, StandardCharsets.UTF_8));
+		List<String> slackUserIds = objectMapper.convertValue(json.get("slackUserIds"), SLACK_IDS_TYPE);
+		return new MonitoringNotificationEvent(slackUserIds, json.get("message").asText(),
+			json.path("actionId").asText(null), json.path("actionValue").asText(null),
+			NotificationPriority.of(json.path("priority").asText(null)));
+	}
+
+	@Benchmark
+	public MonitoringNotificationEvent typedRead() throws IOException {
+		return objectMapper.readValue(eventJson, MonitoringNotificationEvent.class);
+	}
+
+	@Benchmark
+	public MonitoringNotificationEvent streamingJson() throws IOException {
+		return MonitoringNotificationEventCodec.decode(eventJson, WireFormat.JSON);
+	}
+
+	@Benchmark
+	public MonitoringNotificationEvent streamingSmile() throws IOException {
+		return MonitoringNotificationEventCodec.decode(eventSmile, WireFormat.SMILE);
+	}
+}
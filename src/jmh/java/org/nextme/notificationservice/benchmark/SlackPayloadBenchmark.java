@@ -0,0 +1,91 @@
+package org.nextme.notificationservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chat.postMessage 요청 본문 생성 + 직렬화 비용 (버튼 메시지)
+ *
+ * - mapTree: 템플릿 도입 전 buildInteractiveBlocks 의 Map.of 트리 + ObjectMapper
+ * - template: SlackMessageTemplates.approvalRequest → JsonGenerator
+ * - 바이트/메시지는 gc 프로파일러의 gc.alloc.rate.norm 참고
+ *   ./gradlew jmh -PjmhIncludes=SlackPayload
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlackPayloadBenchmark {
+
+	private static final String MESSAGE = "*[ALERT]* promotion-api p99 latency 2300ms > 1000ms\n스케일 아웃할까요?";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+	private SlackMessageTemplates templates;
+
+	@Setup
+	public void setUp() {
+		templates = new SlackMessageTemplates();
+	}
+
+	@Benchmark
+	public int mapTree() throws IOException {
+		out.reset();
+		objectMapper.writeValue(out, Map.of(
+			"channel", "D0123456",
+			"text", MESSAGE,
+			"blocks", buildInteractiveBlocks(MESSAGE, "scale_out", "promotion-api:+2")
+		));
+		return out.size();
+	}
+
+	@Benchmark
+	public int template() throws IOException {
+		out.reset();
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			templates.approvalRequest("D0123456", MESSAGE, "scale_out", "promotion-api:+2").writeTo(generator);
+		}
+		return out.size();
+	}
+
+	private static List<Map<String, Object>> buildInteractiveBlocks(String message, String actionId, String actionValue) {
+		return List.of(
+			Map.of("type", "section", "text", Map.of("type", "mrkdwn", "text", message)),
+			Map.of("type", "divider"),
+			Map.of(
+				"type", "actions",
+				"block_id", "actions_block_" + System.currentTimeMillis(),
+				"elements", List.of(
+					Map.of(
+						"type", "button",
+						"text", Map.of("type", "plain_text", "text", "✅ 실행", "emoji", true),
+						"style", "primary",
+						"action_id", actionId + "_approve",
+						"value", actionValue
+					),
+					Map.of(
+						"type", "button",
+						"text", Map.of("type", "plain_text", "text", "❌ 거부", "emoji", true),
+						"style", "danger",
+						"action_id", actionId + "_reject",
+						"value", actionValue
+					)
+				)
+			)
+		);
+	}
+}
@@ -0,0 +1,58 @@
+package org.nextme.notificationservice.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크용 in-JVM Slack Web API 스텁
+ *
+ * - conversations.open / chat.postMessage 에 항상 ok=true 로 즉시 응답
+ * - 네트워크/Slack 지연은 빼고 우리 쪽 전송 경로 비용만 재기 위함
+ */
+final class StubSlackServer implements AutoCloseable {
+
+	private static final byte[] OPEN_RESPONSE =
+		"{\"ok\":true,\"channel\":{\"id\":\"D0123456\"}}".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] POST_RESPONSE =
+		"{\"ok\":true,\"channel\":\"D0123456\",\"ts\":\"1700000000.000100\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	StubSlackServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+		executor = Executors.newFixedThreadPool(8);
+		server.createContext("/api/conversations.open", exchange -> respond(exchange, OPEN_RESPONSE));
+		server.createContext("/api/chat.postMessage", exchange -> respond(exchange, POST_RESPONSE));
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+	}
+
+	private static void respond(com.sun.net.httpserver.HttpExchange exchange, byte[] body) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
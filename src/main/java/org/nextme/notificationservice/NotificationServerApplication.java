@@ -2,7 +2,9 @@ package org.nextme.notificationservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
 public class NotificationServerApplication {
 
@@ -10,4 +12,4 @@ public class NotificationServerApplication {
         SpringApplication.run(NotificationServerApplication.class, args);
     }
 
-}
\ No newline at end of file
+}
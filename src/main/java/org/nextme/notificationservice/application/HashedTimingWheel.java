@@ -0,0 +1,193 @@
+package org.nextme.notificationservice.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 해시 타이밍 휠 (Varghese &amp; Lauck 방식)
+ *
+ * - 시간을 tick 단위로 나누고 wheelSize 개의 버킷을 원형으로 돌림, 타이머는 만료 tick 의 버킷에 이중 연결 리스트로 매달림
+ * - 한 바퀴보다 먼 타이머는 남은 바퀴 수(rounds)를 들고 있다가 버킷을 지날 때마다 하나씩 줄임
+ * - 등록/취소 O(1) (버킷 계산 + 리스트 연결/해제), tick 마다 현재 버킷만 훑음
+ * - 타이머마다 스레드/ScheduledFuture 가 없으므로 수백만 개를 들고 있어도 노드 메모리만 씀
+ * - 정밀도는 tick 단위 (늦게 만료될 수는 있어도 일찍 만료되지는 않음)
+ * - advance() 는 한 스레드(타이머 스레드)에서만 부르고, 등록/취소는 아무 스레드에서나 호출 가능 (lock)
+ *
+ * @param <T> 타이머에 달아 두는 값 (ex. 예약 알림 ID)
+ */
+public final class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 다음에 처리할 tick 번호 (startNanos + currentTick * tickNanos 가 그 tick 의 경계 시각)
+     */
+    private long currentTick;
+
+    private int size;
+
+    /**
+     * @param tickNanos 한 칸의 길이
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param nowNanos  기준 시각 (System.nanoTime())
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickNanos, int wheelSize, long nowNanos) {
+        if (tickNanos <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickNanos and wheelSize must be positive");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickNanos;
+        this.startNanos = nowNanos;
+        this.wheel = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * 타이머 등록 (deadline 이 이미 지났으면 다음 tick 에 만료)
+     *
+     * @param deadlineNanos 만료 시각 (System.nanoTime() 기준)
+     * @return 취소용 핸들
+     */
+    public Timeout<T> schedule(T value, long deadlineNanos) {
+        Timeout<T> timeout = new Timeout<>(value, deadlineNanos);
+        lock.lock();
+        try {
+            // deadline 이후 첫 tick 경계
+            long elapsed = deadlineNanos - startNanos;
+            long deadlineTick = elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+            long tick = Math.max(deadlineTick, currentTick);
+            timeout.rounds = (tick - currentTick) / wheel.length;
+            wheel[(int) (tick & mask)].add(timeout);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * 타이머 취소
+     *
+     * @return 아직 만료되지 않은 타이머를 뺐으면 true
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucket == null) {
+                return false;
+            }
+            timeout.bucket.remove(timeout);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * now 까지 지난 tick 을 모두 처리하고 만료된 값 반환 (밀린 tick 이 있으면 한 번에 따라잡음)
+     */
+    public List<T> advance(long nowNanos) {
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            while (startNanos + currentTick * tickNanos <= nowNanos) {
+                Bucket<T> bucket = wheel[(int) (currentTick & mask)];
+                Timeout<T> timeout = bucket.head;
+                while (timeout != null) {
+                    Timeout<T> next = timeout.next;
+                    if (timeout.rounds <= 0) {
+                        bucket.remove(timeout);
+                        size--;
+                        expired.add(timeout.value);
+                    } else {
+                        timeout.rounds--;
+                    }
+                    timeout = next;
+                }
+                currentTick++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록된 타이머 핸들 (버킷에서 빠지면 bucket == null)
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadlineNanos;
+        private long rounds;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineNanos) {
+            this.value = value;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public long deadlineNanos() {
+            return deadlineNanos;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.nextme.notificationservice.application;
+
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기로 접수된 알림 한 건의 전송 상태
+ *
+ * @param id          전달 ID (202 응답으로 돌려준 값)
+ * @param recipients  수신자 (Slack user/channel ID)
+ * @param status      PENDING → SENDING → SUCCESS / FAILED
+ * @param acceptedAt  접수 시각
+ * @param completedAt 전송 완료(성공/실패) 시각, 진행 중이면 null
+ */
+public record NotificationDelivery(
+        UUID id,
+        List<String> recipients,
+        MessageStatus status,
+        LocalDateTime acceptedAt,
+        LocalDateTime completedAt
+) {
+
+    public static NotificationDelivery pending(UUID id, List<String> recipients) {
+        return new NotificationDelivery(id, recipients, MessageStatus.PENDING, LocalDateTime.now(), null);
+    }
+
+    /**
+     * 아웃박스(p_message) 행 기준 전송 상태
+     */
+    public static NotificationDelivery from(NotificationMessage message) {
+        return new NotificationDelivery(
+                message.getId(),
+                message.recipientList(),
+                message.getStatus(),
+                message.getEnqueuedAt(),
+                message.getSentAt()
+        );
+    }
+
+    public NotificationDelivery sending() {
+        return new NotificationDelivery(id, recipients, MessageStatus.SENDING, acceptedAt, null);
+    }
+
+    public NotificationDelivery completed(boolean success) {
+        return new NotificationDelivery(
+                id,
+                recipients,
+                success ? MessageStatus.SUCCESS : MessageStatus.FAILED,
+                acceptedAt,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,224 @@
+package org.nextme.notificationservice.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내부 비동기 전송 큐
+ *
+ * - 요청 스레드는 큐에 넣고 바로 리턴 (Slack 호출은 워커 스레드가 담당, spring.threads.virtual.enabled 면 워커도 가상 스레드)
+ * - 큐 크기가 제한되어 있어서 가득 차면 접수를 거절 (호출 측에서 503 처리)
+ * - 전송 상태는 최근 N건만 메모리에 보관 (조회 API 용)
+ * - 우선순위(HIGH/NORMAL/LOW)마다 큐와 워커 풀이 따로 있어서 대량 NORMAL/LOW 알림이 HIGH 알림을 막지 않음
+ * - 우선순위별 큐 대기 시간(접수 → 워커 시작)을 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class NotificationDispatchQueue {
+
+    /**
+     * 큐가 가득 찼을 때 다시 넣어보는 간격 상한
+     */
+    private static final long MAX_SUBMIT_BACKOFF_MILLIS = 50;
+
+    private final MessageSend messageSend;
+    private final NotificationHistoryRecorder history;
+    private final NotificationSpillover spillover;
+    private final Map<NotificationPriority, ThreadPoolExecutor> lanes = new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationPriority, Timer> queueDelays = new EnumMap<>(NotificationPriority.class);
+
+    /**
+     * deliveryId → 전송 상태 (삽입 순서 기준으로 오래된 것부터 제거)
+     */
+    private final Map<UUID, NotificationDelivery> deliveries;
+
+    public NotificationDispatchQueue(
+            MessageSend messageSend,
+            NotificationHistoryRecorder history,
+            NotificationSpillover spillover,
+            MeterRegistry meterRegistry,
+            @Value("${notification.dispatch.workers:8}") int workerCount,
+            @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${notification.dispatch.high-workers:2}") int highWorkerCount,
+            @Value("${notification.dispatch.high-queue-capacity:1000}") int highQueueCapacity,
+            @Value("${notification.dispatch.low-workers:2}") int lowWorkerCount,
+            @Value("${notification.dispatch.low-queue-capacity:10000}") int lowQueueCapacity,
+            @Value("${notification.dispatch.status-retention:100000}") int statusRetention,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.messageSend = messageSend;
+        this.history = history;
+        this.spillover = spillover;
+
+        lanes.put(NotificationPriority.HIGH, newLane(NotificationPriority.HIGH, highWorkerCount, highQueueCapacity, virtualThreads));
+        lanes.put(NotificationPriority.NORMAL, newLane(NotificationPriority.NORMAL, workerCount, queueCapacity, virtualThreads));
+        lanes.put(NotificationPriority.LOW, newLane(NotificationPriority.LOW, lowWorkerCount, lowQueueCapacity, virtualThreads));
+
+        this.deliveries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, NotificationDelivery> eldest) {
+                return size() > statusRetention;
+            }
+        };
+
+        lanes.forEach((priority, workers) -> {
+            String tag = priority.name();
+            Gauge.builder("notification.dispatch.queue.depth", workers, executor -> executor.getQueue().size())
+                    .tag("priority", tag)
+                    .description("전송 대기 중인 알림 수")
+                    .register(meterRegistry);
+            Gauge.builder("notification.dispatch.active", workers, ThreadPoolExecutor::getActiveCount)
+                    .tag("priority", tag)
+                    .description("전송 중인 워커 수")
+                    .register(meterRegistry);
+            queueDelays.put(priority, Timer.builder("notification.dispatch.queue.delay")
+                    .tag("priority", tag)
+                    .description("접수부터 워커가 전송을 시작하기까지 큐에서 기다린 시간")
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofMinutes(10))
+                    .register(meterRegistry));
+        });
+    }
+
+    private static ThreadPoolExecutor newLane(NotificationPriority priority, int workerCount, int queueCapacity, boolean virtual) {
+        String prefix = "notification-dispatch-" + priority.name().toLowerCase(Locale.ROOT) + "-";
+        // 가상 스레드여도 풀 크기 = lane 동시성 (lane 간 격리 유지), 큐 용량 = 접수 한도
+        return new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                WorkerThreads.factory(prefix, virtual),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 알림을 전송 큐에 넣음
+     *
+     * @param slackUserIds Slack user ID 목록
+     * @param text         메시지 내용
+     * @param priority     우선순위 (해당 lane 의 큐/워커 사용)
+     * @return 접수된 전달 정보(PENDING), 해당 lane 큐가 가득 찼으면 empty
+     */
+    public Optional<NotificationDelivery> submit(List<String> slackUserIds, String text, NotificationPriority priority) {
+        return submit(slackUserIds, text, priority, Duration.ZERO);
+    }
+
+    /**
+     * 알림을 전송 큐에 넣음 (큐가 가득 차 있으면 maxWait 까지 자리가 나기를 기다림)
+     *
+     * - bulk 접수처럼 호출 측이 기다릴 수 있는 경우 사용 → 호출 측이 느려지는 것 자체가 backpressure
+     *
+     * @param maxWait 큐에 자리가 나기를 기다릴 최대 시간 (0 이면 바로 거절)
+     * @return 접수된 전달 정보(PENDING), maxWait 안에 자리가 나지 않으면 empty
+     */
+    public Optional<NotificationDelivery> submit(List<String> slackUserIds, String text, NotificationPriority priority,
+                                                 Duration maxWait) {
+        NotificationDelivery delivery = NotificationDelivery.pending(UUID.randomUUID(), List.copyOf(slackUserIds));
+        update(delivery);
+
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        long backoffMillis = 1;
+        while (true) {
+            long enqueuedAt = System.nanoTime();
+            try {
+                lanes.get(priority).execute(() -> dispatch(delivery, text, priority, enqueuedAt));
+                return Optional.of(delivery);
+            } catch (RejectedExecutionException e) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0 || !pause(Math.min(backoffMillis, remainingMillis))) {
+                    log.warn("Notification dispatch queue is full. priority={}, recipients={}", priority, slackUserIds);
+                    remove(delivery.id());
+                    return Optional.empty();
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_SUBMIT_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 전달 ID로 전송 상태 조회
+     */
+    public Optional<NotificationDelivery> find(UUID deliveryId) {
+        synchronized (deliveries) {
+            return Optional.ofNullable(deliveries.get(deliveryId));
+        }
+    }
+
+    private void dispatch(NotificationDelivery delivery, String text, NotificationPriority priority, long enqueuedAt) {
+        queueDelays.get(priority).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        NotificationDelivery sending = delivery.sending();
+        update(sending);
+
+        boolean ok;
+        try {
+            SendReport report = messageSend.send(delivery.recipients(), text, priority);
+            history.record(report, text);
+            // circuit_open 으로만 실패했으면 스필오버 큐가 이어서 전송, rate_limited 면 Retry-After 뒤로 예약
+            ok = report.allDelivered() || spillover.spill(report, text, priority);
+        } catch (Exception e) {
+            log.error("Error while dispatching notification {}", delivery.id(), e);
+            ok = false;
+        }
+        update(sending.completed(ok));
+    }
+
+    private void update(NotificationDelivery delivery) {
+        synchronized (deliveries) {
+            deliveries.put(delivery.id(), delivery);
+        }
+    }
+
+    private void remove(UUID deliveryId) {
+        synchronized (deliveries) {
+            deliveries.remove(deliveryId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 이미 접수된 알림은 최대한 보내고 종료 (lane 들이 같은 10초 안에서 함께 drain)
+        lanes.values().forEach(ThreadPoolExecutor::shutdown);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Map.Entry<NotificationPriority, ThreadPoolExecutor> lane : lanes.entrySet()) {
+            ThreadPoolExecutor workers = lane.getValue();
+            if (!workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warn("Notification dispatch queue did not drain in time. priority={}, dropped={}",
+                        lane.getKey(), workers.getQueue().size());
+                workers.shutdownNow();
+            }
+        }
+    }
+}
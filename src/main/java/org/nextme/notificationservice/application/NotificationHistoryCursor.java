@@ -0,0 +1,55 @@
+package org.nextme.notificationservice.application;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 이력 조회 keyset 커서 (마지막으로 받은 행의 sent_at + history_id)
+ *
+ * 클라이언트에는 불투명한 문자열(base64url)로 전달
+ */
+public record NotificationHistoryCursor(LocalDateTime sentAt, UUID id) {
+
+    // UUID 정렬상 가장 작은 값: 첫 페이지 커서 (sent_at = to 인 행은 제외)
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    // epoch seconds(8) + nanos(4) + UUID(16)
+    private static final int ENCODED_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES * 2;
+
+    /**
+     * 첫 페이지용 커서 (to 미만 전체)
+     */
+    public static NotificationHistoryCursor before(LocalDateTime to) {
+        return new NotificationHistoryCursor(to, MIN_ID);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH);
+        buffer.putLong(sentAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(sentAt.getNano());
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 커서
+     */
+    public static NotificationHistoryCursor decode(String value) {
+        byte[] bytes = Base64.getUrlDecoder().decode(value);
+        if (bytes.length != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid history cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            LocalDateTime sentAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new NotificationHistoryCursor(sentAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid history cursor", e);
+        }
+    }
+}
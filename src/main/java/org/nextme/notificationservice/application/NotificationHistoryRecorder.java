@@ -0,0 +1,105 @@
+package org.nextme.notificationservice.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.NotificationHistory;
+import org.nextme.notificationservice.domain.NotificationHistoryRepository;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 전송 결과를 이력 테이블(p_message_history)에 기록
+ *
+ * - 전송 경로(동기 전송, 전송 큐, 아웃박스)는 버퍼에 넣고 바로 리턴 → Slack 전송 지연에 DB INSERT 가 더해지지 않음
+ * - flush-interval 마다 버퍼를 chunk 단위 배치 INSERT (hibernate.jdbc.batch_size)
+ * - 버퍼가 가득 차면 이력만 버리고 전송은 계속 (버린 수는 메트릭으로 노출)
+ */
+@Slf4j
+@Component
+public class NotificationHistoryRecorder {
+
+    private static final int FLUSH_CHUNK = 500;
+
+    private final NotificationHistoryRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final BlockingQueue<NotificationHistory> buffer;
+
+    private final Counter recorded;
+    private final Counter dropped;
+
+    public NotificationHistoryRecorder(
+            NotificationHistoryRepository repository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.history.enabled:true}") boolean enabled,
+            @Value("${notification.history.buffer-capacity:50000}") int bufferCapacity
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        this.recorded = Counter.builder("notification.history.records")
+                .tag("result", "recorded")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notification.history.records")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("notification.history.buffer", buffer, BlockingQueue::size)
+                .description("DB 에 아직 기록하지 않은 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 결과를 수신자별 이력으로 버퍼에 추가
+     */
+    public void record(SendReport report, String message) {
+        if (!enabled || report.results().isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (RecipientResult result : report.results()) {
+            if (!buffer.offer(NotificationHistory.of(result, message, now))) {
+                dropped.increment();
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이력을 배치 INSERT
+     */
+    @Scheduled(fixedDelayString = "${notification.history.flush-interval:1000}")
+    public void flush() {
+        List<NotificationHistory> chunk = new ArrayList<>(FLUSH_CHUNK);
+        while (buffer.drainTo(chunk, FLUSH_CHUNK) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository.saveAll(chunk));
+                recorded.increment(chunk.size());
+            } catch (Exception e) {
+                // 이력 기록 실패가 전송에 영향을 주지 않도록 버리고 계속
+                log.warn("Failed to write {} notification history rows", chunk.size(), e);
+                dropped.increment(chunk.size());
+            }
+            chunk.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,86 @@
+package org.nextme.notificationservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationHistory;
+import org.nextme.notificationservice.domain.NotificationHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 전송 이력 조회 유스케이스 (keyset 페이지네이션)
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationHistoryService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final NotificationHistoryRepository repository;
+
+    /**
+     * from 을 생략했을 때 to 로부터 조회할 기간 (범위가 있어야 파티션 pruning 이 됨)
+     */
+    @Value("${notification.history.default-range:7d}")
+    private Duration defaultRange;
+
+    /**
+     * 최신순 이력 한 페이지
+     *
+     * @param recipient Slack user/channel ID (없으면 전체)
+     * @param status    전송 상태 (없으면 전체)
+     * @param from      이 시각 이후 (포함, 없으면 to - default-range)
+     * @param to        이 시각 이전 (미포함, 없으면 현재)
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size      페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public Page find(String recipient, MessageStatus status, LocalDateTime from, LocalDateTime to,
+                     String cursor, int size) {
+        LocalDateTime until = to != null ? to : LocalDateTime.now();
+        LocalDateTime since = from != null ? from : until.minus(defaultRange);
+        NotificationHistoryCursor position = cursor == null || cursor.isBlank()
+                ? NotificationHistoryCursor.before(until)
+                : NotificationHistoryCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 유무 판단
+        Limit limit = Limit.of(size + 1);
+        List<NotificationHistory> rows = findRows(recipient, status, since, position, limit);
+
+        if (rows.size() <= size) {
+            return new Page(rows, null);
+        }
+        List<NotificationHistory> items = rows.subList(0, size);
+        NotificationHistory last = items.get(items.size() - 1);
+        return new Page(items, new NotificationHistoryCursor(last.getSentAt(), last.getId()).encode());
+    }
+
+    // 필터 조합마다 인덱스를 쓰는 쿼리가 따로 있음 (NotificationHistoryRepository)
+    private List<NotificationHistory> findRows(String recipient, MessageStatus status, LocalDateTime since,
+                                               NotificationHistoryCursor position, Limit limit) {
+        boolean allRecipients = recipient == null || recipient.isBlank();
+        if (allRecipients && status == null) {
+            return repository.findPage(since, position.sentAt(), position.id(), limit);
+        }
+        if (allRecipients) {
+            return repository.findPageByStatus(status, since, position.sentAt(), position.id(), limit);
+        }
+        if (status == null) {
+            return repository.findPageByRecipient(recipient, since, position.sentAt(), position.id(), limit);
+        }
+        return repository.findPageByRecipientAndStatus(recipient, status, since, position.sentAt(), position.id(), limit);
+    }
+
+    /**
+     * @param nextCursor 다음 페이지 커서, 마지막 페이지면 null
+     */
+    public record Page(List<NotificationHistory> items, String nextCursor) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.nextme.notificationservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationMessageRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 알림 아웃박스 (p_message)
+ *
+ * - 접수된 알림을 PENDING 상태로 DB에 저장 → 파드가 재시작돼도 유실되지 않음
+ * - 실제 전송은 NotificationOutboxRelay 가 담당
+ * - 여러 건은 saveAll 한 번으로 저장 (hibernate.jdbc.batch_size 만큼 JDBC 배치 INSERT)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final NotificationMessageRepository repository;
+
+    /**
+     * 알림 한 건을 아웃박스에 저장
+     */
+    @Transactional
+    public NotificationDelivery enqueue(List<String> slackUserIds, String text) {
+        NotificationMessage message = repository.save(NotificationMessage.pending(slackUserIds, text));
+        return NotificationDelivery.from(message);
+    }
+
+    /**
+     * 여러 알림을 한 트랜잭션 / JDBC 배치로 저장
+     */
+    @Transactional
+    public List<NotificationDelivery> enqueueAll(List<OutboundNotification> notifications) {
+        List<NotificationMessage> messages = notifications.stream()
+                .map(notification -> NotificationMessage.pending(notification.recipients(), notification.text()))
+                .toList();
+
+        return repository.saveAll(messages).stream()
+                .map(NotificationDelivery::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<NotificationDelivery> find(UUID deliveryId) {
+        return repository.findById(deliveryId).map(NotificationDelivery::from);
+    }
+}
@@ -0,0 +1,163 @@
+package org.nextme.notificationservice.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationMessageRepository;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스(p_message)의 PENDING 알림을 전송하는 폴러
+ *
+ * 1) SELECT ... FOR UPDATE SKIP LOCKED 로 chunk 단위 선점 → SENDING 으로 바꾸고 바로 커밋
+ * 2) 트랜잭션 밖에서 병렬 전송
+ * 3) 결과를 SUCCESS / FAILED (또는 재시도 예약) 로 한 번에 반영
+ *
+ * 선점 후 전송 도중 파드가 죽으면 lease 만료 뒤 다른 레플리카가 다시 가져감 (at-least-once)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.outbox.enabled", havingValue = "true")
+public class NotificationOutboxRelay {
+
+    private final NotificationMessageRepository repository;
+    private final MessageSend messageSend;
+    private final NotificationHistoryRecorder history;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService senders;
+
+    private final int chunkSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public NotificationOutboxRelay(
+            NotificationMessageRepository repository,
+            MessageSend messageSend,
+            NotificationHistoryRecorder history,
+            TransactionTemplate transactionTemplate,
+            @Value("${notification.outbox.chunk-size:100}") int chunkSize,
+            @Value("${notification.outbox.send-concurrency:8}") int sendConcurrency,
+            @Value("${notification.outbox.lease:5m}") Duration lease,
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${notification.outbox.retry-backoff:10s}") Duration retryBackoff,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.repository = repository;
+        this.messageSend = messageSend;
+        this.history = history;
+        this.transactionTemplate = transactionTemplate;
+        // 가상 스레드면 행마다 가상 스레드 (동시 전송 수는 chunk-size 와 Slack 동시 호출 한도가 제한)
+        this.senders = virtualThreads
+                ? WorkerThreads.virtualPerTask("outbox-sender-")
+                : Executors.newFixedThreadPool(sendConcurrency, WorkerThreads.factory("outbox-sender-", false));
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * 밀린 알림이 없어질 때까지 chunk 단위로 반복
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:1000}")
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relayChunk();
+        } while (relayed == chunkSize);
+    }
+
+    /**
+     * chunk 하나를 선점 → 전송 → 결과 반영
+     *
+     * @return 처리한 행 수
+     */
+    int relayChunk() {
+        // 1) 선점 (짧은 트랜잭션, 변경 감지로 SENDING 업데이트가 배치로 나감)
+        List<NotificationMessage> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationMessage> rows = repository.claimDue(now, chunkSize);
+            rows.forEach(row -> row.markSending(now.plus(lease)));
+            return rows;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 2) 병렬 전송 (트랜잭션 밖)
+        Map<UUID, CompletableFuture<SendReport>> results = claimed.stream()
+                .collect(Collectors.toMap(
+                        NotificationMessage::getId,
+                        row -> CompletableFuture.supplyAsync(() -> send(row), senders)
+                ));
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new)).join();
+
+        // 3) 결과 반영 (IN 조회 1번 + 배치 UPDATE)
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<UUID, NotificationMessage> rows = repository.findAllById(results.keySet()).stream()
+                    .collect(Collectors.toMap(NotificationMessage::getId, Function.identity()));
+            LocalDateTime now = LocalDateTime.now();
+
+            results.forEach((id, result) -> {
+                NotificationMessage row = rows.get(id);
+                if (row == null) {
+                    return;
+                }
+                SendReport report = result.join();
+                if (report.allDelivered()) {
+                    row.markSuccess();
+                    return;
+                }
+                if (report.deliveredCount() > 0) {
+                    // 이미 받은 수신자에게 중복 전송하지 않도록 실패한 수신자만 남김
+                    row.retainRecipients(report.failedRecipients());
+                }
+                if (row.getAttempts() >= maxAttempts) {
+                    log.warn("Giving up outbox notification {} after {} attempts", id, row.getAttempts());
+                    row.markFailed();
+                } else {
+                    // 시도 횟수만큼 지수적으로 늘어나는 재시도 간격 (rate limit 이면 Retry-After 보다 먼저 보내지 않음)
+                    Duration backoff = retryBackoff.multipliedBy(1L << (row.getAttempts() - 1));
+                    row.retryAt(now.plus(backoff.compareTo(report.retryAfter()) < 0 ? report.retryAfter() : backoff));
+                }
+            });
+        });
+
+        log.info("Relayed {} outbox notifications", claimed.size());
+        return claimed.size();
+    }
+
+    private SendReport send(NotificationMessage row) {
+        try {
+            SendReport report = messageSend.send(row.recipientList(), row.getMessage());
+            history.record(report, row.getMessage());
+            return report;
+        } catch (Exception e) {
+            log.error("Error while relaying outbox notification {}", row.getId(), e);
+            return SendReport.empty();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+    }
+}
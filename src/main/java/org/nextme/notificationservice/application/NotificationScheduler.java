@@ -0,0 +1,498 @@
+package org.nextme.notificationservice.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.ScheduledNotification;
+import org.nextme.notificationservice.domain.ScheduledNotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약/지연 알림 스케줄러
+ *
+ * - 대기 중인 예약은 HashedTimingWheel 에 ID 만 올려 둠 (예약마다 ScheduledFuture 없음, 타이머 스레드 하나가 tick 마다 휠을 돌림)
+ * - 만료되면 p_scheduled_notification 행을 선점(claim)한 인스턴스만 NotificationService 로 전송
+ *   (일반/버튼/반복 알림 모두 즉시 전송과 같은 경로, 모니터링 이벤트 메트릭/중복 제거와는 무관)
+ * - 일부 수신자가 실패하면 실패한 수신자만 남겨 retry-backoff × 2^(시도-1) (최대 retry-max-backoff) 뒤에 다시 예약,
+ *   max-attempts 번 선점해도 못 보내면 FAILED → failed-retention 이 지나면 purge 가 지움
+ *   (FAILED 행 수는 notification.schedule.backlog{status=failed} 게이지로 노출)
+ * - 전달 보장은 at-least-once: 보내는 도중 인스턴스가 죽거나 예외가 나면 행이 FIRING 으로 남고,
+ *   선점 만료 후 다시 보낼 때는 그 시도에서 이미 받은 수신자에게도 다시 보냄
+ * - 기동 시 PENDING/FIRING 행을 휠에 다시 올림 → 이미 지난 예약은 다음 tick 에 바로 전송 (catch-up)
+ * - sweep-interval 마다 보낼 시각이 overdue-grace 넘게 지난 행을 찾아 전송 (예약한 인스턴스가 죽은 경우)
+ * - 전송 큐가 가득 차면 타이머/sweep 스레드가 대신 보내지 않고 미룸: 선점 전이라 행은 PENDING 으로 남아 sweep 이 다시 보냄
+ *   (persist=false 면 overdue-grace 뒤에 휠에 다시 올림)
+ * - 취소는 휠에서 빼고 PENDING 행을 지움, 다른 인스턴스 휠에 남은 타이머는 선점에 실패해서 보내지 않음
+ * - persist=false 면 메모리에만 둠 (재시작하면 사라짐)
+ * - Kafka 모니터링 이벤트는 Consumer 가 deliver-at 헤더를 보고 schedule(key, ...) 로 넘김
+ */
+@Slf4j
+@Component
+public class NotificationScheduler {
+
+    private static final List<ScheduledNotification.Status> RECOVERABLE =
+            List.of(ScheduledNotification.Status.PENDING, ScheduledNotification.Status.FIRING);
+
+    private final ScheduledNotificationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationService notificationService;
+
+    private final boolean persist;
+    private final Duration tick;
+    private final Duration lease;
+    private final Duration overdueGrace;
+    private final Duration maxDelay;
+    private final long maxPending;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retryMaxBackoff;
+    private final Duration failedRetention;
+
+    private final HashedTimingWheel<UUID> wheel;
+    private final Map<UUID, HashedTimingWheel.Timeout<UUID>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * persist=false 일 때 예약 내용 (persist=true 면 전송 시점에 DB 에서 읽음)
+     */
+    private final Map<UUID, ScheduledNotification> inMemory = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService fireExecutor;
+
+    private final Counter scheduled;
+    private final Counter fired;
+    private final Counter failed;
+    private final Counter cancelled;
+    private final Counter skipped;
+    private final Counter retried;
+    private final Counter deferred;
+    private final Timer lateness;
+    private final AtomicLong failedBacklog = new AtomicLong();
+
+    public NotificationScheduler(
+            ScheduledNotificationRepository repository,
+            TransactionTemplate transactionTemplate,
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.schedule.persist:true}") boolean persist,
+            @Value("${notification.schedule.tick:100ms}") Duration tick,
+            @Value("${notification.schedule.wheel-size:4096}") int wheelSize,
+            @Value("${notification.schedule.lease:5m}") Duration lease,
+            @Value("${notification.schedule.overdue-grace:1m}") Duration overdueGrace,
+            @Value("${notification.schedule.max-delay:30d}") Duration maxDelay,
+            @Value("${notification.schedule.max-pending:5000000}") long maxPending,
+            @Value("${notification.schedule.dispatch-concurrency:16}") int dispatchConcurrency,
+            @Value("${notification.schedule.max-attempts:5}") int maxAttempts,
+            @Value("${notification.schedule.retry-backoff:1m}") Duration retryBackoff,
+            @Value("${notification.schedule.retry-max-backoff:1h}") Duration retryMaxBackoff,
+            @Value("${notification.schedule.failed-retention:7d}") Duration failedRetention,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationService = notificationService;
+        this.persist = persist;
+        this.tick = tick;
+        this.lease = lease;
+        this.overdueGrace = overdueGrace;
+        this.maxDelay = maxDelay;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retryMaxBackoff = retryMaxBackoff;
+        this.failedRetention = failedRetention;
+        this.wheel = new HashedTimingWheel<>(tick.toNanos(), wheelSize, System.nanoTime());
+
+        // 타이머 스레드는 휠만 돌리고 전송은 fireExecutor 로 넘김 (Slack 호출이 tick 을 막지 않도록)
+        // 큐가 가득 차도 타이머 스레드에서 실행하지 않도록 AbortPolicy (submitFire 참고)
+        this.fireExecutor = WorkerThreads.forBlockingIo("notification-schedule-", virtualThreads,
+                dispatchConcurrency, dispatchConcurrency * 64, new ThreadPoolExecutor.AbortPolicy());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(WorkerThreads.factory("notification-timer-", false));
+
+        this.scheduled = itemCounter(meterRegistry, "scheduled");
+        this.fired = itemCounter(meterRegistry, "fired");
+        this.failed = itemCounter(meterRegistry, "failed");
+        this.cancelled = itemCounter(meterRegistry, "cancelled");
+        this.skipped = itemCounter(meterRegistry, "skipped");
+        this.retried = itemCounter(meterRegistry, "retried");
+        this.deferred = itemCounter(meterRegistry, "deferred");
+        this.lateness = Timer.builder("notification.schedule.lateness")
+                .description("예약 시각부터 실제 전송 시작까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.schedule.pending", wheel, HashedTimingWheel::size)
+                .description("타이밍 휠에서 대기 중인 예약 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.schedule.backlog", failedBacklog, AtomicLong::get)
+                .description("재시도를 포기하고 남은 예약 수 (sweep 때 갱신)")
+                .tag("status", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 휠 돌리기 시작 (생성이 끝난 뒤에 시작해서 타이머 스레드가 초기화 중인 객체를 보지 않도록)
+     */
+    @PostConstruct
+    void start() {
+        ticker.scheduleAtFixedRate(this::tick, tick.toNanos(), tick.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 예약 등록 (같은 ID 의 예약이 이미 있으면 그대로 두고 기존 예약 반환)
+     *
+     * @throws IllegalArgumentException fire_at 이 max-delay 보다 멀 때
+     * @throws IllegalStateException    대기 중인 예약이 max-pending 개를 넘을 때
+     */
+    public ScheduledNotification schedule(ScheduledNotification notification) {
+        if (notification.getFireAt().isAfter(Instant.now().plus(maxDelay))) {
+            throw new IllegalArgumentException("fireAt is further than " + maxDelay);
+        }
+        if (wheel.size() >= maxPending) {
+            throw new IllegalStateException("Too many pending scheduled notifications");
+        }
+
+        Optional<ScheduledNotification> existing = find(notification.getId());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (persist) {
+            try {
+                repository.save(notification);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 ID 를 동시에 예약한 경우만 기존 예약 반환 (행이 없으면 다른 제약 위반이므로 그대로 던짐)
+                return repository.findById(notification.getId()).orElseThrow(() -> e);
+            }
+        } else {
+            inMemory.put(notification.getId(), notification);
+        }
+
+        arm(notification.getId(), notification.getFireAt());
+        scheduled.increment();
+        log.info("Scheduled notification {} at {}", notification.getId(), notification.getFireAt());
+        return notification;
+    }
+
+    /**
+     * 멱등 키로 예약 (ID 를 키에서 만들어서 같은 키로 다시 와도 한 번만 예약, ex. Kafka 레코드 중복 제거 키)
+     */
+    public ScheduledNotification schedule(String idempotencyKey, OutboundNotification notification, Instant fireAt) {
+        UUID id = UUID.nameUUIDFromBytes(idempotencyKey.getBytes(StandardCharsets.UTF_8));
+        return schedule(scheduledOf(id, notification, fireAt));
+    }
+
+    /**
+     * rate limit 으로 보내지 못한 알림을 retryAfter 뒤로 예약 (NotificationSpillover 가 호출)
+     *
+     * @return 예약했으면 true (max-pending 초과, 저장 실패 등으로 예약하지 못하면 false)
+     */
+    public boolean defer(OutboundNotification notification, Duration retryAfter) {
+        try {
+            schedule(scheduledOf(UUID.randomUUID(), notification, Instant.now().plus(retryAfter)));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to defer rate limited notification for {}", notification.recipients(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 예약이 재시작해도 남는지 (persist)
+     */
+    public boolean durable() {
+        return persist;
+    }
+
+    private static ScheduledNotification scheduledOf(UUID id, OutboundNotification notification, Instant fireAt) {
+        return ScheduledNotification.create(id, notification.recipients(), notification.text(),
+                notification.priority(), notification.actionId(), notification.actionValue(), notification.alertKey(),
+                notification.resolved(), fireAt);
+    }
+
+    /**
+     * 아직 보내지 않은 예약 취소
+     *
+     * @return 취소했으면 true (이미 보냈거나 없는 ID 면 false)
+     */
+    public boolean cancel(UUID id) {
+        HashedTimingWheel.Timeout<UUID> timeout = timers.remove(id);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+        // 휠에서 이미 꺼내 전송 대기 중이어도 PENDING 행(메모리 항목)이 없어지면 fire() 선점이 실패해서 보내지 않음
+        boolean removed = persist ? cancelRow(id) : inMemory.remove(id) != null;
+        if (removed) {
+            cancelled.increment();
+            log.info("Cancelled scheduled notification {}", id);
+        }
+        return removed;
+    }
+
+    private boolean cancelRow(UUID id) {
+        if (repository.cancel(id) == 0) {
+            return false;
+        }
+        try {
+            // 수신자 행(p_scheduled_notification_recipient)까지 지우도록 JPA 로 삭제
+            repository.deleteById(id);
+        } catch (Exception e) {
+            log.warn("Cancelled scheduled notification {} but failed to delete it, purge will remove it", id, e);
+        }
+        return true;
+    }
+
+    public Optional<ScheduledNotification> find(UUID id) {
+        return persist ? repository.findById(id) : Optional.ofNullable(inMemory.get(id));
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    /**
+     * 재시작 전에 남아 있던 예약을 휠에 다시 올림 (지난 예약은 다음 tick 에 전송)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void recover() {
+        if (!persist) {
+            return;
+        }
+        AtomicLong restored = new AtomicLong();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (var pending = repository.streamTimers(RECOVERABLE)) {
+                    pending.forEach(timer -> {
+                        arm(timer.getId(), timer.getFireAt());
+                        restored.incrementAndGet();
+                    });
+                }
+            });
+            log.info("Restored {} scheduled notifications into timing wheel", restored.get());
+        } catch (Exception e) {
+            // 복구하지 못한 예약은 sweep 이 overdue 로 찾아서 보냄
+            log.warn("Failed to restore scheduled notifications", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 보내지 못하고 남긴 예약 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.schedule.sweep-interval:60000}")
+    void sweepOverdue() {
+        if (!persist) {
+            return;
+        }
+        try {
+            List<UUID> overdue = repository.findOverdue(Instant.now().minus(overdueGrace), 500);
+            for (UUID id : overdue) {
+                if (!timers.containsKey(id) && !submitFire(id)) {
+                    // 전송 큐가 가득 참 → 나머지는 다음 sweep 에서
+                    log.warn("Fire queue is full, deferring overdue scheduled notifications to the next sweep");
+                    break;
+                }
+            }
+            failedBacklog.set(repository.countByStatus(ScheduledNotification.Status.FAILED));
+        } catch (Exception e) {
+            log.warn("Failed to sweep overdue scheduled notifications", e);
+        }
+    }
+
+    /**
+     * 취소 후 지우지 못한 행, failed-retention 전에 포기한 FAILED 행 삭제 (수신자 행 먼저)
+     */
+    @Scheduled(fixedDelayString = "${notification.schedule.purge-interval:3600000}")
+    void purge() {
+        if (!persist) {
+            return;
+        }
+        try {
+            Instant cutoff = Instant.now().minus(failedRetention);
+            Integer purged = transactionTemplate.execute(status -> {
+                repository.deleteFinishedRecipients(cutoff);
+                return repository.deleteFinished(cutoff);
+            });
+            if (purged != null && purged > 0) {
+                log.info("Purged {} failed/cancelled scheduled notifications", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge scheduled notifications", e);
+        }
+    }
+
+    private void arm(UUID id, Instant fireAt) {
+        long delayNanos = Duration.between(Instant.now(), fireAt).toNanos();
+        HashedTimingWheel.Timeout<UUID> previous = timers.put(id, wheel.schedule(id, System.nanoTime() + delayNanos));
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+    }
+
+    private void tick() {
+        try {
+            int deferredIds = 0;
+            for (UUID id : wheel.advance(System.nanoTime())) {
+                timers.remove(id);
+                if (!submitFire(id)) {
+                    defer(id);
+                    deferredIds++;
+                }
+            }
+            if (deferredIds > 0) {
+                log.warn("Fire queue is full, deferred {} scheduled notifications", deferredIds);
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleAtFixedRate 가 멈추므로 여기서 삼킴
+            log.error("Timing wheel tick failed", e);
+        }
+    }
+
+    /**
+     * 전송을 fireExecutor 에 넘김 (큐가 가득 찼거나 종료 중이면 false, 호출한 스레드에서 보내지 않음)
+     */
+    private boolean submitFire(UUID id) {
+        try {
+            fireExecutor.execute(() -> fire(id));
+            return true;
+        } catch (RejectedExecutionException e) {
+            deferred.increment();
+            return false;
+        }
+    }
+
+    /**
+     * 넘기지 못한 예약은 선점 전이라 PENDING 으로 남음 → sweep 이 overdue 로 찾아 보냄
+     * persist=false 면 sweep 이 없으므로 overdue-grace 뒤에 휠에 다시 올림
+     */
+    private void defer(UUID id) {
+        if (!persist && inMemory.containsKey(id)) {
+            arm(id, Instant.now().plus(overdueGrace));
+        }
+    }
+
+    /**
+     * 선점에 성공한 예약만 전송 (성공하면 행 삭제, 실패하면 실패한 수신자만 재시도 또는 FAILED)
+     */
+    void fire(UUID id) {
+        try {
+            ScheduledNotification notification = claim(id);
+            if (notification == null) {
+                skipped.increment();
+                return;
+            }
+            // 선점할 때 attempts 가 1 늘었으므로 읽어 둔 값 + 1 이 이번 시도
+            int attempt = notification.getAttempts() + 1;
+            if (attempt > maxAttempts) {
+                // 보내는 도중 죽거나 예외가 나서 선점 만료로만 돌아온 경우
+                giveUp(notification);
+                return;
+            }
+            Duration late = Duration.between(notification.getFireAt(), Instant.now());
+            if (attempt == 1) {
+                lateness.record(late.isNegative() ? Duration.ZERO : late);
+            }
+
+            OutboundNotification outbound = new OutboundNotification(notification.recipientList(),
+                    notification.getMessage(), notification.getPriority(), notification.getActionId(),
+                    notification.getActionValue(), notification.getAlertKey(), notification.isResolved());
+            // 보낸 뒤 행을 지우므로 메모리에만 담기는 스필오버는 성공으로 치지 않음
+            Undelivered undelivered = notificationService.deliverDurably(outbound);
+            if (!undelivered.rejected().isEmpty()) {
+                // 수신자/채널이 없는 실패는 다시 보내도 같으므로 재시도하지 않음 (전송 이력에는 남음)
+                log.warn("Dropping recipients {} of scheduled notification {} after non-retryable failure",
+                        undelivered.rejected(), id);
+            }
+            List<String> remaining = undelivered.retryable();
+            if (remaining.isEmpty()) {
+                fired.increment();
+                if (persist) {
+                    repository.deleteById(id);
+                }
+            } else if (attempt < maxAttempts) {
+                retry(notification, remaining, attempt);
+            } else {
+                giveUp(notification);
+            }
+        } catch (Exception e) {
+            // 행은 FIRING 으로 남아 선점 만료 후 sweep 이 다시 보냄 (max-attempts 를 넘으면 FAILED)
+            failed.increment();
+            log.error("Error firing scheduled notification {}", id, e);
+        }
+    }
+
+    private void retry(ScheduledNotification notification, List<String> remaining, int attempt) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        if (backoff.compareTo(retryMaxBackoff) > 0) {
+            backoff = retryMaxBackoff;
+        }
+        Instant nextFireAt = Instant.now().plus(backoff);
+        notification.retry(remaining, attempt, nextFireAt);
+        if (persist) {
+            // 선점한 행이라 다른 인스턴스는 선점 만료 전까지 건드리지 않음
+            repository.save(notification);
+        } else {
+            inMemory.put(notification.getId(), notification);
+        }
+        arm(notification.getId(), nextFireAt);
+        retried.increment();
+        log.warn("Failed to deliver scheduled notification {} to {} recipients (attempt {}/{}), retrying at {}",
+                notification.getId(), remaining.size(), attempt, maxAttempts, nextFireAt);
+    }
+
+    private void giveUp(ScheduledNotification notification) {
+        failed.increment();
+        log.error("Giving up scheduled notification {} after {} attempts", notification.getId(), maxAttempts);
+        if (persist) {
+            repository.markFailed(notification.getId(), Instant.now());
+        }
+    }
+
+    private ScheduledNotification claim(UUID id) {
+        if (!persist) {
+            return inMemory.remove(id);
+        }
+        Instant now = Instant.now();
+        // 선점하면 fire_at 이 선점 만료 시각으로 바뀌므로 원래 예약 시각을 먼저 읽어 둠
+        Optional<ScheduledNotification> row = repository.findById(id);
+        if (row.isEmpty() || repository.claim(id, now, now.plus(lease)) == 0) {
+            return null;
+        }
+        return row.get();
+    }
+
+    private static Counter itemCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.schedule.items")
+                .description("예약 알림 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        fireExecutor.shutdown();
+    }
+}
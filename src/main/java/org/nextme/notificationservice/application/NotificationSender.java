@@ -0,0 +1,34 @@
+package org.nextme.notificationservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.domain.InteractiveMessageSend;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.RecurringAlertSend;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 종류(버튼 / 반복 / 일반)에 맞는 도메인 포트로 전송
+ *
+ * NotificationService 와 NotificationSpillover 가 같은 경로로 보내도록 한 곳에 둠
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSender {
+
+    private final MessageSend messageSend;
+    private final InteractiveMessageSend interactiveMessageSend;
+    private final RecurringAlertSend recurringAlertSend;
+
+    public SendReport send(OutboundNotification notification) {
+        if (notification.interactive()) {
+            return interactiveMessageSend.sendWithButtons(notification.recipients(), notification.text(),
+                    notification.actionId(), notification.actionValue(), notification.priority());
+        }
+        if (notification.recurring() && recurringAlertSend.accepts(notification.recipients())) {
+            return recurringAlertSend.send(notification.recipients(), notification.alertKey(), notification.text(),
+                    notification.resolved(), notification.priority());
+        }
+        return messageSend.send(notification.recipients(), notification.text(), notification.priority());
+    }
+}
@@ -1,10 +1,18 @@
 package org.nextme.notificationservice.application;
 
 import lombok.RequiredArgsConstructor;
-import org.nextme.notificationservice.domain.MessageSend;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 알림 유스케이스
@@ -12,11 +20,22 @@ import java.util.List;
  * - 컨트롤러에서 받은 요청을 도메인 포트(MessageSend)로 넘기는 역할
  * - 현재는 Slack만 사용하지만, 도메인 레벨에서는 채널에 의존하지 않음
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final MessageSend messageSend;
+    private final NotificationSender sender;
+    private final NotificationDispatchQueue dispatchQueue;
+    private final NotificationOutbox outbox;
+    private final NotificationHistoryRecorder history;
+    private final NotificationSpillover spillover;
+
+    /**
+     * true 면 비동기 접수 건을 메모리 큐 대신 DB 아웃박스에 저장 (재시작해도 유실 없음)
+     */
+    @Value("${notification.outbox.enabled:false}")
+    private boolean outboxEnabled;
 
     /**
      * 여러 유저에게 메시지 전송
@@ -26,6 +45,123 @@ public class NotificationService {
      * @return 전송 성공 여부
      */
     public boolean sendToUsers(List<String> slackUserIds, String text) {
-        return messageSend.send(slackUserIds, text);
+        return sendToUsers(slackUserIds, text, NotificationPriority.NORMAL);
+    }
+
+    /**
+     * 우선순위를 지정해서 여러 유저에게 메시지 전송
+     *
+     * 호출 대상 장애(circuit_open)로만 실패했으면 스필오버 큐에 담고 성공으로 처리 (회복되면 전송)
+     *
+     * @param priority 알림 우선순위 (Slack rate limit lane)
+     * @return 전송 성공 여부 (스필오버 큐에 담은 경우 포함)
+     */
+    public boolean sendToUsers(List<String> slackUserIds, String text, NotificationPriority priority) {
+        return send(new OutboundNotification(slackUserIds, text, priority));
+    }
+
+    /**
+     * 알림 한 건 전송 (버튼 메시지 / 반복 알림 / 일반 메시지)
+     *
+     * 어떤 종류든 circuit_open 으로만 실패했으면 같은 종류 그대로 스필오버 큐에 담고,
+     * rate_limited 로만 실패했으면 Retry-After 뒤로 예약 (호출 스레드는 기다리지 않음)
+     *
+     * @return 전송 성공 여부 (스필오버 큐에 담거나 다시 보내도록 예약한 경우 포함)
+     */
+    public boolean send(OutboundNotification notification) {
+        return send(notification, false);
+    }
+
+    /**
+     * 재시작해도 잃지 않는 경우에만 성공으로 치는 전송, 받지 못한 수신자를 돌려줌 (ack 하는 호출자용, ex. 예약 알림 / Kafka 소비)
+     *
+     * 스필오버 저널이 durable 하지 않거나 예약을 DB 에 저장하지 않으면 담지 않고 받지 못한 수신자로 돌려줌
+     * → 호출자가 그 수신자만 다시 보냄 (재시도 토픽/DLT, 예약 재시도)
+     *
+     * @return 받지 못한 수신자 (다시 보낼 수신자와 다시 보내도 받을 수 없는 수신자를 나눔, 비어 있으면 모두 받았거나
+     *         저널이 있는 스필오버 큐에 담음 / DB 에 예약함)
+     */
+    public Undelivered deliverDurably(OutboundNotification notification) {
+        return undelivered(notification, true);
+    }
+
+    private boolean send(OutboundNotification notification, boolean durableOnly) {
+        return !notification.recipients().isEmpty() && undelivered(notification, durableOnly).isEmpty();
+    }
+
+    private Undelivered undelivered(OutboundNotification notification, boolean durableOnly) {
+        SendReport report = sender.send(notification);
+        history.record(report, notification.text());
+        // circuit_open → 스필오버 큐, rate_limited → Retry-After 뒤로 예약
+        if (spillover.spill(report, notification, durableOnly)) {
+            log.warn("Downstream unavailable ({}), handed off notification for {} recipients",
+                    report.failedOnlyByRateLimit() ? RecipientResult.RATE_LIMITED : RecipientResult.CIRCUIT_OPEN,
+                    report.failedRecipients().size());
+            return Undelivered.none();
+        }
+        if (report.allDelivered()) {
+            return Undelivered.none();
+        }
+        if (report.results().isEmpty()) {
+            // 수신자별 결과가 없으면 (ex. 반복 알림 포트가 받지 않음) 전부 못 받은 것으로 봄
+            return new Undelivered(notification.recipients(), List.of());
+        }
+        log.warn("Notification delivered to {}/{} recipients, failed: {}",
+                report.deliveredCount(), report.results().size(), report.failedRecipients());
+        List<String> rejected = report.permanentlyFailedRecipients();
+        List<String> retryable = report.failedRecipients().stream()
+                .filter(recipient -> !rejected.contains(recipient))
+                .toList();
+        return new Undelivered(retryable, rejected);
+    }
+
+    /**
+     * 여러 유저에게 보낼 메시지를 비동기 전송 큐(또는 아웃박스)에 접수
+     *
+     * @param slackUserIds Slack user ID 목록
+     * @param text         메세지 내용
+     * @param priority     알림 우선순위 (전송 큐 lane, 아웃박스는 우선순위를 저장하지 않아 NORMAL 로 전송)
+     * @return 접수된 전달 정보(PENDING), 큐가 가득 찼으면 empty
+     */
+    public Optional<NotificationDelivery> acceptForUsers(List<String> slackUserIds, String text,
+                                                         NotificationPriority priority) {
+        if (outboxEnabled) {
+            return Optional.of(outbox.enqueue(slackUserIds, text));
+        }
+        return dispatchQueue.submit(slackUserIds, text, priority);
+    }
+
+    /**
+     * 여러 알림을 한 번에 접수 (bulk 접수 API)
+     *
+     * - 아웃박스: 한 트랜잭션 / JDBC 배치로 저장
+     * - 메모리 큐: 건마다 넣되, lane 큐가 가득 차면 자리가 나기를 기다림 (backpressure)
+     *
+     * @param maxWait 메모리 큐에 자리가 나기를 기다릴 최대 시간 (건마다가 아니라 이 호출 전체 기준, 지나면 남은 건은 바로 시도)
+     * @return 입력 순서대로 접수 결과 (empty 면 큐가 가득 차서 거절)
+     */
+    public List<Optional<NotificationDelivery>> acceptAll(List<OutboundNotification> notifications, Duration maxWait) {
+        if (outboxEnabled) {
+            return outbox.enqueueAll(notifications).stream().map(Optional::of).toList();
+        }
+
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<Optional<NotificationDelivery>> deliveries = new ArrayList<>(notifications.size());
+        for (OutboundNotification notification : notifications) {
+            Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+            deliveries.add(dispatchQueue.submit(
+                    notification.recipients(), notification.text(), notification.priority(), remaining));
+        }
+        return deliveries;
+    }
+
+    /**
+     * 비동기로 접수된 알림의 전송 상태 조회
+     */
+    public Optional<NotificationDelivery> findDelivery(UUID deliveryId) {
+        if (outboxEnabled) {
+            return outbox.find(deliveryId);
+        }
+        return dispatchQueue.find(deliveryId);
     }
 }
@@ -0,0 +1,324 @@
+package org.nextme.notificationservice.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * circuit breaker 가 열려서 보내지 못한 알림을 잠시 담아 두는 로컬 큐 (spillover)
+ *
+ * - 일반/버튼/반복 알림 모두 담고, 다시 보낼 때도 NotificationSender 로 같은 종류의 메시지를 보냄
+ * - 실패한 수신자가 모두 circuit_open 일 때만 담음 (그 외 실패는 호출한 쪽의 재시도 정책을 따름)
+ * - 모두 rate_limited 면 큐에 담지 않고 NotificationScheduler 로 Retry-After 뒤에 다시 보내도록 예약
+ *   (채널별 rate limit 이라 다른 알림을 막지 않도록 FIFO 큐 대신 예약 시각이 있는 휠 사용)
+ * - capacity 를 넘으면 담지 않고 원래대로 실패 처리
+ * - 워커 하나가 drain-rate(건/초) 속도로 맨 앞부터 다시 전송
+ *   아직 circuit 이 열려 있으면 바로 circuit_open 으로 실패하므로 retry-interval 동안 쉬었다가 다시 시도
+ *   → HALF_OPEN 에서 시험 호출이 성공해 CLOSED 가 되면 자연스럽게 밀린 알림이 정해진 속도로 빠져나감
+ * - journal 경로를 지정하면 디스크(NDJSON)에도 기록해서 재시작해도 유지 (기본 꺼짐, 비우면 메모리만 사용)
+ *   저널에 쓰지 못하면 담지 않고 실패로 처리 (저널에 없는 알림을 담았다고 하지 않음)
+ * - durable()=true 는 저널이 있고 그 저장소가 파드 교체 후에도 남을 때만 (journal-durable, ex. PVC)
+ *   false 면 Kafka 처럼 ack 전에 유실되면 안 되는 호출자는 담지 않고 실패로 처리 (NotificationService.deliverDurably)
+ * - 메트릭: notification.spillover.size (gauge), notification.spillover.items{result=spilled|rejected|drained|dropped|deferred}
+ */
+@Slf4j
+@Component
+public class NotificationSpillover {
+
+    // 이만큼 보내고 나면 저널을 현재 큐 내용으로 다시 씀
+    private static final int COMPACT_EVERY = 100;
+
+    private final NotificationSender sender;
+    private final NotificationHistoryRecorder history;
+    private final SpilloverJournal journal;
+    private final boolean journalDurable;
+
+    // 스케줄러가 NotificationService → 스필오버 순으로 의존하므로 쓸 때 꺼냄
+    private final ObjectProvider<NotificationScheduler> scheduler;
+
+    private final int capacity;
+    private final long drainIntervalNanos;
+    private final Duration retryInterval;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Deque<OutboundNotification> queue = new ArrayDeque<>();
+    private int drainedSinceCompact;
+
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    private final Counter spilled;
+    private final Counter rejected;
+    private final Counter drained;
+    private final Counter dropped;
+    private final Counter deferredCounter;
+
+    public NotificationSpillover(
+            NotificationSender sender,
+            NotificationHistoryRecorder history,
+            ObjectProvider<NotificationScheduler> scheduler,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.spillover.capacity:10000}") int capacity,
+            @Value("${notification.spillover.drain-rate:20}") int drainRate,
+            @Value("${notification.spillover.retry-interval:5s}") Duration retryInterval,
+            @Value("${notification.spillover.journal:}") String journalPath,
+            @Value("${notification.spillover.journal-durable:false}") boolean journalDurable,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) throws IOException {
+        this.sender = sender;
+        this.history = history;
+        this.scheduler = scheduler;
+        this.capacity = capacity;
+        this.drainIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(drainRate, 1);
+        this.retryInterval = retryInterval;
+
+        if (journalPath == null || journalPath.isBlank()) {
+            this.journal = null;
+            this.journalDurable = false;
+            log.warn("Spillover journal is disabled, spilled notifications are lost on restart");
+        } else {
+            this.journalDurable = journalDurable;
+            if (!journalDurable) {
+                log.warn("Spillover journal {} is not on durable storage, Kafka records are not spilled", journalPath);
+            }
+            this.journal = new SpilloverJournal(Path.of(journalPath), objectMapper);
+            queue.addAll(journal.load());
+            if (!queue.isEmpty()) {
+                log.info("Restored {} spilled notifications from {}", queue.size(), journalPath);
+            }
+        }
+
+        Gauge.builder("notification.spillover.size", this, NotificationSpillover::size)
+                .description("circuit breaker 때문에 보내지 못하고 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.spilled = itemCounter(meterRegistry, "spilled");
+        this.rejected = itemCounter(meterRegistry, "rejected");
+        this.drained = itemCounter(meterRegistry, "drained");
+        this.dropped = itemCounter(meterRegistry, "dropped");
+        this.deferredCounter = itemCounter(meterRegistry, "deferred");
+
+        this.drainer = WorkerThreads.factory("notification-spillover-", virtualThreads).newThread(this::drainLoop);
+        this.drainer.start();
+    }
+
+    /**
+     * 모든 실패가 circuit_open 이면 실패한 수신자만 스필오버 큐에 담음
+     *
+     * @return 담았으면 true (나중에 전송됨), 담지 않았으면 false
+     */
+    public boolean spill(SendReport report, String text, NotificationPriority priority) {
+        return spill(report, new OutboundNotification(report.failedRecipients(), text, priority));
+    }
+
+    /**
+     * 버튼/반복 알림도 같은 종류로 다시 보내도록 원래 알림째 담음 (수신자는 실패한 수신자만)
+     */
+    public boolean spill(SendReport report, OutboundNotification notification) {
+        return spill(report, notification, false);
+    }
+
+    /**
+     * @param durableOnly true 면 재시작해도 남는 경우(저널이 있는 큐, DB 에 저장하는 예약)에만 담음
+     * @return 담았거나 예약했으면 true
+     */
+    public boolean spill(SendReport report, OutboundNotification notification, boolean durableOnly) {
+        if (report.failedOnlyByRateLimit()) {
+            return defer(notification.withRecipients(report.failedRecipients()), report.retryAfter(), durableOnly);
+        }
+        if (!report.failedOnlyByOpenCircuit() || (durableOnly && !durable())) {
+            return false;
+        }
+        return offer(notification.withRecipients(report.failedRecipients()));
+    }
+
+    private boolean defer(OutboundNotification notification, Duration retryAfter, boolean durableOnly) {
+        NotificationScheduler deferred = scheduler.getIfAvailable();
+        if (deferred == null || (durableOnly && !deferred.durable())) {
+            return false;
+        }
+        if (!deferred.defer(notification, retryAfter)) {
+            return false;
+        }
+        deferredCounter.increment();
+        return true;
+    }
+
+    boolean offer(OutboundNotification notification) {
+        lock.lock();
+        try {
+            if (queue.size() >= capacity) {
+                rejected.increment();
+                log.warn("Spillover queue is full ({}), dropping notification for {}", capacity, notification.recipients());
+                return false;
+            }
+            if (!appendToJournal(notification)) {
+                rejected.increment();
+                return false;
+            }
+            queue.addLast(notification);
+            spilled.increment();
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 담은 알림이 재시작/파드 교체 후에도 남는지 (저널이 있고 journal-durable=true)
+     */
+    public boolean durable() {
+        return journal != null && journalDurable;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                OutboundNotification next = awaitNext();
+                if (drainOne(next)) {
+                    TimeUnit.NANOSECONDS.sleep(drainIntervalNanos);
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(retryInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private OutboundNotification awaitNext() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            return queue.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 맨 앞 알림을 전송 (맨 앞을 꺼내는 건 drainer 하나뿐)
+     *
+     * @return false 면 아직 circuit 이 열려 있어 맨 앞에 다시 둠
+     */
+    boolean drainOne(OutboundNotification notification) {
+        SendReport report;
+        try {
+            report = sender.send(notification);
+        } catch (Exception e) {
+            log.error("Error while draining spilled notification", e);
+            return false;
+        }
+        // 다시 보냈는데 rate limit 이면 Retry-After 뒤로 예약 (DB 저장이라 락 밖에서)
+        boolean deferred = report.failedOnlyByRateLimit()
+                && defer(notification.withRecipients(report.failedRecipients()), report.retryAfter(), durable());
+
+        lock.lock();
+        try {
+            queue.pollFirst();
+            if (report.failedOnlyByOpenCircuit()) {
+                // 이미 받은 수신자에게 다시 보내지 않도록 실패한 수신자만 남김 (capacity 와 무관하게 맨 앞으로)
+                queue.addFirst(notification.withRecipients(report.failedRecipients()));
+                return false;
+            }
+            history.record(report, notification.text());
+            if (report.allDelivered()) {
+                drained.increment();
+            } else if (deferred) {
+                drained.increment();
+            } else {
+                dropped.increment();
+                log.warn("Dropping spilled notification after non-retryable failure - failed: {}", report.failedRecipients());
+            }
+            if (++drainedSinceCompact >= COMPACT_EVERY || queue.isEmpty()) {
+                compactJournal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 저널이 없거나 fsync 까지 끝났으면 true
+     */
+    private boolean appendToJournal(OutboundNotification notification) {
+        if (journal == null) {
+            return true;
+        }
+        if (!running) {
+            return false;
+        }
+        try {
+            journal.append(notification);
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to append spilled notification to journal, not spilling it", e);
+            return false;
+        }
+    }
+
+    private void compactJournal() {
+        drainedSinceCompact = 0;
+        if (journal == null || !running) {
+            return;
+        }
+        try {
+            journal.rewrite(queue);
+        } catch (IOException e) {
+            log.error("Failed to compact spillover journal", e);
+        }
+    }
+
+    private static Counter itemCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.spillover.items")
+                .description("스필오버 큐에 담거나 다시 보낸 알림 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        running = false;
+        drainer.interrupt();
+        if (journal != null) {
+            lock.lock();
+            try {
+                journal.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.nextme.notificationservice.application;
+
+import org.nextme.notificationservice.domain.NotificationPriority;
+
+import java.util.List;
+
+/**
+ * 보낼 알림 한 건 (아웃박스 / 스필오버 큐 / bulk 접수)
+ *
+ * @param recipients  Slack user/channel ID 목록
+ * @param text        메시지 내용
+ * @param priority    우선순위 (메모리 큐 lane, 아웃박스는 저장하지 않음)
+ * @param actionId    버튼 메시지의 action_id (없으면 일반 메시지)
+ * @param actionValue 버튼 클릭 시 전달할 value
+ * @param alertKey    반복 알림 키 (없으면 일반 메시지)
+ * @param resolved    반복 알림 해소 여부
+ */
+public record OutboundNotification(
+        List<String> recipients,
+        String text,
+        NotificationPriority priority,
+        String actionId,
+        String actionValue,
+        String alertKey,
+        boolean resolved
+) {
+
+    public OutboundNotification(List<String> recipients, String text) {
+        this(recipients, text, NotificationPriority.NORMAL);
+    }
+
+    public OutboundNotification(List<String> recipients, String text, NotificationPriority priority) {
+        this(recipients, text, priority, null, null, null, false);
+    }
+
+    public boolean interactive() {
+        return actionId != null && !actionId.isBlank();
+    }
+
+    public boolean recurring() {
+        return alertKey != null && !alertKey.isBlank();
+    }
+
+    /**
+     * 수신자만 바꾼 사본 (실패한 수신자에게만 다시 보낼 때)
+     */
+    public OutboundNotification withRecipients(List<String> recipients) {
+        return new OutboundNotification(recipients, text, priority, actionId, actionValue, alertKey, resolved);
+    }
+}
@@ -0,0 +1,111 @@
+package org.nextme.notificationservice.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스필오버 큐의 디스크 저널 (NDJSON, 한 줄에 알림 한 건)
+ *
+ * - 넣을 때마다 한 줄 append 후 fsync (force) → append 가 성공해야 디스크에 남은 것으로 봄
+ * - 주기적으로 현재 큐 내용으로 다시 씀 (compact)
+ * - 재시작하면 남아 있는 줄을 다시 읽어 큐를 복구 (마지막 compact 이후 보낸 알림은 다시 보낼 수 있음, at-least-once)
+ */
+@Slf4j
+final class SpilloverJournal implements AutoCloseable {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private FileChannel channel;
+
+    SpilloverJournal(Path file, ObjectMapper objectMapper) throws IOException {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.channel = open(file);
+    }
+
+    /**
+     * 저널에 남아 있는 알림 (깨진 줄은 건너뜀)
+     */
+    List<OutboundNotification> load() throws IOException {
+        List<OutboundNotification> notifications = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                notifications.add(objectMapper.readValue(line, OutboundNotification.class));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable spillover journal line in {}", file, e);
+            }
+        }
+        return notifications;
+    }
+
+    void append(OutboundNotification notification) throws IOException {
+        write(channel, notification);
+        channel.force(false);
+    }
+
+    /**
+     * 현재 큐 내용으로 저널을 다시 씀 (임시 파일에 쓰고 fsync 한 뒤 교체)
+     *
+     * 새 파일 채널은 임시 파일을 열어 둔 채로 이름만 바꾸므로, 쓰기/교체가 실패하면 기존 채널에 계속 append
+     */
+    void rewrite(Collection<OutboundNotification> notifications) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        FileChannel next = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        try {
+            for (OutboundNotification notification : notifications) {
+                write(next, notification);
+            }
+            next.force(false);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            next.close();
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+
+        FileChannel previous = channel;
+        channel = next;
+        previous.close();
+    }
+
+    private void write(FileChannel target, OutboundNotification notification) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(objectMapper.writeValueAsBytes(notification));
+        while (line.hasRemaining()) {
+            target.write(line);
+        }
+        ByteBuffer newLine = ByteBuffer.wrap(NEW_LINE);
+        while (newLine.hasRemaining()) {
+            target.write(newLine);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
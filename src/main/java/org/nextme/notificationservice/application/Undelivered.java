@@ -0,0 +1,28 @@
+package org.nextme.notificationservice.application;
+
+import java.util.List;
+
+/**
+ * 알림을 받지 못한 수신자 (NotificationService.deliverDurably 결과)
+ *
+ * @param retryable 일시적인 실패라 다시 보내면 받을 수 있는 수신자
+ * @param rejected  다시 보내도 받을 수 없는 수신자 (recipient_not_found, channel_not_found 등)
+ */
+public record Undelivered(List<String> retryable, List<String> rejected) {
+
+    public Undelivered {
+        retryable = List.copyOf(retryable);
+        rejected = List.copyOf(rejected);
+    }
+
+    public static Undelivered none() {
+        return new Undelivered(List.of(), List.of());
+    }
+
+    /**
+     * 모두 받았는지 (저널이 있는 스필오버 큐에 담았거나 DB 에 예약한 경우 포함)
+     */
+    public boolean isEmpty() {
+        return retryable.isEmpty() && rejected.isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package org.nextme.notificationservice.application;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워커 스레드 생성 규칙 (spring.threads.virtual.enabled 에 따라 가상/플랫폼 스레드)
+ *
+ * - 가상 스레드: 블로킹 I/O(Slack/promotion 호출, rate limit 대기) 동안 캐리어 스레드를 놓아주므로 스레드 수가 동시성 한도가 아님
+ *   → 동시 호출 수는 호출 대상별 세마포어(DownstreamLimiter)로 제한
+ * - 플랫폼 스레드: 기존처럼 데몬 스레드 + 풀 크기로 동시성 제한
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    /**
+     * @param namePrefix 스레드 이름 접두사 (뒤에 1부터 번호가 붙음)
+     */
+    public static ThreadFactory factory(String namePrefix, boolean virtual) {
+        return virtual
+                ? Thread.ofVirtual().name(namePrefix, 1).factory()
+                : Thread.ofPlatform().name(namePrefix, 1).daemon(true).factory();
+    }
+
+    /**
+     * 작업마다 가상 스레드 하나 (풀 크기/큐 없음)
+     */
+    public static ExecutorService virtualPerTask(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(factory(namePrefix, true));
+    }
+
+    /**
+     * 병렬 I/O 용 executor
+     *
+     * - 가상 스레드: 작업마다 가상 스레드 (동시성은 rate limiter / DownstreamLimiter 가 제한)
+     * - 플랫폼 스레드: concurrency 개 고정 풀, 큐가 가득 차면 호출한 스레드가 직접 실행 → 자연스러운 backpressure
+     */
+    public static ExecutorService forBlockingIo(String namePrefix, boolean virtual, int concurrency, int queueCapacity) {
+        return forBlockingIo(namePrefix, virtual, concurrency, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 병렬 I/O 용 executor (플랫폼 스레드 풀의 큐가 가득 찼을 때 처리 지정)
+     *
+     * 호출한 스레드가 직접 실행하면 안 되는 경우(타이머 스레드 등) AbortPolicy 를 넘기고 RejectedExecutionException 을 처리
+     */
+    public static ExecutorService forBlockingIo(String namePrefix, boolean virtual, int concurrency, int queueCapacity,
+                                                RejectedExecutionHandler rejection) {
+        if (virtual) {
+            return virtualPerTask(namePrefix);
+        }
+        return new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                factory(namePrefix, false),
+                rejection
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package org.nextme.notificationservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 반복 알림 인덱스 (alert key + 대상 → 처음 보낸 Slack 메시지)
+ *
+ * - 같은 alert key 가 다시 오면 새 메시지를 보내지 않고 이 메시지를 chat.update 하거나 스레드 답글로 붙임
+ * - 대상(target)은 요청에 적힌 채널/유저 ID 그대로, channel_id 는 chat.postMessage 응답의 실제 채널 (DM 이면 D...)
+ * - 해소(resolved) 이벤트가 오거나 expires_at 이 지나면 삭제
+ */
+@Getter
+@Entity
+@Table(
+        name = "p_alert_message",
+        uniqueConstraints = @UniqueConstraint(name = "uk_p_alert_message_key_target", columnNames = {"alert_key", "target"}),
+        indexes = @Index(name = "idx_p_alert_message_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AlertMessage implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "alert_message_id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "alert_key", nullable = false, length = 200, updatable = false)
+    private String alertKey;
+
+    @Column(name = "target", nullable = false, length = 320, updatable = false)
+    private String target;
+
+    @Column(name = "channel_id", nullable = false, length = 50)
+    private String channelId;
+
+    // Slack 메시지 timestamp (메시지 ID 역할)
+    @Column(name = "message_ts", nullable = false, length = 32)
+    private String messageTs;
+
+    @Column(name = "occurrences", nullable = false)
+    private int occurrences;
+
+    @Column(name = "first_seen_at", nullable = false, updatable = false)
+    private LocalDateTime firstSeenAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean isNew;
+
+    /**
+     * 처음 보낸 알림 메시지 등록
+     */
+    public static AlertMessage posted(String alertKey, String target, String channelId, String messageTs,
+                                      LocalDateTime now, LocalDateTime expiresAt) {
+        AlertMessage alertMessage = new AlertMessage();
+        alertMessage.id = UUID.randomUUID();
+        alertMessage.alertKey = alertKey;
+        alertMessage.target = target;
+        alertMessage.channelId = channelId;
+        alertMessage.messageTs = messageTs;
+        alertMessage.occurrences = 1;
+        alertMessage.firstSeenAt = now;
+        alertMessage.lastSeenAt = now;
+        alertMessage.expiresAt = expiresAt;
+        alertMessage.isNew = true;
+        return alertMessage;
+    }
+
+    /**
+     * 같은 알림이 다시 발생 (만료 시각도 연장)
+     */
+    public void recur(LocalDateTime now, LocalDateTime expiresAt) {
+        this.occurrences++;
+        this.lastSeenAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,106 @@
+package org.nextme.notificationservice.domain;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 반복 알림 인덱스(p_alert_message) 저장소
+ *
+ * PostgreSQL DDL 은 db/postgres/p_alert_message.sql
+ */
+public interface AlertMessageRepository extends JpaRepository<AlertMessage, UUID> {
+
+    Optional<AlertMessage> findByAlertKeyAndTarget(String alertKey, String target);
+
+    /**
+     * 처음 보낸 알림 등록 (H2/PostgreSQL 공통 SQL)
+     *
+     * - 같은 (alert_key, target) 이 만료된 항목이면 덮어쓰고, 없으면 새로 넣음
+     * - 다른 인스턴스가 먼저 등록한 살아 있는 항목은 그대로 둠 (INSERT 가 uk_p_alert_message_key_target 에 걸림)
+     * - 제약 위반으로 끝난 트랜잭션은 PostgreSQL 에서 더 쓸 수 없으므로 바깥 트랜잭션 없이 호출 (각 쿼리가 자기 트랜잭션)
+     *
+     * @return 1 이면 등록됨, 0 이면 다른 인스턴스의 항목이 남아 있음
+     */
+    default int register(UUID id, String alertKey, String target, String channelId, String messageTs,
+                         LocalDateTime now, LocalDateTime expiresAt) {
+        if (replaceExpired(id, alertKey, target, channelId, messageTs, now, expiresAt) > 0) {
+            return 1;
+        }
+        try {
+            return insert(id, alertKey, target, channelId, messageTs, now, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 만료된 항목만 새 메시지로 덮어씀 (register 참고)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE p_alert_message
+            SET alert_message_id = :id,
+                channel_id = :channelId,
+                message_ts = :messageTs,
+                occurrences = 1,
+                first_seen_at = :now,
+                last_seen_at = :now,
+                expires_at = :expiresAt
+            WHERE alert_key = :alertKey AND target = :target AND expires_at <= :now
+            """, nativeQuery = true)
+    int replaceExpired(@Param("id") UUID id, @Param("alertKey") String alertKey, @Param("target") String target,
+                       @Param("channelId") String channelId, @Param("messageTs") String messageTs,
+                       @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 새 항목 추가 (이미 있으면 DataIntegrityViolationException, register 참고)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_alert_message (alert_message_id, alert_key, target, channel_id, message_ts,
+                                         occurrences, first_seen_at, last_seen_at, expires_at)
+            VALUES (:id, :alertKey, :target, :channelId, :messageTs, 1, :now, :now, :expiresAt)
+            """, nativeQuery = true)
+    int insert(@Param("id") UUID id, @Param("alertKey") String alertKey, @Param("target") String target,
+               @Param("channelId") String channelId, @Param("messageTs") String messageTs,
+               @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 반복 발생 기록 (occurrences 를 DB 에서 증가시키므로 여러 인스턴스가 동시에 갱신해도 횟수가 빠지지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE AlertMessage a
+            SET a.occurrences = a.occurrences + 1, a.lastSeenAt = :now, a.expiresAt = :expiresAt
+            WHERE a.alertKey = :alertKey AND a.target = :target
+            """)
+    int recordOccurrence(@Param("alertKey") String alertKey, @Param("target") String target,
+                         @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 해소된 알림의 인덱스 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AlertMessage a WHERE a.alertKey = :alertKey AND a.target = :target")
+    int deleteByAlertKeyAndTarget(@Param("alertKey") String alertKey, @Param("target") String target);
+
+    /**
+     * 만료된 인덱스 일괄 삭제 (idx_p_alert_message_expires_at 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AlertMessage a WHERE a.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
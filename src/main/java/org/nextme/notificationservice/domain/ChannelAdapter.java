@@ -0,0 +1,30 @@
+package org.nextme.notificationservice.domain;
+
+import java.util.List;
+
+/**
+ * 전송 채널(Slack, webhook, email ...) 하나를 담당하는 포트
+ *
+ * - MessageSend 구현체(채널 dispatcher)가 수신자마다 accepts 하는 어댑터를 골라 채널별로 나눠 보냄
+ * - 수신자 표기는 채널마다 다름 (Slack ID 는 그대로, webhook:<이름>, mailto:<주소>)
+ */
+public interface ChannelAdapter {
+
+    /**
+     * 채널 이름 (메트릭 태그, 채널별 설정 키, 결과 집계 키)
+     */
+    String channel();
+
+    /**
+     * 이 채널로 보낼 수신자인지
+     */
+    boolean accepts(String recipient);
+
+    /**
+     * 이 채널의 수신자들에게 전송
+     *
+     * @param recipients accepts 를 통과한 수신자
+     * @return 수신자별 전송 결과 (예외 대신 실패 결과)
+     */
+    SendReport send(List<String> recipients, String message, NotificationPriority priority);
+}
@@ -0,0 +1,21 @@
+package org.nextme.notificationservice.domain;
+
+import java.util.List;
+
+/**
+ * 버튼(Interactive) 메시지 전송 도메인 포트
+ */
+public interface InteractiveMessageSend {
+
+    /**
+     * 버튼 포함 메시지 전송
+     *
+     * @param ids         Slack user ID / channel ID 목록
+     * @param actionId    버튼 클릭 시 사용할 action_id
+     * @param actionValue 버튼 클릭 시 전달할 value
+     * @param priority    알림 우선순위
+     * @return 수신자별 전송 결과
+     */
+    SendReport sendWithButtons(List<String> ids, String message, String actionId, String actionValue,
+                               NotificationPriority priority);
+}
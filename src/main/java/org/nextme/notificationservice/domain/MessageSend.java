@@ -5,17 +5,27 @@ import java.util.List;
 /**
  * 알림 전송 도메인 포트
  *
- * - 알림을 "어디로 / 어떻게" 보내는지는 구현체(infrastructure)가 담당
+ * - 알림을 "어디로 / 어떻게" 보내는지는 구현체(infrastructure)가 담당 (채널별 ChannelAdapter 로 라우팅)
  * - 도메인/애플리케이션 레이어에서는 이 인터페이스만 의존
  */
 public interface MessageSend {
 
     /**
-     * 여러 Slack 유저에게 메시지 전송
+     * 여러 수신자에게 메시지 전송
      *
-     * @param ids    Slack user ID
+     * @param ids    Slack user ID / channel ID, webhook:<이름>, mailto:<주소> (섞여 있어도 됨)
      * @param message 전송할 텍스트 메세지
-     * @return 전송 성공 여부
+     * @return 수신자별 전송 결과 (ids 가 비어 있으면 빈 결과)
      */
-    boolean send(List<String> ids, String message);
+    SendReport send(List<String> ids, String message);
+
+    /**
+     * 우선순위를 지정해서 전송 (구현체가 우선순위별 전송 한도를 따로 관리하는 경우)
+     *
+     * @param priority 알림 우선순위
+     * @return 수신자별 전송 결과
+     */
+    default SendReport send(List<String> ids, String message, NotificationPriority priority) {
+        return send(ids, message);
+    }
 }
@@ -1,6 +1,8 @@
 package org.nextme.notificationservice.domain;
 
 public enum MessageStatus {
+    PENDING,  // 접수됨, 아직 전송 전
+    SENDING,  // 워커가 전송 중
     SUCCESS,
     FAILED
 }
@@ -0,0 +1,89 @@
+package org.nextme.notificationservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 전송 이력 (수신자 1명 = 1행, append-only)
+ *
+ * - p_message 는 아웃박스라 sent_at 이 비어 있는 행(PENDING)이 있고 상태가 계속 바뀌므로 이력 조회/파티셔닝에는 별도 테이블 사용
+ * - PostgreSQL 에서는 sent_at 기준 일 단위 range 파티션 (db/postgres/p_message_history.sql, NotificationHistoryPartitionManager)
+ * - 조회는 (sent_at, history_id) keyset 페이지네이션 → 인덱스 범위 스캔만 하므로 데이터가 늘어도 조회 시간이 일정
+ */
+@Getter
+@Entity
+@Table(
+        name = "p_message_history",
+        indexes = {
+                @Index(name = "idx_p_message_history_recipient", columnList = "recipient, sent_at, history_id"),
+                @Index(name = "idx_p_message_history_status", columnList = "status, sent_at, history_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationHistory implements Persistable<UUID> {
+
+    // 이력에 남기는 메시지 최대 길이 (수신자마다 복사되므로 잘라서 저장)
+    public static final int MAX_MESSAGE_LENGTH = 2000;
+
+    @Id
+    @Column(name = "history_id", nullable = false, updatable = false)
+    private UUID id;
+
+    // 파티션 키
+    @Column(name = "sent_at", nullable = false, updatable = false)
+    private LocalDateTime sentAt;
+
+    // 요청에 적힌 수신자 (Slack user/channel ID, user:<UUID|이메일>, webhook:<이름>, mailto:<주소>)
+    @Column(name = "recipient", nullable = false, length = 320, updatable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20, updatable = false)
+    private MessageStatus status;
+
+    // 실패 사유 (Slack 에러 코드 등)
+    @Column(name = "error", length = 200, updatable = false)
+    private String error;
+
+    @Column(name = "message", length = MAX_MESSAGE_LENGTH, updatable = false)
+    private String message;
+
+    @Transient
+    private boolean isNew;
+
+    /**
+     * 수신자 한 명의 전송 결과로 이력 생성
+     */
+    public static NotificationHistory of(RecipientResult result, String message, LocalDateTime sentAt) {
+        NotificationHistory history = new NotificationHistory();
+        history.id = UUID.randomUUID();
+        history.sentAt = sentAt;
+        history.recipient = result.recipient();
+        history.status = result.delivered() ? MessageStatus.SUCCESS : MessageStatus.FAILED;
+        history.error = truncate(result.error(), 200);
+        history.message = truncate(message, MAX_MESSAGE_LENGTH);
+        history.isNew = true;
+        return history;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
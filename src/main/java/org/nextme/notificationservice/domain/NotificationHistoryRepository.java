@@ -0,0 +1,99 @@
+package org.nextme.notificationservice.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 알림 전송 이력(p_message_history) 저장소
+ *
+ * 모든 조회는 최신순 keyset 페이지네이션: (sent_at, history_id) 가 커서보다 작은 행을 limit 개
+ * - OFFSET 을 쓰지 않으므로 몇 번째 페이지든 인덱스에서 커서 위치부터 limit 개만 읽음
+ * - 커서 조건은 OR 라서 인덱스 범위로 쓰이지 않으므로 같은 뜻의 sent_at <= 커서 를 함께 걸어 인덱스 상한으로 사용
+ * - sent_at 범위 조건이 있어서 PostgreSQL 파티션 pruning 이 적용됨
+ * - 상태 필터 유무마다 쿼리를 나눔 (:status IS NULL OR ... 는 플랜이 상태 필터를 인덱스 조건으로 쓰지 못함)
+ * - 첫 페이지는 커서를 (to, 최소 UUID) 로 넘기면 to 미만 전체가 대상
+ */
+public interface NotificationHistoryRepository extends JpaRepository<NotificationHistory, UUID> {
+
+    /**
+     * 수신자별 이력 (idx_p_message_history_recipient 사용)
+     */
+    @Query("""
+            SELECT h FROM NotificationHistory h
+            WHERE h.recipient = :recipient
+              AND h.sentAt >= :from
+              AND h.sentAt <= :cursorSentAt
+              AND (h.sentAt < :cursorSentAt OR (h.sentAt = :cursorSentAt AND h.id < :cursorId))
+            ORDER BY h.sentAt DESC, h.id DESC
+            """)
+    List<NotificationHistory> findPageByRecipient(
+            @Param("recipient") String recipient,
+            @Param("from") LocalDateTime from,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+
+    /**
+     * 수신자 + 상태별 이력 (idx_p_message_history_recipient 로 범위를 좁힌 뒤 상태를 거름)
+     */
+    @Query("""
+            SELECT h FROM NotificationHistory h
+            WHERE h.recipient = :recipient
+              AND h.status = :status
+              AND h.sentAt >= :from
+              AND h.sentAt <= :cursorSentAt
+              AND (h.sentAt < :cursorSentAt OR (h.sentAt = :cursorSentAt AND h.id < :cursorId))
+            ORDER BY h.sentAt DESC, h.id DESC
+            """)
+    List<NotificationHistory> findPageByRecipientAndStatus(
+            @Param("recipient") String recipient,
+            @Param("status") MessageStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+
+    /**
+     * 전체 수신자 이력 (PK (sent_at, history_id) 사용)
+     */
+    @Query("""
+            SELECT h FROM NotificationHistory h
+            WHERE h.sentAt >= :from
+              AND h.sentAt <= :cursorSentAt
+              AND (h.sentAt < :cursorSentAt OR (h.sentAt = :cursorSentAt AND h.id < :cursorId))
+            ORDER BY h.sentAt DESC, h.id DESC
+            """)
+    List<NotificationHistory> findPage(
+            @Param("from") LocalDateTime from,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+
+    /**
+     * 상태별 전체 이력 (idx_p_message_history_status 사용)
+     */
+    @Query("""
+            SELECT h FROM NotificationHistory h
+            WHERE h.status = :status
+              AND h.sentAt >= :from
+              AND h.sentAt <= :cursorSentAt
+              AND (h.sentAt < :cursorSentAt OR (h.sentAt = :cursorSentAt AND h.id < :cursorId))
+            ORDER BY h.sentAt DESC, h.id DESC
+            """)
+    List<NotificationHistory> findPageByStatus(
+            @Param("status") MessageStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+}
@@ -4,10 +4,14 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.nextme.common.jpa.BaseEntity;
 import org.nextme.notificationservice.domain.MessageStatus;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,21 +22,49 @@ import java.util.UUID;
  * - 언제(sent_at)
  * - 어떤 결과(status)로 보냈는지 저장
  *
+ * 아웃박스로도 사용: PENDING 으로 저장된 행을 NotificationOutboxRelay 가 가져가서 전송
+ * 수신자는 p_message_recipient 에 수신자마다 한 행 (PostgreSQL DDL: db/postgres/p_message.sql)
+ *
  * 채널(SLACK/EMAIL/SMS 등)은 나중에 필요하면 컬럼 추가
  */
 @Getter
 @Entity
-@Table(name = "p_message")  // 아직 DB 안 만들었으면 여기부터 일반화 추천
+@Table(
+        name = "p_message",  // 아직 DB 안 만들었으면 여기부터 일반화 추천
+        indexes = {
+                @Index(name = "idx_p_message_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_p_message_sent_at", columnList = "sent_at"),
+                @Index(name = "idx_p_message_dedup_key", columnList = "dedup_key")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class NotificationMessage extends BaseEntity {
+public class NotificationMessage extends BaseEntity implements Persistable<UUID> {
+
+    /**
+     * 수신자 하나의 최대 길이 (ScheduledNotification.RECIPIENT_LENGTH 와 같음, 이메일 최대 길이 기준)
+     */
+    public static final int RECIPIENT_LENGTH = 320;
 
     @Id
     @Column(name = "message_id", nullable = false, updatable = false)
     private UUID id;
 
-    @Column(name = "receiver_user_id", nullable = false)
+    // 내부 사용자 ID (Slack ID만 알고 있는 경우 null)
+    @Column(name = "receiver_user_id")
     private UUID receiverUserId;
 
+    // 수신자 목록 (Slack ID / user: / webhook: / mailto:), 수신자마다 p_message_recipient 한 행
+    // claimDue 로 여러 행을 가져올 때 수신자는 행마다가 아니라 batch 로 한 번에 읽음
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(
+            name = "p_message_recipient",
+            joinColumns = @JoinColumn(name = "message_id")
+    )
+    @OrderColumn(name = "position")
+    @Column(name = "recipient", nullable = false, length = RECIPIENT_LENGTH)
+    @BatchSize(size = 100)
+    private List<String> recipients = new ArrayList<>();
+
     @Lob // TEXT 매핑
     @Column(name = "message", nullable = false)
     private String message;
@@ -44,6 +76,29 @@ public class NotificationMessage extends BaseEntity {
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
 
+    // 아웃박스: 접수 시각
+    @Column(name = "enqueued_at")
+    private LocalDateTime enqueuedAt;
+
+    // 아웃박스: 다음 전송 시도 시각 (SENDING 상태에서는 선점 만료 시각)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 아웃박스: 전송 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // Kafka 이벤트 중복 제거 키 (기동 시 중복 제거 필터 복구용)
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
+    /**
+     * id 를 직접 할당하므로, save() 시 SELECT 없이 바로 INSERT 되도록 새 엔티티 여부를 직접 관리
+     * (merge 대신 persist → JDBC 배치 INSERT 가능)
+     */
+    @Transient
+    private boolean isNew;
+
     // 생성 팩토리 메서드
     public static NotificationMessage create(UUID receiverUserId, String message) {
         NotificationMessage notificationMessage = new NotificationMessage();
@@ -51,16 +106,91 @@ public class NotificationMessage extends BaseEntity {
         notificationMessage.receiverUserId = receiverUserId;
         notificationMessage.message = message;
         notificationMessage.status = MessageStatus.FAILED; // 처음엔 FAILED or PENDING 등
+        notificationMessage.isNew = true;
         return notificationMessage;
     }
 
+    /**
+     * 아웃박스에 넣을 PENDING 메시지 생성
+     *
+     * @param slackIds Slack user/channel ID 목록
+     * @param message  메시지 내용
+     */
+    public static NotificationMessage pending(List<String> slackIds, String message) {
+        NotificationMessage notificationMessage = new NotificationMessage();
+        notificationMessage.id = UUID.randomUUID();
+        notificationMessage.recipients = new ArrayList<>(slackIds);
+        notificationMessage.message = message;
+        notificationMessage.status = MessageStatus.PENDING;
+        notificationMessage.enqueuedAt = LocalDateTime.now();
+        notificationMessage.nextAttemptAt = notificationMessage.enqueuedAt;
+        notificationMessage.isNew = true;
+        return notificationMessage;
+    }
+
+    /**
+     * Kafka 이벤트로 이미 전송 완료된 메시지 기록
+     *
+     * @param slackIds Slack user/channel ID 목록
+     * @param message  메시지 내용
+     * @param dedupKey 이벤트 중복 제거 키
+     */
+    public static NotificationMessage delivered(List<String> slackIds, String message, String dedupKey) {
+        NotificationMessage notificationMessage = pending(slackIds, message);
+        notificationMessage.dedupKey = dedupKey;
+        notificationMessage.attempts = 1;
+        notificationMessage.markSuccess();
+        return notificationMessage;
+    }
+
+    public List<String> recipientList() {
+        return List.copyOf(recipients);
+    }
+
+    /**
+     * 일부 수신자에게만 전송된 경우, 다음 재시도는 남은 수신자에게만
+     */
+    public void retainRecipients(List<String> remaining) {
+        this.recipients = new ArrayList<>(remaining);
+    }
+
+    /**
+     * 전송을 위해 선점. leaseUntil 까지 끝나지 않으면 (ex. 파드 재시작) 다른 인스턴스가 다시 가져감
+     */
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = MessageStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+        this.attempts++;
+    }
+
+    /**
+     * 전송 실패 후 재시도 예약
+     */
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.status = MessageStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public void markSuccess() {
         this.status = MessageStatus.SUCCESS;
         this.sentAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
     }
 
     public void markFailed() {
         this.status = MessageStatus.FAILED;
         this.sentAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 }
@@ -0,0 +1,50 @@
+package org.nextme.notificationservice.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 알림 메시지(p_message) 저장소
+ */
+public interface NotificationMessageRepository extends JpaRepository<NotificationMessage, UUID> {
+
+    /**
+     * 전송할 차례가 된 아웃박스 행을 잠그고 가져옴
+     *
+     * - PENDING: 재시도 시각이 지난 것
+     * - SENDING: 선점 만료 시각이 지난 것 (전송 중 인스턴스가 죽은 경우)
+     * - SKIP LOCKED 로 다른 인스턴스가 잠근 행은 건너뛰므로 여러 레플리카가 중복 없이 나눠 가져감
+     *
+     * H2 / PostgreSQL 모두 지원하는 문법만 사용
+     */
+    @Query(value = """
+            SELECT * FROM p_message
+            WHERE status IN ('PENDING', 'SENDING')
+              AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationMessage> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 지정 시각 이후 전송된 Kafka 이벤트의 중복 제거 키 (스트리밍 조회, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.dedupKey FROM NotificationMessage m WHERE m.dedupKey IS NOT NULL AND m.sentAt >= :since")
+    Stream<String> streamDedupKeysSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 지정 시각 이후 같은 중복 제거 키로 전송한 기록이 있는지 (Bloom filter hit 확인용)
+     */
+    boolean existsByDedupKeyAndSentAtGreaterThanEqual(String dedupKey, LocalDateTime since);
+}
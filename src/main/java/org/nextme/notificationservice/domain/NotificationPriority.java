@@ -0,0 +1,44 @@
+package org.nextme.notificationservice.domain;
+
+import java.util.Locale;
+
+/**
+ * 알림 우선순위 (전송 큐 / Slack rate limit 의 lane)
+ *
+ * - HIGH: 사람이 승인/거절해야 하는 알림 (버튼 포함 remediation 알림 등), 대량 알림에 밀리지 않아야 함
+ * - NORMAL: 일반 알림 (기본값)
+ * - LOW: 대량 공지 등 늦어도 되는 알림
+ */
+public enum NotificationPriority {
+
+    HIGH,
+    NORMAL,
+    LOW;
+
+    /**
+     * 명시된 값이 없으면 버튼(actionId) 유무로 결정
+     *
+     * @param explicit    요청/이벤트에 명시된 우선순위 (없으면 null)
+     * @param interactive 버튼이 포함된 알림인지
+     */
+    public static NotificationPriority resolve(NotificationPriority explicit, boolean interactive) {
+        if (explicit != null) {
+            return explicit;
+        }
+        return interactive ? HIGH : NORMAL;
+    }
+
+    /**
+     * 문자열 → 우선순위 (대소문자 무시, 비어 있거나 알 수 없는 값은 null → 기본 우선순위 사용)
+     */
+    public static NotificationPriority of(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.nextme.notificationservice.domain;
+
+import java.util.Optional;
+
+/**
+ * 내부 사용자(UUID/이메일) → 채널 수신자 ID 조회 포트
+ *
+ * - 수신자를 user:<내부 사용자 UUID> 또는 user:<이메일> 로 적으면 전송 전에 이 디렉터리로 Slack user ID 를 찾음
+ * - 호출하는 서비스가 Slack ID 를 따로 관리하거나 Slack 조회 API 를 직접 부르지 않아도 됨
+ */
+public interface RecipientDirectory {
+
+    /**
+     * 디렉터리 조회가 필요한 수신자 표기의 스킴
+     */
+    String SCHEME = "user:";
+
+    static boolean isDirectoryRecipient(String recipient) {
+        return recipient != null && recipient.startsWith(SCHEME) && recipient.length() > SCHEME.length();
+    }
+
+    /**
+     * user: 스킴 수신자 → Slack user ID
+     *
+     * @param recipient user:<UUID> 또는 user:<이메일>
+     * @return Slack user ID, 찾지 못하면 empty
+     */
+    Optional<String> slackIdOf(String recipient);
+}
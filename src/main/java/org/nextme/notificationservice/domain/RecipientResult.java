@@ -0,0 +1,62 @@
+package org.nextme.notificationservice.domain;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 수신자(유저/채널) 한 명에 대한 전송 결과
+ *
+ * @param recipient  요청에 적힌 수신자 그대로 (Slack user/channel ID, user:<UUID|이메일>, webhook:<이름>, mailto:<주소>)
+ * @param delivered  전송 성공 여부
+ * @param error      실패 사유 (Slack 에러 코드 등, 성공이면 null)
+ * @param retryAfter rate_limited 실패일 때 다시 보내도 되는 최소 대기 시간 (그 외에는 null)
+ */
+public record RecipientResult(String recipient, boolean delivered, String error, Duration retryAfter) {
+
+    /**
+     * 호출 대상 장애로 circuit breaker 가 열려 있어 보내지 않음 (나중에 다시 보내면 되는 실패)
+     */
+    public static final String CIRCUIT_OPEN = "circuit_open";
+
+    /**
+     * 호출 대상의 rate limit 때문에 지금 보내지 못함 (retryAfter 뒤에 다시 보내면 되는 실패)
+     */
+    public static final String RATE_LIMITED = "rate_limited";
+
+    /**
+     * user: 수신자를 RecipientDirectory 에서 찾지 못함
+     */
+    public static final String RECIPIENT_NOT_FOUND = "recipient_not_found";
+
+    /**
+     * Slack 채널(또는 DM)을 찾지 못함
+     */
+    public static final String CHANNEL_NOT_FOUND = "channel_not_found";
+
+    // 다시 보내도 같은 결과인 실패 (수신자/채널을 고친 뒤 DLT 에서 replay)
+    private static final Set<String> PERMANENT_ERRORS =
+            Set.of(RECIPIENT_NOT_FOUND, CHANNEL_NOT_FOUND, "user_not_found", "is_archived");
+
+    public RecipientResult(String recipient, boolean delivered, String error) {
+        this(recipient, delivered, error, null);
+    }
+
+    /**
+     * 다시 보내도 받을 수 없는 실패인지 (recipient_not_found, channel_not_found 등)
+     */
+    public boolean permanentlyFailed() {
+        return !delivered && PERMANENT_ERRORS.contains(error);
+    }
+
+    public static RecipientResult delivered(String recipient) {
+        return new RecipientResult(recipient, true, null);
+    }
+
+    public static RecipientResult failed(String recipient, String error) {
+        return new RecipientResult(recipient, false, error);
+    }
+
+    public static RecipientResult rateLimited(String recipient, Duration retryAfter) {
+        return new RecipientResult(recipient, false, RATE_LIMITED, retryAfter);
+    }
+}
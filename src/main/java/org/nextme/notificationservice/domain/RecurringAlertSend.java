@@ -0,0 +1,22 @@
+package org.nextme.notificationservice.domain;
+
+import java.util.List;
+
+/**
+ * 반복 알림(alertKey) 전송 도메인 포트 (같은 키가 다시 오면 새 메시지 대신 기존 메시지 갱신)
+ */
+public interface RecurringAlertSend {
+
+    /**
+     * 반복 알림으로 보낼 수 있는 수신자인지 (아니면 일반 메시지로 전송)
+     */
+    boolean accepts(List<String> ids);
+
+    /**
+     * @param alertKey 같은 조건을 나타내는 키
+     * @param resolved 조건이 해소됨
+     * @param priority 알림 우선순위
+     * @return 수신자별 전송/갱신 결과
+     */
+    SendReport send(List<String> ids, String alertKey, String message, boolean resolved, NotificationPriority priority);
+}
@@ -0,0 +1,143 @@
+package org.nextme.notificationservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약(지연) 알림
+ *
+ * - 대기 중인 예약은 메모리의 타이밍 휠이 들고 있고, 이 테이블은 재시작 복구/취소/다른 인스턴스 인계용
+ * - PENDING: fire_at 에 보낼 예정
+ * - FIRING: 인스턴스가 선점해서 보내는 중, fire_at 은 선점 만료 시각 (인스턴스가 죽으면 만료 후 다른 인스턴스가 다시 보냄)
+ * - 전송에 성공하면 행을 지움, 일부 수신자만 실패하면 실패한 수신자만 남겨 backoff 후 PENDING 으로 다시 예약
+ * - FAILED: max-attempts 번 선점해도 보내지 못함, fire_at 은 포기한 시각 (보존 기간이 지나면 purge 가 지움)
+ * - CANCELLED: 취소 표시 직후 행을 지움 (지우지 못한 행은 purge 가 정리)
+ */
+@Getter
+@Entity
+@Table(
+        name = "p_scheduled_notification",
+        indexes = @Index(name = "idx_p_scheduled_notification_status_fire_at", columnList = "status, fire_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledNotification implements Persistable<UUID> {
+
+    public enum Status {PENDING, FIRING, FAILED, CANCELLED}
+
+    /**
+     * 수신자 하나의 최대 길이 (NotificationHistory.recipient 와 같음, 이메일 최대 길이 기준)
+     */
+    public static final int RECIPIENT_LENGTH = 320;
+
+    @Id
+    @Column(name = "scheduled_id", nullable = false, updatable = false)
+    private UUID id;
+
+    // 수신자 목록 (Slack ID / user: / webhook: / mailto:), 수신자마다 p_scheduled_notification_recipient 한 행
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(
+            name = "p_scheduled_notification_recipient",
+            joinColumns = @JoinColumn(name = "scheduled_id")
+    )
+    @OrderColumn(name = "position")
+    @Column(name = "recipient", nullable = false, length = RECIPIENT_LENGTH)
+    private List<String> recipients = new ArrayList<>();
+
+    @Lob
+    @Column(name = "message", nullable = false, updatable = false)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10, updatable = false)
+    private NotificationPriority priority;
+
+    // 버튼 메시지 (없으면 일반 메시지)
+    @Column(name = "action_id", length = 100, updatable = false)
+    private String actionId;
+
+    @Column(name = "action_value", length = 500, updatable = false)
+    private String actionValue;
+
+    // 반복 알림 키 (SlackRecurringAlerts)
+    @Column(name = "alert_key", length = 200, updatable = false)
+    private String alertKey;
+
+    // 반복 알림 해소 이벤트
+    @Column(name = "resolved", nullable = false, updatable = false)
+    private boolean resolved;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    @Column(name = "fire_at", nullable = false)
+    private Instant fireAt;
+
+    // 선점한 횟수 (선점할 때 1 증가, 선점 만료로 다시 보낸 경우 포함)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    /**
+     * @param id     예약 ID (취소/조회 키, 같은 ID 로 다시 예약하면 기존 예약 유지)
+     * @param fireAt 보낼 시각 (이미 지났으면 바로 보냄)
+     */
+    public static ScheduledNotification create(UUID id, List<String> recipients, String message,
+                                               NotificationPriority priority, String actionId, String actionValue,
+                                               String alertKey, boolean resolved, Instant fireAt) {
+        ScheduledNotification scheduled = new ScheduledNotification();
+        scheduled.id = id;
+        scheduled.recipients = new ArrayList<>(recipients);
+        scheduled.message = message;
+        scheduled.priority = priority == null ? NotificationPriority.NORMAL : priority;
+        scheduled.actionId = actionId;
+        scheduled.actionValue = actionValue;
+        scheduled.alertKey = alertKey;
+        scheduled.resolved = resolved;
+        scheduled.status = Status.PENDING;
+        scheduled.fireAt = fireAt;
+        scheduled.createdAt = Instant.now();
+        scheduled.isNew = true;
+        return scheduled;
+    }
+
+    /**
+     * 일부 수신자에게 보내지 못한 예약을 남은 수신자만 다시 예약
+     *
+     * @param attempts 지금까지 선점한 횟수
+     */
+    public void retry(List<String> remaining, int attempts, Instant nextFireAt) {
+        this.recipients = new ArrayList<>(remaining);
+        this.attempts = attempts;
+        this.status = Status.PENDING;
+        this.fireAt = nextFireAt;
+    }
+
+    public List<String> recipientList() {
+        return List.copyOf(recipients);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,115 @@
+package org.nextme.notificationservice.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 예약 알림(p_scheduled_notification) 저장소
+ *
+ * 선점/취소는 조건부 UPDATE/DELETE 한 문장 → 여러 인스턴스가 같은 예약을 들고 있어도 한 곳만 성공
+ * H2 / PostgreSQL 모두 지원하는 문법만 사용
+ */
+public interface ScheduledNotificationRepository extends JpaRepository<ScheduledNotification, UUID> {
+
+    /**
+     * 타이밍 휠에 다시 올릴 예약 (ID + 시각만, 스트리밍 조회, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.id AS id, s.fireAt AS fireAt FROM ScheduledNotification s WHERE s.status IN :statuses")
+    Stream<PendingTimer> streamTimers(@Param("statuses") List<ScheduledNotification.Status> statuses);
+
+    /**
+     * 보낼 시각이 지났는데 아무도 보내지 않은 예약 (예약한 인스턴스가 죽었거나 선점 만료)
+     */
+    @Query(value = """
+            SELECT scheduled_id FROM p_scheduled_notification
+            WHERE status IN ('PENDING', 'FIRING')
+              AND fire_at <= :cutoff
+            ORDER BY fire_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findOverdue(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    /**
+     * 보낼 차례가 된 예약 선점 (fire_at 을 선점 만료 시각으로 바꾸고 attempts 증가)
+     *
+     * @return 1 이면 이 인스턴스가 보냄, 0 이면 이미 취소/전송/선점됨
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE p_scheduled_notification
+            SET status = 'FIRING', fire_at = :leaseUntil, attempts = attempts + 1
+            WHERE scheduled_id = :id
+              AND status IN ('PENDING', 'FIRING')
+              AND fire_at <= :now
+            """, nativeQuery = true)
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * 아직 보내지 않은 예약 취소 표시 (선점과 같은 행 조건으로 경쟁, 행/수신자 삭제는 호출한 쪽에서)
+     *
+     * @return 1 이면 취소됨, 0 이면 이미 선점/전송/취소됨
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE p_scheduled_notification SET status = 'CANCELLED'
+            WHERE scheduled_id = :id AND status = 'PENDING'
+            """, nativeQuery = true)
+    int cancel(@Param("id") UUID id);
+
+    /**
+     * 재시도를 포기한 예약 (fire_at 을 포기한 시각으로 바꿔서 purge 보존 기간 기준으로 씀)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE p_scheduled_notification SET status = 'FAILED', fire_at = :now
+            WHERE scheduled_id = :id
+            """, nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("now") Instant now);
+
+    long countByStatus(ScheduledNotification.Status status);
+
+    /**
+     * purge 대상(CANCELLED 전부, cutoff 전에 포기한 FAILED)의 수신자 행 삭제 (deleteFinished 보다 먼저, 같은 트랜잭션에서)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM p_scheduled_notification_recipient
+            WHERE scheduled_id IN (
+                SELECT scheduled_id FROM p_scheduled_notification
+                WHERE status = 'CANCELLED' OR (status = 'FAILED' AND fire_at < :cutoff)
+            )
+            """, nativeQuery = true)
+    int deleteFinishedRecipients(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM p_scheduled_notification
+            WHERE status = 'CANCELLED' OR (status = 'FAILED' AND fire_at < :cutoff)
+            """, nativeQuery = true)
+    int deleteFinished(@Param("cutoff") Instant cutoff);
+
+    /**
+     * 휠에 올릴 때 필요한 값만 담은 프로젝션
+     */
+    interface PendingTimer {
+
+        UUID getId();
+
+        Instant getFireAt();
+    }
+}
@@ -0,0 +1,98 @@
+package org.nextme.notificationservice.domain;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MessageSend 한 번의 수신자별 전송 결과
+ *
+ * @param results  전체 수신자별 결과
+ * @param channels 채널별 결과 (여러 채널로 나눠 보낸 경우, 아니면 비어 있음)
+ */
+public record SendReport(List<RecipientResult> results, Map<String, SendReport> channels) {
+
+    public SendReport {
+        results = List.copyOf(results);
+        channels = Collections.unmodifiableMap(new LinkedHashMap<>(channels));
+    }
+
+    public SendReport(List<RecipientResult> results) {
+        this(results, Map.of());
+    }
+
+    public static SendReport empty() {
+        return new SendReport(List.of());
+    }
+
+    /**
+     * 채널별 결과를 하나로 합침 (채널 순서 유지)
+     */
+    public static SendReport ofChannels(Map<String, SendReport> channels) {
+        List<RecipientResult> results = new ArrayList<>();
+        channels.values().forEach(report -> results.addAll(report.results()));
+        return new SendReport(results, channels);
+    }
+
+    /**
+     * 수신자가 있고 모두 성공했는지
+     */
+    public boolean allDelivered() {
+        return !results.isEmpty() && results.stream().allMatch(RecipientResult::delivered);
+    }
+
+    public long deliveredCount() {
+        return results.stream().filter(RecipientResult::delivered).count();
+    }
+
+    /**
+     * 실패한 수신자 ID (재시도 대상)
+     */
+    public List<String> failedRecipients() {
+        return results.stream()
+                .filter(result -> !result.delivered())
+                .map(RecipientResult::recipient)
+                .toList();
+    }
+
+    /**
+     * 다시 보내도 받을 수 없는 수신자 (재시도 대상에서 제외)
+     */
+    public List<String> permanentlyFailedRecipients() {
+        return results.stream()
+                .filter(RecipientResult::permanentlyFailed)
+                .map(RecipientResult::recipient)
+                .toList();
+    }
+
+    /**
+     * 실패가 있고, 모든 실패가 circuit breaker 때문인지 (호출 대상이 회복되면 그대로 다시 보내면 됨)
+     */
+    public boolean failedOnlyByOpenCircuit() {
+        List<RecipientResult> failed = results.stream().filter(result -> !result.delivered()).toList();
+        return !failed.isEmpty() && failed.stream().allMatch(result -> RecipientResult.CIRCUIT_OPEN.equals(result.error()));
+    }
+
+    /**
+     * 실패가 있고, 모든 실패가 rate limit 때문인지 (retryAfter() 뒤에 다시 보내면 됨)
+     */
+    public boolean failedOnlyByRateLimit() {
+        List<RecipientResult> failed = results.stream().filter(result -> !result.delivered()).toList();
+        return !failed.isEmpty() && failed.stream().allMatch(result -> RecipientResult.RATE_LIMITED.equals(result.error()));
+    }
+
+    /**
+     * rate_limited 실패 중 가장 긴 retryAfter (없으면 0)
+     */
+    public Duration retryAfter() {
+        return results.stream()
+                .map(RecipientResult::retryAfter)
+                .filter(Objects::nonNull)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+}
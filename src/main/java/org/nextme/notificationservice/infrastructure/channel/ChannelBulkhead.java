@@ -0,0 +1,68 @@
+package org.nextme.notificationservice.infrastructure.channel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.nextme.notificationservice.application.WorkerThreads;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채널 하나의 bulkhead (동시 전송 수 + 대기 큐 + 타임아웃)
+ *
+ * - 채널마다 워커/큐가 따로 있어서 느린 채널(ex. SMTP relay)이 다른 채널 전송을 붙잡지 않음
+ * - 큐가 가득 차면 바로 거절 (RejectedExecutionException), 호출 측은 timeout 까지만 기다림
+ * - 타임아웃이 나도 진행 중인 전송은 끝까지 실행됨 (자리도 그때 반환) → 호출 측은 실패로 보고 재시도 대상이 됨
+ */
+class ChannelBulkhead {
+
+    private final ThreadPoolExecutor workers;
+    private final Duration timeout;
+
+    ChannelBulkhead(String channel, BulkheadSettings settings, boolean virtualThreads, MeterRegistry meterRegistry) {
+        this.timeout = settings.timeout();
+        this.workers = new ThreadPoolExecutor(
+                settings.maxConcurrency(),
+                settings.maxConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.queueCapacity()),
+                WorkerThreads.factory("channel-" + channel + "-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("notification.channel.bulkhead.queued", workers, executor -> executor.getQueue().size())
+                .tag("channel", channel)
+                .description("채널 bulkhead 큐에서 대기 중인 전송 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.channel.bulkhead.active", workers, ThreadPoolExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("채널 bulkhead 에서 진행 중인 전송 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * bulkhead 워커에서 실행 (timeout 이 지나면 TimeoutException 으로 완료)
+     *
+     * @throws java.util.concurrent.RejectedExecutionException 큐가 가득 찬 경우
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, workers)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * @param maxConcurrency 동시 전송 수
+     * @param queueCapacity  대기 큐 크기
+     * @param timeout        호출 측이 기다리는 최대 시간 (큐 대기 포함)
+     */
+    record BulkheadSettings(int maxConcurrency, int queueCapacity, Duration timeout) {
+    }
+}
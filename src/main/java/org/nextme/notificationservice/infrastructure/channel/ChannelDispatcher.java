@@ -0,0 +1,200 @@
+package org.nextme.notificationservice.infrastructure.channel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.ChannelAdapter;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.nextme.notificationservice.infrastructure.channel.ChannelBulkhead.BulkheadSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 채널로 알림을 보내는 MessageSend 구현체
+ *
+ * - 수신자마다 처음으로 accepts 하는 ChannelAdapter 를 골라 채널별로 묶음 (어느 채널도 아니면 unsupported_recipient 실패)
+ * - 채널끼리는 각자의 bulkhead(ChannelBulkhead)에서 병렬 전송 → 느린 채널이 다른 채널을 막지 않음
+ * - bulkhead 큐가 가득 차면 bulkhead_full, timeout 을 넘기면 timeout 으로 해당 채널 수신자만 실패 처리
+ * - 결과는 채널별(SendReport.channels) + 전체 수신자별로 집계
+ * - bulkhead 설정: notification.channels.<채널>.bulkhead.max-concurrency / queue-capacity / timeout
+ * - 메트릭: notification.channel.send{channel, outcome=delivered|partial|failed|rejected|timeout|error}
+ */
+@Slf4j
+@Component
+public class ChannelDispatcher implements MessageSend {
+
+    /**
+     * 어느 어댑터도 받지 않는 수신자를 모아두는 결과 키
+     */
+    public static final String UNROUTED = "unrouted";
+
+    private final List<ChannelAdapter> adapters;
+    private final Map<String, ChannelBulkhead> bulkheads = new LinkedHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    public ChannelDispatcher(
+            List<ChannelAdapter> adapters,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.adapters = List.copyOf(adapters);
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+
+        for (ChannelAdapter adapter : this.adapters) {
+            BulkheadSettings settings = settingsOf(environment, adapter.channel());
+            bulkheads.put(adapter.channel(), new ChannelBulkhead(adapter.channel(), settings, virtualThreads, meterRegistry));
+            log.info("Registered notification channel {} - bulkhead: {}", adapter.channel(), settings);
+        }
+    }
+
+    private static BulkheadSettings settingsOf(Environment environment, String channel) {
+        Binder binder = Binder.get(environment);
+        String prefix = "notification.channels." + channel + ".bulkhead.";
+        return new BulkheadSettings(
+                binder.bind(prefix + "max-concurrency", Integer.class).orElse(16),
+                binder.bind(prefix + "queue-capacity", Integer.class).orElse(1000),
+                binder.bind(prefix + "timeout", Duration.class).orElse(Duration.ofSeconds(30))
+        );
+    }
+
+    @Override
+    public SendReport send(List<String> ids, String message) {
+        return send(ids, message, NotificationPriority.NORMAL);
+    }
+
+    @Override
+    public SendReport send(List<String> ids, String message, NotificationPriority priority) {
+        if (ids == null || ids.isEmpty()) {
+            log.warn("No recipients provided");
+            return SendReport.empty();
+        }
+
+        // 1) 수신자 → 채널 (입력 순서 유지)
+        Map<ChannelAdapter, List<String>> routed = new LinkedHashMap<>();
+        List<RecipientResult> unrouted = new ArrayList<>();
+        for (String id : ids) {
+            ChannelAdapter adapter = route(id);
+            if (adapter == null) {
+                unrouted.add(RecipientResult.failed(id, "unsupported_recipient"));
+            } else {
+                routed.computeIfAbsent(adapter, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        // 2) 채널별 bulkhead 에서 병렬 전송
+        Observation parent = observationRegistry.getCurrentObservation();
+        Map<String, CompletableFuture<SendReport>> futures = new LinkedHashMap<>();
+        routed.forEach((adapter, recipients) ->
+                futures.put(adapter.channel(), dispatch(adapter, recipients, message, priority, parent)));
+
+        // 3) 채널별 결과 집계
+        Map<String, SendReport> channels = new LinkedHashMap<>();
+        futures.forEach((channel, future) -> channels.put(channel, future.join()));
+        if (!unrouted.isEmpty()) {
+            log.warn("No notification channel accepts recipients {}", unrouted.stream().map(RecipientResult::recipient).toList());
+            channels.put(UNROUTED, new SendReport(unrouted));
+        }
+        return SendReport.ofChannels(channels);
+    }
+
+    private ChannelAdapter route(String recipient) {
+        if (recipient == null || recipient.isBlank()) {
+            return null;
+        }
+        for (ChannelAdapter adapter : adapters) {
+            if (adapter.accepts(recipient)) {
+                return adapter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 채널 하나로 전송 (항상 정상 완료되는 future, 실패는 수신자별 실패 결과로 변환)
+     */
+    private CompletableFuture<SendReport> dispatch(ChannelAdapter adapter, List<String> recipients, String message,
+                                                   NotificationPriority priority, Observation parent) {
+        String channel = adapter.channel();
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<SendReport> future;
+        try {
+            future = bulkheads.get(channel).submit(() -> {
+                // bulkhead 워커에서도 호출한 쪽 span 아래에 채널 호출 span 이 붙도록 scope 를 연다
+                try (Observation.Scope scope = parent == null ? null : parent.openScope()) {
+                    return adapter.send(recipients, message, priority);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Channel {} bulkhead is full, failing {} recipients", channel, recipients.size());
+            record(channel, "rejected", startedAt);
+            return CompletableFuture.completedFuture(failed(recipients, "bulkhead_full"));
+        }
+
+        return future.handle((report, error) -> {
+            if (error == null && report != null) {
+                record(channel, outcomeOf(report), startedAt);
+                return report;
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof TimeoutException) {
+                log.warn("Channel {} did not finish within its bulkhead timeout, failing {} recipients", channel, recipients.size());
+                record(channel, "timeout", startedAt);
+                return failed(recipients, "timeout");
+            }
+
+            log.error("Channel {} failed for {} recipients", channel, recipients.size(), cause);
+            record(channel, "error", startedAt);
+            return failed(recipients, cause == null ? "empty_report" : cause.getClass().getSimpleName());
+        });
+    }
+
+    private static String outcomeOf(SendReport report) {
+        if (report.allDelivered()) {
+            return "delivered";
+        }
+        return report.deliveredCount() > 0 ? "partial" : "failed";
+    }
+
+    private void record(String channel, String outcome, long startedAt) {
+        Timer.builder("notification.channel.send")
+                .description("채널 하나로 전송하는 데 걸린 시간 (bulkhead 대기 포함)")
+                .tag("channel", channel)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static SendReport failed(List<String> recipients, String error) {
+        return new SendReport(recipients.stream().map(recipient -> RecipientResult.failed(recipient, error)).toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkheads.values().forEach(ChannelBulkhead::shutdown);
+    }
+}
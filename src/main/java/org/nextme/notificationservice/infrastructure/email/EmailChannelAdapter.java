@@ -0,0 +1,89 @@
+package org.nextme.notificationservice.infrastructure.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.ChannelAdapter;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SMTP 이메일 채널 어댑터
+ *
+ * - 수신자 mailto:<주소> 마다 메일 한 통 (수신자별 성공/실패를 따로 알 수 있도록)
+ * - SMTP 서버는 spring.mail.* (로컬에서는 Mailpit 같은 SMTP stand-in 을 localhost:1025 로 띄워서 확인)
+ * - 제목: <subject-prefix> [우선순위] 메시지 첫 줄
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.channels.email.enabled", havingValue = "true")
+public class EmailChannelAdapter implements ChannelAdapter {
+
+    public static final String CHANNEL = "email";
+    public static final String PREFIX = "mailto:";
+
+    private static final int SUBJECT_MAX_LENGTH = 120;
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String subjectPrefix;
+
+    public EmailChannelAdapter(
+            JavaMailSender mailSender,
+            @Value("${notification.channels.email.from}") String from,
+            @Value("${notification.channels.email.subject-prefix:[NextMe]}") String subjectPrefix
+    ) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.subjectPrefix = subjectPrefix;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public boolean accepts(String recipient) {
+        return recipient.startsWith(PREFIX);
+    }
+
+    @Override
+    public SendReport send(List<String> recipients, String message, NotificationPriority priority) {
+        String subject = subject(message, priority);
+        return new SendReport(recipients.stream().map(recipient -> sendTo(recipient, subject, message)).toList());
+    }
+
+    private RecipientResult sendTo(String recipient, String subject, String message) {
+        String address = recipient.substring(PREFIX.length());
+        if (address.isBlank() || address.indexOf('@') < 1) {
+            return RecipientResult.failed(recipient, "invalid_address");
+        }
+
+        try {
+            SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setFrom(from);
+            mail.setTo(address);
+            mail.setSubject(subject);
+            mail.setText(message);
+            mailSender.send(mail);
+            return RecipientResult.delivered(recipient);
+        } catch (MailException e) {
+            log.warn("Failed to send email to {}: {}", address, e.getMessage());
+            return RecipientResult.failed(recipient, e.getClass().getSimpleName());
+        }
+    }
+
+    String subject(String message, NotificationPriority priority) {
+        String firstLine = message == null ? "" : message.strip().lines().findFirst().orElse("");
+        String subject = subjectPrefix + " [" + priority + "] " + firstLine;
+        return subject.length() <= SUBJECT_MAX_LENGTH ? subject : subject.substring(0, SUBJECT_MAX_LENGTH - 1) + "…";
+    }
+}
@@ -0,0 +1,114 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 호출 대상(downstream)별 circuit breaker
+ *
+ * - 이름은 <downstream> 또는 <downstream>:<세부 대상> (ex. slack:chat.postMessage, promotion)
+ *   세부 대상별로 따로 열리지만 설정은 http.client.circuit-breaker.<downstream>.* 를 공유
+ * - 4xx/429 는 요청 문제라 무시 (실패로도 성공으로도 세지 않음, sliding window 에 들어가지 않음)
+ * - 최근 sliding-window 호출 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN → 호출하지 않고 바로 CallNotPermittedException
+ * - wait-in-open 이 지나면 자동으로 HALF_OPEN, 시험 호출(permitted-in-half-open)이 성공하면 CLOSED
+ * - 메트릭: resilience4j.circuitbreaker.* (state, calls, failure.rate 등), http.client.circuit.transitions (상태 전환 수)
+ */
+@Slf4j
+@Component
+public class DownstreamCircuitBreakers {
+
+    private final CircuitBreakerRegistry registry;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamCircuitBreakers(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    /**
+     * circuit breaker 를 거쳐 호출 (OPEN 이면 호출하지 않고 CallNotPermittedException)
+     *
+     * @param downstream 설정 이름 (slack, promotion)
+     * @param target     세부 대상 (Slack API 메서드 등, 없으면 null)
+     */
+    public <T> T call(String downstream, String target, Supplier<T> call) {
+        return breaker(downstream, target).executeSupplier(call);
+    }
+
+    /**
+     * 호출 전에 OPEN 인지 확인 (rate limit 대기열에 들어가기 전에 빨리 실패시키는 용도)
+     *
+     * @throws CallNotPermittedException OPEN 상태인 경우
+     */
+    public void checkPermitted(String downstream, String target) {
+        CircuitBreaker breaker = breaker(downstream, target);
+        CircuitBreaker.State state = breaker.getState();
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            throw CallNotPermittedException.createCallNotPermittedException(breaker);
+        }
+    }
+
+    public CircuitBreaker.State state(String downstream, String target) {
+        return breaker(downstream, target).getState();
+    }
+
+    CircuitBreaker breaker(String downstream, String target) {
+        String name = target == null ? downstream : downstream + ":" + target;
+        return registry.find(name).orElseGet(() -> create(name, downstream));
+    }
+
+    private synchronized CircuitBreaker create(String name, String downstream) {
+        boolean created = registry.find(name).isEmpty();
+        CircuitBreaker breaker = registry.circuitBreaker(name, () -> config(downstream));
+        if (created) {
+            breaker.getEventPublisher().onStateTransition(event -> {
+                CircuitBreaker.StateTransition transition = event.getStateTransition();
+                log.warn("Circuit breaker {} transitioned {} -> {}",
+                        name, transition.getFromState(), transition.getToState());
+                Counter.builder("http.client.circuit.transitions")
+                        .description("circuit breaker 상태 전환 수")
+                        .tag("downstream", downstream)
+                        .tag("name", name)
+                        .tag("from", transition.getFromState().name())
+                        .tag("to", transition.getToState().name())
+                        .register(meterRegistry)
+                        .increment();
+            });
+        }
+        return breaker;
+    }
+
+    private CircuitBreakerConfig config(String downstream) {
+        Binder binder = Binder.get(environment);
+        String prefix = "http.client.circuit-breaker." + downstream + ".";
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(binder.bind(prefix + "sliding-window-size", Integer.class).orElse(50))
+                .minimumNumberOfCalls(binder.bind(prefix + "minimum-calls", Integer.class).orElse(20))
+                .failureRateThreshold(binder.bind(prefix + "failure-rate-threshold", Float.class).orElse(50f))
+                .slowCallRateThreshold(binder.bind(prefix + "slow-call-rate-threshold", Float.class).orElse(80f))
+                .slowCallDurationThreshold(binder.bind(prefix + "slow-call-duration", Duration.class).orElse(Duration.ofSeconds(5)))
+                .waitDurationInOpenState(binder.bind(prefix + "wait-in-open", Duration.class).orElse(Duration.ofSeconds(30)))
+                .permittedNumberOfCallsInHalfOpenState(binder.bind(prefix + "permitted-in-half-open", Integer.class).orElse(5))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // recordException 으로 거르면 걸러진 예외가 성공으로 기록되어 실패율을 낮춤 → ignore 로 창에서 제외
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 호출 대상(downstream)별 동시 호출 수 제한 (bulkhead)
+ *
+ * - 가상 스레드에서는 스레드 수로 동시성이 제한되지 않으므로, 대상마다 세마포어로 동시에 나가는 호출 수를 제한
+ * - 한도는 커넥션 풀의 호스트당 커넥션 수 이하로 둠 → 초과분은 풀 대기(pool-acquire-timeout)가 아니라 여기서 공정하게 대기
+ * - acquire-timeout 안에 자리가 나지 않으면 DownstreamSaturatedException (호출 측에서 실패로 처리)
+ * - 메트릭: http.client.downstream.in.flight / waiting (gauge), http.client.downstream.acquire (대기 시간)
+ */
+public class DownstreamLimiter {
+
+    private final String name;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer acquireTimer;
+
+    public DownstreamLimiter(String name, int maxConcurrency, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+
+        Gauge.builder("http.client.downstream.in.flight", inFlight, AtomicInteger::get)
+                .tag("downstream", name)
+                .description("진행 중인 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.downstream.waiting", waiting, AtomicInteger::get)
+                .tag("downstream", name)
+                .description("동시 호출 한도 때문에 대기 중인 호출 수")
+                .register(meterRegistry);
+        this.acquireTimer = Timer.builder("http.client.downstream.acquire")
+                .tag("downstream", name)
+                .description("동시 호출 한도 때문에 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자리가 날 때까지 (최대 acquire-timeout) 기다렸다가 호출
+     *
+     * @throws DownstreamSaturatedException acquire-timeout 안에 자리가 나지 않은 경우
+     */
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        inFlight.incrementAndGet();
+        try {
+            return call.get();
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            acquireTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new DownstreamSaturatedException(name, acquireTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name + " permit", e);
+        } finally {
+            waiting.decrementAndGet();
+            acquireTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,13 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import java.time.Duration;
+
+/**
+ * 동시 호출 한도(DownstreamLimiter)에 막혀 acquire-timeout 안에 호출하지 못한 경우
+ */
+public class DownstreamSaturatedException extends RuntimeException {
+
+    public DownstreamSaturatedException(String downstream, Duration acquireTimeout) {
+        super(downstream + " concurrency limit saturated for " + acquireTimeout);
+    }
+}
@@ -0,0 +1,165 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 호출(Slack, promotion-service, user-service, webhook 채널) 공용 클라이언트 설정
+ *
+ * - 하나의 커넥션 풀을 공유해서 keep-alive 커넥션을 재사용 (TLS 핸드셰이크 감소)
+ * - connect / read / 풀 대기 타임아웃을 명시해서 스레드가 무한정 묶이지 않도록 함
+ * - RestClient.Builder 는 Boot 가 만든 것을 사용 → 관측(Observation)/트레이싱 설정이 그대로 적용됨
+ * - 호출 대상별 동시 호출 수는 DownstreamLimiter 로 제한 (가상 스레드에서는 스레드 수가 한도가 아님)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager(
+            @Value("${http.client.max-connections:200}") int maxConnections,
+            @Value("${http.client.max-connections-per-host:50}") int maxConnectionsPerHost,
+            @Value("${http.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${http.client.read-timeout:10s}") Duration readTimeout,
+            @Value("${http.client.connection-ttl:5m}") Duration connectionTtl
+    ) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                // 오래 쉬던 커넥션은 재사용 전에 검사 (서버가 먼저 끊은 경우 대비)
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient(
+            PoolingHttpClientConnectionManager httpConnectionManager,
+            @Value("${http.client.read-timeout:10s}") Duration readTimeout,
+            @Value("${http.client.pool-acquire-timeout:1s}") Duration poolAcquireTimeout,
+            @Value("${http.client.idle-eviction:30s}") Duration idleEviction
+    ) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEviction.toMillis()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory pooledRequestFactory(CloseableHttpClient pooledHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    }
+
+    /**
+     * Slack Web API 용 RestClient
+     */
+    @Bean
+    public RestClient slackRestClient(
+            RestClient.Builder restClientBuilder,
+            @Qualifier("pooledRequestFactory") ClientHttpRequestFactory pooledRequestFactory,
+            @Value("${slack.api.base-url:https://slack.com/api}") String slackBaseUrl
+    ) {
+        return restClientBuilder
+                .baseUrl(slackBaseUrl)
+                .requestFactory(pooledRequestFactory)
+                .build();
+    }
+
+    /**
+     * promotion-service 용 RestClient (remediation API)
+     */
+    @Bean
+    public RestClient promotionRestClient(
+            RestClient.Builder restClientBuilder,
+            @Qualifier("pooledRequestFactory") ClientHttpRequestFactory pooledRequestFactory,
+            @Value("${promotion.service.url}") String promotionServiceUrl
+    ) {
+        return restClientBuilder
+                .baseUrl(promotionServiceUrl)
+                .requestFactory(pooledRequestFactory)
+                .build();
+    }
+
+    /**
+     * user-service 용 RestClient (수신자 디렉터리의 내부 사용자 → 이메일 조회, URL 이 비어 있으면 조회 안 함)
+     */
+    @Bean
+    public RestClient userRestClient(
+            RestClient.Builder restClientBuilder,
+            @Qualifier("pooledRequestFactory") ClientHttpRequestFactory pooledRequestFactory,
+            @Value("${user.service.url:}") String userServiceUrl
+    ) {
+        if (!userServiceUrl.isBlank()) {
+            restClientBuilder.baseUrl(userServiceUrl);
+        }
+        return restClientBuilder
+                .requestFactory(pooledRequestFactory)
+                .build();
+    }
+
+    /**
+     * webhook 채널용 RestClient (endpoint 마다 URL 이 다르므로 baseUrl 없음)
+     */
+    @Bean
+    public RestClient webhookRestClient(
+            RestClient.Builder restClientBuilder,
+            @Qualifier("pooledRequestFactory") ClientHttpRequestFactory pooledRequestFactory
+    ) {
+        return restClientBuilder
+                .requestFactory(pooledRequestFactory)
+                .build();
+    }
+
+    /**
+     * Slack 동시 호출 한도 (Web API + response_url)
+     */
+    @Bean
+    public DownstreamLimiter slackDownstreamLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${http.client.downstream.slack.max-concurrency:50}") int maxConcurrency,
+            @Value("${http.client.downstream.slack.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        return new DownstreamLimiter("slack", maxConcurrency, acquireTimeout, meterRegistry);
+    }
+
+    /**
+     * promotion-service 동시 호출 한도 (remediation API)
+     */
+    @Bean
+    public DownstreamLimiter promotionDownstreamLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${http.client.downstream.promotion.max-concurrency:20}") int maxConcurrency,
+            @Value("${http.client.downstream.promotion.acquire-timeout:5s}") Duration acquireTimeout
+    ) {
+        return new DownstreamLimiter("promotion", maxConcurrency, acquireTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * HTTP 커넥션 풀 메트릭 (호스트별)
+ *
+ * - http.client.pool.leased    : 사용 중인 커넥션
+ * - http.client.pool.available : 재사용 대기 중인 keep-alive 커넥션
+ * - http.client.pool.pending   : 커넥션을 기다리는 요청
+ *
+ * 라우트(호스트)는 실제 호출이 일어난 뒤에야 풀에 생기므로 주기적으로 새 라우트를 찾아 게이지를 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpClientPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager httpConnectionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<HttpRoute> registeredRoutes = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${http.client.metrics-refresh-interval:30000}")
+    public void registerNewRoutes() {
+        for (HttpRoute route : httpConnectionManager.getRoutes()) {
+            if (registeredRoutes.add(route)) {
+                String host = route.getTargetHost().toHostString();
+                gauge("http.client.pool.leased", host, route, PoolStats::getLeased);
+                gauge("http.client.pool.available", host, route, PoolStats::getAvailable);
+                gauge("http.client.pool.pending", host, route, PoolStats::getPending);
+                gauge("http.client.pool.max", host, route, PoolStats::getMax);
+            }
+        }
+    }
+
+    private void gauge(String name, String host, HttpRoute route, ToIntFunction<PoolStats> stat) {
+        Gauge.builder(name, httpConnectionManager, manager -> stat.applyAsInt(manager.getStats(route)))
+                .tag("host", host)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,71 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * 기동 직후 외부 호스트로 커넥션을 미리 열어둠
+ *
+ * - 첫 알림이 TCP/TLS 핸드셰이크 비용을 떠안지 않도록 keep-alive 커넥션을 풀에 채워둠
+ * - 실패해도 무시 (기동을 막지 않음)
+ */
+@Slf4j
+@Component
+public class HttpClientWarmup {
+
+    private final RestClient slackRestClient;
+    private final RestClient promotionRestClient;
+    private final boolean enabled;
+    private final int connections;
+
+    public HttpClientWarmup(
+            @Qualifier("slackRestClient") RestClient slackRestClient,
+            @Qualifier("promotionRestClient") RestClient promotionRestClient,
+            @Value("${http.client.warmup.enabled:true}") boolean enabled,
+            @Value("${http.client.warmup.connections:4}") int connections
+    ) {
+        this.slackRestClient = slackRestClient;
+        this.promotionRestClient = promotionRestClient;
+        this.enabled = enabled;
+        this.connections = connections;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        // 동시에 요청해야 커넥션이 여러 개 열림
+        CompletableFuture<?>[] calls = IntStream.range(0, connections)
+                .mapToObj(i -> CompletableFuture.allOf(
+                        CompletableFuture.runAsync(() -> touch("slack", slackRestClient, "/api.test")),
+                        CompletableFuture.runAsync(() -> touch("promotion", promotionRestClient, "/actuator/health"))
+                ))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(calls)
+                .whenComplete((ignored, error) -> log.info("HTTP connection pool warm-up finished ({} per host)", connections));
+    }
+
+    private void touch(String target, RestClient client, String path) {
+        try {
+            // api.test 는 인증 없이 호출 가능하고 rate limit 대상이 아님. 응답 코드는 상관없음
+            client.get()
+                    .uri(path)
+                    .retrieve()
+                    .onStatus(status -> true, (request, response) -> { })
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            log.debug("Warm-up request to {} failed: {}", target, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.nextme.notificationservice.infrastructure.jvm;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단 (spring.threads.virtual.enabled=true 일 때만)
+ *
+ * - 메트릭: VirtualThreadMetrics (jvm.threads.virtual.pinned 타이머, jvm.threads.virtual.submit.failed)
+ * - 로그: JFR jdk.VirtualThreadPinned 이벤트를 구독해서 pinning 이 난 위치(스택)를 WARN 으로 남김
+ *   같은 위치는 처음 한 번 + log-every 번마다 한 번만 기록 (로그 폭주 방지)
+ * - pinning 은 캐리어 스레드를 붙잡으므로, 여기 찍히는 위치의 synchronized 블록 안에서 I/O 가 있으면 ReentrantLock 으로 바꿔야 함
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final long logEvery;
+
+    /**
+     * 스택 최상단 위치 → pinning 횟수
+     */
+    private final Map<String, AtomicLong> pinnedSites = new ConcurrentHashMap<>();
+
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${notification.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+            @Value("${notification.virtual-threads.pinning.log-every:100}") long logEvery
+    ) {
+        this.threshold = threshold;
+        this.logEvery = Math.max(1, logEvery);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            log.info("Watching virtual thread pinning longer than {}", threshold);
+        } catch (RuntimeException e) {
+            // JFR 을 쓸 수 없는 환경이어도 기동은 계속
+            log.warn("Virtual thread pinning monitor disabled", e);
+            recording = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+        long count = pinnedSites.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        if (count != 1 && count % logEvery != 0) {
+            return;
+        }
+
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame))
+                .collect(Collectors.joining("\n"));
+        log.warn("Virtual thread pinned for {} ms (site count: {}) at\n{}",
+                event.getDuration().toMillis(), count, stack);
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -1,10 +1,157 @@
 package org.nextme.notificationservice.infrastructure.kafka;
 
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventDeserializer;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
 	// Topic 이름
 	public static final String MONITORING_NOTIFICATION_TOPIC = "monitoring.notification";
+
+	// Kafka Streams 가 묶어서 내보내는 digest 토픽 (notification.kafka.coalesce.enabled=true)
+	public static final String MONITORING_NOTIFICATION_DIGEST_TOPIC = "monitoring.notification.digest";
+
+	// 리스너가 소비할 토픽: coalesce 가 켜져 있으면 digest 토픽, 아니면 원본 토픽
+	public static final String MONITORING_LISTEN_TOPIC =
+		"#{'${notification.kafka.coalesce.enabled:false}' == 'true' ? '"
+			+ MONITORING_NOTIFICATION_DIGEST_TOPIC + "' : '" + MONITORING_NOTIFICATION_TOPIC + "'}";
+
+	// 리스너 토픽 뒤에 붙는 dead-letter 토픽 접미사 (monitoring.notification-dlt)
+	public static final String DLT_SUFFIX = "-dlt";
+
+	// 단건 리스너(+ 재시도/DLT 토픽)용 컨테이너 팩토리 빈 이름
+	public static final String LISTENER_CONTAINER_FACTORY = "monitoringListenerContainerFactory";
+
+	// 배치 리스너용 컨테이너 팩토리 빈 이름
+	public static final String BATCH_LISTENER_CONTAINER_FACTORY = "monitoringBatchListenerContainerFactory";
+
+	// 재시도/DLT 토픽 발행, DLT replay 용 KafkaTemplate 빈 이름
+	public static final String KAFKA_TEMPLATE = "monitoringKafkaTemplate";
+
+	/**
+	 * 단건 모드 리스너 컨테이너 팩토리
+	 *
+	 * - 값은 MonitoringNotificationEventDeserializer 로 byte[] 에서 이벤트로 바로 역직렬화 (JSON/Smile)
+	 * - ErrorHandlingDeserializer 로 감싸므로 파싱 불가 레코드는 재시도 없이 DLT 로 이동 (원본 바이트 그대로)
+	 * - 나머지 설정(spring.kafka.*)은 Boot 기본 팩토리와 동일하게 적용
+	 */
+	@Bean(LISTENER_CONTAINER_FACTORY)
+	@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "false", matchIfMissing = true)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> monitoringListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> kafkaConsumerFactory
+	) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, withValueDeserializer(kafkaConsumerFactory,
+			new ErrorHandlingDeserializer<>(new MonitoringNotificationEventDeserializer())));
+		return factory;
+	}
+
+	/**
+	 * 배치 모드 리스너 컨테이너 팩토리
+	 *
+	 * - poll 한 번에 가져온 레코드를 List 로 한꺼번에 리스너에 전달
+	 * - 값은 byte[] 로 받아 레코드 단위로 디코딩 (파싱 불가 레코드 하나가 배치 전체를 막지 않도록)
+	 * - 리스너가 정상 리턴하면 배치 전체 offset 을 커밋 (AckMode.BATCH)
+	 * - 나머지 설정(spring.kafka.*)은 Boot 기본 팩토리와 동일하게 적용
+	 */
+	@Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+	@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "true")
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> monitoringBatchListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> kafkaConsumerFactory
+	) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, withValueDeserializer(kafkaConsumerFactory, new ByteArrayDeserializer()));
+		factory.setBatchListener(true);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+		return factory;
+	}
+
+	/**
+	 * 배치 모드 dead-letter 토픽
+	 *
+	 * 단건 모드는 @RetryableTopic 이 재시도/DLT 토픽을 만들지만 배치 모드는 직접 DLT 로 보내므로 여기서 생성
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "true")
+	public NewTopic monitoringNotificationBatchDltTopic(
+		@Value(MONITORING_LISTEN_TOPIC) String listenTopic,
+		@Value("${notification.kafka.retry.partitions:3}") int partitions
+	) {
+		return TopicBuilder.name(listenTopic + DLT_SUFFIX)
+			.partitions(partitions)
+			.build();
+	}
+
+	/**
+	 * 재시도/DLT 토픽 발행, DLT replay 용 KafkaTemplate
+	 *
+	 * 값 타입별로 직렬화: 재시도 대상 이벤트는 원본 content-type 그대로, 파싱 불가/replay 레코드는 원본 바이트 그대로
+	 */
+	@Bean(KAFKA_TEMPLATE)
+	public KafkaTemplate<Object, Object> monitoringKafkaTemplate(
+		ProducerFactory<Object, Object> kafkaProducerFactory,
+		@Value("${spring.kafka.template.observation-enabled:false}") boolean observationEnabled
+	) {
+		DelegatingByTypeSerializer valueSerializer = new DelegatingByTypeSerializer(Map.<Class<?>, Serializer<?>>of(
+			byte[].class, new ByteArraySerializer(),
+			String.class, new StringSerializer(),
+			MonitoringNotificationEvent.class, new MonitoringNotificationEventSerializer()
+		));
+		DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(
+			kafkaProducerFactory.getConfigurationProperties(), objectSerializer(new StringSerializer()), valueSerializer);
+		kafkaProducerFactory.getListeners().forEach(producerFactory::addListener);
+
+		KafkaTemplate<Object, Object> template = new KafkaTemplate<>(producerFactory);
+		template.setObservationEnabled(observationEnabled);
+		return template;
+	}
+
+	// Boot 기본 ConsumerFactory 설정(spring.kafka.consumer.*, 리스너)을 그대로 쓰고 역직렬화기만 교체
+	private static ConsumerFactory<Object, Object> withValueDeserializer(
+		ConsumerFactory<Object, Object> base,
+		Deserializer<?> valueDeserializer
+	) {
+		DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(
+			base.getConfigurationProperties(), objectDeserializer(new StringDeserializer()), objectDeserializer(valueDeserializer));
+		base.getListeners().forEach(consumerFactory::addListener);
+		return consumerFactory;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Deserializer<Object> objectDeserializer(Deserializer<?> deserializer) {
+		return (Deserializer<Object>) deserializer;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Serializer<Object> objectSerializer(Serializer<?> serializer) {
+		return (Serializer<Object>) serializer;
+	}
 }
@@ -0,0 +1,23 @@
+package org.nextme.notificationservice.infrastructure.kafka;
+
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+
+/**
+ * 단건 모드 재시도 토픽(@RetryableTopic) 설정
+ *
+ * - 재시도/DLT 토픽으로 넘길 때 받지 못한 수신자를 recipients 헤더로 붙임 → 다음 시도는 그 수신자에게만 전송
+ * - 재시도 토픽 자체 헤더(attempts, backoff)는 프레임워크가 그대로 붙이고 여기서는 헤더 함수만 추가
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "false", matchIfMissing = true)
+public class MonitoringRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+	@Override
+	protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+		customizersConfigurer.customizeDeadLetterPublishingRecoverer(
+			recoverer -> recoverer.addHeadersFunction(MonitoringNotificationHandler::recipientsHeaders));
+	}
+}
@@ -0,0 +1,17 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+/**
+ * 파싱할 수 없는 모니터링 이벤트 (깨진 JSON, 필수 필드 누락)
+ *
+ * 몇 번을 다시 시도해도 결과가 같으므로 재시도 토픽을 거치지 않고 바로 DLT 로 보냄
+ */
+public class MalformedMonitoringEventException extends RuntimeException {
+
+	public MalformedMonitoringEventException(String message) {
+		super(message);
+	}
+
+	public MalformedMonitoringEventException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
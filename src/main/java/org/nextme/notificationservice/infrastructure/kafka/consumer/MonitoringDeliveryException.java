@@ -0,0 +1,25 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import java.util.List;
+
+/**
+ * Slack 전송 실패 (rate limit 대기 초과, 네트워크 오류, 5xx 등 일시적인 실패)
+ *
+ * 재시도 토픽으로 넘겨 backoff 후 다시 시도 (받지 못한 수신자에게만, MonitoringNotificationHandler.RECIPIENTS_HEADER)
+ */
+public class MonitoringDeliveryException extends RuntimeException {
+
+	private final List<String> recipients;
+
+	public MonitoringDeliveryException(String message, List<String> recipients) {
+		super(message);
+		this.recipients = List.copyOf(recipients);
+	}
+
+	/**
+	 * 다시 보낼 수신자
+	 */
+	public List<String> recipients() {
+		return recipients;
+	}
+}
@@ -0,0 +1,258 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.nextme.notificationservice.application.NotificationScheduler;
+import org.nextme.notificationservice.application.WorkerThreads;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler.DispatchResult;
+import org.nextme.notificationservice.infrastructure.kafka.dlt.MonitoringDeadLetterPublisher;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모니터링 알림 이벤트를 배치로 소비하는 Kafka Consumer
+ *
+ * - poll 한 번에 받은 레코드를 수신자 집합(채널) 기준으로 그룹핑
+ * - 그룹끼리는 병렬 전송 (가상 스레드면 그룹마다 가상 스레드, 아니면 제한된 스레드 풀), 같은 그룹 안에서는 순서대로 전송 (채널별 순서 유지)
+ * - 우선순위가 다르면 다른 그룹, HIGH 그룹부터 스레드 풀에 넣어서 대량 NORMAL/LOW 알림 뒤에 밀리지 않게 함
+ * - 레코드 단위로 예외를 처리하므로 잘못된 레코드 하나가 배치 전체를 실패시키지 않음
+ * - deliver-at 헤더가 미래 시각인 레코드는 보내지 않고 NotificationScheduler 에 예약
+ * - 파싱 불가/전송 실패 레코드는 <토픽>-dlt 로 보냄 (배치 리스너는 재시도 토픽을 쓸 수 없으므로 DLT 에서 replay)
+ *   일부 수신자만 실패하면 그 수신자만 recipients 헤더에 남기므로 replay 해도 이미 받은 수신자에게 다시 보내지 않음
+ * - 배치 처리가 끝나면 컨테이너가 배치 전체 offset 을 커밋
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "true")
+public class MonitoringNotificationBatchConsumer {
+
+	private final MonitoringNotificationHandler handler;
+	private final MonitoringDeadLetterPublisher deadLetters;
+	private final NotificationScheduler scheduler;
+	private final ObservationRegistry observationRegistry;
+	private final ExecutorService dispatchExecutor;
+
+	private final Timer batchTimer;
+	private final DistributionSummary batchSize;
+	private final Counter sentCounter;
+	private final Counter failedCounter;
+	private final Counter duplicateCounter;
+	private final Counter malformedCounter;
+	private final Counter scheduledCounter;
+
+	public MonitoringNotificationBatchConsumer(
+		MonitoringNotificationHandler handler,
+		MonitoringDeadLetterPublisher deadLetters,
+		NotificationScheduler scheduler,
+		MeterRegistry meterRegistry,
+		ObservationRegistry observationRegistry,
+		@Value("${notification.kafka.batch.dispatch-concurrency:8}") int dispatchConcurrency,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+	) {
+		this.handler = handler;
+		this.deadLetters = deadLetters;
+		this.scheduler = scheduler;
+		this.observationRegistry = observationRegistry;
+
+		// 플랫폼 스레드 풀은 큐가 가득 차면 리스너 스레드가 직접 처리 → 자연스러운 backpressure
+		this.dispatchExecutor = WorkerThreads.forBlockingIo(
+			"monitoring-dispatch-", virtualThreads, dispatchConcurrency, dispatchConcurrency * 4);
+
+		this.batchTimer = Timer.builder("notification.kafka.batch.duration")
+			.description("배치 한 번을 Slack까지 전송하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("notification.kafka.batch.size")
+			.description("배치당 레코드 수")
+			.register(meterRegistry);
+		this.sentCounter = Counter.builder("notification.kafka.batch.records")
+			.tag("result", "sent")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("notification.kafka.batch.records")
+			.tag("result", "failed")
+			.register(meterRegistry);
+		this.duplicateCounter = Counter.builder("notification.kafka.batch.records")
+			.tag("result", "duplicate")
+			.register(meterRegistry);
+		this.malformedCounter = Counter.builder("notification.kafka.batch.records")
+			.tag("result", "malformed")
+			.register(meterRegistry);
+		this.scheduledCounter = Counter.builder("notification.kafka.batch.records")
+			.tag("result", "scheduled")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * monitoring.notification 토픽을 배치로 소비
+	 * max.poll.records 로 한 번에 가져올 최대 레코드 수를 조절
+	 */
+	@KafkaListener(
+		topics = KafkaConfig.MONITORING_LISTEN_TOPIC,
+		groupId = "notification-service",
+		containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY,
+		properties = {
+			"max.poll.records=${notification.kafka.batch.max-records:500}",
+			"fetch.max.wait.ms=${notification.kafka.batch.fetch-max-wait-ms:200}"
+		}
+	)
+	public void handleMonitoringNotifications(List<ConsumerRecord<String, byte[]>> records) {
+		long startedAt = System.nanoTime();
+		// 배치 리스너는 레코드 단위 observation 이 없으므로 배치 단위 span 을 만들어 Slack 호출 span 의 부모로 사용
+		BatchResult result = Observation.createNotStarted("notification.kafka.batch", observationRegistry)
+			.contextualName("monitoring.notification batch")
+			.highCardinalityKeyValue("records", Integer.toString(records.size()))
+			.observe(() -> dispatchBatch(records));
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		batchSize.record(records.size());
+
+		double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+		log.info("Processed monitoring batch - records: {}, groups: {}, sent: {}, duplicates: {}, failed: {}, malformed: {}, scheduled: {}, {} ms, {} msg/s",
+			records.size(), result.groups(), result.sent(), result.duplicates(), result.failed(), result.malformed(), result.scheduled(),
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.1f", records.size() / seconds));
+	}
+
+	/**
+	 * 배치를 그룹핑해서 병렬 전송하고 결과를 집계
+	 */
+	BatchResult dispatchBatch(List<ConsumerRecord<String, byte[]>> records) {
+		// 1) 파싱 + 수신자 집합 기준 그룹핑 (도착 순서 유지)
+		Map<String, List<KeyedEvent>> groups = new LinkedHashMap<>();
+		int malformed = 0;
+		int scheduled = 0;
+		int failedToSchedule = 0;
+
+		for (ConsumerRecord<String, byte[]> record : records) {
+			try {
+				// replay 된 DLT 레코드면 앞선 시도에서 받지 못한 수신자만
+				MonitoringNotificationEvent event = MonitoringNotificationHandler.remainingOf(record.headers(), handler.decode(record));
+				Instant deliverAt = MonitoringNotificationHandler.deliverAtOf(record.headers());
+				if (deliverAt != null && deliverAt.isAfter(Instant.now())) {
+					if (schedule(record, event, deliverAt)) {
+						scheduled++;
+					} else {
+						failedToSchedule++;
+					}
+					continue;
+				}
+				groups.computeIfAbsent(groupKey(event), key -> new ArrayList<>())
+					.add(new KeyedEvent(record, handler.dedupKeyOf(record), event));
+			} catch (Exception e) {
+				malformed++;
+				log.error("Dead-lettering malformed monitoring notification - partition: {}, offset: {}",
+					record.partition(), record.offset(), e);
+				deadLetters.publish(record, new MalformedMonitoringEventException(
+					"Malformed monitoring notification at " + record.topic() + "-" + record.partition() + "@" + record.offset(), e));
+			}
+		}
+
+		// 2) 그룹별 병렬 전송 (그룹 내부는 순차)
+		AtomicInteger sent = new AtomicInteger();
+		AtomicInteger duplicates = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger(failedToSchedule);
+		Observation parent = observationRegistry.getCurrentObservation();
+
+		CompletableFuture<?>[] futures = groups.values().stream()
+			.sorted(Comparator.comparing(events -> events.get(0).event().priority()))
+			.map(events -> CompletableFuture.runAsync(() -> dispatchGroup(parent, events, sent, duplicates, failed), dispatchExecutor))
+			.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).join();
+
+		sentCounter.increment(sent.get());
+		duplicateCounter.increment(duplicates.get());
+		failedCounter.increment(failed.get());
+		malformedCounter.increment(malformed);
+		scheduledCounter.increment(scheduled);
+
+		return new BatchResult(groups.size(), sent.get(), duplicates.get(), failed.get(), malformed, scheduled);
+	}
+
+	/**
+	 * 예약으로 넘김 (실패하면 DLT 로 보내고 false)
+	 */
+	private boolean schedule(ConsumerRecord<String, byte[]> record, MonitoringNotificationEvent event, Instant deliverAt) {
+		try {
+			scheduler.schedule(handler.scheduleKeyOf(record), MonitoringNotificationHandler.outboundOf(event), deliverAt);
+			return true;
+		} catch (Exception e) {
+			log.error("Failed to schedule monitoring notification - partition: {}, offset: {}",
+				record.partition(), record.offset(), e);
+			deadLetters.publish(record, e);
+			return false;
+		}
+	}
+
+	private void dispatchGroup(Observation parent, List<KeyedEvent> events, AtomicInteger sent, AtomicInteger duplicates,
+		AtomicInteger failed) {
+		// 워커 스레드에서도 배치 span 아래에 Slack 호출 span 이 붙도록 scope 를 연다
+		try (Observation.Scope scope = parent == null ? null : parent.openScope()) {
+			dispatchEvents(events, sent, duplicates, failed);
+		}
+	}
+
+	private void dispatchEvents(List<KeyedEvent> events, AtomicInteger sent, AtomicInteger duplicates,
+		AtomicInteger failed) {
+		for (KeyedEvent keyed : events) {
+			try {
+				DispatchResult result = handler.dispatchOnce(keyed.dedupKey(), keyed.record().timestamp(), keyed.event());
+				switch (result) {
+					case SENT -> sent.incrementAndGet();
+					case DUPLICATE -> duplicates.incrementAndGet();
+				}
+			} catch (MonitoringDeliveryException | UndeliverableMonitoringEventException e) {
+				// 받지 못한 수신자만 recipients 헤더로 남김 (MonitoringDeadLetterPublisher)
+				failed.incrementAndGet();
+				log.warn("Dead-lettering monitoring notification - partition: {}, offset: {}, cause: {}",
+					keyed.record().partition(), keyed.record().offset(), e.getMessage());
+				deadLetters.publish(keyed.record(), e);
+			} catch (Exception e) {
+				failed.incrementAndGet();
+				log.error("Error dispatching monitoring notification", e);
+				deadLetters.publish(keyed.record(), e);
+			}
+		}
+	}
+
+	/**
+	 * 같은 우선순위 + 같은 채널(수신자 집합)로 가는 이벤트는 같은 그룹
+	 */
+	private static String groupKey(MonitoringNotificationEvent event) {
+		String recipients = event.slackUserIds() == null ? "" : String.join(",", new TreeSet<>(event.slackUserIds()));
+		return event.priority() + ":" + recipients;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		dispatchExecutor.shutdown();
+	}
+
+	record BatchResult(int groups, int sent, int duplicates, int failed, int malformed, int scheduled) {
+	}
+
+	private record KeyedEvent(ConsumerRecord<String, byte[]> record, String dedupKey, MonitoringNotificationEvent event) {
+	}
+}
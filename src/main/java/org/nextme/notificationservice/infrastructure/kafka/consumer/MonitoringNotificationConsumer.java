@@ -1,83 +1,169 @@
 package org.nextme.notificationservice.infrastructure.kafka.consumer;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.nextme.notificationservice.application.NotificationService;
+import org.apache.kafka.common.header.Header;
+import org.nextme.notificationservice.application.NotificationScheduler;
 import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
-import org.nextme.notificationservice.infrastructure.slack.SlackInteractiveMessageSend;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
 /**
- * 모니터링 알림 이벤트를 소비하는 Kafka Consumer
+ * 모니터링 알림 이벤트를 소비하는 Kafka Consumer (단건 모드)
+ *
+ * notification.kafka.batch.enabled=true 이면 MonitoringNotificationBatchConsumer 가 대신 동작
+ * consume span 은 spring.kafka.listener.observation-enabled 로 생성 (Slack/remediation 호출 span 의 부모)
+ * 레코드 값은 컨테이너(KafkaConfig.LISTENER_CONTAINER_FACTORY)가 이벤트로 역직렬화해서 전달 (content-type 헤더로 JSON/Smile)
+ * deliver-at 헤더가 미래 시각이면 보내지 않고 NotificationScheduler 에 예약만 하고 커밋
+ * 우선순위 lane: 리스너 스레드가 레코드를 순서대로 보내므로 NORMAL/LOW 가 lane 한도에 걸리면 slack.rate-limit.lane-max-wait 까지만
+ * 기다리고 Retry-After 뒤로 예약(DB)한 뒤 커밋 → 뒤에 있는 HIGH 레코드가 NORMAL/LOW 의 rate limit 대기에 묶이지 않음
+ *
+ * 실패 처리 (non-blocking retry)
+ * - 실패한 레코드는 제자리에서 재시도하지 않고 재시도 토픽(-retry-0, -retry-1, ...)으로 넘김 → 원본 파티션은 계속 진행
+ * - 재시도 토픽마다 backoff 가 커지고, attempts 를 다 쓰면 DLT(-dlt) 로 이동
+ * - 일부 수신자만 실패하면 그 수신자만 recipients 헤더에 남겨 재시도 토픽으로 넘김 (이미 받은 수신자에게 다시 보내지 않음)
+ * - 파싱 불가(DeserializationException, MalformedMonitoringEventException)와
+ *   받을 수 없는 수신자만 남은 이벤트(UndeliverableMonitoringEventException)는 재시도 없이 바로 DLT
+ * - DLT 레코드에는 예외 클래스/메시지/스택, 원본 topic/partition/offset 헤더가 붙음 (kafka_dlt-*)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.kafka.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class MonitoringNotificationConsumer {
 
-	private final NotificationService notificationService;
-	private final SlackInteractiveMessageSend slackInteractiveMessageSend;
-	private final ObjectMapper objectMapper;
+	private final MonitoringNotificationHandler handler;
+	private final NotificationScheduler scheduler;
+
+	// 재시도를 포기하고 DLT 로 간 이벤트
+	private final Counter malformed;
+	private final Counter undeliverable;
+	private final Counter retriesExhausted;
+
+	public MonitoringNotificationConsumer(
+		MonitoringNotificationHandler handler,
+		NotificationScheduler scheduler,
+		MeterRegistry meterRegistry
+	) {
+		this.handler = handler;
+		this.scheduler = scheduler;
+		this.malformed = droppedCounter(meterRegistry, "malformed");
+		this.undeliverable = droppedCounter(meterRegistry, "undeliverable");
+		this.retriesExhausted = droppedCounter(meterRegistry, "retries_exhausted");
+	}
 
 	/**
-	 * monitoring.notification 토픽에서 이벤트를 소비하여 Slack으로 알림 전송
+	 * monitoring.notification 토픽(+ 재시도 토픽)에서 이벤트를 소비하여 Slack으로 알림 전송
 	 * actionId와 actionValue가 있으면 Interactive Button을 포함한 메시지 전송
 	 */
-	@KafkaListener(topics = KafkaConfig.MONITORING_NOTIFICATION_TOPIC, groupId = "notification-service")
-	public void handleMonitoringNotification(ConsumerRecord<String, String> record) {
-		log.warn("===== MonitoringNotificationConsumer 호출됨 =====");
-		log.info("Received monitoring notification event from Kafka");
-		log.info("Partition: {}, Offset: {}", record.partition(), record.offset());
-		String eventJson = record.value();
-		log.info("Event JSON Length: {}", eventJson != null ? eventJson.length() : "null");
-		log.debug("Event JSON: {}", eventJson);
-
-		try {
-			// JSON을 Map으로 파싱
-			JsonNode json = objectMapper.readTree(eventJson);
-
-			java.util.List<String> slackUserIds = objectMapper.convertValue(
-				json.get("slackUserIds"),
-				new com.fasterxml.jackson.core.type.TypeReference<java.util.List<String>>() {}
-			);
-			String message = json.get("message").asText();
-			String actionId = json.get("actionId").isNull() ? null : json.get("actionId").asText();
-			String actionValue = json.get("actionValue").isNull() ? null : json.get("actionValue").asText();
-
-			log.info("Parsed event - actionId: {}, actionValue: {}", actionId, actionValue);
-
-			boolean success;
-
-			// actionId가 있으면 Interactive Button 포함 메시지 전송
-			if (actionId != null && !actionId.isBlank()) {
-				log.info("✅ Sending interactive message with action: {} (value: {})",
-					actionId, actionValue);
-				success = slackInteractiveMessageSend.sendWithButtons(
-					slackUserIds,
-					message,
-					actionId,
-					actionValue
-				);
-			} else {
-				log.info("⚠️ Sending regular message (no actionId provided)");
-				// 일반 메시지 전송
-				success = notificationService.sendToUsers(slackUserIds, message);
-			}
+	@RetryableTopic(
+		attempts = "${notification.kafka.retry.attempts:4}",
+		backoff = @Backoff(
+			delayExpression = "${notification.kafka.retry.initial-delay-ms:5000}",
+			multiplierExpression = "${notification.kafka.retry.multiplier:4}",
+			maxDelayExpression = "${notification.kafka.retry.max-delay-ms:300000}"
+		),
+		numPartitions = "${notification.kafka.retry.partitions:3}",
+		topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+		dltTopicSuffix = KafkaConfig.DLT_SUFFIX,
+		exclude = {MalformedMonitoringEventException.class, UndeliverableMonitoringEventException.class},
+		kafkaTemplate = KafkaConfig.KAFKA_TEMPLATE,
+		listenerContainerFactory = KafkaConfig.LISTENER_CONTAINER_FACTORY
+	)
+	@KafkaListener(
+		topics = KafkaConfig.MONITORING_LISTEN_TOPIC,
+		groupId = "notification-service",
+		containerFactory = KafkaConfig.LISTENER_CONTAINER_FACTORY
+	)
+	public void handleMonitoringNotification(ConsumerRecord<String, MonitoringNotificationEvent> record) {
+		log.info("Received monitoring notification event - topic: {}, partition: {}, offset: {}",
+			record.topic(), record.partition(), record.offset());
+		// 재시도 토픽 레코드면 앞선 시도에서 받지 못한 수신자만
+		MonitoringNotificationEvent event = MonitoringNotificationHandler.remainingOf(record.headers(), record.value());
+		log.debug("Event: {}", event);
 
-			if (success) {
-				log.info("Successfully sent monitoring notification to {} users", slackUserIds.size());
-			} else {
-				log.warn("Failed to send monitoring notification to some users");
+		// tombstone (값이 null 인 레코드)
+		if (event == null) {
+			throw new MalformedMonitoringEventException(
+				"Empty monitoring notification at " + record.topic() + "-" + record.partition() + "@" + record.offset());
+		}
+
+		Instant deliverAt = MonitoringNotificationHandler.deliverAtOf(record.headers());
+		if (deliverAt != null && deliverAt.isAfter(Instant.now())) {
+			try {
+				scheduler.schedule(handler.scheduleKeyOf(record), MonitoringNotificationHandler.outboundOf(event), deliverAt);
+			} catch (IllegalArgumentException e) {
+				// max-delay 보다 먼 예약은 재시도해도 같으므로 바로 DLT
+				throw new MalformedMonitoringEventException(e.getMessage());
 			}
+			return;
+		}
 
-		} catch (Exception e) {
-			log.error("Error processing monitoring notification event", e);
-			throw new RuntimeException("Failed to process monitoring notification", e);
+		// 실패하면 받지 못한 수신자를 담은 예외 → 재시도 토픽 (받을 수 없는 수신자만 남았으면 DLT)
+		handler.dispatchOnce(handler.dedupKeyOf(record), record.timestamp(), event);
+	}
+
+	/**
+	 * 재시도를 모두 실패했거나 파싱할 수 없는 이벤트
+	 * 레코드는 DLT 에 남으므로 원인을 고친 뒤 /v1/notifications/admin/dlt/replay 로 다시 흘려보낼 수 있음
+	 */
+	@DltHandler
+	public void handleDeadLetter(ConsumerRecord<String, MonitoringNotificationEvent> record) {
+		String exceptionClass = header(record, KafkaHeaders.DLT_EXCEPTION_FQCN);
+		String exceptionMessage = header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+
+		if (MalformedMonitoringEventException.class.getName().equals(exceptionClass)
+			|| DeserializationException.class.getName().equals(exceptionClass)) {
+			malformed.increment();
+		} else if (UndeliverableMonitoringEventException.class.getName().equals(exceptionClass)) {
+			undeliverable.increment();
+		} else {
+			retriesExhausted.increment();
 		}
+		log.error("Monitoring notification dead-lettered - topic: {}, partition: {}, offset: {}, original: {}-{}@{}, cause: {}: {}",
+			record.topic(), record.partition(), record.offset(),
+			header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC),
+			headerInt(record, KafkaHeaders.DLT_ORIGINAL_PARTITION),
+			headerLong(record, KafkaHeaders.DLT_ORIGINAL_OFFSET),
+			exceptionClass, exceptionMessage);
+	}
+
+	private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("notification.monitoring.dropped")
+			.description("DLT 로 보내진 모니터링 알림 수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private static String header(ConsumerRecord<?, ?> record, String name) {
+		Header header = record.headers().lastHeader(name);
+		return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+	}
+
+	// 원본 partition/offset 헤더는 문자열이 아니라 big-endian int/long 바이트
+	private static Integer headerInt(ConsumerRecord<?, ?> record, String name) {
+		Header header = record.headers().lastHeader(name);
+		return header == null || header.value() == null || header.value().length != Integer.BYTES
+			? null : ByteBuffer.wrap(header.value()).getInt();
+	}
+
+	private static Long headerLong(ConsumerRecord<?, ?> record, String name) {
+		Header header = record.headers().lastHeader(name);
+		return header == null || header.value() == null || header.value().length != Long.BYTES
+			? null : ByteBuffer.wrap(header.value()).getLong();
 	}
 }
@@ -0,0 +1,271 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.OutboundNotification;
+import org.nextme.notificationservice.application.Undelivered;
+import org.nextme.notificationservice.infrastructure.kafka.dedup.MonitoringEventDeduplicator;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec.WireFormat;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터링 알림 이벤트 파싱 + Slack 전송
+ *
+ * - 단건 Consumer(MonitoringNotificationConsumer)와 배치 Consumer(MonitoringNotificationBatchConsumer)가 공유
+ * - 파싱은 MonitoringNotificationEventCodec 스트리밍 디코더 (content-type 헤더로 JSON/Smile)
+ * - actionId가 있으면 Interactive Button 포함 메시지, alertKey 가 있으면 반복 알림(기존 메시지 갱신), 둘 다 없으면 일반 메시지
+ * - 세 종류 모두 NotificationService 로 보냄 → circuit_open 이면 같은 종류 그대로 스필오버 큐에 담김
+ * - 이벤트 우선순위(priority, 없으면 버튼 유무로 결정)를 Slack rate limit lane 으로 전달
+ * - 재전달된 이벤트는 MonitoringEventDeduplicator 로 걸러냄
+ * - deliver-at 헤더(ISO-8601 시각 또는 epoch millis)가 미래인 레코드는 Consumer 가 NotificationScheduler 로 넘김
+ * - 일부 수신자만 받지 못하면 그 수신자만 예외에 담고, 재시도/DLT 레코드의 recipients 헤더로 남겨 다음 시도는 그 수신자에게만 보냄
+ * - 다시 보내도 받을 수 없는 수신자(recipient_not_found, channel_not_found 등)는 재시도하지 않음
+ * - 전송 결과 카운터 + 이벤트 나이(레코드 timestamp → Slack 응답) 타이머
+ */
+@Slf4j
+@Component
+public class MonitoringNotificationHandler {
+
+	/**
+	 * 이벤트를 지정 시각에 보내도록 하는 레코드 헤더
+	 */
+	public static final String DELIVER_AT_HEADER = "deliver-at";
+
+	/**
+	 * 다음 시도에서 보낼 수신자 (쉼표로 구분, 재시도/DLT 토픽으로 넘길 때 붙임)
+	 */
+	public static final String RECIPIENTS_HEADER = "notification-recipients";
+
+	/**
+	 * dispatchOnce 결과 (전송 실패는 예외)
+	 */
+	public enum DispatchResult {
+		SENT,       // 전송 성공
+		DUPLICATE   // 이미 전송한 이벤트라 건너뜀
+	}
+
+	private final NotificationService notificationService;
+	private final MonitoringEventDeduplicator deduplicator;
+
+	private final Timer eventAge;
+	private final Counter sent;
+	private final Counter failed;
+	private final Counter duplicates;
+
+	public MonitoringNotificationHandler(
+		NotificationService notificationService,
+		MonitoringEventDeduplicator deduplicator,
+		MeterRegistry meterRegistry
+	) {
+		this.notificationService = notificationService;
+		this.deduplicator = deduplicator;
+
+		this.eventAge = Timer.builder("notification.kafka.event.age")
+			.description("Kafka 레코드 timestamp 부터 Slack 전송 완료까지 걸린 시간")
+			.publishPercentileHistogram()
+			.maximumExpectedValue(Duration.ofMinutes(30))
+			.register(meterRegistry);
+		this.sent = dispatchCounter(meterRegistry, "sent");
+		this.failed = dispatchCounter(meterRegistry, "failed");
+		this.duplicates = dispatchCounter(meterRegistry, "duplicate");
+	}
+
+	/**
+	 * JSON 문자열을 이벤트로 변환
+	 */
+	public MonitoringNotificationEvent parse(String eventJson) throws IOException {
+		return MonitoringNotificationEventCodec.decode(
+			eventJson == null ? null : eventJson.getBytes(StandardCharsets.UTF_8), WireFormat.JSON);
+	}
+
+	/**
+	 * Kafka 레코드 값(byte[])을 content-type 헤더에 맞는 포맷으로 디코딩
+	 */
+	public MonitoringNotificationEvent decode(ConsumerRecord<String, byte[]> record) throws IOException {
+		return MonitoringNotificationEventCodec.decode(record.value(), WireFormat.of(record.headers()));
+	}
+
+	/**
+	 * 이미 전송한 이벤트가 아니면 Slack으로 전송하고 전송 기록을 남김
+	 *
+	 * @param dedupKey        MonitoringEventDeduplicator.keyOf 로 구한 키
+	 * @param recordTimestamp Kafka 레코드 timestamp (epoch millis, 이벤트 나이 측정용)
+	 * @return 전송 결과 (중복이라 건너뛴 경우 DUPLICATE)
+	 * @throws MonitoringDeliveryException           일시적으로 받지 못한 수신자가 있으면 (그 수신자만 담음)
+	 * @throws UndeliverableMonitoringEventException 다시 보내도 받을 수 없는 수신자만 남았으면
+	 * @throws MalformedMonitoringEventException     수신자가 없으면
+	 */
+	public DispatchResult dispatchOnce(String dedupKey, long recordTimestamp, MonitoringNotificationEvent event) {
+		if (deduplicator.isDuplicate(dedupKey)) {
+			duplicates.increment();
+			log.info("Skipping already delivered monitoring notification {}", dedupKey);
+			return DispatchResult.DUPLICATE;
+		}
+
+		if (event.slackUserIds().isEmpty()) {
+			// 다시 보내도 보낼 곳이 없으므로 재시도 없이 DLT
+			throw new MalformedMonitoringEventException("Monitoring notification has no recipients");
+		}
+		Undelivered undelivered = dispatch(event);
+		if (!undelivered.isEmpty()) {
+			failed.increment();
+			throw failureOf(undelivered);
+		}
+		sent.increment();
+		if (recordTimestamp > 0) {
+			eventAge.record(Math.max(0, System.currentTimeMillis() - recordTimestamp), TimeUnit.MILLISECONDS);
+		}
+		deduplicator.markDelivered(dedupKey, event);
+		return DispatchResult.SENT;
+	}
+
+	/**
+	 * 레코드의 중복 제거 키
+	 */
+	public String dedupKeyOf(ConsumerRecord<String, ?> record) {
+		return deduplicator.keyOf(record);
+	}
+
+	/**
+	 * 이벤트를 Slack으로 전송
+	 *
+	 * @return 받지 못한 수신자 (비어 있으면 성공)
+	 */
+	public Undelivered dispatch(MonitoringNotificationEvent event) {
+		log.info("Parsed event - actionId: {}, actionValue: {}, priority: {}, alertKey: {}",
+			event.actionId(), event.actionValue(), event.priority(), event.alertKey());
+
+		OutboundNotification notification = outboundOf(event);
+		if (notification.interactive()) {
+			log.info("✅ Sending interactive message with action: {} (value: {})",
+				event.actionId(), event.actionValue());
+		} else if (notification.recurring()) {
+			log.info("Sending recurring alert {} (resolved: {})", event.alertKey(), event.resolved());
+		} else {
+			log.info("⚠️ Sending regular message (no actionId provided)");
+		}
+		// 버튼/반복/일반 메시지 선택은 NotificationSender 가 함
+		// 스필오버 저널이 없으면 담지 않고 실패 → offset 을 커밋하지 않고 재시도 토픽/DLT 로
+		Undelivered undelivered = notificationService.deliverDurably(notification);
+
+		if (undelivered.isEmpty()) {
+			log.info("Successfully sent monitoring notification to {} users", event.slackUserIds().size());
+		} else {
+			log.warn("Failed to send monitoring notification - retryable: {}, rejected: {}",
+				undelivered.retryable(), undelivered.rejected());
+		}
+		return undelivered;
+	}
+
+	// 일시적인 실패가 하나라도 있으면 그 수신자만 재시도, 받을 수 없는 수신자는 이력에만 남기고 버림
+	private static RuntimeException failureOf(Undelivered undelivered) {
+		if (!undelivered.retryable().isEmpty()) {
+			if (!undelivered.rejected().isEmpty()) {
+				log.warn("Not retrying monitoring notification for recipients that cannot receive it: {}",
+					undelivered.rejected());
+			}
+			return new MonitoringDeliveryException(
+				"Failed to deliver monitoring notification to " + undelivered.retryable(), undelivered.retryable());
+		}
+		return new UndeliverableMonitoringEventException(
+			"Monitoring notification cannot be delivered to " + undelivered.rejected(), undelivered.rejected());
+	}
+
+	/**
+	 * 앞선 시도에서 받지 못한 수신자만 남긴 이벤트 (RECIPIENTS_HEADER 가 없으면 그대로)
+	 */
+	public static MonitoringNotificationEvent remainingOf(Headers headers, MonitoringNotificationEvent event) {
+		Header header = headers == null ? null : headers.lastHeader(RECIPIENTS_HEADER);
+		if (event == null || header == null || header.value() == null || header.value().length == 0) {
+			return event;
+		}
+		List<String> recipients = Arrays.stream(new String(header.value(), StandardCharsets.UTF_8).split(","))
+			.map(String::trim)
+			.filter(recipient -> !recipient.isEmpty())
+			.toList();
+		return recipients.isEmpty() ? event : event.withSlackUserIds(recipients);
+	}
+
+	/**
+	 * 재시도/DLT 레코드에 붙일 헤더 (DeadLetterPublishingRecoverer headers function)
+	 *
+	 * 예외에 받지 못한 수신자가 담겨 있으면 RECIPIENTS_HEADER 로 남김 (원본 레코드 헤더보다 뒤라 lastHeader 로 읽힘)
+	 */
+	public static Headers recipientsHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			List<String> recipients = null;
+			if (cause instanceof MonitoringDeliveryException delivery) {
+				recipients = delivery.recipients();
+			} else if (cause instanceof UndeliverableMonitoringEventException undeliverable) {
+				recipients = undeliverable.recipients();
+			}
+			if (recipients != null && !recipients.isEmpty()) {
+				RecordHeaders headers = new RecordHeaders();
+				headers.add(RECIPIENTS_HEADER, String.join(",", recipients).getBytes(StandardCharsets.UTF_8));
+				return headers;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 이벤트 → 전송할 알림 (즉시 전송 / 예약 공통)
+	 */
+	public static OutboundNotification outboundOf(MonitoringNotificationEvent event) {
+		return new OutboundNotification(event.slackUserIds(), event.message(), event.priority(),
+			event.actionId(), event.actionValue(), event.alertKey(), event.resolved());
+	}
+
+	/**
+	 * 예약 멱등 키 (재전달된 레코드는 같은 예약)
+	 */
+	public String scheduleKeyOf(ConsumerRecord<String, ?> record) {
+		return "kafka:" + dedupKeyOf(record);
+	}
+
+	/**
+	 * 레코드의 deliver-at 헤더 (없거나 읽을 수 없으면 null)
+	 */
+	public static Instant deliverAtOf(Headers headers) {
+		Header header = headers == null ? null : headers.lastHeader(DELIVER_AT_HEADER);
+		if (header == null || header.value() == null || header.value().length == 0) {
+			return null;
+		}
+		String value = new String(header.value(), StandardCharsets.UTF_8).trim();
+		try {
+			return value.chars().allMatch(Character::isDigit)
+				? Instant.ofEpochMilli(Long.parseLong(value))
+				: OffsetDateTime.parse(value).toInstant();
+		} catch (DateTimeParseException | NumberFormatException e) {
+			log.warn("Ignoring unreadable {} header: {}", DELIVER_AT_HEADER, value);
+			return null;
+		}
+	}
+
+	private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("notification.monitoring.dispatch")
+			.description("모니터링 알림 전송 결과 (중복 포함)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
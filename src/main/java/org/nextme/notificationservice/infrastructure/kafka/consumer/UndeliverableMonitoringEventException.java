@@ -0,0 +1,25 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import java.util.List;
+
+/**
+ * 다시 보내도 받을 수 없는 수신자만 남은 이벤트 (recipient_not_found, channel_not_found 등)
+ *
+ * 재시도 토픽을 거치지 않고 바로 DLT 로 이동 (그 수신자만 RECIPIENTS_HEADER 에 남기므로 고친 뒤 replay 하면 그 수신자에게만 전송)
+ */
+public class UndeliverableMonitoringEventException extends RuntimeException {
+
+	private final List<String> recipients;
+
+	public UndeliverableMonitoringEventException(String message, List<String> recipients) {
+		super(message);
+		this.recipients = List.copyOf(recipients);
+	}
+
+	/**
+	 * 받지 못한 수신자
+	 */
+	public List<String> recipients() {
+		return recipients;
+	}
+}
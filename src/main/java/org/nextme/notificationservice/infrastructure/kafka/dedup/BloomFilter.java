@@ -0,0 +1,92 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고정 크기 Bloom filter
+ *
+ * - 메모리는 (예상 원소 수, 목표 오탐률)로 정해지고 원소가 늘어도 커지지 않음
+ * - 오탐(없는데 있다고 판단)은 있을 수 있지만 미탐은 없음
+ * - 동기화는 호출 측(RotatingBloomFilter)에서 담당
+ */
+final class BloomFilter {
+
+	private final long[] words;
+	private final long bitSize;
+	private final int hashCount;
+	private long bitCount;
+
+	BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.words = new long[(int) Math.max(1, (m + 63) / 64)];
+		this.bitSize = words.length * 64L;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+	}
+
+	void put(String key) {
+		long hash = fnv1a64(key);
+		long h1 = fmix64(hash);
+		long h2 = fmix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			if ((words[index] & mask) == 0) {
+				words[index] |= mask;
+				bitCount++;
+			}
+		}
+	}
+
+	boolean mightContain(String key) {
+		long hash = fnv1a64(key);
+		long h1 = fmix64(hash);
+		long h2 = fmix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 채워진 비트 비율로 추정한 오탐률
+	 */
+	double expectedFalsePositiveRate() {
+		return Math.pow((double) bitCount / bitSize, hashCount);
+	}
+
+	long sizeInBytes() {
+		return words.length * 8L;
+	}
+
+	void clear() {
+		Arrays.fill(words, 0L);
+		bitCount = 0;
+	}
+
+	private static long fnv1a64(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// MurmurHash3 finalizer
+	private static long fmix64(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+}
@@ -0,0 +1,183 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationMessageRepository;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 재전달(redelivery)된 모니터링 이벤트 중복 제거
+ *
+ * - Slack 전송 후 offset 커밋 전에 예외/리밸런스가 나면 Kafka 가 같은 레코드를 다시 보냄 → 사용자에게 중복 알림
+ * - 전송에 성공한 이벤트 키를 시간 창(window) 단위 Bloom filter 에 기록하고, 다시 오면 건너뜀
+ * - 키: eventId 헤더가 있으면 그 값, 없으면 내용 해시 + topic/partition/offset
+ * - 메모리는 (window 동안 예상 이벤트 수, 목표 오탐률)로 고정, 추정 오탐률은 메트릭으로 노출
+ * - Bloom filter 에 걸려도 바로 건너뛰지 않고 정확한 키(최근 exact-keys 개 LRU, persist=true 면 p_message)로 확인
+ *   → 오탐으로 처음 보는 알림이 사라지지 않음, 확인되지 않은 hit 는 전송 (LRU 에서 밀려난 재전달은 중복 전송될 수 있음)
+ * - persist=true 면 전송 기록을 p_message 에 남기고, 기동 시 최근 window 만큼 다시 읽어 필터를 복구
+ */
+@Slf4j
+@Component
+public class MonitoringEventDeduplicator {
+
+	public static final String EVENT_ID_HEADER = "eventId";
+
+	private final NotificationMessageRepository repository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final boolean persist;
+	private final Duration window;
+	private final RotatingBloomFilter filter;
+	private final RecentKeys recentKeys;
+
+	private final Counter duplicates;
+	private final Counter unconfirmed;
+
+	public MonitoringEventDeduplicator(
+		NotificationMessageRepository repository,
+		TransactionTemplate transactionTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${notification.dedup.enabled:true}") boolean enabled,
+		@Value("${notification.dedup.persist:false}") boolean persist,
+		@Value("${notification.dedup.window:24h}") Duration window,
+		@Value("${notification.dedup.generations:4}") int generations,
+		@Value("${notification.dedup.expected-events:2000000}") long expectedEvents,
+		@Value("${notification.dedup.false-positive-rate:0.000001}") double falsePositiveRate,
+		@Value("${notification.dedup.exact-keys:100000}") int exactKeys
+	) {
+		this.repository = repository;
+		this.transactionTemplate = transactionTemplate;
+		this.enabled = enabled;
+		this.persist = persist;
+		this.window = window;
+		this.filter = new RotatingBloomFilter(window, generations, expectedEvents, falsePositiveRate, System::nanoTime);
+		this.recentKeys = new RecentKeys(exactKeys, window, System::nanoTime);
+
+		this.duplicates = Counter.builder("notification.dedup.duplicates")
+			.description("중복으로 판단해 건너뛴 이벤트 수")
+			.register(meterRegistry);
+		this.unconfirmed = Counter.builder("notification.dedup.unconfirmed")
+			.description("Bloom filter 에는 걸렸지만 정확한 키로 확인되지 않아 전송한 이벤트 수 (오탐 또는 LRU 에서 밀려난 키)")
+			.register(meterRegistry);
+		Gauge.builder("notification.dedup.false.positive.rate", filter, RotatingBloomFilter::expectedFalsePositiveRate)
+			.description("Bloom filter 추정 오탐률")
+			.register(meterRegistry);
+		Gauge.builder("notification.dedup.memory", filter, RotatingBloomFilter::sizeInBytes)
+			.baseUnit("bytes")
+			.description("중복 제거 필터가 사용하는 메모리")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 리스너가 시작되기 전에 최근 전송 기록으로 필터 복구
+	 */
+	@PostConstruct
+	void rebuild() {
+		if (!enabled || !persist) {
+			return;
+		}
+
+		LocalDateTime since = LocalDateTime.now().minus(window);
+		AtomicLong restored = new AtomicLong();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				try (Stream<String> keys = repository.streamDedupKeysSince(since)) {
+					keys.forEach(key -> {
+						filter.put(key);
+						recentKeys.add(key);
+						restored.incrementAndGet();
+					});
+				}
+			});
+			log.info("Restored {} delivered event keys into dedup filter (since {})", restored.get(), since);
+		} catch (Exception e) {
+			// 복구 실패해도 기동은 계속 (중복 가능성만 남음)
+			log.warn("Failed to restore dedup filter from delivery records", e);
+		}
+	}
+
+	/**
+	 * 레코드의 중복 제거 키
+	 */
+	public String keyOf(ConsumerRecord<String, ?> record) {
+		Header eventId = record.headers().lastHeader(EVENT_ID_HEADER);
+		if (eventId != null && eventId.value() != null && eventId.value().length > 0) {
+			return "id:" + new String(eventId.value(), StandardCharsets.UTF_8);
+		}
+
+		UUID contentHash = UUID.nameUUIDFromBytes(contentOf(record.value()));
+		return "h:" + contentHash + ":" + record.topic() + "-" + record.partition() + "@" + record.offset();
+	}
+
+	// 배치 모드는 원본 바이트, 단건 모드는 디코딩된 이벤트(record toString)로 해시
+	private static byte[] contentOf(Object value) {
+		if (value == null) {
+			return new byte[0];
+		}
+		if (value instanceof byte[] bytes) {
+			return bytes;
+		}
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 이미 전송한 이벤트인지 (Bloom filter 는 후보만 거르고 정확한 키로 확인된 경우만 true)
+	 */
+	public boolean isDuplicate(String key) {
+		if (!enabled || key == null || !filter.mightContain(key)) {
+			return false;
+		}
+		if (recentKeys.contains(key) || persist && deliveredBefore(key)) {
+			duplicates.increment();
+			return true;
+		}
+		unconfirmed.increment();
+		return false;
+	}
+
+	private boolean deliveredBefore(String key) {
+		try {
+			return repository.existsByDedupKeyAndSentAtGreaterThanEqual(key, LocalDateTime.now().minus(window));
+		} catch (Exception e) {
+			// 확인할 수 없으면 보냄 (알림 누락보다 중복이 나음)
+			log.warn("Failed to look up delivery record for {}", key, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 전송 성공 기록
+	 */
+	public void markDelivered(String key, MonitoringNotificationEvent event) {
+		if (!enabled || key == null) {
+			return;
+		}
+		filter.put(key);
+		recentKeys.add(key);
+
+		if (persist) {
+			try {
+				repository.save(NotificationMessage.delivered(event.slackUserIds(), event.message(), key));
+			} catch (Exception e) {
+				log.warn("Failed to persist delivery record for {}", key, e);
+			}
+		}
+	}
+}
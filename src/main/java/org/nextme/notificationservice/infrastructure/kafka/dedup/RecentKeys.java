@@ -0,0 +1,70 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근에 본 키를 정확히 기억하는 크기 제한 LRU (키 → 만료 시각)
+ *
+ * - Bloom filter 와 달리 오탐이 없지만 max-size 를 넘으면 가장 오래 안 쓴 키부터 잊음
+ * - access-order LinkedHashMap, 모든 접근은 synchronized
+ */
+public final class RecentKeys {
+
+	private final long ttlNanos;
+	private final LongSupplier clock;
+	private final LinkedHashMap<String, Long> expiries;
+
+	/**
+	 * @param maxSize 기억할 최대 키 수
+	 * @param ttl     키를 기억할 시간
+	 * @param clock   System::nanoTime (테스트에서 교체)
+	 */
+	public RecentKeys(int maxSize, Duration ttl, LongSupplier clock) {
+		this.ttlNanos = ttl.toNanos();
+		this.clock = clock;
+		this.expiries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public synchronized boolean contains(String key) {
+		Long expiresAt = expiries.get(key);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt - clock.getAsLong() <= 0) {
+			expiries.remove(key);
+			return false;
+		}
+		return true;
+	}
+
+	public synchronized void add(String key) {
+		expiries.put(key, clock.getAsLong() + ttlNanos);
+	}
+
+	/**
+	 * 처음 보는(또는 만료된) 키면 기록하고 true
+	 */
+	public synchronized boolean addIfAbsent(String key) {
+		if (contains(key)) {
+			return false;
+		}
+		add(key);
+		return true;
+	}
+
+	public synchronized void remove(String key) {
+		expiries.remove(key);
+	}
+
+	public synchronized int size() {
+		return expiries.size();
+	}
+}
@@ -0,0 +1,93 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 창(window) 단위로 오래된 원소를 잊는 Bloom filter
+ *
+ * - 세대(generation)를 돌려 쓰면서, 한 세대 시간(window / (generations - 1))이 지날 때마다 가장 오래된 세대를 비움
+ * - 조회는 모든 세대를, 추가는 현재 세대에만
+ * - 결과적으로 최소 window 동안 본 키를 기억하고 메모리는 고정
+ */
+final class RotatingBloomFilter {
+
+	private final BloomFilter[] generations;
+	private final long generationNanos;
+	private final LongSupplier clock;
+
+	private int current;
+	private long currentStartedAt;
+
+	/**
+	 * @param window             중복을 기억할 시간
+	 * @param generations        window 를 나눌 세대 수 (2 이상)
+	 * @param expectedInsertions window 동안 예상되는 원소 수
+	 * @param falsePositiveRate  세대당 목표 오탐률
+	 * @param clock              System::nanoTime (테스트에서 교체)
+	 */
+	RotatingBloomFilter(Duration window, int generations, long expectedInsertions, double falsePositiveRate,
+		LongSupplier clock) {
+		if (generations < 2) {
+			throw new IllegalArgumentException("generations must be >= 2");
+		}
+		this.generations = new BloomFilter[generations];
+		long perGeneration = Math.max(1, expectedInsertions / (generations - 1));
+		for (int i = 0; i < generations; i++) {
+			this.generations[i] = new BloomFilter(perGeneration, falsePositiveRate);
+		}
+		this.generationNanos = Math.max(1, window.toNanos() / (generations - 1));
+		this.clock = clock;
+		this.currentStartedAt = clock.getAsLong();
+	}
+
+	synchronized boolean mightContain(String key) {
+		rotateIfNeeded();
+		for (BloomFilter generation : generations) {
+			if (generation.mightContain(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	synchronized void put(String key) {
+		rotateIfNeeded();
+		generations[current].put(key);
+	}
+
+	/**
+	 * 모든 세대를 합친 추정 오탐률: 1 - Π(1 - p_i)
+	 */
+	synchronized double expectedFalsePositiveRate() {
+		double notFalsePositive = 1.0;
+		for (BloomFilter generation : generations) {
+			notFalsePositive *= 1.0 - generation.expectedFalsePositiveRate();
+		}
+		return 1.0 - notFalsePositive;
+	}
+
+	long sizeInBytes() {
+		long total = 0;
+		for (BloomFilter generation : generations) {
+			total += generation.sizeInBytes();
+		}
+		return total;
+	}
+
+	private void rotateIfNeeded() {
+		long now = clock.getAsLong();
+		long elapsed = now - currentStartedAt;
+		if (elapsed < generationNanos) {
+			return;
+		}
+
+		// 오래 쉬었다면 여러 세대를 한꺼번에 넘김 (최대 전체 세대 수만큼만 비우면 됨)
+		long steps = Math.min(elapsed / generationNanos, generations.length);
+		for (long i = 0; i < steps; i++) {
+			current = (current + 1) % generations.length;
+			generations[current].clear();
+		}
+		currentStartedAt += (elapsed / generationNanos) * generationNanos;
+	}
+}
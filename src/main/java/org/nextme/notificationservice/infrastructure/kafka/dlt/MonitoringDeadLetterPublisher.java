@@ -0,0 +1,50 @@
+package org.nextme.notificationservice.infrastructure.kafka.dlt;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레코드를 <원본 토픽>-dlt 로 직접 보내는 publisher (배치 모드용)
+ *
+ * - 배치 리스너는 @RetryableTopic 을 쓸 수 없으므로 실패/파싱 불가 레코드를 여기서 DLT 로 보냄
+ * - 단건 모드 DLT 와 같은 kafka_dlt-* 헤더(예외, 원본 topic/partition/offset)가 붙음
+ * - 파티션은 지정하지 않음 (DLT 파티션 수가 원본과 달라도 됨)
+ * - 값은 원본 바이트 그대로 발행 (content-type 헤더도 그대로 유지)
+ * - 전송 실패면 받지 못한 수신자를 recipients 헤더로 남김 (replay 하면 그 수신자에게만 전송)
+ */
+@Slf4j
+@Component
+public class MonitoringDeadLetterPublisher {
+
+	private final DeadLetterPublishingRecoverer recoverer;
+
+	public MonitoringDeadLetterPublisher(@Qualifier(KafkaConfig.KAFKA_TEMPLATE) KafkaTemplate<Object, Object> kafkaTemplate) {
+		this.recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+			(record, exception) -> new TopicPartition(record.topic() + KafkaConfig.DLT_SUFFIX, -1));
+		this.recoverer.setHeadersFunction(MonitoringNotificationHandler::recipientsHeaders);
+	}
+
+	/**
+	 * DLT 로 발행 (발행 확인까지 대기)
+	 *
+	 * @return 발행 성공 여부
+	 */
+	public boolean publish(ConsumerRecord<?, ?> record, Exception cause) {
+		try {
+			recoverer.accept(record, cause);
+			return true;
+		} catch (Exception e) {
+			log.error("Failed to dead-letter monitoring notification - topic: {}, partition: {}, offset: {}",
+				record.topic(), record.partition(), record.offset(), e);
+			return false;
+		}
+	}
+}
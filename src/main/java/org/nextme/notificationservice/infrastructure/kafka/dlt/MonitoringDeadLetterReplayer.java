@@ -0,0 +1,158 @@
+package org.nextme.notificationservice.infrastructure.kafka.dlt;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DLT 레코드를 원본 토픽으로 다시 발행 (운영자가 원인을 고친 뒤 일괄 재처리)
+ *
+ * - 전용 consumer group(notification-service-dlt-replay)으로 DLT 를 읽으므로 한 번 재발행한 레코드는 다시 읽지 않음
+ * - 재발행할 때 kafka_dlt-* / retry_topic-* 헤더는 떼고 eventId 등 원래 헤더만 유지 (중복 제거 키 유지)
+ * - 값은 byte[] 로 읽고 그대로 발행하므로 JSON/Smile 어느 포맷이든 손대지 않음
+ * - 발행이 확인된 레코드까지만 offset 을 커밋하므로 중간에 실패하면 남은 레코드는 다음 replay 에서 다시 처리
+ * - 동시에 한 번만 실행
+ */
+@Slf4j
+@Component
+public class MonitoringDeadLetterReplayer {
+
+	static final String REPLAY_GROUP_ID = "notification-service-dlt-replay";
+
+	private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+	// 연속으로 이만큼 빈 poll 이 나오면 DLT 끝까지 읽은 것으로 판단
+	private static final int MAX_EMPTY_POLLS = 2;
+
+	private final ConsumerFactory<String, byte[]> consumerFactory;
+	private final KafkaTemplate<Object, Object> kafkaTemplate;
+	private final String listenTopic;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Counter replayed;
+
+	public MonitoringDeadLetterReplayer(
+		ConsumerFactory<String, byte[]> consumerFactory,
+		@Qualifier(KafkaConfig.KAFKA_TEMPLATE) KafkaTemplate<Object, Object> kafkaTemplate,
+		MeterRegistry meterRegistry,
+		@Value(KafkaConfig.MONITORING_LISTEN_TOPIC) String listenTopic
+	) {
+		this.consumerFactory = consumerFactory;
+		this.kafkaTemplate = kafkaTemplate;
+		this.listenTopic = listenTopic;
+		this.replayed = Counter.builder("notification.dlt.replayed")
+			.description("DLT 에서 원본 토픽으로 재발행한 레코드 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 아직 재발행하지 않은 DLT 레코드를 최대 maxRecords 개까지 원본 토픽으로 재발행
+	 *
+	 * @return 실행 결과, 다른 replay 가 진행 중이면 null
+	 */
+	public ReplayResult replay(int maxRecords) {
+		if (!lock.tryLock()) {
+			return null;
+		}
+		try {
+			return doReplay(maxRecords);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ReplayResult doReplay(int maxRecords) {
+		String dltTopic = listenTopic + KafkaConfig.DLT_SUFFIX;
+
+		Properties overrides = new Properties();
+		overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+		overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.toString(Math.min(maxRecords, 500)));
+		overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+
+		try (Consumer<String, byte[]> consumer =
+				 consumerFactory.createConsumer(REPLAY_GROUP_ID, null, "-dlt-replay", overrides)) {
+			List<PartitionInfo> partitionInfos = consumer.partitionsFor(dltTopic);
+			if (partitionInfos == null || partitionInfos.isEmpty()) {
+				return new ReplayResult(dltTopic, listenTopic, 0);
+			}
+			// group 리밸런스 없이 바로 읽도록 직접 할당 (위치는 group 의 커밋 offset 부터)
+			consumer.assign(partitionInfos.stream()
+				.map(info -> new TopicPartition(info.topic(), info.partition()))
+				.toList());
+
+			Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+			List<CompletableFuture<?>> sends = new ArrayList<>();
+			int count = 0;
+			int emptyPolls = 0;
+
+			while (count < maxRecords && emptyPolls < MAX_EMPTY_POLLS) {
+				ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+				if (records.isEmpty()) {
+					emptyPolls++;
+					continue;
+				}
+				emptyPolls = 0;
+
+				for (ConsumerRecord<String, byte[]> record : records) {
+					if (count >= maxRecords) {
+						break;
+					}
+					sends.add(kafkaTemplate.send(toReplay(record)));
+					offsets.put(new TopicPartition(record.topic(), record.partition()),
+						new OffsetAndMetadata(record.offset() + 1));
+					count++;
+				}
+			}
+
+			// 재발행이 모두 확인된 뒤에만 커밋 (실패하면 예외 → 커밋 없음, 다음 replay 에서 다시)
+			CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+			if (!offsets.isEmpty()) {
+				consumer.commitSync(offsets);
+			}
+
+			replayed.increment(count);
+			log.info("Replayed {} dead-lettered monitoring notifications from {} to {}", count, dltTopic, listenTopic);
+			return new ReplayResult(dltTopic, listenTopic, count);
+		}
+	}
+
+	private ProducerRecord<Object, Object> toReplay(ConsumerRecord<String, byte[]> record) {
+		RecordHeaders headers = new RecordHeaders();
+		for (Header header : record.headers()) {
+			if (!header.key().startsWith("kafka_dlt-") && !header.key().startsWith("retry_topic-")) {
+				headers.add(header);
+			}
+		}
+		return new ProducerRecord<>(listenTopic, null, record.key(), record.value(), headers);
+	}
+
+	public record ReplayResult(String dltTopic, String targetTopic, int replayed) {
+	}
+}
@@ -1,22 +1,59 @@
 package org.nextme.notificationservice.infrastructure.kafka.event;
 
+import org.nextme.notificationservice.domain.NotificationPriority;
+
 import java.util.List;
 
 /**
  * 모니터링 알림 이벤트
  * promotion-service에서 발행한 이벤트를 수신
  * actionId와 actionValue는 Interactive Button을 위한 필드
+ * priority 가 없으면 버튼이 있는 알림은 HIGH, 나머지는 NORMAL
+ * slackUserIds 에는 Slack ID 대신 user:<내부 사용자 UUID> / user:<이메일> 도 쓸 수 있음 (RecipientDirectory 로 변환)
+ * alertKey 가 있으면 같은 키의 반복 알림은 새 메시지 대신 처음 보낸 메시지를 갱신 (SlackRecurringAlerts)
+ * resolved=true 면 그 키의 알림이 해소됨 → 메시지를 해결 상태로 바꾸고 인덱스에서 제거
  */
 public record MonitoringNotificationEvent(
 	List<String> slackUserIds,
 	String message,
 	String actionId,
-	String actionValue
+	String actionValue,
+	NotificationPriority priority,
+	String alertKey,
+	boolean resolved
 ) {
+
+	public MonitoringNotificationEvent {
+		priority = NotificationPriority.resolve(priority, actionId != null && !actionId.isBlank());
+	}
+
+	/**
+	 * 반복 알림 키가 없는 이벤트 생성자
+	 */
+	public MonitoringNotificationEvent(
+		List<String> slackUserIds, String message, String actionId, String actionValue, NotificationPriority priority
+	) {
+		this(slackUserIds, message, actionId, actionValue, priority, null, false);
+	}
+
+	/**
+	 * 우선순위를 버튼 유무로 정하는 생성자
+	 */
+	public MonitoringNotificationEvent(List<String> slackUserIds, String message, String actionId, String actionValue) {
+		this(slackUserIds, message, actionId, actionValue, null);
+	}
+
 	/**
 	 * 일반 메시지 생성자 (버튼 없음)
 	 */
 	public MonitoringNotificationEvent(List<String> slackUserIds, String message) {
 		this(slackUserIds, message, null, null);
 	}
+
+	/**
+	 * 수신자만 바꾼 사본 (받지 못한 수신자에게만 다시 보낼 때)
+	 */
+	public MonitoringNotificationEvent withSlackUserIds(List<String> slackUserIds) {
+		return new MonitoringNotificationEvent(slackUserIds, message, actionId, actionValue, priority, alertKey, resolved);
+	}
 }
@@ -0,0 +1,176 @@
+package org.nextme.notificationservice.infrastructure.kafka.event;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.nextme.notificationservice.domain.NotificationPriority;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MonitoringNotificationEvent ↔ byte[] 변환 (JsonParser/JsonGenerator 스트리밍, 트리/리플렉션 없음)
+ *
+ * - 레코드의 content-type 헤더로 포맷 결정: 없으면 JSON, application/x-jackson-smile 이면 Smile(바이너리 JSON)
+ * - actionId/actionValue/priority/alertKey 는 없거나 null 이면 null, resolved 는 없으면 false, 모르는 필드는 건너뜀
+ * - slackUserIds/message 가 없으면 파싱 실패
+ */
+public final class MonitoringNotificationEventCodec {
+
+	// 프로듀서가 인코딩을 알려주는 레코드 헤더
+	public static final String CONTENT_TYPE_HEADER = "content-type";
+
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+	private static final SmileFactory SMILE_FACTORY = SmileFactory.builder().build();
+
+	private MonitoringNotificationEventCodec() {
+	}
+
+	/**
+	 * 레코드 값 인코딩
+	 */
+	public enum WireFormat {
+		JSON("application/json"),
+		SMILE("application/x-jackson-smile");
+
+		private final String contentType;
+
+		WireFormat(String contentType) {
+			this.contentType = contentType;
+		}
+
+		public String contentType() {
+			return contentType;
+		}
+
+		/**
+		 * content-type 헤더로 포맷 결정 (헤더가 없으면 JSON, 모르는 값이면 IllegalArgumentException)
+		 */
+		public static WireFormat of(Headers headers) {
+			Header header = headers == null ? null : headers.lastHeader(CONTENT_TYPE_HEADER);
+			if (header == null || header.value() == null || header.value().length == 0) {
+				return JSON;
+			}
+			String contentType = new String(header.value(), StandardCharsets.UTF_8).trim();
+			for (WireFormat format : values()) {
+				// application/json; charset=utf-8 같은 파라미터는 무시
+				if (contentType.regionMatches(true, 0, format.contentType, 0, format.contentType.length())) {
+					return format;
+				}
+			}
+			throw new IllegalArgumentException("Unsupported content-type: " + contentType);
+		}
+
+		private JsonFactory factory() {
+			return this == SMILE ? SMILE_FACTORY : JSON_FACTORY;
+		}
+	}
+
+	public static MonitoringNotificationEvent decode(byte[] data, WireFormat format) throws IOException {
+		if (data == null || data.length == 0) {
+			throw new JsonParseException(null, "Empty monitoring notification");
+		}
+		try (JsonParser parser = format.factory().createParser(data)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Expected monitoring notification object");
+			}
+
+			List<String> slackUserIds = null;
+			String message = null;
+			String actionId = null;
+			String actionValue = null;
+			String priority = null;
+			String alertKey = null;
+			boolean resolved = false;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				switch (field) {
+					case "slackUserIds" -> slackUserIds = readIds(parser);
+					case "message" -> message = readText(parser);
+					case "actionId" -> actionId = readText(parser);
+					case "actionValue" -> actionValue = readText(parser);
+					case "priority" -> priority = readText(parser);
+					case "alertKey" -> alertKey = readText(parser);
+					case "resolved" -> resolved = Boolean.parseBoolean(readText(parser));
+					default -> parser.skipChildren();
+				}
+			}
+
+			if (slackUserIds == null) {
+				throw new JsonParseException(parser, "Missing slackUserIds");
+			}
+			if (message == null) {
+				throw new JsonParseException(parser, "Missing message");
+			}
+			return new MonitoringNotificationEvent(
+				slackUserIds, message, actionId, actionValue, NotificationPriority.of(priority), alertKey, resolved);
+		}
+	}
+
+	public static byte[] encode(MonitoringNotificationEvent event, WireFormat format) throws IOException {
+		try (ByteArrayBuilder out = new ByteArrayBuilder(256);
+			 JsonGenerator generator = format.factory().createGenerator(out)) {
+			generator.writeStartObject();
+			if (event.slackUserIds() == null) {
+				generator.writeNullField("slackUserIds");
+			} else {
+				generator.writeArrayFieldStart("slackUserIds");
+				for (String slackUserId : event.slackUserIds()) {
+					generator.writeString(slackUserId);
+				}
+				generator.writeEndArray();
+			}
+			generator.writeStringField("message", event.message());
+			generator.writeStringField("actionId", event.actionId());
+			generator.writeStringField("actionValue", event.actionValue());
+			generator.writeStringField("priority", event.priority() == null ? null : event.priority().name());
+			if (event.alertKey() != null) {
+				generator.writeStringField("alertKey", event.alertKey());
+				generator.writeBooleanField("resolved", event.resolved());
+			}
+			generator.writeEndObject();
+			generator.flush();
+			return out.toByteArray();
+		}
+	}
+
+	private static List<String> readIds(JsonParser parser) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw new JsonParseException(parser, "slackUserIds must be an array");
+		}
+		List<String> ids = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() != JsonToken.VALUE_STRING) {
+				throw new JsonParseException(parser, "slackUserIds must contain strings");
+			}
+			ids.add(parser.getText());
+		}
+		return ids;
+	}
+
+	// 문자열이 아닌 스칼라(숫자/불리언)는 텍스트로, 객체/배열은 파싱 실패
+	private static String readText(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (!token.isScalarValue()) {
+			throw new JsonParseException(parser, "Expected scalar value for " + parser.currentName());
+		}
+		return parser.getText();
+	}
+}
@@ -0,0 +1,38 @@
+package org.nextme.notificationservice.infrastructure.kafka.event;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+
+import java.io.IOException;
+
+/**
+ * monitoring.notification 레코드 값을 MonitoringNotificationEvent 로 바로 역직렬화
+ *
+ * - 포맷은 content-type 헤더로 결정 (MonitoringNotificationEventCodec)
+ * - 파싱 실패는 SerializationException → ErrorHandlingDeserializer 가 DeserializationException 으로 감싸 바로 DLT
+ * - DLT 토픽은 헤더만 보면 되므로 파싱 실패해도 null 로 넘김 (DltHandler 가 계속 호출되도록)
+ */
+public class MonitoringNotificationEventDeserializer implements Deserializer<MonitoringNotificationEvent> {
+
+	@Override
+	public MonitoringNotificationEvent deserialize(String topic, byte[] data) {
+		return deserialize(topic, null, data);
+	}
+
+	@Override
+	public MonitoringNotificationEvent deserialize(String topic, Headers headers, byte[] data) {
+		if (data == null) {
+			return null;
+		}
+		try {
+			return MonitoringNotificationEventCodec.decode(data, MonitoringNotificationEventCodec.WireFormat.of(headers));
+		} catch (IOException | IllegalArgumentException e) {
+			if (topic != null && topic.endsWith(KafkaConfig.DLT_SUFFIX)) {
+				return null;
+			}
+			throw new SerializationException("Malformed monitoring notification on " + topic, e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package org.nextme.notificationservice.infrastructure.kafka.event;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+
+/**
+ * MonitoringNotificationEvent 직렬화 (재시도 토픽 재발행용)
+ *
+ * 원본 레코드의 content-type 헤더가 그대로 따라오므로 원본과 같은 포맷으로 씀
+ */
+public class MonitoringNotificationEventSerializer implements Serializer<MonitoringNotificationEvent> {
+
+	@Override
+	public byte[] serialize(String topic, MonitoringNotificationEvent data) {
+		return serialize(topic, null, data);
+	}
+
+	@Override
+	public byte[] serialize(String topic, Headers headers, MonitoringNotificationEvent data) {
+		if (data == null) {
+			return null;
+		}
+		try {
+			return MonitoringNotificationEventCodec.encode(data, MonitoringNotificationEventCodec.WireFormat.of(headers));
+		} catch (IOException | IllegalArgumentException e) {
+			throw new SerializationException("Failed to serialize monitoring notification for " + topic, e);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package org.nextme.notificationservice.infrastructure.kafka.streams;
+
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 한 윈도우 동안 같은 수신자 집합 + actionId 로 들어온 알림 묶음 (Kafka Streams 집계 상태)
+ *
+ * @param count         윈도우 안에서 받은 이벤트 수
+ * @param latestMessage 마지막으로 받은 이벤트의 메시지
+ */
+public record AlertDigest(
+	List<String> slackUserIds,
+	String actionId,
+	long count,
+	String latestMessage
+) {
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+	public static AlertDigest empty() {
+		return new AlertDigest(List.of(), null, 0, null);
+	}
+
+	public AlertDigest add(MonitoringNotificationEvent event) {
+		return new AlertDigest(event.slackUserIds(), event.actionId(), count + 1, event.message());
+	}
+
+	/**
+	 * 세션 윈도우 병합 (later 쪽 메시지를 최신으로 취급)
+	 */
+	public AlertDigest merge(AlertDigest later) {
+		if (later.count == 0) {
+			return this;
+		}
+		if (count == 0) {
+			return later;
+		}
+		return new AlertDigest(later.slackUserIds, later.actionId, count + later.count, later.latestMessage);
+	}
+
+	/**
+	 * 리스너가 그대로 소비할 수 있는 이벤트로 변환
+	 * 한 건뿐이면 원래 메시지 그대로, 여러 건이면 건수 + 시간 범위 + 최근 내용
+	 */
+	public MonitoringNotificationEvent toEvent(Instant windowStart, Instant windowEnd, ZoneId zone) {
+		if (count <= 1) {
+			return new MonitoringNotificationEvent(slackUserIds, latestMessage, actionId, null);
+		}
+
+		String message = "🔔 같은 알림 %d건이 묶여서 전송되었습니다 (%s ~ %s)%n%n최근 내용:%n%s".formatted(
+			count,
+			LocalTime.ofInstant(windowStart, zone).format(TIME_FORMAT),
+			LocalTime.ofInstant(windowEnd, zone).format(TIME_FORMAT),
+			latestMessage
+		);
+		return new MonitoringNotificationEvent(slackUserIds, message, actionId, null);
+	}
+}
@@ -0,0 +1,265 @@
+package org.nextme.notificationservice.infrastructure.kafka.streams;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Branched;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KGroupedStream;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.SessionWindows;
+import org.apache.kafka.streams.kstream.Suppressed;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.SessionStore;
+import org.apache.kafka.streams.state.WindowStore;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec.WireFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 장애 상황의 알림 폭주를 윈도우 단위 digest 로 묶는 Kafka Streams 토폴로지
+ *
+ * - monitoring.notification → (수신자 집합 + actionId) 로 그룹핑 → 윈도우가 닫힐 때 한 건만 digest 토픽으로 발행
+ * - 버튼이 있는(actionId) 이벤트, 반복 알림 키(alertKey)가 있는 이벤트, 파싱할 수 없는 이벤트는 묶지 않고 바로 digest 토픽으로 통과
+ *   (alertKey 이벤트는 리스너에서 기존 메시지를 갱신하므로 여기서 묶으면 키/해소 여부가 사라짐)
+ * - 리스너는 coalesce.enabled=true 일 때 digest 토픽을 소비 (KafkaConfig.MONITORING_LISTEN_TOPIC)
+ * - window-type: tumbling(고정 윈도우) / session(inactivity-gap 동안 조용해지면 닫힘)
+ * - 값은 byte[] 그대로 받아 content-type 헤더로 JSON/Smile 을 구분해 디코딩, 통과 이벤트는 원래 바이트/헤더 그대로 내보냄
+ * - digest 는 JSON 으로 인코딩하고 content-type 헤더도 JSON 으로 바꿔 씀 (마지막으로 묶인 이벤트의 Smile 헤더가 남지 않게)
+ */
+@Slf4j
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "notification.kafka.coalesce.enabled", havingValue = "true")
+public class MonitoringAlertCoalescingTopology {
+
+	private static final String STORE_NAME = "monitoring-alert-digest";
+
+	private final ObjectMapper objectMapper;
+	private final String windowType;
+	private final Duration window;
+	private final Duration grace;
+	private final ZoneId zone;
+	private final int partitions;
+
+	private final Counter coalescedIn;
+	private final Counter digestsOut;
+	private final Counter passedThrough;
+
+	public MonitoringAlertCoalescingTopology(
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${notification.kafka.coalesce.window-type:tumbling}") String windowType,
+		@Value("${notification.kafka.coalesce.window:30s}") Duration window,
+		@Value("${notification.kafka.coalesce.grace:5s}") Duration grace,
+		@Value("${notification.kafka.coalesce.zone:Asia/Seoul}") ZoneId zone,
+		@Value("${notification.kafka.coalesce.partitions:3}") int partitions
+	) {
+		this.objectMapper = objectMapper;
+		this.windowType = windowType;
+		this.window = window;
+		this.grace = grace;
+		this.zone = zone;
+		this.partitions = partitions;
+
+		this.coalescedIn = Counter.builder("notification.coalesce.events")
+			.tag("stage", "in")
+			.description("digest 로 묶기 위해 들어온 이벤트 수")
+			.register(meterRegistry);
+		this.digestsOut = Counter.builder("notification.coalesce.events")
+			.tag("stage", "out")
+			.description("윈도우가 닫혀 발행된 digest 수")
+			.register(meterRegistry);
+		this.passedThrough = Counter.builder("notification.coalesce.events")
+			.tag("stage", "passthrough")
+			.description("묶지 않고 바로 통과시킨 이벤트 수 (버튼/파싱 불가)")
+			.register(meterRegistry);
+	}
+
+	@Bean
+	public NewTopic monitoringNotificationDigestTopic() {
+		return TopicBuilder.name(KafkaConfig.MONITORING_NOTIFICATION_DIGEST_TOPIC)
+			.partitions(partitions)
+			.build();
+	}
+
+	@Bean
+	public KStream<String, byte[]> monitoringAlertCoalescingStream(StreamsBuilder streamsBuilder) {
+		KStream<String, byte[]> source = streamsBuilder.stream(
+			KafkaConfig.MONITORING_NOTIFICATION_TOPIC, Consumed.with(Serdes.String(), Serdes.ByteArray()));
+
+		Map<String, KStream<String, Inbound>> branches = source
+			.processValues(DecodeProcessor::new, Named.as("monitoring-decode"))
+			.split(Named.as("monitoring-"))
+			.branch((key, inbound) -> isCoalescible(inbound.event()), Branched.as("coalesce"))
+			.defaultBranch(Branched.as("passthrough"));
+
+		// 1) 버튼 이벤트 / HIGH 이벤트 / 파싱 불가 이벤트는 원래 바이트 그대로 통과 (리스너에서 기존대로 처리)
+		branches.get("monitoring-passthrough")
+			.mapValues(Inbound::raw)
+			.peek((key, value) -> passedThrough.increment())
+			.to(KafkaConfig.MONITORING_NOTIFICATION_DIGEST_TOPIC, Produced.with(Serdes.String(), Serdes.ByteArray()));
+
+		// 2) 나머지는 (수신자 집합 + actionId) 로 그룹핑
+		Serde<MonitoringNotificationEvent> eventSerde = jsonSerde(MonitoringNotificationEvent.class);
+		Serde<AlertDigest> digestSerde = jsonSerde(AlertDigest.class);
+
+		KGroupedStream<String, MonitoringNotificationEvent> grouped = branches.get("monitoring-coalesce")
+			.mapValues(Inbound::event)
+			.peek((key, event) -> coalescedIn.increment())
+			.groupBy((key, event) -> groupKey(event), Grouped.with(Serdes.String(), eventSerde));
+
+		// 3) 윈도우가 닫힐 때 한 번만 내보냄
+		KTable<Windowed<String>, AlertDigest> digests = "session".equalsIgnoreCase(windowType)
+			? grouped.windowedBy(SessionWindows.ofInactivityGapAndGrace(window, grace))
+				.aggregate(AlertDigest::empty,
+					(key, event, digest) -> digest.add(event),
+					(key, left, right) -> left.merge(right),
+					Materialized.<String, AlertDigest, SessionStore<Bytes, byte[]>>as(STORE_NAME)
+						.withKeySerde(Serdes.String())
+						.withValueSerde(digestSerde))
+			: grouped.windowedBy(TimeWindows.ofSizeAndGrace(window, grace))
+				.aggregate(AlertDigest::empty,
+					(key, event, digest) -> digest.add(event),
+					Materialized.<String, AlertDigest, WindowStore<Bytes, byte[]>>as(STORE_NAME)
+						.withKeySerde(Serdes.String())
+						.withValueSerde(digestSerde));
+
+		digests.suppress(Suppressed.untilWindowCloses(Suppressed.BufferConfig.unbounded()))
+			.toStream()
+			.filter((windowedKey, digest) -> digest != null && digest.count() > 0)
+			.map((windowedKey, digest) -> KeyValue.pair(windowedKey.key(), toJson(digest.toEvent(
+				windowedKey.window().startTime(), windowedKey.window().endTime(), zone))))
+			.processValues(JsonContentTypeProcessor::new, Named.as("monitoring-digest-content-type"))
+			.peek((key, value) -> digestsOut.increment())
+			.to(KafkaConfig.MONITORING_NOTIFICATION_DIGEST_TOPIC, Produced.with(Serdes.String(), Serdes.ByteArray()));
+
+		log.info("Monitoring alert coalescing enabled - {} window {}, grace {}", windowType, window, grace);
+		return source;
+	}
+
+	/**
+	 * 묶어도 되는 이벤트인지 (파싱 가능 + 수신자 있음 + 버튼 없음 + alertKey 없음 + HIGH 아님)
+	 */
+	private boolean isCoalescible(MonitoringNotificationEvent event) {
+		return event != null
+			&& event.slackUserIds() != null && !event.slackUserIds().isEmpty()
+			&& event.message() != null
+			&& (event.actionId() == null || event.actionId().isBlank())
+			&& event.alertKey() == null
+			&& event.priority() != NotificationPriority.HIGH;
+	}
+
+	/**
+	 * content-type 헤더에 맞춰 디코딩 (비어 있음/깨짐/모르는 content-type 이면 null → 그대로 통과)
+	 */
+	static MonitoringNotificationEvent decodeOrNull(byte[] value, Headers headers) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return MonitoringNotificationEventCodec.decode(value, WireFormat.of(headers));
+		} catch (IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static byte[] toJson(MonitoringNotificationEvent event) {
+		try {
+			return MonitoringNotificationEventCodec.encode(event, WireFormat.JSON);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to serialize digest event", e);
+		}
+	}
+
+	/**
+	 * 같은 채널 + 같은 actionId 면 같은 그룹
+	 */
+	static String groupKey(MonitoringNotificationEvent event) {
+		String recipients = String.join(",", new TreeSet<>(event.slackUserIds()));
+		return event.actionId() == null ? recipients : recipients + "|" + event.actionId();
+	}
+
+	private <T> Serde<T> jsonSerde(Class<T> type) {
+		return new JsonSerde<>(type, objectMapper).noTypeInfo().ignoreTypeHeaders();
+	}
+
+	/**
+	 * 원래 바이트 + 디코딩 결과 (파싱할 수 없으면 event 는 null)
+	 */
+	record Inbound(byte[] raw, MonitoringNotificationEvent event) {
+	}
+
+	/**
+	 * 레코드 헤더(content-type)를 봐야 해서 mapValues 대신 processor 로 디코딩
+	 */
+	private static final class DecodeProcessor implements FixedKeyProcessor<String, byte[], Inbound> {
+
+		private FixedKeyProcessorContext<String, Inbound> context;
+
+		@Override
+		public void init(FixedKeyProcessorContext<String, Inbound> context) {
+			this.context = context;
+		}
+
+		@Override
+		public void process(FixedKeyRecord<String, byte[]> record) {
+			context.forward(record.withValue(new Inbound(record.value(), decodeOrNull(record.value(), record.headers()))));
+		}
+	}
+
+	/**
+	 * digest 레코드의 content-type 을 JSON 으로 고정 (윈도우 안 마지막 이벤트의 헤더가 그대로 따라오므로)
+	 */
+	private static final class JsonContentTypeProcessor implements FixedKeyProcessor<String, byte[], byte[]> {
+
+		private FixedKeyProcessorContext<String, byte[]> context;
+
+		@Override
+		public void init(FixedKeyProcessorContext<String, byte[]> context) {
+			this.context = context;
+		}
+
+		@Override
+		public void process(FixedKeyRecord<String, byte[]> record) {
+			Headers headers = new RecordHeaders().add(MonitoringNotificationEventCodec.CONTENT_TYPE_HEADER,
+				WireFormat.JSON.contentType().getBytes(StandardCharsets.UTF_8));
+			context.forward(record.withHeaders(headers));
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package org.nextme.notificationservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * p_message_history 일별 파티션 관리 (PostgreSQL 전용)
+ *
+ * - 어제 ~ premake-days 뒤까지 파티션을 미리 생성 (INSERT 가 들어갈 파티션이 항상 있도록)
+ * - retention 보다 오래된 파티션은 DETACH CONCURRENTLY 후 DROP → 행 단위 DELETE/VACUUM 없이 한 번에 정리
+ * - 여러 레플리카가 동시에 돌아도 되도록 IF NOT EXISTS / IF EXISTS 사용, 실패해도 다음 주기에 다시 시도
+ * - 테이블이 파티션 테이블이 아니면 (db/postgres/p_message_history.sql 미적용) 경고만 남기고 아무것도 안 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.history.partitioning.enabled", havingValue = "true")
+public class NotificationHistoryPartitionManager {
+
+    static final String TABLE = "p_message_history";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_(\\d{8})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int premakeDays;
+
+    private final Counter created;
+    private final Counter dropped;
+
+    public NotificationHistoryPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.history.retention:90d}") Duration retention,
+            @Value("${notification.history.partitioning.premake-days:7}") int premakeDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.premakeDays = premakeDays;
+
+        this.created = Counter.builder("notification.history.partitions")
+                .tag("action", "created")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notification.history.partitions")
+                .tag("action", "dropped")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * 하루 한 번 파티션 생성 + 보존 기간 지난 파티션 삭제
+     */
+    @Scheduled(cron = "${notification.history.partitioning.cron:0 10 0 * * *}")
+    public void maintain() {
+        try {
+            if (!isPartitioned()) {
+                log.warn("{} is not a partitioned table; apply db/postgres/p_message_history.sql to enable partition retention", TABLE);
+                return;
+            }
+            LocalDate today = LocalDate.now();
+            createPartitions(today.minusDays(1), today.plusDays(premakeDays));
+            dropExpiredPartitions(today.minusDays(Math.max(1, retention.toDays())));
+        } catch (Exception e) {
+            log.error("Failed to maintain {} partitions", TABLE, e);
+        }
+    }
+
+    private boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE relname = ? AND relnamespace = current_schema()::regnamespace",
+                String.class, TABLE);
+        return kinds.contains("p");
+    }
+
+    /**
+     * [from, to] 날짜의 일별 파티션 생성
+     */
+    void createPartitions(LocalDate from, LocalDate to) {
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            String partition = partitionName(day);
+            if (exists(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(partition, TABLE, day, day.plusDays(1)));
+            created.increment();
+            log.info("Created history partition {}", partition);
+        }
+    }
+
+    /**
+     * 파티션 범위 끝이 cutoff 이하인(= cutoff 이전 날짜) 파티션 삭제
+     */
+    void dropExpiredPartitions(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, TABLE);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            LocalDate day = LocalDate.parse(matcher.group(1), SUFFIX);
+            if (!day.isBefore(cutoff)) {
+                continue;
+            }
+            // CONCURRENTLY: 부모 테이블에 짧은 잠금만 잡아서 조회/INSERT 를 막지 않음 (트랜잭션 밖에서 실행해야 함)
+            jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY".formatted(TABLE, partition));
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+            dropped.increment();
+            log.info("Dropped expired history partition {} (retention {})", partition, retention);
+        }
+    }
+
+    private boolean exists(String relation) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, relation);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    static String partitionName(LocalDate day) {
+        return TABLE + "_" + day.format(SUFFIX);
+    }
+}
@@ -0,0 +1,120 @@
+package org.nextme.notificationservice.infrastructure.promotion;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.nextme.notificationservice.infrastructure.http.DownstreamLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * promotion-service remediation API 클라이언트
+ *
+ * promotion-service 가 장애면 circuit breaker(promotion)가 열려 타임아웃까지 기다리지 않고 바로 실패 결과 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromotionRemediationClient {
+
+    /**
+     * circuit breaker 설정 이름 (http.client.circuit-breaker.promotion.*)
+     */
+    private static final String CIRCUIT = "promotion";
+
+    /**
+     * promotion-service 용 공용 RestClient (커넥션 풀 공유, HttpClientConfig 참고)
+     */
+    @Qualifier("promotionRestClient")
+    private final RestClient promotionRestClient;
+
+    /**
+     * promotion-service 동시 호출 한도 (자리가 없으면 호출 실패로 처리)
+     */
+    @Qualifier("promotionDownstreamLimiter")
+    private final DownstreamLimiter promotionLimiter;
+
+    private final DownstreamCircuitBreakers circuitBreakers;
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * remediation 실행 요청
+     *
+     * @param actionType 실행할 조치 (Slack 버튼의 value)
+     * @param approvedBy 승인한 Slack user ID
+     * @return 실행 결과 (호출 자체가 실패해도 예외 대신 실패 결과 반환)
+     */
+    public RemediationResult execute(String actionType, String approvedBy) {
+        // 타이머 promotion.remediation{outcome=success|failure|error} + span
+        Observation observation = Observation.createNotStarted("promotion.remediation", observationRegistry)
+                .contextualName("promotion remediation")
+                .highCardinalityKeyValue("action.type", String.valueOf(actionType))
+                .highCardinalityKeyValue("approved.by", String.valueOf(approvedBy));
+        return observation.observe(() -> {
+            RemediationResult result = call(actionType, approvedBy);
+            observation.lowCardinalityKeyValue("outcome", result.outcome());
+            return result;
+        });
+    }
+
+    private RemediationResult call(String actionType, String approvedBy) {
+        try {
+            log.info("Calling remediation API - actionType: {}, approvedBy: {}", actionType, approvedBy);
+
+            circuitBreakers.checkPermitted(CIRCUIT, null);
+            ResponseEntity<JsonNode> response = promotionLimiter.call(() -> circuitBreakers.call(CIRCUIT, null,
+                () -> promotionRestClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                        .path("/v1/promotions/monitoring/remediation/execute")
+                        .queryParam("actionType", actionType)
+                        .queryParam("approvedBy", approvedBy)
+                        .build())
+                    .retrieve()
+                    .toEntity(JsonNode.class)));
+
+            if (response.getStatusCode().is2xxSuccessful()) {
+                JsonNode body = response.getBody();
+                if (body != null) {
+                    boolean success = body.path("success").asBoolean(false);
+                    String message = body.path("message").asText();
+                    log.info("Remediation executed - success: {}, message: {}", success, message);
+                    return new RemediationResult(success, message);
+                }
+                return new RemediationResult(false, "empty response");
+            }
+
+            log.warn("Remediation API call failed with status: {}", response.getStatusCode());
+            return new RemediationResult(false, "status " + response.getStatusCode().value());
+
+        } catch (CallNotPermittedException e) {
+            log.warn("Skipping remediation API call - circuit {} is open", e.getCausingCircuitBreakerName());
+            return new RemediationResult(false, "promotion-service unavailable (circuit open)", true);
+        } catch (Exception e) {
+            log.error("Failed to call remediation API", e);
+            return new RemediationResult(false, e.getMessage(), true);
+        }
+    }
+
+    /**
+     * remediation 실행 결과
+     *
+     * @param error 호출 자체가 실패했는지 (네트워크/타임아웃 등)
+     */
+    public record RemediationResult(boolean success, String message, boolean error) {
+
+        public RemediationResult(boolean success, String message) {
+            this(success, message, false);
+        }
+
+        String outcome() {
+            return error ? "error" : success ? "success" : "failure";
+        }
+    }
+}
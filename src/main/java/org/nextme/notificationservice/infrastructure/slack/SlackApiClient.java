@@ -0,0 +1,247 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.nextme.notificationservice.infrastructure.http.DownstreamLimiter;
+import org.nextme.notificationservice.infrastructure.http.DownstreamSaturatedException;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimitTimeoutException;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimiter;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackPayload;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Slack Web API 호출 공통 클라이언트
+ *
+ * - 모든 Slack 호출은 이 클래스를 거쳐 SlackRateLimiter 의 스케줄링을 받음
+ * - rate limit 을 통과한 호출은 DownstreamLimiter(slack) 자리를 잡은 뒤 HTTP 요청 (동시 호출 수 제한)
+ * - HTTP 요청은 메서드별 circuit breaker(slack:<method>)를 거침, OPEN 이면 rate limit 대기 없이 바로 CallNotPermittedException
+ * - 토큰/HTTP 설정을 한 곳에서 관리
+ * - 호출마다 slack.api observation (메서드별 타이머 + span) 기록
+ */
+@Slf4j
+@Component
+@RefreshScope // config-server 사용 시 /actuator/refresh로 토큰 변경 반영 가능
+public class SlackApiClient {
+
+    /**
+     * circuit breaker 설정 이름 (http.client.circuit-breaker.slack.*)
+     */
+    static final String CIRCUIT = "slack";
+
+    /**
+     * response_url 용 circuit breaker 설정 이름 (http.client.circuit-breaker.slack-response-url.*)
+     * hooks.slack.com 은 Web API 와 다른 호스트라 장애가 Web API 호출 회로를 열지 않도록 따로 둠
+     */
+    static final String RESPONSE_URL_CIRCUIT = "slack-response-url";
+
+    /**
+     * Slack Bot User OAuth Token
+     * application-*.yml 의 slack.token 에서 주입
+     */
+    @Value("${slack.token}")
+    private String token;
+
+    /**
+     * 공용 RestClient (커넥션 풀/타임아웃은 HttpClientConfig 참고)
+     */
+    private final RestClient client;
+
+    private final SlackRateLimiter rateLimiter;
+
+    private final DownstreamLimiter downstreamLimiter;
+
+    private final DownstreamCircuitBreakers circuitBreakers;
+
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * 템플릿 페이로드용 (스트림은 RestClient 가 닫음)
+     */
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    public SlackApiClient(
+            @Qualifier("slackRestClient") RestClient client,
+            SlackRateLimiter rateLimiter,
+            @Qualifier("slackDownstreamLimiter") DownstreamLimiter downstreamLimiter,
+            DownstreamCircuitBreakers circuitBreakers,
+            ObservationRegistry observationRegistry
+    ) {
+        this.client = client;
+        this.rateLimiter = rateLimiter;
+        this.downstreamLimiter = downstreamLimiter;
+        this.circuitBreakers = circuitBreakers;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * 채널과 무관한 Slack API 호출 (ex. conversations.open)
+     */
+    public JsonNode post(String method, Object body) {
+        return post(method, null, body);
+    }
+
+    /**
+     * Slack API 호출
+     *
+     * @param method  Slack API 메서드 (ex. chat.postMessage)
+     * @param channel 대상 채널 ID (채널별 rate limit 적용, 없으면 null)
+     * @param body    JSON 요청 본문
+     * @return 응답 본문 (ok=false 여도 그대로 반환)
+     */
+    public JsonNode post(String method, String channel, Object body) {
+        return execute(method, channel, () -> jsonPost(method).body(body));
+    }
+
+    /**
+     * 템플릿 페이로드로 Slack API 호출 (JsonGenerator 로 요청 본문에 바로 씀)
+     */
+    public JsonNode post(String method, String channel, SlackPayload payload) {
+        return execute(method, channel, () -> jsonPost(method).body(streaming(payload)));
+    }
+
+    /**
+     * 조회 메서드 호출 (users.list, users.lookupByEmail 등 JSON 본문을 받지 않는 메서드)
+     *
+     * @param params 쿼리 파라미터 (값은 그대로 인코딩됨, ex. 이메일의 +)
+     */
+    public JsonNode get(String method, Map<String, String> params) {
+        return execute(method, null, () -> client.get().uri(uriBuilder -> {
+            uriBuilder.path("/" + method);
+            params.keySet().forEach(name -> uriBuilder.queryParam(name, "{" + name + "}"));
+            return uriBuilder.build(params);
+        }));
+    }
+
+    private RestClient.RequestBodySpec jsonPost(String method) {
+        return client.post()
+                .uri("/" + method)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * rate limit 대기/재시도를 포함한 호출 1건을 slack.api 로 관측
+     * (타이머 태그: method, outcome=ok|error|ratelimited|saturated|circuit_open|exception, slack.error=Slack 에러 코드)
+     */
+    private JsonNode execute(String method, String channel, Supplier<RestClient.RequestHeadersSpec<?>> request) {
+        Observation observation = slackObservation(method);
+        return observation.observe(() -> {
+            try {
+                circuitBreakers.checkPermitted(CIRCUIT, method);
+                JsonNode response = rateLimiter.execute(method, channel, () -> downstreamLimiter.call(
+                        () -> circuitBreakers.call(CIRCUIT, method, () -> request.get()
+                                .header("Authorization", "Bearer " + token)
+                                .retrieve()
+                                .body(JsonNode.class))));
+                String error = errorOf(response);
+                tagOutcome(observation, isOk(response) ? "ok" : "error", error);
+                return response;
+            } catch (SlackRateLimitTimeoutException | HttpClientErrorException.TooManyRequests e) {
+                tagOutcome(observation, "ratelimited", "ratelimited");
+                throw e;
+            } catch (CallNotPermittedException e) {
+                tagOutcome(observation, "circuit_open", null);
+                throw e;
+            } catch (DownstreamSaturatedException e) {
+                tagOutcome(observation, "saturated", null);
+                throw e;
+            } catch (RuntimeException e) {
+                tagOutcome(observation, "exception", null);
+                throw e;
+            }
+        });
+    }
+
+    private Observation slackObservation(String method) {
+        return Observation.createNotStarted("slack.api", observationRegistry)
+                .contextualName("slack " + method)
+                .lowCardinalityKeyValue("method", method);
+    }
+
+    private static void tagOutcome(Observation observation, String outcome, String slackError) {
+        observation.lowCardinalityKeyValue("outcome", outcome)
+                .lowCardinalityKeyValue("slack.error", slackError == null ? "none" : slackError);
+    }
+
+    private static StreamingHttpOutputMessage.Body streaming(SlackPayload payload) {
+        return new StreamingHttpOutputMessage.Body() {
+            @Override
+            public void writeTo(OutputStream outputStream) throws IOException {
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                    payload.writeTo(generator);
+                }
+            }
+
+            @Override
+            public boolean repeatable() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Interactive 메시지의 response_url 로 응답 (원본 메시지 교체/추가 메시지)
+     *
+     * - response_url 은 토큰 없이 호출하며 Web API 메서드 rate limit 대상이 아님
+     * - circuit breaker 는 Web API 와 분리 (RESPONSE_URL_CIRCUIT)
+     *
+     * @param responseUrl Slack 이 callback payload 로 준 URL
+     * @param body        응답 메시지 (ex. replace_original, text)
+     */
+    public void respond(String responseUrl, Object body) {
+        Observation observation = slackObservation("response_url");
+        observation.observe(() -> {
+            try {
+                downstreamLimiter.call(() -> circuitBreakers.call(RESPONSE_URL_CIRCUIT, null, () -> client.post()
+                        .uri(URI.create(responseUrl))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body)
+                        .retrieve()
+                        .toBodilessEntity()));
+                tagOutcome(observation, "ok", null);
+            } catch (CallNotPermittedException e) {
+                tagOutcome(observation, "circuit_open", null);
+                throw e;
+            } catch (RuntimeException e) {
+                tagOutcome(observation, "exception", null);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Slack 응답이 성공인지 (HTTP 2xx 는 retrieve() 에서 이미 보장)
+     */
+    public static boolean isOk(JsonNode body) {
+        return body != null && body.path("ok").asBoolean(false);
+    }
+
+    /**
+     * Slack 응답의 error 코드 (없으면 null)
+     */
+    public static String errorOf(JsonNode body) {
+        return body == null ? null : body.path("error").asText(null);
+    }
+}
@@ -0,0 +1,163 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Slack 수신자 목록 → DM/그룹 DM 채널 ID 캐시
+ *
+ * - conversations.open 결과를 "정렬된 수신자 집합" 키로 저장해서, 같은 수신자에게 다시 보낼 때는
+ *   chat.postMessage 한 번만 호출하도록 함
+ * - 최대 개수(LRU) + TTL 로 크기를 제한
+ * - Slack 이 channel_not_found / is_archived 를 돌려주면 해당 항목을 무효화
+ *
+ * SlackMessageSend / SlackInteractiveMessageSend 가 함께 사용하므로 @RefreshScope 를 붙이지 않음
+ * (토큰이 갱신돼도 캐시와 메트릭은 그대로 유지)
+ */
+@Slf4j
+@Component
+public class SlackChannelResolver {
+
+    /**
+     * 캐시를 무효화해야 하는 Slack 에러 코드
+     */
+    private static final Set<String> STALE_CHANNEL_ERRORS = Set.of("channel_not_found", "is_archived");
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    /**
+     * access-order LinkedHashMap 으로 LRU 구현 (조회/저장은 모두 synchronized 블록 안에서만)
+     * HTTP 호출은 락 밖에서 하므로 동시에 같은 키가 miss 나면 conversations.open 이 두 번 갈 수 있음
+     * (conversations.open 은 멱등이라 문제 없음)
+     */
+    private final LinkedHashMap<String, CachedChannel> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    public SlackChannelResolver(
+            @Value("${slack.channel-cache.max-size:10000}") int maxSize,
+            @Value("${slack.channel-cache.ttl:6h}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedChannel> eldest) {
+                boolean evict = size() > SlackChannelResolver.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hits = Counter.builder("slack.channel.cache.requests")
+                .tag("result", "hit")
+                .description("Slack DM 채널 캐시 조회 결과")
+                .register(meterRegistry);
+        this.misses = Counter.builder("slack.channel.cache.requests")
+                .tag("result", "miss")
+                .description("Slack DM 채널 캐시 조회 결과")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("slack.channel.cache.evictions")
+                .description("크기 초과로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("slack.channel.cache.invalidations")
+                .description("Slack 에러로 무효화된 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("slack.channel.cache.size", this, SlackChannelResolver::size)
+                .description("현재 캐시된 DM 채널 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수신자 목록에 대한 채널 ID 조회
+     *
+     * @param ids    Slack user ID 목록
+     * @param opener 캐시에 없을 때 conversations.open 을 호출해 채널 ID를 돌려주는 함수 (실패 시 null)
+     * @return 채널 ID, 열기에 실패하면 null
+     */
+    public String resolve(List<String> ids, Function<List<String>, String> opener) {
+        String key = cacheKey(ids);
+        long now = System.nanoTime();
+
+        synchronized (cache) {
+            CachedChannel cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() - now > 0) {
+                    hits.increment();
+                    return cached.channelId();
+                }
+                cache.remove(key);
+            }
+        }
+
+        misses.increment();
+        String channelId = opener.apply(ids);
+        if (channelId == null || channelId.isBlank()) {
+            // 실패 결과는 캐시하지 않음
+            return null;
+        }
+
+        synchronized (cache) {
+            cache.put(key, new CachedChannel(channelId, now + ttlNanos));
+        }
+        return channelId;
+    }
+
+    /**
+     * chat.postMessage 실패 시 호출. 채널이 사라졌거나 보관된 경우에만 캐시에서 제거
+     *
+     * @param ids   Slack user ID 목록
+     * @param error Slack 응답의 error 코드
+     * @return 무효화 여부
+     */
+    public boolean invalidateIfStale(List<String> ids, String error) {
+        if (error == null || !STALE_CHANNEL_ERRORS.contains(error)) {
+            return false;
+        }
+
+        CachedChannel removed;
+        synchronized (cache) {
+            removed = cache.remove(cacheKey(ids));
+        }
+        if (removed != null) {
+            invalidations.increment();
+            log.info("Invalidated cached slack channel {} ({})", removed.channelId(), error);
+        }
+        return removed != null;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 순서/중복과 무관하게 같은 수신자 집합이면 같은 키
+     */
+    static String cacheKey(List<String> ids) {
+        return String.join(",", new TreeSet<>(ids));
+    }
+
+    private record CachedChannel(String channelId, long expiresAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Slack Interactive 메시지 버튼 클릭 한 건
+ *
+ * @param actionId    버튼 action_id (ex. monitoring_action_approve)
+ * @param actionValue 버튼 value (remediation actionType)
+ * @param userId      버튼을 누른 Slack user ID
+ * @param triggerId   Slack trigger_id (클릭마다 고유)
+ * @param actionTs    Slack action_ts
+ * @param responseUrl 원본 메시지를 갱신할 때 쓰는 URL
+ */
+public record SlackInteraction(
+        String actionId,
+        String actionValue,
+        String userId,
+        String triggerId,
+        String actionTs,
+        String responseUrl
+) {
+
+    /**
+     * Slack 이 보낸 payload(JSON) 파싱
+     */
+    public static SlackInteraction from(JsonNode json) {
+        JsonNode action = json.path("actions").path(0);
+        return new SlackInteraction(
+                action.path("action_id").asText(),
+                action.path("value").asText(),
+                json.path("user").path("id").asText(),
+                json.path("trigger_id").asText(null),
+                action.path("action_ts").asText(null),
+                json.path("response_url").asText(null)
+        );
+    }
+
+    /**
+     * 같은 클릭의 재전송(Slack retry)을 구분하는 키
+     */
+    public String idempotencyKey() {
+        return triggerId + ":" + actionId + ":" + actionTs;
+    }
+
+    public boolean isApprove() {
+        return actionId.endsWith("_approve");
+    }
+
+    public boolean isReject() {
+        return actionId.endsWith("_reject");
+    }
+}
@@ -0,0 +1,161 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.application.WorkerThreads;
+import org.nextme.notificationservice.infrastructure.kafka.dedup.RecentKeys;
+import org.nextme.notificationservice.infrastructure.promotion.PromotionRemediationClient;
+import org.nextme.notificationservice.infrastructure.promotion.PromotionRemediationClient.RemediationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slack 버튼 클릭을 백그라운드에서 처리
+ *
+ * - Callback 은 바로 200 으로 응답하고, remediation 호출은 별도 스레드에서 실행
+ * - Slack 이 같은 클릭을 재전송해도 (trigger_id/action_id/action_ts 기준) 한 번만 실행 (최근 키는 RecentKeys LRU)
+ * - 처리 결과는 response_url 로 원본 메시지를 갱신해서 알림 (https://hooks.slack.com/ 주소만 호출)
+ */
+@Slf4j
+@Component
+public class SlackInteractionHandler {
+
+    /**
+     * Slack 이 주는 response_url 주소 (다른 주소면 호출하지 않음 → payload 로 임의 주소에 요청을 보내게 하지 못하게)
+     */
+    static final String RESPONSE_URL_PREFIX = "https://hooks.slack.com/";
+
+    public enum Acceptance {
+        ACCEPTED,   // 백그라운드 처리 시작
+        DUPLICATE,  // 이미 처리한(또는 처리 중인) 클릭
+        REJECTED    // 작업 큐가 가득 참
+    }
+
+    private final PromotionRemediationClient remediationClient;
+    private final SlackApiClient slackApiClient;
+    private final ObservationRegistry observationRegistry;
+    private final ThreadPoolExecutor workers;
+    private final Counter duplicates;
+
+    /**
+     * 최근 처리한(또는 처리 중인) 클릭 키 (dedup-max-size 개, dedup-ttl 동안)
+     */
+    private final RecentKeys recentInteractions;
+
+    public SlackInteractionHandler(
+            PromotionRemediationClient remediationClient,
+            SlackApiClient slackApiClient,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${slack.interactive.workers:4}") int workerCount,
+            @Value("${slack.interactive.queue-capacity:200}") int queueCapacity,
+            @Value("${slack.interactive.dedup-max-size:10000}") int dedupMaxSize,
+            @Value("${slack.interactive.dedup-ttl:1h}") Duration dedupTtl,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.remediationClient = remediationClient;
+        this.slackApiClient = slackApiClient;
+        this.observationRegistry = observationRegistry;
+        this.recentInteractions = new RecentKeys(dedupMaxSize, dedupTtl, System::nanoTime);
+
+        this.workers = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                WorkerThreads.factory("slack-interaction-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.duplicates = Counter.builder("slack.callback.duplicates")
+                .description("Slack 재전송으로 버려진 중복 callback 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버튼 클릭 접수 (요청 스레드에서는 중복 검사와 큐 적재만 수행)
+     */
+    public Acceptance accept(SlackInteraction interaction) {
+        if (!recentInteractions.addIfAbsent(interaction.idempotencyKey())) {
+            duplicates.increment();
+            log.info("Dropping duplicate slack interaction {}", interaction.idempotencyKey());
+            return Acceptance.DUPLICATE;
+        }
+
+        // 워커 스레드에서 callback 요청 span 을 부모로 이어 붙이기 위해 현재 observation 을 넘김
+        Observation parent = observationRegistry.getCurrentObservation();
+        try {
+            workers.execute(() -> Observation.createNotStarted("slack.interaction", observationRegistry)
+                    .contextualName("slack interaction " + interaction.actionId())
+                    .parentObservation(parent)
+                    .lowCardinalityKeyValue("decision",
+                            interaction.isApprove() ? "approve" : interaction.isReject() ? "reject" : "other")
+                    .observe(() -> process(interaction)));
+            return Acceptance.ACCEPTED;
+        } catch (RejectedExecutionException e) {
+            // 다시 보내면 처리될 수 있도록 키를 지움
+            recentInteractions.remove(interaction.idempotencyKey());
+            log.warn("Slack interaction queue is full. actionId={}", interaction.actionId());
+            return Acceptance.REJECTED;
+        }
+    }
+
+    private void process(SlackInteraction interaction) {
+        // actionId가 "monitoring_action_approve"이면 실행
+        if (interaction.isApprove()) {
+            log.info("User approved remediation action: {}, approvedBy: {}",
+                    interaction.actionValue(), interaction.userId());
+
+            // promotion-service의 remediation API 호출
+            RemediationResult result = remediationClient.execute(interaction.actionValue(), interaction.userId());
+            respond(interaction, result.success()
+                    ? "✅ <@%s> 님이 승인한 조치 `%s` 실행 완료 %s".formatted(
+                            interaction.userId(), interaction.actionValue(), result.message())
+                    : "⚠️ <@%s> 님이 승인한 조치 `%s` 실행 실패: %s".formatted(
+                            interaction.userId(), interaction.actionValue(), result.message()));
+
+        } else if (interaction.isReject()) {
+            log.info("User rejected remediation action: {}", interaction.actionValue());
+            respond(interaction, "❌ <@%s> 님이 조치 `%s` 를 거부했습니다.".formatted(
+                    interaction.userId(), interaction.actionValue()));
+        }
+    }
+
+    /**
+     * response_url 로 원본 메시지(버튼)를 결과 메시지로 교체 → 같은 버튼을 다시 누를 수 없게 함
+     */
+    private void respond(SlackInteraction interaction, String text) {
+        if (interaction.responseUrl() == null || interaction.responseUrl().isBlank()) {
+            return;
+        }
+        if (!interaction.responseUrl().startsWith(RESPONSE_URL_PREFIX)) {
+            log.warn("Ignoring response_url outside {} for interaction {}", RESPONSE_URL_PREFIX,
+                    interaction.idempotencyKey());
+            return;
+        }
+        try {
+            slackApiClient.respond(interaction.responseUrl(), Map.of(
+                    "replace_original", true,
+                    "text", text
+            ));
+        } catch (Exception e) {
+            log.warn("Failed to update slack message via response_url", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
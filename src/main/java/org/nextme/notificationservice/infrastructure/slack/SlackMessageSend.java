@@ -1,114 +1,263 @@
 package org.nextme.notificationservice.infrastructure.slack;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.application.WorkerThreads;
+import org.nextme.notificationservice.domain.ChannelAdapter;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientDirectory;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimitTimeoutException;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimiter;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackPayload;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
- * Slack Web API를 호출해 DM/그룹 DM을 보내는 구현체
+ * Slack 채널 어댑터: Slack Web API를 호출해 DM/그룹 DM/채널 메시지를 보냄
  *
- * - conversations.open 으로 채널을 연 뒤
- * - chat.postMessage 로 메시지를 보냄
+ * - 수신자 표기에 스킴(webhook:, mailto: 등)이 없는 ID 는 Slack user/channel ID 로 보고 이 어댑터가 담당
+ * - user:<UUID|이메일> 수신자도 담당: RecipientDirectory 로 Slack user ID 를 찾아 보내고 결과는 원래 표기로 돌려줌
+ * - 일반 메시지와 버튼 메시지(SlackInteractiveMessageSend)가 같은 채널 열기/전송 경로를 사용 (페이로드만 다름)
+ * - 수신자 목록을 SlackTarget 으로 나눔 (채널은 각각, 유저는 소수면 그룹 DM, 많으면 개별 DM 으로 fan-out)
+ * - 대상이 여럿이면 병렬 전송 (가상 스레드면 대상마다 가상 스레드, 아니면 slack.fan-out.concurrency 크기 풀)
+ *   실제 속도는 SlackRateLimiter, 동시 HTTP 호출 수는 DownstreamLimiter 가 조절
+ * - 그룹 DM 은 conversations.open 으로 채널을 연 뒤 (SlackChannelResolver 에 캐시된 채널이 있으면 생략) 전송
+ * - 개별 DM 은 유저 ID 를 channel 로 바로 chat.postMessage (conversations.open 호출 없음)
+ * - 본문은 SlackMessageTemplates 로 바로 직렬화, 실제 HTTP 호출/rate limit 은 SlackApiClient 가 담당
+ * - 우선순위는 SlackRateLimiter lane 으로 전달 (fan-out 워커에서도 같은 우선순위 유지)
+ * - Slack circuit breaker 가 열려 있으면 수신자 결과는 circuit_open 실패 (타임아웃까지 기다리지 않음)
  */
 @Slf4j
 @Service
-@RefreshScope // config-server 사용 시 /actuator/refresh로 토큰 변경 반영 가능
-public class SlackMessageSend implements MessageSend {
+public class SlackMessageSend implements ChannelAdapter {
+
+    public static final String CHANNEL = "slack";
+
+    private final SlackApiClient slackApiClient;
 
     /**
-     * Slack Bot User OAuth Token
-     * application-*.yml 의 slack.token 에서 주입
+     * 수신자 집합 → DM 채널 ID 캐시
      */
-    @Value("${slack.token}")
-    private String token;
+    private final SlackChannelResolver channelResolver;
+
+    private final SlackMessageTemplates templates;
+
+    private final RecipientDirectory recipientDirectory;
 
     /**
-     * 공용 RestClient (Spring 6 / Boot 3 전용 HTTP 클라이언트)
+     * 유저가 이 수 이하(2명 이상)면 그룹 DM 하나로, 넘으면 개별 DM 으로 보냄 (Slack 그룹 DM 은 최대 8명)
      */
-    private final RestClient client = RestClient.builder()
-            .baseUrl("https://slack.com/api")
-            .build();
+    private final int groupDmMaxUsers;
+
+    private final ExecutorService fanOutExecutor;
+
+    public SlackMessageSend(
+            SlackApiClient slackApiClient,
+            SlackChannelResolver channelResolver,
+            SlackMessageTemplates templates,
+            RecipientDirectory recipientDirectory,
+            @Value("${slack.fan-out.group-dm-max-users:8}") int groupDmMaxUsers,
+            @Value("${slack.fan-out.concurrency:16}") int concurrency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.slackApiClient = slackApiClient;
+        this.channelResolver = channelResolver;
+        this.templates = templates;
+        this.recipientDirectory = recipientDirectory;
+        this.groupDmMaxUsers = groupDmMaxUsers;
+        this.fanOutExecutor = WorkerThreads.forBlockingIo("slack-fanout-", virtualThreads, concurrency, concurrency * 16);
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public boolean accepts(String recipient) {
+        return recipient != null && !recipient.isBlank()
+                && (recipient.indexOf(':') < 0 || RecipientDirectory.isDirectoryRecipient(recipient));
+    }
 
     @Override
-    public boolean send(List<String> ids, String message) {
+    public SendReport send(List<String> ids, String message, NotificationPriority priority) {
+        return SlackRateLimiter.withPriority(priority, () -> send(ids, message));
+    }
+
+    /**
+     * 일반 텍스트 메시지 전송 (현재 스레드의 우선순위 lane 사용)
+     */
+    public SendReport send(List<String> ids, String message) {
+        return send(ids, channelId -> templates.plainMessage(channelId, message));
+    }
+
+    /**
+     * 대상 채널마다 페이로드를 만들어 전송
+     *
+     * @param payload 채널 ID → chat.postMessage 본문
+     * @return 수신자별 전송 결과
+     */
+    public SendReport send(List<String> ids, Function<String, SlackPayload> payload) {
+        return deliver(ids, channelId -> slackApiClient.post("chat.postMessage", channelId, payload.apply(channelId)));
+    }
+
+    /**
+     * 대상 채널마다 Slack 호출을 직접 정해서 전송 (ex. 반복 알림은 기존 메시지 chat.update)
+     *
+     * @param delivery 채널 ID(그룹 DM 이면 열린 채널, 아니면 요청한 채널/유저 ID) → Slack 응답 본문
+     * @return 수신자별 전송 결과 (응답이 ok=false 면 그 error 로 실패)
+     */
+    public SendReport deliver(List<String> ids, Function<String, JsonNode> delivery) {
         // 유저 ID가 없으면 전송 불가
         if (ids == null || ids.isEmpty()) {
             log.warn("No slack ids provided");
-            return false;
+            return SendReport.empty();
         }
 
-        try {
-            // ID가 채널 ID(C로 시작)인지 사용자 ID(U로 시작)인지 확인
-            String firstId = ids.get(0);
-            String channelId;
-
-            if (firstId.startsWith("C")) {
-                // 채널 ID를 직접 사용
-                log.info("Using channel ID directly: {}", firstId);
-                channelId = firstId;
+        if (ids.stream().noneMatch(RecipientDirectory::isDirectoryRecipient)) {
+            return new SendReport(sendToSlackIds(ids, delivery));
+        }
+
+        // user: 수신자를 Slack ID 로 바꿔 보내고, 결과는 요청에 적힌 표기로 되돌림
+        Map<String, List<String>> requested = resolve(ids);
+        List<RecipientResult> results = new ArrayList<>(ids.size());
+        List<String> slackIds = new ArrayList<>(requested.size());
+        requested.forEach((slackId, originals) -> {
+            if (slackId == null) {
+                originals.forEach(original -> results.add(RecipientResult.failed(original, RecipientResult.RECIPIENT_NOT_FOUND)));
             } else {
-                // 사용자 ID인 경우 DM 채널 열기
-                log.info("Opening DM channel for user: {}", firstId);
-                ResponseEntity<JsonNode> openResp = client.post()
-                        .uri("/conversations.open")
-                        .header("Authorization", "Bearer " + token)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        // users: "id1,id2,id3" 형식으로 전달
-                        .body(Map.of("users", String.join(",", ids)))
-                        .retrieve()
-                        .toEntity(JsonNode.class);
-
-                JsonNode openBody = openResp.getBody();
-                boolean openOk = openResp.getStatusCode().is2xxSuccessful()
-                        && openBody != null
-                        && openBody.path("ok").asBoolean(false);
-
-                if (!openOk) {
-                    log.warn("Failed to open slack conversation. body={}", openBody);
-                    return false;
-                }
-
-                channelId = openBody.path("channel").path("id").asText();
-                if (channelId == null || channelId.isBlank()) {
-                    log.warn("Slack channel id not found. body={}", openBody);
-                    return false;
-                }
+                slackIds.add(slackId);
             }
+        });
+        if (!slackIds.isEmpty()) {
+            for (RecipientResult result : sendToSlackIds(slackIds, delivery)) {
+                requested.getOrDefault(result.recipient(), List.of(result.recipient())).forEach(original ->
+                        results.add(new RecipientResult(original, result.delivered(), result.error(), result.retryAfter())));
+            }
+        }
+        return new SendReport(results);
+    }
 
-            // 2) 메시지 전송
-            ResponseEntity<JsonNode> sendResp = client.post()
-                    .uri("/chat.postMessage")
-                    .header("Authorization", "Bearer " + token)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(Map.of(
-                            "channel", channelId,
-                            "text", message
-                    ))
-                    .retrieve()
-                    .toEntity(JsonNode.class);
-
-            JsonNode sendBody = sendResp.getBody();
-            boolean sendOk = sendResp.getStatusCode().is2xxSuccessful()
-                    && sendBody != null
-                    && sendBody.path("ok").asBoolean(false);
-
-            if (!sendOk) {
-                log.warn("Failed to send slack message. body={}", sendBody);
+    private List<RecipientResult> sendToSlackIds(List<String> ids, Function<String, JsonNode> delivery) {
+        List<SlackTarget> targets = SlackTarget.plan(ids, groupDmMaxUsers);
+        if (targets.size() == 1) {
+            return sendTo(targets.get(0), delivery);
+        }
+
+        log.info("Fanning out slack message to {} targets ({} recipients)", targets.size(), ids.size());
+        NotificationPriority priority = SlackRateLimiter.currentPriority();
+        List<CompletableFuture<List<RecipientResult>>> futures = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(
+                        () -> SlackRateLimiter.withPriority(priority, () -> sendTo(target, delivery)), fanOutExecutor))
+                .toList();
+
+        List<RecipientResult> results = new ArrayList<>(ids.size());
+        futures.forEach(future -> results.addAll(future.join()));
+        return results;
+    }
+
+    /**
+     * 수신자 → Slack ID 변환 (Slack ID 는 그대로, user: 수신자는 디렉터리 조회, 여러 개면 fan-out 풀에서 병렬 조회)
+     *
+     * @return Slack ID → 요청에 적힌 수신자들 (찾지 못한 수신자는 null 키 아래)
+     */
+    private Map<String, List<String>> resolve(List<String> ids) {
+        List<CompletableFuture<Optional<String>>> lookups = ids.stream()
+                .map(id -> RecipientDirectory.isDirectoryRecipient(id)
+                        ? CompletableFuture.supplyAsync(() -> recipientDirectory.slackIdOf(id), fanOutExecutor)
+                        : CompletableFuture.completedFuture(Optional.of(id)))
+                .toList();
+
+        Map<String, List<String>> requested = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String slackId = lookups.get(i).join().orElse(null);
+            requested.computeIfAbsent(slackId, key -> new ArrayList<>()).add(ids.get(i));
+        }
+        return requested;
+    }
+
+    /**
+     * 대상 하나로 전송하고 수신자별 결과 반환 (예외는 실패 결과로 변환)
+     */
+    private List<RecipientResult> sendTo(SlackTarget target, Function<String, JsonNode> delivery) {
+        try {
+            String channelId = target.isGroupDm()
+                    // 그룹 DM 채널 조회 (캐시에 없을 때만 conversations.open 호출)
+                    ? channelResolver.resolve(target.users(), this::openConversation)
+                    : target.channel();
+            if (channelId == null) {
+                return failed(target, "conversation_open_failed");
+            }
+
+            JsonNode sendBody = delivery.apply(channelId);
+
+            if (SlackApiClient.isOk(sendBody)) {
+                return target.users().stream().map(RecipientResult::delivered).toList();
             }
 
-            return sendOk;
+            String error = SlackApiClient.errorOf(sendBody);
+            log.warn("Failed to send slack message to {}. body={}", channelId, sendBody);
+            if (target.isGroupDm()) {
+                channelResolver.invalidateIfStale(target.users(), error);
+            }
+            return failed(target, error == null ? "unknown_error" : error);
+        } catch (CallNotPermittedException e) {
+            // Slack 장애로 circuit 이 열려 있음 → 호출하지 않고 바로 실패 (NotificationSpillover 가 나중에 다시 보냄)
+            log.warn("Skipping slack message to {} - circuit {} is open", target, e.getCausingCircuitBreakerName());
+            return failed(target, RecipientResult.CIRCUIT_OPEN);
+        } catch (SlackRateLimitTimeoutException e) {
+            // 호출 스레드에서 더 기다리지 않고 넘김 → NotificationService 가 Retry-After 뒤로 예약
+            log.warn("Slack message to {} is rate limited, retry after {}", target, e.getRetryAfter());
+            return target.users().stream().map(user -> RecipientResult.rateLimited(user, e.getRetryAfter())).toList();
         } catch (Exception e) {
-            log.error("Error while sending slack message", e);
-            return false;
+            log.error("Error while sending slack message to {}", target, e);
+            return failed(target, e.getClass().getSimpleName());
         }
     }
+
+    private static List<RecipientResult> failed(SlackTarget target, String error) {
+        return target.users().stream().map(user -> RecipientResult.failed(user, error)).toList();
+    }
+
+    /**
+     * conversations.open 으로 DM/그룹 DM 채널을 열고 채널 ID 반환
+     *
+     * @return 채널 ID, 실패 시 null
+     */
+    private String openConversation(List<String> ids) {
+        log.info("Opening DM channel for users: {}", ids);
+        // users: "id1,id2,id3" 형식으로 전달
+        JsonNode openBody = slackApiClient.post("conversations.open", Map.of("users", String.join(",", ids)));
+
+        if (!SlackApiClient.isOk(openBody)) {
+            log.warn("Failed to open slack conversation. body={}", openBody);
+            return null;
+        }
+
+        String channelId = openBody.path("channel").path("id").asText();
+        if (channelId == null || channelId.isBlank()) {
+            log.warn("Slack channel id not found. body={}", openBody);
+            return null;
+        }
+        return channelId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOutExecutor.shutdown();
+    }
 }
@@ -0,0 +1,407 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.application.WorkerThreads;
+import org.nextme.notificationservice.domain.RecipientDirectory;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내부 사용자(UUID/이메일) → Slack user ID 디렉터리
+ *
+ * - 이메일 → Slack ID 인덱스를 users.list 페이지 순회로 미리 채움 (기동 직후 + refresh-interval 마다)
+ *   두 번째부터는 마지막 순회 이후 바뀐(updated) 멤버만 반영, 비활성(deleted) 멤버와 바뀌기 전 이메일은 제거
+ * - 인덱스에 없는 이메일은 users.lookupByEmail, 내부 UUID 는 user-service 에서 이메일을 받아 같은 경로로 조회
+ * - 조회 결과는 LRU 캐시 (찾은 결과 positive-ttl, 못 찾은 결과 negative-ttl)
+ * - 같은 키를 동시에 조회하면 한 요청만 upstream 을 호출하고 나머지는 그 결과를 기다림 (single-flight)
+ *   호출한 요청이 어떤 예외로 끝나든 기다리던 요청도 함께 끝남 (upstream 오류와 같이 빈 결과)
+ * - upstream 오류(타임아웃, circuit open 등)는 캐시하지 않음 → 다음 전송에서 다시 조회
+ */
+@Slf4j
+@Component
+public class SlackRecipientDirectory implements RecipientDirectory {
+
+    private final SlackApiClient slackApiClient;
+    private final RestClient userRestClient;
+    private final DownstreamCircuitBreakers circuitBreakers;
+
+    private final boolean userServiceEnabled;
+    private final String userEmailPath;
+    private final int pageSize;
+    private final int maxSize;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+
+    /**
+     * users.list 로 채운 소문자 이메일 → Slack user ID (쓰기는 index/unindex 에서만)
+     */
+    private final Map<String, String> slackIdByEmail = new ConcurrentHashMap<>();
+
+    /**
+     * Slack user ID → 인덱스에 올린 이메일 (이메일이 바뀐 멤버의 이전 항목을 지우는 용도)
+     */
+    private final Map<String, String> emailBySlackId = new ConcurrentHashMap<>();
+
+    /**
+     * 인덱스 밖 조회 결과 (access-order LinkedHashMap LRU, synchronized 블록 안에서만 접근)
+     */
+    private final LinkedHashMap<String, CachedLookup> lookups;
+
+    private final Map<String, CompletableFuture<Optional<String>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막으로 반영한 멤버 updated (epoch seconds), 0 이면 아직 전체 적재 전
+     */
+    private volatile long watermark;
+
+    private final ScheduledExecutorService refresher;
+
+    private final Counter indexHits;
+    private final Counter cacheHits;
+    private final Counter negativeHits;
+    private final Counter resolved;
+    private final Counter notFound;
+    private final Counter errors;
+    private final Counter coalesced;
+
+    public SlackRecipientDirectory(
+            SlackApiClient slackApiClient,
+            @Qualifier("userRestClient") RestClient userRestClient,
+            DownstreamCircuitBreakers circuitBreakers,
+            MeterRegistry meterRegistry,
+            @Value("${user.service.url:}") String userServiceUrl,
+            @Value("${slack.directory.user-email-path:/v1/users/{userId}}") String userEmailPath,
+            @Value("${slack.directory.enabled:true}") boolean preloadEnabled,
+            @Value("${slack.directory.page-size:200}") int pageSize,
+            @Value("${slack.directory.refresh-interval:15m}") Duration refreshInterval,
+            @Value("${slack.directory.cache.max-size:50000}") int maxSize,
+            @Value("${slack.directory.cache.positive-ttl:6h}") Duration positiveTtl,
+            @Value("${slack.directory.cache.negative-ttl:10m}") Duration negativeTtl
+    ) {
+        this.slackApiClient = slackApiClient;
+        this.userRestClient = userRestClient;
+        this.circuitBreakers = circuitBreakers;
+        this.userServiceEnabled = userServiceUrl != null && !userServiceUrl.isBlank();
+        this.userEmailPath = userEmailPath;
+        this.pageSize = pageSize;
+        this.maxSize = maxSize;
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.lookups = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLookup> eldest) {
+                return size() > SlackRecipientDirectory.this.maxSize;
+            }
+        };
+
+        this.indexHits = lookupCounter(meterRegistry, "index_hit");
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.negativeHits = lookupCounter(meterRegistry, "negative_hit");
+        this.resolved = lookupCounter(meterRegistry, "resolved");
+        this.notFound = lookupCounter(meterRegistry, "not_found");
+        this.errors = lookupCounter(meterRegistry, "error");
+        this.coalesced = Counter.builder("slack.directory.coalesced")
+                .description("같은 키의 진행 중인 조회에 합류한 요청 수 (upstream 호출 없음)")
+                .register(meterRegistry);
+        Gauge.builder("slack.directory.index.size", slackIdByEmail, Map::size)
+                .description("users.list 로 적재한 이메일 수")
+                .register(meterRegistry);
+
+        // users.list 는 Tier 2 라 페이지마다 rate limit 대기가 길 수 있으므로 공용 스케줄러가 아닌 전용 스레드에서 순회
+        this.refresher = Executors.newSingleThreadScheduledExecutor(WorkerThreads.factory("slack-directory-", false));
+        if (preloadEnabled) {
+            refresher.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Optional<String> slackIdOf(String recipient) {
+        if (!RecipientDirectory.isDirectoryRecipient(recipient)) {
+            return Optional.empty();
+        }
+        String key = normalize(recipient.substring(SCHEME.length()));
+
+        if (isEmail(key)) {
+            String indexed = slackIdByEmail.get(key);
+            if (indexed != null) {
+                indexHits.increment();
+                return Optional.of(indexed);
+            }
+        }
+
+        CachedLookup cached = cached(key);
+        if (cached != null) {
+            (cached.slackId() == null ? negativeHits : cacheHits).increment();
+            return Optional.ofNullable(cached.slackId());
+        }
+
+        CompletableFuture<Optional<String>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<String>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                // 먼저 호출한 요청이 실패 (오류는 그 요청에서 집계)
+                return Optional.empty();
+            }
+        }
+        try {
+            // 앞선 조회가 방금 끝나 캐시/인덱스에 들어갔으면 다시 호출하지 않음
+            CachedLookup settled = cached(key);
+            if (settled != null || slackIdByEmail.containsKey(key)) {
+                Optional<String> result = settled != null
+                        ? Optional.ofNullable(settled.slackId())
+                        : Optional.ofNullable(slackIdByEmail.get(key));
+                mine.complete(result);
+                return result;
+            }
+            Optional<String> result = lookup(key);
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Error 로 끝나도 기다리는 요청이 join 에서 멈추지 않도록 항상 future 를 끝냄
+            mine.completeExceptionally(t);
+            if (!(t instanceof RuntimeException)) {
+                throw t;
+            }
+            errors.increment();
+            log.warn("Failed to resolve recipient {} - {}", recipient, t.toString());
+            return Optional.empty();
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * upstream 조회 후 결과를 캐시 (찾지 못한 결과도 negative-ttl 동안 캐시)
+     */
+    private Optional<String> lookup(String key) {
+        Optional<String> slackId;
+        if (isEmail(key)) {
+            slackId = lookupByEmail(key);
+        } else {
+            Optional<String> email = emailOf(key);
+            slackId = email.flatMap(address -> Optional.ofNullable(slackIdByEmail.get(address))
+                    .or(() -> lookupByEmail(address)));
+        }
+
+        (slackId.isPresent() ? resolved : notFound).increment();
+        synchronized (lookups) {
+            long ttl = slackId.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+            lookups.put(key, new CachedLookup(slackId.orElse(null), System.nanoTime() + ttl));
+        }
+        return slackId;
+    }
+
+    private Optional<String> lookupByEmail(String email) {
+        JsonNode body = slackApiClient.get("users.lookupByEmail", Map.of("email", email));
+        if (SlackApiClient.isOk(body)) {
+            String slackId = body.path("user").path("id").asText(null);
+            if (slackId != null && !body.path("user").path("deleted").asBoolean(false)) {
+                index(email, slackId);
+                return Optional.of(slackId);
+            }
+            return Optional.empty();
+        }
+        if ("users_not_found".equals(SlackApiClient.errorOf(body))) {
+            return Optional.empty();
+        }
+        throw new IllegalStateException("users.lookupByEmail failed: " + SlackApiClient.errorOf(body));
+    }
+
+    /**
+     * user-service 에서 내부 사용자 이메일 조회 (공통 응답 래퍼의 data 가 있으면 그 안의 email)
+     */
+    private Optional<String> emailOf(String userId) {
+        if (!userServiceEnabled) {
+            return Optional.empty();
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        JsonNode body;
+        try {
+            body = circuitBreakers.call("user", null, () -> userRestClient.get()
+                    .uri(userEmailPath, id)
+                    .retrieve()
+                    .body(JsonNode.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+        JsonNode user = body == null ? null : body.has("data") ? body.get("data") : body;
+        String email = user == null ? null : user.path("email").asText(null);
+        return email == null || email.isBlank() ? Optional.empty() : Optional.of(normalize(email));
+    }
+
+    /**
+     * users.list 를 끝까지 순회하며 인덱스 갱신
+     * 첫 순회는 전체 적재, 이후에는 watermark 이후 바뀐 멤버만 반영
+     */
+    void refresh() {
+        long since = watermark;
+        long latest = since;
+        int applied = 0;
+        String cursor = "";
+        try {
+            do {
+                Map<String, String> params = new HashMap<>();
+                params.put("limit", Integer.toString(pageSize));
+                if (!cursor.isEmpty()) {
+                    params.put("cursor", cursor);
+                }
+                JsonNode body = slackApiClient.get("users.list", params);
+                if (!SlackApiClient.isOk(body)) {
+                    log.warn("users.list failed - error: {}", SlackApiClient.errorOf(body));
+                    return;
+                }
+                for (JsonNode member : body.path("members")) {
+                    long updated = member.path("updated").asLong(0);
+                    latest = Math.max(latest, updated);
+                    if (since > 0 && updated <= since) {
+                        continue;
+                    }
+                    if (apply(member)) {
+                        applied++;
+                    }
+                }
+                cursor = body.path("response_metadata").path("next_cursor").asText("");
+            } while (!cursor.isEmpty());
+
+            watermark = latest;
+            log.info("Refreshed slack recipient directory - {} {} members, index size: {}",
+                    since == 0 ? "loaded" : "updated", applied, slackIdByEmail.size());
+        } catch (Exception e) {
+            // 다음 주기에 같은 watermark 부터 다시 순회
+            log.warn("Failed to refresh slack recipient directory", e);
+        }
+    }
+
+    private boolean apply(JsonNode member) {
+        String slackId = member.path("id").asText(null);
+        if (slackId == null) {
+            return false;
+        }
+        String email = member.path("profile").path("email").asText(null);
+        if (member.path("deleted").asBoolean(false) || member.path("is_bot").asBoolean(false)
+                || email == null || email.isBlank()) {
+            return unindex(slackId);
+        }
+        index(normalize(email), slackId);
+        return true;
+    }
+
+    /**
+     * 인덱스에 이메일 → Slack ID 등록 (같은 멤버의 이전 이메일 항목은 제거)
+     */
+    private void index(String email, String slackId) {
+        String previous;
+        synchronized (emailBySlackId) {
+            previous = emailBySlackId.put(slackId, email);
+            if (previous != null && !previous.equals(email)) {
+                // 이전 이메일이 이미 다른 멤버에게 넘어갔으면 그대로 둠
+                slackIdByEmail.remove(previous, slackId);
+            }
+            slackIdByEmail.put(email, slackId);
+        }
+        evictLookups(email, previous);
+    }
+
+    /**
+     * 비활성 멤버 / 이메일이 없어진 멤버를 인덱스에서 제거
+     *
+     * @return 인덱스에 있던 멤버인지
+     */
+    private boolean unindex(String slackId) {
+        String previous;
+        synchronized (emailBySlackId) {
+            previous = emailBySlackId.remove(slackId);
+            if (previous != null) {
+                slackIdByEmail.remove(previous, slackId);
+            }
+        }
+        evictLookups(previous, null);
+        return previous != null;
+    }
+
+    /**
+     * 인덱스가 바뀐 이메일은 캐시된 (negative) 결과보다 인덱스를 따르도록
+     */
+    private void evictLookups(String email, String previousEmail) {
+        synchronized (lookups) {
+            if (email != null) {
+                lookups.remove(email);
+            }
+            if (previousEmail != null) {
+                lookups.remove(previousEmail);
+            }
+        }
+    }
+
+    private CachedLookup cached(String key) {
+        synchronized (lookups) {
+            CachedLookup cached = lookups.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt() - System.nanoTime() > 0) {
+                return cached;
+            }
+            lookups.remove(key);
+            return null;
+        }
+    }
+
+    private static boolean isEmail(String key) {
+        return key.indexOf('@') > 0;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("slack.directory.lookups")
+                .description("수신자 디렉터리 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * @param slackId 찾지 못한 결과면 null
+     */
+    private record CachedLookup(String slackId, long expiresAt) {
+    }
+}
@@ -0,0 +1,333 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.AlertMessage;
+import org.nextme.notificationservice.domain.AlertMessageRepository;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecurringAlertSend;
+import org.nextme.notificationservice.domain.SendReport;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimiter;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 반복 알림(alertKey) 전송: 같은 조건이 다시 발생하면 새 메시지 대신 처음 보낸 메시지를 갱신
+ *
+ * - 처음: chat.postMessage 후 (alertKey, 대상) → (channel, ts) 를 인덱스에 등록
+ * - 반복: mode=update 면 chat.update 로 본문 + "N회 발생 · 마지막 시각" 갱신, mode=thread 면 원본 스레드에 답글
+ * - 해소(resolved): 원본을 해결 상태로 바꾸고(thread 모드는 답글) 인덱스에서 제거, 인덱스에 없으면 아무것도 보내지 않음
+ * - 인덱스: persist=true 면 p_alert_message 를 매번 읽고 ON CONFLICT 로 등록 (여러 인스턴스가 같은 항목을 봄),
+ *   persist=false 면 인스턴스 메모리의 크기 제한 LRU. 마지막 발생 후 ttl 이 지나면 만료
+ * - 원본 메시지가 삭제/보관되어 갱신할 수 없으면 인덱스를 버리고 새로 보냄
+ * - 대상 planning/그룹 DM/fan-out 은 SlackMessageSend 와 같은 경로 (Slack 호출만 다름)
+ */
+@Slf4j
+@Component
+public class SlackRecurringAlerts implements RecurringAlertSend {
+
+    enum Mode {UPDATE, THREAD}
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("MM-dd HH:mm:ss");
+
+    // 원본 메시지를 더 이상 갱신할 수 없는 경우
+    private static final Set<String> STALE_ERRORS = Set.of(
+            "message_not_found", "cant_update_message", "edit_window_closed", "channel_not_found", "is_archived");
+
+    private static final int LOCK_STRIPES = 64;
+
+    // 보낼 것이 없는 해소 이벤트의 결과 (전송 성공으로 처리)
+    private static final JsonNode NOTHING_TO_RESOLVE = JsonNodeFactory.instance.objectNode().put("ok", true);
+
+    private final SlackMessageSend slackMessageSend;
+    private final SlackApiClient slackApiClient;
+    private final SlackMessageTemplates templates;
+    private final AlertMessageRepository repository;
+
+    private final boolean enabled;
+    private final Mode mode;
+    private final Duration ttl;
+    private final boolean persist;
+
+    /**
+     * alertKey + 대상 → 인덱스 항목 (persist=false 일 때만 사용, access-order LinkedHashMap LRU, synchronized 블록 안에서만 접근)
+     */
+    private final LinkedHashMap<String, AlertMessage> index;
+
+    /**
+     * 같은 (alertKey, 대상) 의 갱신이 겹치지 않도록 (가상 스레드를 pinning 하지 않는 ReentrantLock)
+     */
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final Counter posted;
+    private final Counter updated;
+    private final Counter replied;
+    private final Counter resolvedCounter;
+    private final Counter reposted;
+    private final Counter dropped;
+
+    public SlackRecurringAlerts(
+            SlackMessageSend slackMessageSend,
+            SlackApiClient slackApiClient,
+            SlackMessageTemplates templates,
+            AlertMessageRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${slack.alert-updates.enabled:true}") boolean enabled,
+            @Value("${slack.alert-updates.mode:update}") String mode,
+            @Value("${slack.alert-updates.max-size:10000}") int maxSize,
+            @Value("${slack.alert-updates.ttl:24h}") Duration ttl,
+            @Value("${slack.alert-updates.persist:true}") boolean persist
+    ) {
+        this.slackMessageSend = slackMessageSend;
+        this.slackApiClient = slackApiClient;
+        this.templates = templates;
+        this.repository = repository;
+        this.enabled = enabled;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.ttl = ttl;
+        this.persist = persist;
+        this.index = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AlertMessage> eldest) {
+                return size() > maxSize;
+            }
+        };
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        this.posted = alertCounter(meterRegistry, "posted");
+        this.updated = alertCounter(meterRegistry, "updated");
+        this.replied = alertCounter(meterRegistry, "replied");
+        this.resolvedCounter = alertCounter(meterRegistry, "resolved");
+        this.reposted = alertCounter(meterRegistry, "reposted");
+        this.dropped = alertCounter(meterRegistry, "dropped");
+        Gauge.builder("slack.alert.index.size", this, SlackRecurringAlerts::indexSize)
+                .description("메모리에 있는 반복 알림 인덱스 항목 수 (persist=false)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 반복 알림으로 보낼 수 있는 수신자인지 (모두 Slack 수신자여야 함, webhook/email 이 섞이면 일반 전송)
+     */
+    @Override
+    public boolean accepts(List<String> ids) {
+        return enabled && ids != null && !ids.isEmpty() && ids.stream().allMatch(slackMessageSend::accepts);
+    }
+
+    /**
+     * 반복 알림 전송
+     *
+     * @param alertKey 같은 조건을 나타내는 키 (발행 측에서 정함, ex. "promotion-api:p99")
+     * @param resolved 조건이 해소됨 → 원본을 해결 상태로 바꾸고 인덱스 제거
+     * @param priority Slack rate limit lane
+     * @return 수신자별 전송/갱신 결과 (circuit_open 실패는 호출한 쪽이 스필오버 큐에 담음)
+     */
+    @Override
+    public SendReport send(List<String> ids, String alertKey, String message, boolean resolved,
+                           NotificationPriority priority) {
+        SendReport report = SlackRateLimiter.withPriority(priority,
+                () -> slackMessageSend.deliver(ids, channel -> deliver(alertKey, channel, message, resolved)));
+        if (!report.allDelivered()) {
+            log.warn("Failed to deliver recurring alert {} to {}", alertKey, report.failedRecipients());
+        }
+        return report;
+    }
+
+    private JsonNode deliver(String alertKey, String target, String message, boolean resolved) {
+        ReentrantLock lock = locks[Math.floorMod((alertKey + target).hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            AlertMessage existing = find(alertKey, target, now);
+            if (existing == null) {
+                return resolved ? dropResolution(alertKey) : post(alertKey, target, message, now);
+            }
+
+            int occurrences = existing.getOccurrences() + (resolved ? 0 : 1);
+            String status = resolved
+                    ? "✅ 해결됨 · 총 " + occurrences + "회 발생 · " + TIME_FORMAT.format(now)
+                    : "🔁 " + occurrences + "회 발생 · 마지막 " + TIME_FORMAT.format(now)
+                    + " · 처음 " + TIME_FORMAT.format(existing.getFirstSeenAt());
+            JsonNode body = mode == Mode.UPDATE
+                    ? slackApiClient.post("chat.update", existing.getChannelId(),
+                    templates.alertUpdate(existing.getChannelId(), existing.getMessageTs(), message, status))
+                    : slackApiClient.post("chat.postMessage", existing.getChannelId(),
+                    templates.threadReply(existing.getChannelId(), existing.getMessageTs(), status + "\n" + message));
+
+            if (!SlackApiClient.isOk(body)) {
+                if (STALE_ERRORS.contains(SlackApiClient.errorOf(body))) {
+                    log.info("Recurring alert message {} is gone ({}), posting a new one",
+                            alertKey, SlackApiClient.errorOf(body));
+                    forget(existing);
+                    if (resolved) {
+                        return dropResolution(alertKey);
+                    }
+                    reposted.increment();
+                    return post(alertKey, target, message, now);
+                }
+                return body;
+            }
+
+            if (resolved) {
+                resolvedCounter.increment();
+                forget(existing);
+            } else {
+                (mode == Mode.UPDATE ? updated : replied).increment();
+                recur(existing, now);
+            }
+            return body;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 새 메시지 전송 후 인덱스에 등록
+     */
+    private JsonNode post(String alertKey, String target, String message, LocalDateTime now) {
+        JsonNode body = slackApiClient.post("chat.postMessage", target, templates.plainMessage(target, message));
+        if (SlackApiClient.isOk(body)) {
+            posted.increment();
+            // 유저 ID 로 보낸 DM 은 응답의 channel 이 실제 DM 채널 (chat.update 는 이 ID 가 필요)
+            String channelId = body.path("channel").asText(target);
+            register(AlertMessage.posted(alertKey, target, channelId, body.path("ts").asText(), now, now.plus(ttl)));
+        }
+        return body;
+    }
+
+    /**
+     * 인덱스에 없는 해소 이벤트 (이미 해소됨, 만료, 처음 알림을 못 받음) → 해결 메시지만 새로 올리지 않음
+     */
+    private JsonNode dropResolution(String alertKey) {
+        dropped.increment();
+        log.debug("Dropping resolution of recurring alert {} - no message to resolve", alertKey);
+        return NOTHING_TO_RESOLVE;
+    }
+
+    private AlertMessage find(String alertKey, String target, LocalDateTime now) {
+        AlertMessage found;
+        if (persist) {
+            // 다른 인스턴스가 갱신/해소했을 수 있으므로 메모리에 두지 않고 매번 DB 에서 읽음
+            try {
+                found = repository.findByAlertKeyAndTarget(alertKey, target).orElse(null);
+            } catch (Exception e) {
+                log.warn("Failed to load recurring alert index for {}", alertKey, e);
+                return null;
+            }
+        } else {
+            synchronized (index) {
+                found = index.get(keyOf(alertKey, target));
+            }
+        }
+        if (found != null && found.isExpired(now)) {
+            forget(found);
+            return null;
+        }
+        return found;
+    }
+
+    private void register(AlertMessage alertMessage) {
+        if (!persist) {
+            synchronized (index) {
+                index.put(keyOf(alertMessage.getAlertKey(), alertMessage.getTarget()), alertMessage);
+            }
+            return;
+        }
+        try {
+            int registered = repository.register(alertMessage.getId(), alertMessage.getAlertKey(), alertMessage.getTarget(),
+                    alertMessage.getChannelId(), alertMessage.getMessageTs(),
+                    alertMessage.getFirstSeenAt(), alertMessage.getExpiresAt());
+            if (registered == 0) {
+                // 다른 인스턴스가 같은 알림을 먼저 등록함 → 이후 반복은 그 메시지를 갱신
+                log.info("Recurring alert {} is already indexed by another instance", alertMessage.getAlertKey());
+            }
+        } catch (Exception e) {
+            // 다음 반복은 새 메시지로 시작
+            log.warn("Failed to persist recurring alert index for {}", alertMessage.getAlertKey(), e);
+        }
+    }
+
+    private void recur(AlertMessage alertMessage, LocalDateTime now) {
+        alertMessage.recur(now, now.plus(ttl));
+        if (!persist) {
+            synchronized (index) {
+                index.put(keyOf(alertMessage.getAlertKey(), alertMessage.getTarget()), alertMessage);
+            }
+            return;
+        }
+        try {
+            repository.recordOccurrence(alertMessage.getAlertKey(), alertMessage.getTarget(), now, alertMessage.getExpiresAt());
+        } catch (Exception e) {
+            log.warn("Failed to record recurring alert occurrence for {}", alertMessage.getAlertKey(), e);
+        }
+    }
+
+    private void forget(AlertMessage alertMessage) {
+        if (!persist) {
+            synchronized (index) {
+                index.remove(keyOf(alertMessage.getAlertKey(), alertMessage.getTarget()));
+            }
+            return;
+        }
+        try {
+            repository.deleteByAlertKeyAndTarget(alertMessage.getAlertKey(), alertMessage.getTarget());
+        } catch (Exception e) {
+            log.warn("Failed to delete recurring alert index for {}", alertMessage.getAlertKey(), e);
+        }
+    }
+
+    /**
+     * ttl 이 지난 인덱스 정리 (메모리 + p_alert_message)
+     */
+    @Scheduled(fixedDelayString = "${slack.alert-updates.purge-interval:600000}")
+    void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (index) {
+            index.values().removeIf(alertMessage -> alertMessage.isExpired(now));
+        }
+        if (persist) {
+            try {
+                int purged = repository.deleteExpired(now);
+                if (purged > 0) {
+                    log.info("Purged {} expired recurring alert index entries", purged);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to purge expired recurring alert index entries", e);
+            }
+        }
+    }
+
+    int indexSize() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    private static String keyOf(String alertKey, String target) {
+        return alertKey + '\n' + target;
+    }
+
+    private static Counter alertCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("slack.alert.updates")
+                .description("반복 알림 처리 결과 (새 메시지 / 갱신 / 스레드 답글 / 해소 / 원본 유실로 재전송 / 해소할 메시지 없음)")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
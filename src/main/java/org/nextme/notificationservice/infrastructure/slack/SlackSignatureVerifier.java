@@ -0,0 +1,87 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Slack 요청 서명 검증 (Interactive callback)
+ *
+ * - X-Slack-Signature 가 v0=hex(HMAC-SHA256(signing secret, "v0:{X-Slack-Request-Timestamp}:{원본 body}")) 와 같아야 함
+ * - 타임스탬프가 현재 시각과 signature-tolerance 넘게 차이 나면 거부 (재전송 공격 방지)
+ * - signing secret 이 비어 있으면 모든 요청 거부
+ */
+@Slf4j
+@Component
+public class SlackSignatureVerifier {
+
+    public static final String SIGNATURE_HEADER = "X-Slack-Signature";
+    public static final String TIMESTAMP_HEADER = "X-Slack-Request-Timestamp";
+
+    private static final String VERSION = "v0";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final byte[] signingSecret;
+    private final Duration tolerance;
+
+    public SlackSignatureVerifier(
+            @Value("${slack.signing-secret:}") String signingSecret,
+            @Value("${slack.signature-tolerance:5m}") Duration tolerance
+    ) {
+        this.signingSecret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        this.tolerance = tolerance;
+        if (this.signingSecret.length == 0) {
+            log.warn("slack.signing-secret is not set - every Slack interactive callback will be rejected");
+        }
+    }
+
+    /**
+     * @param timestamp X-Slack-Request-Timestamp (epoch 초)
+     * @param signature X-Slack-Signature
+     * @param body      파싱하기 전 원본 요청 본문
+     */
+    public boolean verify(String timestamp, String signature, byte[] body) {
+        return verify(timestamp, signature, body, Instant.now());
+    }
+
+    boolean verify(String timestamp, String signature, byte[] body, Instant now) {
+        if (signingSecret.length == 0 || timestamp == null || signature == null) {
+            return false;
+        }
+        long epochSecond;
+        try {
+            epochSecond = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(now.getEpochSecond() - epochSecond) > tolerance.toSeconds()) {
+            return false;
+        }
+        byte[] expected = sign(timestamp, body).getBytes(StandardCharsets.US_ASCII);
+        // 일정 시간 비교 (앞자리가 맞을수록 빨리 끝나지 않게)
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * v0=<hex> 서명 (테스트에서 요청을 만들 때도 사용)
+     */
+    String sign(String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(signingSecret, ALGORITHM));
+            mac.update((VERSION + ":" + timestamp + ":").getBytes(StandardCharsets.UTF_8));
+            return VERSION + "=" + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign Slack request", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * chat.postMessage 한 번으로 보낼 대상
+ *
+ * - channel 이 있으면 그 채널(또는 유저 ID → 앱 DM)로 바로 전송
+ * - channel 이 없으면 users 로 그룹 DM 을 열어서 전송 (conversations.open)
+ *
+ * @param channel 채널 ID 또는 개별 DM 대상 유저 ID
+ * @param users   결과를 돌려줄 수신자 (그룹 DM 이면 멤버 전체)
+ */
+record SlackTarget(String channel, List<String> users) {
+
+    static SlackTarget direct(String id) {
+        return new SlackTarget(id, List.of(id));
+    }
+
+    static SlackTarget groupDm(List<String> users) {
+        return new SlackTarget(null, List.copyOf(users));
+    }
+
+    boolean isGroupDm() {
+        return channel == null;
+    }
+
+    /**
+     * 수신자 목록을 전송 대상으로 나눔
+     *
+     * - 채널 ID(C/G/D 로 시작)는 위치와 상관없이 각각 바로 전송 (기존엔 ids.get(0) 만 검사)
+     * - 유저 ID 는 groupDmMaxUsers 이하(2명 이상)면 그룹 DM 하나, 그보다 많거나 1명이면 개별 DM 으로 fan-out
+     * - 중복 ID 는 한 번만
+     */
+    static List<SlackTarget> plan(List<String> ids, int groupDmMaxUsers) {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isBlank()) {
+                unique.add(id.trim());
+            }
+        }
+
+        List<SlackTarget> targets = new ArrayList<>();
+        List<String> users = new ArrayList<>();
+        for (String id : unique) {
+            if (isChannelId(id)) {
+                targets.add(direct(id));
+            } else {
+                users.add(id);
+            }
+        }
+
+        if (users.size() >= 2 && users.size() <= groupDmMaxUsers) {
+            targets.add(groupDm(users));
+        } else {
+            users.forEach(user -> targets.add(direct(user)));
+        }
+        return targets;
+    }
+
+    static boolean isChannelId(String id) {
+        char prefix = id.charAt(0);
+        return prefix == 'C' || prefix == 'G' || prefix == 'D';
+    }
+}
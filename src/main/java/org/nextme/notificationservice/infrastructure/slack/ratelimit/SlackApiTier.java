@@ -0,0 +1,44 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+import java.util.Map;
+
+/**
+ * Slack Web API 메서드별 rate limit 등급 (워크스페이스 단위, 분당 허용 요청 수)
+ *
+ * https://api.slack.com/apis/rate-limits
+ * chat.postMessage 는 "Special" 등급: 채널당 초당 1건 + 워크스페이스 전체 한도
+ */
+public enum SlackApiTier {
+
+    TIER_1(1),
+    TIER_2(20),
+    TIER_3(50),
+    TIER_4(100),
+    SPECIAL(600);
+
+    private static final Map<String, SlackApiTier> METHOD_TIERS = Map.of(
+            "conversations.open", TIER_3,
+            "chat.postMessage", SPECIAL,
+            "chat.update", TIER_3,
+            "users.list", TIER_2,
+            "users.lookupByEmail", TIER_4,
+            "api.test", TIER_4
+    );
+
+    private final int requestsPerMinute;
+
+    SlackApiTier(int requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+    }
+
+    public int requestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    /**
+     * 등록되지 않은 메서드는 보수적으로 Tier 3 으로 취급
+     */
+    public static SlackApiTier of(String method) {
+        return METHOD_TIERS.getOrDefault(method, TIER_3);
+    }
+}
@@ -0,0 +1,31 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * rate limit 대기 시간이 허용치(slack.rate-limit.max-wait)를 넘거나, 429 재시도(max-retries)를 다 쓴 경우
+ *
+ * 호출 스레드에서 더 기다리지 않고 retryAfter 뒤에 다시 보내도록 호출한 쪽에 넘김 (메시지는 버리지 않음)
+ */
+public class SlackRateLimitTimeoutException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public SlackRateLimitTimeoutException(String method, String channel, Duration maxWait, Duration retryAfter) {
+        this(method, channel, maxWait, retryAfter, null);
+    }
+
+    public SlackRateLimitTimeoutException(String method, String channel, Duration maxWait, Duration retryAfter,
+                                          Throwable cause) {
+        super("Slack " + method + " (channel=" + channel + ") could not be sent within " + maxWait
+                + ", retry after " + retryAfter, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 다시 보내도 되는 최소 대기 시간 (버킷이 풀리는 시각 또는 Slack 의 Retry-After)
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
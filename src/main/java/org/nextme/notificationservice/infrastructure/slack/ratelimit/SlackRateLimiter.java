@@ -0,0 +1,301 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 모든 Slack API 호출이 거쳐가는 rate limit 스케줄러
+ *
+ * - 메서드별 토큰 버킷 (SlackApiTier 의 분당 한도)
+ * - chat.postMessage 는 채널별 버킷 추가 (채널당 초당 1건)
+ * - 429 응답이면 Retry-After 만큼 해당 버킷만 멈추고, max-wait 안에 풀리면 다시 대기열에 세움
+ * - 호출 스레드는 max-wait 까지만 기다림: 그보다 오래 기다려야 하거나 max-retries 번 429 면
+ *   SlackRateLimitTimeoutException(retryAfter) → 수신자는 rate_limited 로 실패하고 NotificationService 가
+ *   Retry-After 뒤로 예약해서 다시 보냄 (NotificationScheduler)
+ * - 우선순위 lane: NORMAL 이하 트래픽은 메서드 한도의 priority-share.normal, LOW 는 priority-share.low 까지만 사용
+ *   → 나머지는 HIGH(승인 버튼 알림 등) 몫으로 남아서 대량 알림이 몰려도 HIGH 가 메서드 버킷 앞에서 오래 기다리지 않음
+ * - lane 한도 대기는 lane-max-wait 까지만: 넘으면 토큰을 쓰지 않고 rate_limited 로 돌려줌 (위와 같이 나중에 다시 보냄)
+ *   → Kafka 단건 리스너처럼 한 스레드가 순서대로 보내는 경로에서도 NORMAL/LOW 가 스레드를 붙잡아 뒤의 HIGH 를 막지 않음
+ *   (우선순위는 withPriority 로 호출 스레드에 지정, 지정이 없으면 NORMAL)
+ * - 대기 중인 호출 수(queue depth)와 대기 시간(throttle time, 우선순위별)을 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class SlackRateLimiter {
+
+    private static final String POST_MESSAGE = "chat.postMessage";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private static final ThreadLocal<NotificationPriority> PRIORITY = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final double channelPermitsPerSecond;
+    private final int channelBurst;
+    private final Duration maxWait;
+    private final int maxRetries;
+    private final long laneMaxWaitNanos;
+    private final Map<NotificationPriority, Double> laneShares = new EnumMap<>(NotificationPriority.class);
+
+    private final ConcurrentMap<String, TokenBucket> methodBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TokenBucket> channelBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TokenBucket> laneBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> waiting = new ConcurrentHashMap<>();
+
+    public SlackRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${slack.rate-limit.channel-per-second:1}") double channelPermitsPerSecond,
+            @Value("${slack.rate-limit.channel-burst:1}") int channelBurst,
+            @Value("${slack.rate-limit.max-wait:10s}") Duration maxWait,
+            @Value("${slack.rate-limit.max-retries:5}") int maxRetries,
+            @Value("${slack.rate-limit.priority-share.normal:0.8}") double normalShare,
+            @Value("${slack.rate-limit.priority-share.low:0.4}") double lowShare,
+            @Value("${slack.rate-limit.lane-max-wait:1s}") Duration laneMaxWait
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.channelPermitsPerSecond = channelPermitsPerSecond;
+        this.channelBurst = channelBurst;
+        this.maxWait = maxWait;
+        this.maxRetries = maxRetries;
+        this.laneMaxWaitNanos = laneMaxWait.toNanos();
+        this.laneShares.put(NotificationPriority.NORMAL, normalShare);
+        this.laneShares.put(NotificationPriority.LOW, Math.min(lowShare, normalShare));
+
+        Gauge.builder("slack.ratelimit.channel.buckets", channelBuckets, ConcurrentMap::size)
+                .description("채널별 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드에서 실행하는 Slack 호출에 우선순위 지정 (fan-out 워커로 넘길 때는 currentPriority 로 꺼내서 다시 지정)
+     */
+    public static <T> T withPriority(NotificationPriority priority, Supplier<T> call) {
+        NotificationPriority previous = PRIORITY.get();
+        PRIORITY.set(priority);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                PRIORITY.remove();
+            } else {
+                PRIORITY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 우선순위 (지정이 없으면 NORMAL)
+     */
+    public static NotificationPriority currentPriority() {
+        NotificationPriority priority = PRIORITY.get();
+        return priority == null ? NotificationPriority.NORMAL : priority;
+    }
+
+    /**
+     * rate limit 을 지키면서 Slack API 호출
+     *
+     * @param method  Slack API 메서드 (ex. chat.postMessage)
+     * @param channel 채널 ID (채널별 한도를 적용할 때만, 없으면 null)
+     * @param call    실제 HTTP 호출
+     * @return 호출 결과
+     * @throws SlackRateLimitTimeoutException max-wait 안에 보낼 수 없거나 max-retries 만큼 재시도해도 429 인 경우
+     */
+    public <T> T execute(String method, String channel, Supplier<T> call) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        for (int attempt = 0; ; attempt++) {
+            awaitPermit(method, channel, deadline);
+            try {
+                return call.get();
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                Duration retryAfter = parseRetryAfter(e.getResponseHeaders());
+                rateLimitedCounter(method).increment();
+                pause(method, channel, retryAfter);
+
+                if (attempt >= maxRetries || System.nanoTime() + retryAfter.toNanos() - deadline > 0) {
+                    log.warn("Slack {} rate limited (channel={}) after {} retries, handing back for {}",
+                            method, channel, attempt, retryAfter);
+                    throw new SlackRateLimitTimeoutException(method, channel, maxWait, retryAfter, e);
+                }
+                log.warn("Slack {} rate limited (channel={}), retrying after {}", method, channel, retryAfter);
+            }
+        }
+    }
+
+    /**
+     * 토큰이 생길 때까지 대기. 기다리는 동안 429 로 버킷이 멈췄다면 다시 예약
+     */
+    private void awaitPermit(String method, String channel, long deadline) {
+        NotificationPriority priority = currentPriority();
+        awaitLanes(method, channel, priority, deadline);
+
+        TokenBucket methodBucket = methodBucket(method);
+        TokenBucket channelBucket = channelBucket(method, channel);
+
+        while (true) {
+            long now = System.nanoTime();
+            // 429 로 멈추기 쉬운 채널 버킷을 먼저 예약 → 채널 때문에 포기할 때 메서드 토큰을 쓰지 않음
+            long waitNanos = channelBucket == null ? 0 : reserveWithin(method, channel, channelBucket, now, deadline - now);
+            waitNanos = Math.max(waitNanos, reserveWithin(method, channel, methodBucket, now, deadline - now));
+            if (waitNanos > 0) {
+                sleep(method, priority, waitNanos);
+            }
+
+            long after = System.nanoTime();
+            boolean paused = methodBucket.isPaused(after) || (channelBucket != null && channelBucket.isPaused(after));
+            if (!paused) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 우선순위 lane 한도 대기 (메서드 버킷에 들어가기 전에 통과해야 함)
+     * LOW 는 LOW → NORMAL lane 을, NORMAL 은 NORMAL lane 을 거침 (NORMAL lane 은 NORMAL + LOW 트래픽 합계)
+     * lane 마다 lane-max-wait (와 남은 max-wait) 안에 보낼 수 있을 때만 예약
+     */
+    private void awaitLanes(String method, String channel, NotificationPriority priority, long deadline) {
+        for (int ordinal = priority.ordinal(); ordinal > NotificationPriority.HIGH.ordinal(); ordinal--) {
+            TokenBucket laneBucket = laneBucket(method, NotificationPriority.values()[ordinal]);
+            if (laneBucket == null) {
+                continue;
+            }
+            long now = System.nanoTime();
+            long waitNanos = reserveWithin(method, channel, laneBucket, now, Math.min(laneMaxWaitNanos, deadline - now));
+            if (waitNanos > 0) {
+                sleep(method, priority, waitNanos);
+            }
+        }
+    }
+
+    /**
+     * maxWaitNanos 안에 보낼 수 있으면 예약하고 기다릴 시간을, 아니면 토큰을 쓰지 않고 SlackRateLimitTimeoutException
+     */
+    private long reserveWithin(String method, String channel, TokenBucket bucket, long now, long maxWaitNanos) {
+        long waitNanos = bucket.tryReserve(now, maxWaitNanos);
+        if (waitNanos < 0) {
+            throw new SlackRateLimitTimeoutException(method, channel, maxWait, Duration.ofNanos(bucket.waitNanos(now)));
+        }
+        return waitNanos;
+    }
+
+    private void sleep(String method, NotificationPriority priority, long waitNanos) {
+        AtomicInteger depth = waitingCounter(method);
+        depth.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for slack rate limit", e);
+        } finally {
+            depth.decrementAndGet();
+            throttleTimer(method, priority).record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 429 가 난 버킷만 멈춤 (chat.postMessage 는 채널 버킷, 나머지는 메서드 버킷)
+     */
+    private void pause(String method, String channel, Duration retryAfter) {
+        long until = System.nanoTime() + retryAfter.toNanos();
+        TokenBucket channelBucket = channelBucket(method, channel);
+        if (channelBucket != null) {
+            channelBucket.pauseUntil(until);
+        } else {
+            methodBucket(method).pauseUntil(until);
+        }
+    }
+
+    static Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(1, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private TokenBucket methodBucket(String method) {
+        return methodBuckets.computeIfAbsent(method, key -> {
+            int perMinute = SlackApiTier.of(key).requestsPerMinute();
+            // 분당 한도의 1/10 까지는 버스트 허용
+            return new TokenBucket(perMinute / 60.0, Math.max(1, perMinute / 10));
+        });
+    }
+
+    /**
+     * 메서드 한도 중 lane 이 쓸 수 있는 몫만큼의 버킷 (share 가 1 이상이면 제한 없음)
+     */
+    private TokenBucket laneBucket(String method, NotificationPriority lane) {
+        double share = laneShares.getOrDefault(lane, 1.0);
+        if (share >= 1.0) {
+            return null;
+        }
+        return laneBuckets.computeIfAbsent(method + "|" + lane, key -> {
+            double perMinute = SlackApiTier.of(method).requestsPerMinute() * Math.max(share, 0.01);
+            return new TokenBucket(perMinute / 60.0, Math.max(1, (int) (perMinute / 10)));
+        });
+    }
+
+    private TokenBucket channelBucket(String method, String channel) {
+        if (channel == null || !POST_MESSAGE.equals(method)) {
+            return null;
+        }
+        return channelBuckets.computeIfAbsent(channel, key -> new TokenBucket(channelPermitsPerSecond, channelBurst));
+    }
+
+    private AtomicInteger waitingCounter(String method) {
+        return waiting.computeIfAbsent(method, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("slack.ratelimit.queue.depth", counter, AtomicInteger::get)
+                    .tag("method", key)
+                    .description("rate limit 때문에 대기 중인 Slack 호출 수")
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    private Timer throttleTimer(String method, NotificationPriority priority) {
+        return Timer.builder("slack.ratelimit.throttle")
+                .tag("method", method)
+                .tag("priority", priority.name())
+                .description("rate limit 때문에 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    private Counter rateLimitedCounter(String method) {
+        return Counter.builder("slack.ratelimit.rejected")
+                .tag("method", method)
+                .description("Slack 이 429 로 거절한 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 더 이상 쓰지 않는 채널 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${slack.rate-limit.cleanup-interval:60000}")
+    public void evictIdleChannelBuckets() {
+        long now = System.nanoTime();
+        channelBuckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now) && !entry.getValue().isPaused(now));
+    }
+}
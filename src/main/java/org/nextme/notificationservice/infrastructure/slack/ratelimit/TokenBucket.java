@@ -0,0 +1,102 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+/**
+ * 예약 방식 토큰 버킷 (GCRA)
+ *
+ * - reserve() 는 거절하지 않고 "몇 ns 기다리면 보낼 수 있는지"를 돌려줌 → 호출 측이 기다렸다가 전송
+ * - tryReserve() 는 기다릴 시간이 한도를 넘으면 예약하지 않음 (포기한 호출이 토큰을 쓰지 않음)
+ * - 먼저 예약한 호출이 먼저 나가므로 버스트가 최대 허용 속도로 평탄화됨
+ * - pauseUntil() 로 Retry-After 동안 이 버킷만 멈춤
+ *
+ * 모든 시각은 System.nanoTime() 기준
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+
+    // 다음 요청의 이론적 도착 시각 (theoretical arrival time)
+    private long tat;
+    private long pausedUntil;
+
+    /**
+     * @param permitsPerSecond 초당 허용 요청 수
+     * @param burst            연속으로 바로 보낼 수 있는 최대 요청 수 (1 이상)
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.tat = Long.MIN_VALUE;
+        this.pausedUntil = Long.MIN_VALUE;
+    }
+
+    /**
+     * 요청 1건 예약
+     *
+     * @param now 현재 시각(ns)
+     * @return 전송 전까지 기다려야 하는 시간(ns), 0 이면 바로 전송
+     */
+    public synchronized long reserve(long now) {
+        long currentTat = currentTat(now);
+        long start = startOf(now, currentTat);
+        tat = Math.max(currentTat, start) + intervalNanos;
+        return start - now;
+    }
+
+    /**
+     * maxWaitNanos 안에 보낼 수 있을 때만 요청 1건 예약
+     *
+     * @return 기다려야 하는 시간(ns), 한도를 넘으면 예약하지 않고 -1
+     */
+    public synchronized long tryReserve(long now, long maxWaitNanos) {
+        if (waitNanos(now) > maxWaitNanos) {
+            return -1;
+        }
+        return reserve(now);
+    }
+
+    /**
+     * 지금 예약하면 기다려야 하는 시간(ns) (예약하지 않음)
+     */
+    public synchronized long waitNanos(long now) {
+        return startOf(now, currentTat(now)) - now;
+    }
+
+    private long currentTat(long now) {
+        return tat == Long.MIN_VALUE ? now : Math.max(tat, now - burstToleranceNanos);
+    }
+
+    private long startOf(long now, long currentTat) {
+        return Math.max(now, Math.max(currentTat - burstToleranceNanos, pausedUntil));
+    }
+
+    /**
+     * Retry-After 동안 버킷을 멈춤. 재개 직후에는 버스트 없이 기본 속도로 다시 시작
+     */
+    public synchronized void pauseUntil(long until) {
+        if (pausedUntil == Long.MIN_VALUE || until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+        long resumeTat = until + burstToleranceNanos;
+        if (tat == Long.MIN_VALUE || resumeTat - tat > 0) {
+            tat = resumeTat;
+        }
+    }
+
+    /**
+     * 아직 멈춰 있는지 (예약 후 기다리는 동안 429 가 난 경우 재예약 판단용)
+     */
+    public synchronized boolean isPaused(long now) {
+        return pausedUntil != Long.MIN_VALUE && pausedUntil - now > 0;
+    }
+
+    /**
+     * 최근에 사용되지 않아 버려도 되는 버킷인지 (예약이 모두 소진됨)
+     */
+    public synchronized boolean isIdle(long now) {
+        return tat == Long.MIN_VALUE || now - tat > burstToleranceNanos + intervalNanos;
+    }
+}
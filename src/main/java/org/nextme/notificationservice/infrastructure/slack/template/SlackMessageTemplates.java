@@ -0,0 +1,82 @@
+package org.nextme.notificationservice.infrastructure.slack.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * chat.postMessage / chat.update 페이로드 템플릿 모음
+ *
+ * - 레이아웃은 resources/slack/templates/*.json, 기동 시 한 번만 컴파일
+ * - 일반 메시지 / 승인·거부 버튼 메시지 / 반복 알림 갱신 / 스레드 답글
+ */
+@Slf4j
+@Component
+public class SlackMessageTemplates {
+
+    private static final String TEMPLATE_DIR = "slack/templates/";
+
+    private final SlackTemplate plainMessage;
+    private final SlackTemplate approvalRequest;
+    private final SlackTemplate alertUpdate;
+    private final SlackTemplate threadReply;
+
+    public SlackMessageTemplates() {
+        this.plainMessage = load("plain-message", "channel", "text");
+        this.approvalRequest = load("approval-request",
+                "channel", "text", "blockId", "approveActionId", "rejectActionId", "actionValue");
+        this.alertUpdate = load("alert-update", "channel", "ts", "text", "status");
+        this.threadReply = load("thread-reply", "channel", "threadTs", "text");
+    }
+
+    /**
+     * 일반 텍스트 메시지
+     */
+    public SlackPayload plainMessage(String channel, String text) {
+        return plainMessage.bind(channel, text);
+    }
+
+    /**
+     * 실행/거부 버튼이 달린 메시지 (action_id 는 {actionId}_approve / {actionId}_reject)
+     */
+    public SlackPayload approvalRequest(String channel, String text, String actionId, String actionValue) {
+        return approvalRequest.bind(
+                channel,
+                text,
+                "actions_block_" + System.currentTimeMillis(),
+                actionId + "_approve",
+                actionId + "_reject",
+                actionValue
+        );
+    }
+
+    /**
+     * 기존 메시지를 덮어쓰는 chat.update 본문 (본문 아래 context 줄에 발생 횟수/마지막 발생 시각 등)
+     */
+    public SlackPayload alertUpdate(String channel, String ts, String text, String status) {
+        return alertUpdate.bind(channel, ts, text, status);
+    }
+
+    /**
+     * 기존 메시지 스레드에 다는 답글
+     */
+    public SlackPayload threadReply(String channel, String threadTs, String text) {
+        return threadReply.bind(channel, threadTs, text);
+    }
+
+    private static SlackTemplate load(String name, String... slots) {
+        try {
+            String json = new ClassPathResource(TEMPLATE_DIR + name + ".json")
+                    .getContentAsString(StandardCharsets.UTF_8);
+            SlackTemplate template = SlackTemplate.compile(name, json, slots);
+            log.info("Compiled Slack template {}", template);
+            return template;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Slack template " + name, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.nextme.notificationservice.infrastructure.slack.template;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * 요청 본문에 바로 써지는 Slack API 페이로드
+ *
+ * - 중간 Map/JsonNode 없이 JsonGenerator 로 직접 직렬화
+ * - 여러 번 써도 같은 결과 (rate limit 재시도 시 다시 씀)
+ */
+@FunctionalInterface
+public interface SlackPayload {
+
+    void writeTo(JsonGenerator generator) throws IOException;
+}
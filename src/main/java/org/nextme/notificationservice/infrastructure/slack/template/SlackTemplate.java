@@ -0,0 +1,126 @@
+package org.nextme.notificationservice.infrastructure.slack.template;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 Slack 페이로드 템플릿
+ *
+ * - JSON 레이아웃을 한 번 파싱해서 토큰 단위 쓰기 명령 배열로 변환
+ * - 필드 이름/상수 값은 SerializedString 으로 미리 인코딩 → 렌더링 시 바이트 복사만
+ * - "{{name}}" 형태의 문자열 값만 자리표시자로 취급 (값 전체가 자리표시자여야 함)
+ * - 렌더링 시 Map/List 트리를 만들지 않고 JsonGenerator 로 바로 씀
+ */
+public final class SlackTemplate {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String name;
+    private final List<String> slots;
+    private final Op[] ops;
+
+    private SlackTemplate(String name, List<String> slots, Op[] ops) {
+        this.name = name;
+        this.slots = slots;
+        this.ops = ops;
+    }
+
+    /**
+     * @param name  로그/예외용 이름
+     * @param json  레이아웃 JSON
+     * @param slots bind() 에 넘길 값의 순서대로 나열한 자리표시자 이름
+     */
+    public static SlackTemplate compile(String name, String json, String... slots) {
+        List<String> slotNames = List.of(slots);
+        List<Op> ops = new ArrayList<>();
+        boolean[] used = new boolean[slots.length];
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT -> ops.add((g, v) -> g.writeStartObject());
+                    case END_OBJECT -> ops.add((g, v) -> g.writeEndObject());
+                    case START_ARRAY -> ops.add((g, v) -> g.writeStartArray());
+                    case END_ARRAY -> ops.add((g, v) -> g.writeEndArray());
+                    case FIELD_NAME -> {
+                        SerializedString fieldName = new SerializedString(parser.currentName());
+                        ops.add((g, v) -> g.writeFieldName(fieldName));
+                    }
+                    case VALUE_STRING -> {
+                        String text = parser.getText();
+                        String slot = slotName(text);
+                        if (slot == null) {
+                            SerializedString constant = new SerializedString(text);
+                            ops.add((g, v) -> g.writeString(constant));
+                        } else {
+                            int index = slotNames.indexOf(slot);
+                            if (index < 0) {
+                                throw new IllegalArgumentException("Undeclared slot {{" + slot + "}} in template " + name);
+                            }
+                            used[index] = true;
+                            ops.add((g, v) -> g.writeString(v[index]));
+                        }
+                    }
+                    case VALUE_NUMBER_INT -> {
+                        long number = parser.getLongValue();
+                        ops.add((g, v) -> g.writeNumber(number));
+                    }
+                    case VALUE_TRUE -> ops.add((g, v) -> g.writeBoolean(true));
+                    case VALUE_FALSE -> ops.add((g, v) -> g.writeBoolean(false));
+                    case VALUE_NULL -> ops.add((g, v) -> g.writeNull());
+                    default -> throw new IllegalArgumentException("Unsupported token " + token + " in template " + name);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid Slack template " + name, e);
+        }
+
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i]) {
+                throw new IllegalArgumentException("Slot {{" + slots[i] + "}} is not used in template " + name);
+            }
+        }
+        return new SlackTemplate(name, slotNames, ops.toArray(Op[]::new));
+    }
+
+    /**
+     * 자리표시자 값을 묶어 페이로드 생성 (값은 compile 때 선언한 slots 순서, null 이면 JSON null)
+     */
+    public SlackPayload bind(String... values) {
+        if (values.length != slots.size()) {
+            throw new IllegalArgumentException(
+                    "Template " + name + " expects " + slots + " but got " + values.length + " values");
+        }
+        return generator -> {
+            for (Op op : ops) {
+                op.write(generator, values);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "SlackTemplate[" + name + ", slots=" + slots + ", ops=" + ops.length + "]";
+    }
+
+    private static String slotName(String text) {
+        if (text.length() > 4 && text.startsWith("{{") && text.endsWith("}}")) {
+            return text.substring(2, text.length() - 2).trim();
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        void write(JsonGenerator generator, String[] values) throws IOException;
+    }
+}
@@ -0,0 +1,89 @@
+package org.nextme.notificationservice.infrastructure.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.domain.ChannelAdapter;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 범용 webhook 채널 어댑터
+ *
+ * - 수신자 webhook:<이름> → notification.channels.webhook.endpoints.<이름> 에 설정된 URL 로 POST
+ * - 임의 URL 은 받지 않음 (설정된 endpoint 만 호출)
+ * - 본문은 {"text": ..., "priority": ...} (Slack/Mattermost incoming webhook 과 호환되는 text 필드)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.channels.webhook.enabled", havingValue = "true")
+public class WebhookChannelAdapter implements ChannelAdapter {
+
+    public static final String CHANNEL = "webhook";
+    public static final String PREFIX = "webhook:";
+
+    private final RestClient webhookRestClient;
+
+    /**
+     * endpoint 이름 → URL
+     */
+    private final Map<String, URI> endpoints;
+
+    public WebhookChannelAdapter(@Qualifier("webhookRestClient") RestClient webhookRestClient, Environment environment) {
+        this.webhookRestClient = webhookRestClient;
+        this.endpoints = Binder.get(environment)
+                .bind("notification.channels.webhook.endpoints", Bindable.mapOf(String.class, URI.class))
+                .orElse(Map.of());
+        log.info("Webhook endpoints: {}", endpoints.keySet());
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public boolean accepts(String recipient) {
+        return recipient.startsWith(PREFIX);
+    }
+
+    @Override
+    public SendReport send(List<String> recipients, String message, NotificationPriority priority) {
+        return new SendReport(recipients.stream().map(recipient -> sendTo(recipient, message, priority)).toList());
+    }
+
+    private RecipientResult sendTo(String recipient, String message, NotificationPriority priority) {
+        URI endpoint = endpoints.get(recipient.substring(PREFIX.length()));
+        if (endpoint == null) {
+            return RecipientResult.failed(recipient, "unknown_webhook");
+        }
+
+        try {
+            webhookRestClient.post()
+                    .uri(endpoint)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("text", message, "priority", priority.name()))
+                    .retrieve()
+                    .toBodilessEntity();
+            return RecipientResult.delivered(recipient);
+        } catch (RestClientResponseException e) {
+            log.warn("Webhook {} responded {}", recipient, e.getStatusCode());
+            return RecipientResult.failed(recipient, "http_" + e.getStatusCode().value());
+        } catch (Exception e) {
+            log.error("Error while calling webhook {}", recipient, e);
+            return RecipientResult.failed(recipient, e.getClass().getSimpleName());
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package org.nextme.notificationservice.presentation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteraction;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteractionHandler;
+import org.nextme.notificationservice.infrastructure.slack.SlackSignatureVerifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestClient;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Slack Interactive 메시지 Callback 처리 Controller
  */
@@ -20,82 +29,84 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class SlackCallbackController {
 
     private final ObjectMapper objectMapper;
-    private final RestClient.Builder restClientBuilder;
-
-    @Value("${promotion.service.url}")
-    private String promotionServiceUrl;
+    private final SlackInteractionHandler interactionHandler;
+    private final MeterRegistry meterRegistry;
+    private final SlackSignatureVerifier signatureVerifier;
 
     /**
      * Slack Interactive 메시지 버튼 클릭 Callback
      * Slack은 application/x-www-form-urlencoded 형식으로 payload를 전송
+     *
+     * 서명(X-Slack-Signature)은 원본 body 로 계산하므로 @RequestParam 대신 body 를 직접 읽어 검증한 뒤 payload 를 꺼냄
+     * (서명이 틀리거나 오래된 요청은 401, 아무것도 실행하지 않음)
+     *
+     * Slack은 3초 내에 200 OK 응답을 기대하므로 파싱 + 중복 검사 + 큐 적재만 하고 바로 응답
+     * (remediation 호출과 결과 메시지 갱신은 SlackInteractionHandler 가 백그라운드에서 처리)
      */
     @PostMapping("/interactive")
-    public ResponseEntity<Void> handleInteractive(@RequestParam("payload") String payload) {
+    public ResponseEntity<Void> handleInteractive(
+            @RequestHeader(value = SlackSignatureVerifier.TIMESTAMP_HEADER, required = false) String timestamp,
+            @RequestHeader(value = SlackSignatureVerifier.SIGNATURE_HEADER, required = false) String signature,
+            HttpServletRequest request
+    ) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
         try {
+            byte[] body = request.getInputStream().readAllBytes();
+            if (!signatureVerifier.verify(timestamp, signature, body)) {
+                outcome = "unauthorized";
+                log.warn("Rejected Slack interactive callback with missing or invalid signature");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            String payload = formParameter(body, "payload");
+            if (payload == null) {
+                outcome = "bad_request";
+                return ResponseEntity.badRequest().build();
+            }
             log.info("Received Slack interactive callback");
 
             // JSON 파싱
             JsonNode json = objectMapper.readTree(payload);
+            SlackInteraction interaction = SlackInteraction.from(json);
 
-            // action_id 추출
-            String actionId = json.path("actions").get(0).path("action_id").asText();
-            String actionValue = json.path("actions").get(0).path("value").asText();
-            String userId = json.path("user").path("id").asText();
-
-            log.info("Slack callback - actionId: {}, actionValue: {}, userId: {}", actionId, actionValue, userId);
-
-            // actionId가 "monitoring_action_approve"이면 실행
-            if (actionId.endsWith("_approve")) {
-                log.info("User approved remediation action: {}, approvedBy: {}", actionValue, userId);
+            log.info("Slack callback - actionId: {}, actionValue: {}, userId: {}",
+                    interaction.actionId(), interaction.actionValue(), interaction.userId());
 
-                // promotion-service의 remediation API 호출
-                callRemediationAPI(actionValue, userId);
+            SlackInteractionHandler.Acceptance acceptance = interactionHandler.accept(interaction);
+            outcome = acceptance.name().toLowerCase();
 
-            } else if (actionId.endsWith("_reject")) {
-                log.info("User rejected remediation action: {}", actionValue);
+            if (acceptance == SlackInteractionHandler.Acceptance.REJECTED) {
+                return ResponseEntity.status(503).build();
             }
-
-            // Slack은 3초 내에 200 OK 응답을 기대
+            // 중복 재전송도 200 으로 응답해야 Slack 이 더 이상 재시도하지 않음
             return ResponseEntity.ok().build();
 
         } catch (Exception e) {
             log.error("Failed to process Slack interactive callback", e);
             return ResponseEntity.internalServerError().build();
+        } finally {
+            Timer.builder("slack.callback.ack")
+                    .description("Slack interactive callback 응답까지 걸린 시간")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
     }
 
     /**
-     * promotion-service의 remediation API 호출
+     * application/x-www-form-urlencoded body 에서 파라미터 값 (없으면 null)
      */
-    private void callRemediationAPI(String actionType, String approvedBy) {
-        try {
-            log.info("Calling remediation API - actionType: {}, approvedBy: {}", actionType, approvedBy);
-
-            RestClient client = restClientBuilder.baseUrl(promotionServiceUrl).build();
-
-            ResponseEntity<JsonNode> response = client.post()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/v1/promotions/monitoring/remediation/execute")
-                    .queryParam("actionType", actionType)
-                    .queryParam("approvedBy", approvedBy)
-                    .build())
-                .retrieve()
-                .toEntity(JsonNode.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                JsonNode body = response.getBody();
-                if (body != null) {
-                    boolean success = body.path("success").asBoolean(false);
-                    String message = body.path("message").asText();
-                    log.info("Remediation executed - success: {}, message: {}", success, message);
-                }
-            } else {
-                log.warn("Remediation API call failed with status: {}", response.getStatusCode());
+    private static String formParameter(byte[] body, String name) {
+        for (String pair : new String(body, StandardCharsets.UTF_8).split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
             }
-
-        } catch (Exception e) {
-            log.error("Failed to call remediation API", e);
         }
+        return null;
     }
 
 }
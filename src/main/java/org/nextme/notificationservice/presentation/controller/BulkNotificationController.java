@@ -0,0 +1,207 @@
+package org.nextme.notificationservice.presentation.controller;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.nextme.notificationservice.application.NotificationDelivery;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.OutboundNotification;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.presentation.dto.BulkAcceptResponse;
+import org.nextme.notificationservice.presentation.dto.SlackUserMessageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대량 알림 접수 API (알림을 많이 보내는 서비스용)
+ *
+ * - 본문: SlackUserMessageRequest 의 JSON 배열 또는 NDJSON (한 줄에 하나)
+ * - 본문 전체를 메모리에 올리지 않고 스트리밍 파서로 한 건씩 읽어서 chunk 단위로 전송 큐(또는 아웃박스)에 접수
+ * - 전송 큐가 가득 차면 자리가 날 때까지 기다림 → 그동안 본문을 읽지 않으므로 클라이언트 업로드도 느려짐 (backpressure)
+ *   기다리는 시간은 요청 하나에 queue-wait 까지 (chunk/항목마다 새로 주지 않음), 다 쓰면 남은 항목은 자리가 없을 때 바로 거절
+ * - 항목별 접수 결과를 돌려줌 (잘못된 항목만 거절, 나머지는 접수)
+ * - 항목 하나의 수신자는 max-recipients 명, 수신자 하나는 NotificationMessage.RECIPIENT_LENGTH 자까지 (아웃박스에 저장할 수 있는 크기)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/notifications")
+public class BulkNotificationController {
+
+    private static final String MALFORMED_JSON = "malformed_json";
+
+    private final NotificationService notificationService;
+    private final ObjectReader requestReader;
+
+    private final int chunkSize;
+    private final int maxItems;
+    private final int maxRecipients;
+    private final Duration queueWait;
+
+    private final Counter acceptedItems;
+    private final Counter rejectedItems;
+
+    public BulkNotificationController(
+            NotificationService notificationService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.ingest.chunk-size:100}") int chunkSize,
+            @Value("${notification.ingest.max-items:10000}") int maxItems,
+            @Value("${notification.ingest.max-recipients:1000}") int maxRecipients,
+            @Value("${notification.ingest.queue-wait:5s}") Duration queueWait
+    ) {
+        this.notificationService = notificationService;
+        this.requestReader = objectMapper.readerFor(SlackUserMessageRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+        this.maxRecipients = maxRecipients;
+        this.queueWait = queueWait;
+
+        this.acceptedItems = itemCounter(meterRegistry, "accepted");
+        this.rejectedItems = itemCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 여러 알림을 한 번에 접수
+     *
+     * POST /v1/notifications/slack/users/bulk
+     * Content-Type: application/x-ndjson
+     *
+     * {"slackUserIds":["U1"],"text":"배포 완료"}
+     * {"slackUserIds":["U2","U3"],"text":"점검 예정","priority":"LOW"}
+     *
+     * (application/json 이면 같은 항목들의 배열)
+     *
+     * - 200 + 항목별 결과, complete=false(too_many_items) 면 error 이후 항목은 처리하지 않았으므로 그 뒤부터 다시 보내야 함
+     * - 400 + 항목별 결과: JSON 문법 오류(malformed_json), 오류 전까지 읽은 항목은 결과대로 접수됨
+     * - 한 요청에 최대 notification.ingest.max-items 건, 항목 하나에 수신자 최대 notification.ingest.max-recipients 명
+     *   (넘으면 그 항목만 too_many_recipients 로 거절)
+     */
+    @PostMapping(
+            path = "/slack/users/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public ResponseEntity<BulkAcceptResponse> acceptBulk(InputStream body) throws IOException {
+        List<BulkAcceptResponse.Item> items = new ArrayList<>();
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        String error = null;
+        long deadline = System.nanoTime() + queueWait.toNanos();
+
+        // 루트가 배열이면 원소를, 아니면 연속된 루트 값(NDJSON)을 차례로 읽음
+        try (MappingIterator<SlackUserMessageRequest> requests = requestReader.readValues(body)) {
+            int index = 0;
+            while (requests.hasNextValue()) {
+                if (index >= maxItems) {
+                    error = "too_many_items";
+                    break;
+                }
+
+                try {
+                    SlackUserMessageRequest request = requests.nextValue();
+                    String invalid = validate(request);
+                    if (invalid != null) {
+                        items.add(BulkAcceptResponse.Item.rejected(index, invalid));
+                    } else {
+                        chunk.add(new Pending(index, toOutbound(request)));
+                    }
+                } catch (DatabindException e) {
+                    // 필드 타입이 틀린 항목만 거절하고 다음 항목부터 계속 (iterator 가 항목 끝까지 건너뜀)
+                    items.add(BulkAcceptResponse.Item.rejected(index, "invalid_request"));
+                }
+                index++;
+
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, items, deadline);
+                }
+            }
+        } catch (StreamReadException e) {
+            // JSON 문법 오류 이후는 항목 경계를 알 수 없으므로 중단
+            error = MALFORMED_JSON;
+        }
+        flush(chunk, items, deadline);
+
+        items.sort((left, right) -> Integer.compare(left.index(), right.index()));
+        int accepted = (int) items.stream().filter(item -> item.deliveryId() != null).count();
+        int rejected = items.size() - accepted;
+        acceptedItems.increment(accepted);
+        rejectedItems.increment(rejected);
+        if (error != null) {
+            log.warn("Bulk notification request stopped after {} items: {}", items.size(), error);
+        }
+
+        BulkAcceptResponse response = new BulkAcceptResponse(accepted, rejected, error == null, error, items);
+        return MALFORMED_JSON.equals(error)
+                ? ResponseEntity.badRequest().body(response)
+                : ResponseEntity.ok(response);
+    }
+
+    private void flush(List<Pending> chunk, List<BulkAcceptResponse.Item> items, long deadline) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        List<Optional<NotificationDelivery>> deliveries = notificationService.acceptAll(
+                chunk.stream().map(Pending::notification).toList(), remaining);
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i).index();
+            items.add(deliveries.get(i)
+                    .map(delivery -> BulkAcceptResponse.Item.accepted(index, delivery.id()))
+                    .orElseGet(() -> BulkAcceptResponse.Item.rejected(index, "queue_full")));
+        }
+        chunk.clear();
+    }
+
+    private String validate(SlackUserMessageRequest request) {
+        if (request == null || request.recipients().isEmpty()
+                || request.text() == null || request.text().isBlank()) {
+            return "invalid_request";
+        }
+        if (!request.hasValidPriority()) {
+            return "invalid_priority";
+        }
+        List<String> recipients = request.recipients();
+        if (recipients.size() > maxRecipients) {
+            return "too_many_recipients";
+        }
+        if (!recipients.stream().allMatch(recipient -> recipient != null && !recipient.isBlank()
+                && recipient.length() <= NotificationMessage.RECIPIENT_LENGTH)) {
+            return "invalid_recipient";
+        }
+        return null;
+    }
+
+    private static OutboundNotification toOutbound(SlackUserMessageRequest request) {
+        NotificationPriority priority = NotificationPriority.resolve(NotificationPriority.of(request.priority()), false);
+        return new OutboundNotification(request.recipients(), request.text(), priority);
+    }
+
+    private static Counter itemCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.ingest.items")
+                .description("bulk API 로 받은 알림 항목 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접수 대기 중인 항목 (본문 순서 유지용)
+     */
+    private record Pending(int index, OutboundNotification notification) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.nextme.notificationservice.presentation.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.infrastructure.kafka.dlt.MonitoringDeadLetterReplayer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 모니터링 알림 dead-letter 토픽 운영 API
+ */
+@RestController
+@RequestMapping("/v1/notifications/admin/dlt")
+@RequiredArgsConstructor
+public class DeadLetterAdminController {
+
+    private static final int MAX_REPLAY = 100_000;
+
+    private final MonitoringDeadLetterReplayer replayer;
+
+    /**
+     * 아직 재처리하지 않은 DLT 레코드를 원본 토픽으로 일괄 재발행
+     *
+     * POST /v1/notifications/admin/dlt/replay?max=1000
+     *
+     * - 200: 재발행 결과 (dltTopic, targetTopic, replayed)
+     * - 409: 이미 다른 replay 가 진행 중
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<MonitoringDeadLetterReplayer.ReplayResult> replay(
+            @RequestParam(name = "max", defaultValue = "1000") int max
+    ) {
+        if (max <= 0 || max > MAX_REPLAY) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        MonitoringDeadLetterReplayer.ReplayResult result = replayer.replay(max);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,11 +1,25 @@
 package org.nextme.notificationservice.presentation.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.application.NotificationScheduler;
 import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.ScheduledNotification;
+import org.nextme.notificationservice.presentation.dto.DeliveryStatusResponse;
+import org.nextme.notificationservice.presentation.dto.ScheduledNotificationRequest;
+import org.nextme.notificationservice.presentation.dto.ScheduledNotificationResponse;
 import org.nextme.notificationservice.presentation.dto.SlackUserMessageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * 알림(Notification) REST API
  *
@@ -18,23 +32,46 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationScheduler notificationScheduler;
+
+    /**
+     * async 파라미터를 생략했을 때의 기본 동작 (false 면 기존처럼 동기 전송)
+     */
+    @Value("${notification.dispatch.async-default:false}")
+    private boolean asyncDefault;
 
     /**
      * 여러 유저에게 Slack DM / 그룹 DM 전송
      *
      * POST /v1/notifications/slack/users
+     * POST /v1/notifications/slack/users?async=true  → 큐에 넣고 바로 202 + deliveryId 응답
      *
      * 예:
      * {
      *   "slackUserIds": ["U09LQLP1YEQ"],
-     *   "text": "테스트 메시지입니다."
+     *   "userIds": ["6f1c2b1e-..."],   // 선택: 내부 사용자 ID (Slack ID 는 수신자 디렉터리에서 조회)
+     *   "emails": ["dev@next-me.org"], // 선택: 사용자 이메일
+     *   "text": "테스트 메시지입니다.",
+     *   "priority": "LOW"        // 선택: HIGH / NORMAL / LOW (생략하면 NORMAL, 그 밖의 값은 400)
      * }
      */
     @PostMapping("/slack/users")
-    public ResponseEntity<Void> sendToUsers(@RequestBody SlackUserMessageRequest request) {
+    public ResponseEntity<?> sendToUsers(
+            @RequestBody SlackUserMessageRequest request,
+            @RequestParam(name = "async", required = false) Boolean async
+    ) {
+        if (!request.hasValidPriority()) {
+            return ResponseEntity.badRequest().build();
+        }
+        NotificationPriority priority = NotificationPriority.resolve(NotificationPriority.of(request.priority()), false);
+        if (async != null ? async : asyncDefault) {
+            return acceptToUsers(request, priority);
+        }
+
         boolean ok = notificationService.sendToUsers(
-                request.slackUserIds(),
-                request.text()
+                request.recipients(),
+                request.text(),
+                priority
         );
 
         // 전송 성공/실패에 따라 HTTP 상태 코드 분기
@@ -45,4 +82,105 @@ public class NotificationController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * 비동기 전송 상태 조회
+     *
+     * GET /v1/notifications/deliveries/{deliveryId}
+     */
+    @GetMapping("/deliveries/{deliveryId}")
+    public ResponseEntity<DeliveryStatusResponse> getDelivery(@PathVariable UUID deliveryId) {
+        return notificationService.findDelivery(deliveryId)
+                .map(DeliveryStatusResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 지정한 시각(또는 지연 후)에 보낼 알림 예약
+     *
+     * POST /v1/notifications/scheduled  → 201 + Location: /v1/notifications/scheduled/{scheduledId}
+     *
+     * 예:
+     * {
+     *   "slackUserIds": ["U09LQLP1YEQ"],
+     *   "text": "회의 10분 전입니다.",
+     *   "deliverAt": "2026-01-05T09:50:00+09:00"  // 또는 "delay": "PT10M"
+     * }
+     *
+     * - 보낼 시각이 이미 지났으면 바로 보냄
+     * - max-delay(notification.schedule.max-delay)보다 먼 예약, 수신자가 1000명을 넘는 요청은 400
+     */
+    @PostMapping("/scheduled")
+    public ResponseEntity<ScheduledNotificationResponse> schedule(@RequestBody ScheduledNotificationRequest request) {
+        List<String> recipients = request.recipients();
+        Instant fireAt = request.fireAt();
+        if (!request.isValid() || fireAt == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        boolean interactive = request.actionId() != null && !request.actionId().isBlank();
+        NotificationPriority priority = NotificationPriority.resolve(NotificationPriority.of(request.priority()), interactive);
+        ScheduledNotification scheduled;
+        try {
+            scheduled = notificationScheduler.schedule(ScheduledNotification.create(UUID.randomUUID(), recipients,
+                    request.text(), priority, request.actionId(), request.actionValue(), request.alertKey(), false, fireAt));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            // 대기 중인 예약이 너무 많음: 잠시 후 재시도 요청
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+
+        return ResponseEntity
+                .created(URI.create("/v1/notifications/scheduled/" + scheduled.getId()))
+                .body(ScheduledNotificationResponse.from(scheduled));
+    }
+
+    /**
+     * 예약 상태 조회 (보낸 예약은 404)
+     *
+     * GET /v1/notifications/scheduled/{scheduledId}
+     */
+    @GetMapping("/scheduled/{scheduledId}")
+    public ResponseEntity<ScheduledNotificationResponse> getScheduled(@PathVariable UUID scheduledId) {
+        return notificationScheduler.find(scheduledId)
+                .map(ScheduledNotificationResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 아직 보내지 않은 예약 취소
+     *
+     * DELETE /v1/notifications/scheduled/{scheduledId}  → 204 (이미 보냈거나 없으면 404)
+     */
+    @DeleteMapping("/scheduled/{scheduledId}")
+    public ResponseEntity<Void> cancelScheduled(@PathVariable UUID scheduledId) {
+        return notificationScheduler.cancel(scheduledId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 요청 검증 후 전송 큐에 접수 (Slack 호출을 기다리지 않음)
+     */
+    private ResponseEntity<?> acceptToUsers(SlackUserMessageRequest request, NotificationPriority priority) {
+        List<String> recipients = request.recipients();
+        if (recipients.isEmpty() || request.text() == null || request.text().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return notificationService.acceptForUsers(recipients, request.text(), priority)
+                .<ResponseEntity<?>>map(delivery -> ResponseEntity
+                        .accepted()
+                        .location(URI.create("/v1/notifications/deliveries/" + delivery.id()))
+                        .body(DeliveryStatusResponse.from(delivery)))
+                // 큐가 가득 찬 경우: 잠시 후 재시도 요청
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
 }
@@ -0,0 +1,59 @@
+package org.nextme.notificationservice.presentation.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.nextme.notificationservice.application.NotificationHistoryService;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.presentation.dto.NotificationHistoryResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 전송 이력 조회 API
+ */
+@RestController
+@RequestMapping("/v1/notifications/history")
+@RequiredArgsConstructor
+public class NotificationHistoryController {
+
+    private final NotificationHistoryService historyService;
+
+    /**
+     * 전송 이력 최신순 조회 (keyset 페이지네이션)
+     *
+     * GET /v1/notifications/history?recipient=U09LQLP1YEQ&status=FAILED&from=2025-01-01T00:00:00&size=50
+     * GET /v1/notifications/history?recipient=U09LQLP1YEQ&cursor={이전 응답의 nextCursor}
+     *
+     * - 다음 페이지는 같은 조건 + cursor 로 요청 (page 번호/OFFSET 없음)
+     * - from 을 생략하면 to(기본: 현재)로부터 notification.history.default-range 만큼
+     */
+    @GetMapping
+    public ResponseEntity<NotificationHistoryResponse> find(
+            @RequestParam(name = "recipient", required = false) String recipient,
+            @RequestParam(name = "status", required = false) MessageStatus status,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        if (size <= 0 || size > NotificationHistoryService.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            NotificationHistoryService.Page page = historyService.find(recipient, status, from, to, cursor, size);
+            return ResponseEntity.ok(NotificationHistoryResponse.from(page));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.nextme.notificationservice.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * bulk 접수 응답 DTO
+ */
+public record BulkAcceptResponse(
+        int accepted,               // 접수된 건수
+        int rejected,               // 거절된 건수
+        boolean complete,           // 본문 끝까지 처리했는지 (false 면 error 이후 항목은 읽지 않음)
+        String error,               // 본문 처리를 멈춘 이유 (malformed_json / too_many_items, 끝까지 처리했으면 null)
+        List<Item> items            // 항목별 결과 (본문 순서)
+) {
+
+    /**
+     * 항목 하나의 접수 결과
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(
+            int index,              // 본문 안에서의 순서 (0부터)
+            String status,          // ACCEPTED / REJECTED
+            UUID deliveryId,        // 접수된 경우 전달 ID (GET /v1/notifications/deliveries/{deliveryId})
+            String error            // 거절 사유 (invalid_request / invalid_priority / queue_full)
+    ) {
+
+        public static Item accepted(int index, UUID deliveryId) {
+            return new Item(index, "ACCEPTED", deliveryId, null);
+        }
+
+        public static Item rejected(int index, String error) {
+            return new Item(index, "REJECTED", null, error);
+        }
+    }
+}
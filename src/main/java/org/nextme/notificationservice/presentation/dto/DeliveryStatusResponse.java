@@ -0,0 +1,27 @@
+package org.nextme.notificationservice.presentation.dto;
+
+import org.nextme.notificationservice.application.NotificationDelivery;
+import org.nextme.notificationservice.domain.MessageStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 알림 전송 상태 응답 DTO
+ */
+public record DeliveryStatusResponse(
+        UUID deliveryId,            // 전달 ID
+        MessageStatus status,       // PENDING / SENDING / SUCCESS / FAILED
+        LocalDateTime acceptedAt,   // 접수 시각
+        LocalDateTime completedAt   // 완료 시각 (진행 중이면 null)
+) {
+
+    public static DeliveryStatusResponse from(NotificationDelivery delivery) {
+        return new DeliveryStatusResponse(
+                delivery.id(),
+                delivery.status(),
+                delivery.acceptedAt(),
+                delivery.completedAt()
+        );
+    }
+}
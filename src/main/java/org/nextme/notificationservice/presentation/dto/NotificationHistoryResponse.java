@@ -0,0 +1,46 @@
+package org.nextme.notificationservice.presentation.dto;
+
+import org.nextme.notificationservice.application.NotificationHistoryService;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 알림 전송 이력 페이지 응답 DTO
+ */
+public record NotificationHistoryResponse(
+        List<Item> items,       // 최신순
+        String nextCursor       // 다음 페이지 커서 (마지막 페이지면 null)
+) {
+
+    public static NotificationHistoryResponse from(NotificationHistoryService.Page page) {
+        return new NotificationHistoryResponse(
+                page.items().stream().map(Item::from).toList(),
+                page.nextCursor()
+        );
+    }
+
+    public record Item(
+            UUID historyId,
+            String recipient,       // Slack user/channel ID
+            MessageStatus status,   // SUCCESS / FAILED
+            String error,           // 실패 사유
+            String message,
+            LocalDateTime sentAt
+    ) {
+
+        static Item from(NotificationHistory history) {
+            return new Item(
+                    history.getId(),
+                    history.getRecipient(),
+                    history.getStatus(),
+                    history.getError(),
+                    history.getMessage(),
+                    history.getSentAt()
+            );
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.nextme.notificationservice.presentation.dto;
+
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.ScheduledNotification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약(지연) 알림 요청 DTO
+ *
+ * 보낼 시각은 deliverAt(절대 시각) 또는 delay(지금부터, ex. "PT10M") 중 하나
+ * 수신자는 최대 MAX_RECIPIENTS 명, 수신자 하나는 ScheduledNotification.RECIPIENT_LENGTH 자까지
+ */
+public record ScheduledNotificationRequest(
+        List<String> slackUserIds, // Slack user ID 목록
+        String text,               // 전송할 텍스트
+        String priority,           // HIGH / NORMAL / LOW (생략하면 NORMAL)
+        List<UUID> userIds,        // 내부 사용자 ID 목록
+        List<String> emails,       // 사용자 이메일 목록
+        OffsetDateTime deliverAt,  // 보낼 시각 (ISO-8601, 오프셋 포함)
+        Duration delay,            // 지금부터 기다릴 시간 (deliverAt 이 없을 때)
+        String actionId,           // 선택: 버튼 메시지
+        String actionValue,
+        String alertKey            // 선택: 반복 알림 키 (같은 키면 기존 메시지 갱신)
+) {
+
+    /**
+     * 예약 한 건의 최대 수신자 수 (더 많으면 bulk 접수 API 사용)
+     */
+    public static final int MAX_RECIPIENTS = 1000;
+
+    /**
+     * 저장할 수 있는 요청인지 (수신자 수/길이, 본문, 우선순위)
+     */
+    public boolean isValid() {
+        List<String> recipients = recipients();
+        if (recipients.isEmpty() || recipients.size() > MAX_RECIPIENTS || text == null || text.isBlank()) {
+            return false;
+        }
+        if (priority != null && NotificationPriority.of(priority) == null) {
+            return false;
+        }
+        return recipients.stream().allMatch(recipient -> recipient != null && !recipient.isBlank()
+                && recipient.length() <= ScheduledNotification.RECIPIENT_LENGTH);
+    }
+
+    /**
+     * 전송 채널로 넘길 수신자 목록 (SlackUserMessageRequest 와 같은 규칙)
+     */
+    public List<String> recipients() {
+        return new SlackUserMessageRequest(slackUserIds, text, priority, userIds, emails).recipients();
+    }
+
+    /**
+     * 보낼 시각 (deliverAt, delay 둘 다 없으면 null)
+     */
+    public Instant fireAt() {
+        if (deliverAt != null) {
+            return deliverAt.toInstant();
+        }
+        return delay == null ? null : Instant.now().plus(delay);
+    }
+}
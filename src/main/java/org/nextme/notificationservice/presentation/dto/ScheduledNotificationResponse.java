@@ -0,0 +1,26 @@
+package org.nextme.notificationservice.presentation.dto;
+
+import org.nextme.notificationservice.domain.ScheduledNotification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 예약 알림 상태 응답 DTO
+ */
+public record ScheduledNotificationResponse(
+        UUID scheduledId,                    // 예약 ID (취소/조회 키)
+        ScheduledNotification.Status status, // PENDING / FIRING / FAILED (보낸 예약은 조회되지 않음)
+        Instant fireAt,                // 보낼 시각 (FIRING 이면 선점 만료 시각)
+        Instant createdAt              // 예약 시각
+) {
+
+    public static ScheduledNotificationResponse from(ScheduledNotification scheduled) {
+        return new ScheduledNotificationResponse(
+                scheduled.getId(),
+                scheduled.getStatus(),
+                scheduled.getFireAt(),
+                scheduled.getCreatedAt()
+        );
+    }
+}
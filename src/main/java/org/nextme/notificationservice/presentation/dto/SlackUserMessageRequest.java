@@ -1,11 +1,56 @@
 package org.nextme.notificationservice.presentation.dto;
 
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientDirectory;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Slack 유저들에게 보낼 메세지 요청 DTO
+ *
+ * 수신자는 slackUserIds / userIds / emails 중 하나 이상 (userIds, emails 는 RecipientDirectory 로 Slack ID 를 찾음)
  */
 public record SlackUserMessageRequest(
         List<String> slackUserIds, // Slack user ID 목록
-        String text                // 전송할 텍스트
-) {}
+        String text,               // 전송할 텍스트
+        String priority,           // HIGH / NORMAL / LOW (생략하면 NORMAL)
+        List<UUID> userIds,        // 내부 사용자 ID 목록
+        List<String> emails        // 사용자 이메일 목록
+) {
+
+    public SlackUserMessageRequest(List<String> slackUserIds, String text) {
+        this(slackUserIds, text, null);
+    }
+
+    public SlackUserMessageRequest(List<String> slackUserIds, String text, String priority) {
+        this(slackUserIds, text, priority, null, null);
+    }
+
+    /**
+     * priority 를 생략했거나 HIGH / NORMAL / LOW 중 하나인지 (대소문자 무시)
+     */
+    public boolean hasValidPriority() {
+        return priority == null || NotificationPriority.of(priority) != null;
+    }
+
+    /**
+     * 전송 채널로 넘길 수신자 목록 (userIds, emails 는 user:<값> 으로)
+     */
+    public List<String> recipients() {
+        List<String> recipients = new ArrayList<>();
+        if (slackUserIds != null) {
+            recipients.addAll(slackUserIds);
+        }
+        if (userIds != null) {
+            userIds.forEach(userId -> recipients.add(RecipientDirectory.SCHEME + userId));
+        }
+        if (emails != null) {
+            emails.stream()
+                    .filter(email -> email != null && !email.isBlank())
+                    .forEach(email -> recipients.add(RecipientDirectory.SCHEME + email.trim()));
+        }
+        return recipients;
+    }
+}
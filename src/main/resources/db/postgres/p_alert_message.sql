@@ -0,0 +1,24 @@
+-- 반복 알림 인덱스 (PostgreSQL)
+--
+-- ddl-auto 를 쓰지 않는 환경에서는 배포 전에 이 스크립트로 먼저 생성
+-- 등록/갱신/해소는 SlackRecurringAlerts 가 담당 (AlertMessage 참고)
+-- 등록은 만료 항목 UPDATE 후 INSERT 라서, 동시 등록을 막는 uk_p_alert_message_key_target 이 반드시 있어야 함
+-- target 은 요청에 적힌 채널/유저 ID 라서 이메일 최대 길이(320) 기준 (AlertMessage 와 동일)
+
+CREATE TABLE IF NOT EXISTS p_alert_message (
+    alert_message_id UUID         NOT NULL,
+    alert_key        VARCHAR(200) NOT NULL,
+    target           VARCHAR(320) NOT NULL,
+    channel_id       VARCHAR(50)  NOT NULL,
+    message_ts       VARCHAR(32)  NOT NULL,
+    occurrences      INTEGER      NOT NULL,
+    first_seen_at    TIMESTAMP(6) NOT NULL,
+    last_seen_at     TIMESTAMP(6) NOT NULL,
+    expires_at       TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (alert_message_id),
+    CONSTRAINT uk_p_alert_message_key_target UNIQUE (alert_key, target)
+);
+
+-- 만료 인덱스 purge
+CREATE INDEX IF NOT EXISTS idx_p_alert_message_expires_at
+    ON p_alert_message (expires_at);
@@ -0,0 +1,49 @@
+-- 알림 메시지 / 아웃박스 (PostgreSQL)
+--
+-- p_message 는 이미 있는 테이블이라 아웃박스 컬럼만 추가 (ddl-auto 를 쓰지 않는 환경에서는 배포 전에 실행)
+-- 선점 / 재시도 / 성공·실패 처리는 NotificationOutboxRelay 가 담당 (NotificationMessage 참고)
+-- recipient 는 user:<이메일>, mailto:<주소> 가 들어가므로 이메일 최대 길이(320) 기준 (NotificationMessage 와 동일)
+
+-- Slack ID 만 아는 아웃박스 행은 내부 사용자 ID 가 없음
+ALTER TABLE p_message ALTER COLUMN receiver_user_id DROP NOT NULL;
+
+ALTER TABLE p_message ADD COLUMN IF NOT EXISTS enqueued_at     TIMESTAMP(6);
+ALTER TABLE p_message ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+ALTER TABLE p_message ADD COLUMN IF NOT EXISTS attempts        INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE p_message ADD COLUMN IF NOT EXISTS dedup_key       VARCHAR(200);
+
+-- 수신자 (메시지 한 건에 수신자마다 한 행, position 은 원래 순서)
+CREATE TABLE IF NOT EXISTS p_message_recipient (
+    message_id UUID         NOT NULL REFERENCES p_message (message_id),
+    position   INTEGER      NOT NULL,
+    recipient  VARCHAR(320) NOT NULL,
+    PRIMARY KEY (message_id, position)
+);
+
+-- 수신자를 콤마로 이어 붙인 recipients 컬럼이 있던 버전에서 올라오는 경우: 수신자를 옮기고 컬럼 삭제
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'p_message' AND column_name = 'recipients') THEN
+        INSERT INTO p_message_recipient (message_id, position, recipient)
+        SELECT m.message_id, r.ordinality - 1, r.recipient
+        FROM p_message m
+        CROSS JOIN LATERAL unnest(string_to_array(m.recipients, ',')) WITH ORDINALITY AS r (recipient, ordinality)
+        WHERE m.recipients IS NOT NULL AND m.recipients <> ''
+        ON CONFLICT DO NOTHING;
+        ALTER TABLE p_message DROP COLUMN recipients;
+    END IF;
+END $$;
+
+-- 선점(claimDue): PENDING/SENDING 행만 담는 부분 인덱스라 SUCCESS/FAILED 행이 쌓여도 크기가 늘지 않음
+CREATE INDEX IF NOT EXISTS idx_p_message_claim
+    ON p_message (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+
+-- 기동 시 중복 제거 키 복구(streamDedupKeysSince) / Bloom filter hit 확인(existsByDedupKey...)
+CREATE INDEX IF NOT EXISTS idx_p_message_dedup_key
+    ON p_message (dedup_key, sent_at)
+    WHERE dedup_key IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_p_message_sent_at
+    ON p_message (sent_at);
@@ -0,0 +1,25 @@
+-- 알림 전송 이력 (PostgreSQL, sent_at 기준 일 단위 range 파티션)
+--
+-- ddl-auto 는 일반 테이블을 만들기 때문에 PostgreSQL 에서는 배포 전에 이 스크립트로 먼저 생성
+-- 일별 파티션 생성 / 보존 기간이 지난 파티션 삭제는 NotificationHistoryPartitionManager 가 담당
+-- (notification.history.partitioning.enabled=true)
+--
+-- 파티션 테이블의 PK/UNIQUE 에는 파티션 키가 포함되어야 하므로 PK 는 (sent_at, history_id)
+-- recipient 는 user:<이메일>, mailto:<주소> 가 들어가므로 이메일 최대 길이(320) 기준 (NotificationHistory 와 동일)
+-- 기본(default) 파티션은 만들지 않음: DETACH PARTITION CONCURRENTLY 를 쓰려면 default 파티션이 없어야 함
+
+CREATE TABLE IF NOT EXISTS p_message_history (
+    history_id UUID         NOT NULL,
+    sent_at    TIMESTAMP(6) NOT NULL,
+    recipient  VARCHAR(320) NOT NULL,
+    status     VARCHAR(20)  NOT NULL,
+    error      VARCHAR(200),
+    message    VARCHAR(2000),
+    PRIMARY KEY (sent_at, history_id)
+) PARTITION BY RANGE (sent_at);
+
+-- 부모 테이블 인덱스는 각 파티션에 자동으로 생성됨
+CREATE INDEX IF NOT EXISTS idx_p_message_history_recipient
+    ON p_message_history (recipient, sent_at DESC, history_id DESC);
+CREATE INDEX IF NOT EXISTS idx_p_message_history_status
+    ON p_message_history (status, sent_at DESC, history_id DESC);
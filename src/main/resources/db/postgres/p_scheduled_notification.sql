@@ -0,0 +1,32 @@
+-- 예약(지연) 알림 (PostgreSQL)
+--
+-- ddl-auto 를 쓰지 않는 환경에서는 배포 전에 이 스크립트로 먼저 생성
+-- 상태 전이 / 재시도 / purge 는 NotificationScheduler 가 담당 (ScheduledNotification 참고)
+-- 시각 컬럼은 Instant(UTC) 매핑이라 TIMESTAMPTZ (서버 시간대와 무관)
+
+CREATE TABLE IF NOT EXISTS p_scheduled_notification (
+    scheduled_id UUID         NOT NULL,
+    message      TEXT         NOT NULL,
+    priority     VARCHAR(10)  NOT NULL,
+    action_id    VARCHAR(100),
+    action_value VARCHAR(500),
+    alert_key    VARCHAR(200),
+    resolved     BOOLEAN      NOT NULL DEFAULT FALSE,
+    status       VARCHAR(10)  NOT NULL,
+    fire_at      TIMESTAMPTZ  NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    created_at   TIMESTAMPTZ  NOT NULL,
+    PRIMARY KEY (scheduled_id)
+);
+
+-- 복구(streamTimers) / overdue sweep / purge 조회
+CREATE INDEX IF NOT EXISTS idx_p_scheduled_notification_status_fire_at
+    ON p_scheduled_notification (status, fire_at);
+
+-- 수신자 (예약 한 건에 수신자마다 한 행, position 은 원래 순서)
+CREATE TABLE IF NOT EXISTS p_scheduled_notification_recipient (
+    scheduled_id UUID         NOT NULL REFERENCES p_scheduled_notification (scheduled_id),
+    position     INTEGER      NOT NULL,
+    recipient    VARCHAR(320) NOT NULL,
+    PRIMARY KEY (scheduled_id, position)
+);
@@ -0,0 +1,90 @@
+package org.nextme.notificationservice.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+	private static final long TICK = 10;
+
+	@Test
+	void timersExpireInDeadlineOrderAndNeverEarly() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+		wheel.schedule("late", 55);
+		wheel.schedule("early", 15);
+		wheel.schedule("middle", 30);
+
+		assertThat(wheel.advance(14)).isEmpty();
+		assertThat(wheel.advance(20)).containsExactly("early");
+		assertThat(wheel.advance(29)).isEmpty();
+		assertThat(wheel.advance(30)).containsExactly("middle");
+		assertThat(wheel.advance(59)).isEmpty();
+		assertThat(wheel.advance(60)).containsExactly("late");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void timerFurtherThanOneRevolutionWaitsForItsRound() {
+		// 8 버킷 × 10 = 한 바퀴 80
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+		wheel.schedule("third-round", 250);
+
+		assertThat(wheel.advance(249)).isEmpty();
+		assertThat(wheel.advance(250)).containsExactly("third-round");
+	}
+
+	@Test
+	void pastDeadlineExpiresOnNextAdvance() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+		wheel.advance(100);
+
+		wheel.schedule("overdue", 5);
+
+		assertThat(wheel.advance(100)).isEmpty();
+		assertThat(wheel.advance(110)).containsExactly("overdue");
+	}
+
+	@Test
+	void cancelledTimerNeverExpires() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+		HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 40);
+		wheel.schedule("kept", 40);
+
+		assertThat(wheel.cancel(cancelled)).isTrue();
+		assertThat(wheel.cancel(cancelled)).isFalse();
+		assertThat(wheel.advance(40)).containsExactly("kept");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void manyTimersAllExpireExactlyOnceAfterTheirDeadline() {
+		HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(TICK, 64, 0);
+		int count = 200_000;
+		long[] deadlines = new long[count];
+		for (int i = 0; i < count; i++) {
+			deadlines[i] = ThreadLocalRandom.current().nextLong(1, 10_000);
+			wheel.schedule(i, deadlines[i]);
+		}
+		assertThat(wheel.size()).isEqualTo(count);
+
+		boolean[] expired = new boolean[count];
+		List<Integer> all = new ArrayList<>();
+		for (long now = 0; now <= 10_000; now += TICK) {
+			for (Integer value : wheel.advance(now)) {
+				assertThat(deadlines[value]).isLessThanOrEqualTo(now);
+				assertThat(now - deadlines[value]).isLessThan(TICK);
+				expired[value] = true;
+				all.add(value);
+			}
+		}
+
+		assertThat(all).hasSize(count);
+		assertThat(expired).doesNotContain(false);
+		assertThat(wheel.size()).isZero();
+	}
+}
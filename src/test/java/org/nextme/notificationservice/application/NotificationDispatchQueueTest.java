@@ -0,0 +1,79 @@
+package org.nextme.notificationservice.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationDispatchQueueTest {
+
+	private final MessageSend messageSend = mock(MessageSend.class);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	// lane 마다 워커 1개, 큐 1칸
+	private final NotificationDispatchQueue queue = new NotificationDispatchQueue(
+		messageSend, mock(NotificationHistoryRecorder.class), mock(NotificationSpillover.class), new SimpleMeterRegistry(),
+		1, 1, 1, 1, 1, 1, 100, false);
+
+	@AfterEach
+	void tearDown() throws Exception {
+		release.countDown();
+		queue.shutdown();
+	}
+
+	@Test
+	void acceptedDeliveryMovesFromPendingToSuccess() throws Exception {
+		blockWorkers();
+
+		NotificationDelivery delivery = queue.submit(List.of("U1"), "disk full", NotificationPriority.NORMAL).orElseThrow();
+		assertThat(delivery.status()).isEqualTo(MessageStatus.PENDING);
+		assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+		assertThat(queue.find(delivery.id())).map(NotificationDelivery::status).contains(MessageStatus.SENDING);
+
+		release.countDown();
+		await().atMost(Duration.ofSeconds(2))
+			.until(() -> queue.find(delivery.id()).map(NotificationDelivery::status).orElse(null) == MessageStatus.SUCCESS);
+		assertThat(queue.find(delivery.id()).orElseThrow().completedAt()).isNotNull();
+	}
+
+	@Test
+	void fullLaneRejectsAndForgetsTheDeliveryWhileOtherLanesStillAccept() throws Exception {
+		blockWorkers();
+		queue.submit(List.of("U1"), "in flight", NotificationPriority.NORMAL).orElseThrow();
+		assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+		queue.submit(List.of("U2"), "queued", NotificationPriority.NORMAL).orElseThrow();
+
+		Optional<NotificationDelivery> rejected = queue.submit(List.of("U3"), "no room", NotificationPriority.NORMAL);
+
+		assertThat(rejected).isEmpty();
+		assertThat(queue.submit(List.of("U4"), "approval", NotificationPriority.HIGH)).isPresent();
+	}
+
+	private void blockWorkers() {
+		when(messageSend.send(anyList(), anyString(), any())).thenAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			List<String> ids = invocation.getArgument(0);
+			return new SendReport(ids.stream().map(RecipientResult::delivered).toList());
+		});
+	}
+}
@@ -0,0 +1,39 @@
+package org.nextme.notificationservice.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationHistoryCursorTest {
+
+    @Test
+    void cursorRoundTripsThroughOpaqueString() {
+        NotificationHistoryCursor cursor = new NotificationHistoryCursor(
+                LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(NotificationHistoryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void firstPageCursorExcludesUpperBound() {
+        LocalDateTime to = LocalDateTime.of(2025, 3, 2, 0, 0);
+
+        NotificationHistoryCursor cursor = NotificationHistoryCursor.before(to);
+
+        assertThat(cursor.sentAt()).isEqualTo(to);
+        assertThat(cursor.id()).isEqualTo(new UUID(0L, 0L));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> NotificationHistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package org.nextme.notificationservice.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationMessageRepository;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxRelayTest {
+
+	private static final Duration BACKOFF = Duration.ofSeconds(10);
+
+	private final NotificationMessageRepository repository = mock(NotificationMessageRepository.class);
+	private final MessageSend messageSend = mock(MessageSend.class);
+	private final NotificationOutboxRelay relay = new NotificationOutboxRelay(repository, messageSend,
+		mock(NotificationHistoryRecorder.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+		100, 2, Duration.ofMinutes(5), 3, BACKOFF, false);
+
+	@AfterEach
+	void tearDown() {
+		relay.shutdown();
+	}
+
+	@Test
+	void deliveredRowIsMarkedSuccess() {
+		NotificationMessage row = claimable("U1");
+		when(messageSend.send(anyList(), anyString())).thenReturn(new SendReport(List.of(RecipientResult.delivered("U1"))));
+
+		assertThat(relay.relayChunk()).isEqualTo(1);
+
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.SUCCESS);
+		assertThat(row.getAttempts()).isEqualTo(1);
+	}
+
+	@Test
+	void partialFailureRetriesOnlyFailedRecipientsWithExponentialBackoff() {
+		NotificationMessage row = claimable("U1", "U2");
+		when(messageSend.send(eq(List.of("U1", "U2")), anyString())).thenReturn(new SendReport(List.of(
+			RecipientResult.delivered("U1"), RecipientResult.failed("U2", "channel_not_found"))));
+		when(messageSend.send(eq(List.of("U2")), anyString()))
+			.thenReturn(new SendReport(List.of(RecipientResult.failed("U2", "channel_not_found"))));
+
+		LocalDateTime before = LocalDateTime.now();
+		relay.relayChunk();
+
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.PENDING);
+		assertThat(row.recipientList()).containsExactly("U2");
+		assertThat(row.getNextAttemptAt()).isBetween(before.plus(BACKOFF), LocalDateTime.now().plus(BACKOFF));
+
+		before = LocalDateTime.now();
+		relay.relayChunk();
+
+		// 두 번째 실패는 backoff 두 배
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.PENDING);
+		assertThat(row.getNextAttemptAt())
+			.isBetween(before.plus(BACKOFF.multipliedBy(2)), LocalDateTime.now().plus(BACKOFF.multipliedBy(2)));
+	}
+
+	@Test
+	void givesUpAfterMaxAttempts() {
+		NotificationMessage row = claimable("U1");
+		when(messageSend.send(anyList(), anyString()))
+			.thenReturn(new SendReport(List.of(RecipientResult.failed("U1", "channel_not_found"))));
+
+		relay.relayChunk();
+		relay.relayChunk();
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.PENDING);
+
+		relay.relayChunk();
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.FAILED);
+		assertThat(row.getAttempts()).isEqualTo(3);
+		assertThat(row.getNextAttemptAt()).isNull();
+	}
+
+	@Test
+	void exceptionFromSenderIsRetried() {
+		NotificationMessage row = claimable("U1");
+		when(messageSend.send(anyList(), anyString())).thenThrow(new IllegalStateException("boom"));
+
+		relay.relayChunk();
+
+		assertThat(row.getStatus()).isEqualTo(MessageStatus.PENDING);
+		assertThat(row.recipientList()).containsExactly("U1");
+	}
+
+	@Test
+	void rateLimitedRowWaitsForRetryAfterWhenLongerThanBackoff() {
+		NotificationMessage row = claimable("U1");
+		when(messageSend.send(anyList(), anyString()))
+			.thenReturn(new SendReport(List.of(RecipientResult.rateLimited("U1", Duration.ofMinutes(2)))));
+
+		LocalDateTime before = LocalDateTime.now();
+		relay.relayChunk();
+
+		assertThat(row.getNextAttemptAt()).isAfterOrEqualTo(before.plusMinutes(2));
+	}
+
+	/**
+	 * 선점 조회/결과 반영 조회가 항상 같은 행을 돌려주도록 (DB 없이 상태 전이만 검증)
+	 */
+	private NotificationMessage claimable(String... recipients) {
+		NotificationMessage row = NotificationMessage.pending(List.of(recipients), "disk full");
+		when(repository.claimDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(row));
+		when(repository.findAllById(any())).thenReturn(List.of(row));
+		return row;
+	}
+}
@@ -0,0 +1,162 @@
+package org.nextme.notificationservice.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.ScheduledNotification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationSchedulerTest {
+
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final NotificationScheduler scheduler = new NotificationScheduler(
+		null, null, notificationService, new SimpleMeterRegistry(), false, Duration.ofMillis(10), 64,
+		Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofDays(1), 10, 4,
+		3, Duration.ofMillis(50), Duration.ofMillis(200), Duration.ofDays(7), false);
+
+	@BeforeEach
+	void setUp() {
+		scheduler.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	void firesAfterDelay() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		ScheduledNotification scheduled = scheduler.schedule(notification(Instant.now().plusNanos(200_000_000)));
+
+		verify(notificationService, after(100).never()).deliverDurably(any());
+		verify(notificationService, timeout(2000)).deliverDurably(any(OutboundNotification.class));
+		assertThat(scheduler.find(scheduled.getId())).isEmpty();
+		assertThat(scheduler.pending()).isZero();
+	}
+
+	@Test
+	void cancelledNotificationIsNotSent() {
+		ScheduledNotification scheduled = scheduler.schedule(notification(Instant.now().plusNanos(200_000_000)));
+
+		assertThat(scheduler.cancel(scheduled.getId())).isTrue();
+		assertThat(scheduler.cancel(scheduled.getId())).isFalse();
+		verify(notificationService, after(400).never()).deliverDurably(any());
+	}
+
+	@Test
+	void sameIdempotencyKeyIsScheduledOnce() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		OutboundNotification notification = new OutboundNotification(List.of("U1"), "disk full");
+		Instant fireAt = Instant.now().plusNanos(100_000_000);
+
+		ScheduledNotification first = scheduler.schedule("kafka:monitoring.notification-0@7", notification, fireAt);
+		ScheduledNotification second = scheduler.schedule("kafka:monitoring.notification-0@7", notification, fireAt);
+
+		assertThat(second.getId()).isEqualTo(first.getId());
+		verify(notificationService, timeout(2000).times(1)).deliverDurably(any());
+		verify(notificationService, after(200).times(1)).deliverDurably(any());
+	}
+
+	@Test
+	void rejectsScheduleBeyondMaxDelay() {
+		assertThatThrownBy(() -> scheduler.schedule(notification(Instant.now().plus(Duration.ofDays(2)))))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(notificationService, never()).deliverDurably(any());
+	}
+
+	@Test
+	void retriesOnlyFailedRecipientsWithBackoff() {
+		when(notificationService.deliverDurably(any()))
+			.thenReturn(new Undelivered(List.of("U2"), List.of()))
+			.thenReturn(Undelivered.none());
+		ScheduledNotification scheduled = scheduler.schedule(ScheduledNotification.create(UUID.randomUUID(),
+			List.of("U1", "U2", "U3"), "standup in 10 minutes", NotificationPriority.NORMAL, null, null, null, false,
+			Instant.now()));
+
+		ArgumentCaptor<OutboundNotification> sent = ArgumentCaptor.forClass(OutboundNotification.class);
+		verify(notificationService, timeout(2000).times(2)).deliverDurably(sent.capture());
+		assertThat(sent.getAllValues()).extracting(OutboundNotification::recipients)
+			.containsExactly(List.of("U1", "U2", "U3"), List.of("U2"));
+		assertThat(scheduler.find(scheduled.getId())).isEmpty();
+	}
+
+	@Test
+	void doesNotRetryRecipientsThatCanNeverReceive() {
+		when(notificationService.deliverDurably(any()))
+			.thenReturn(new Undelivered(List.of(), List.of("C404")));
+		ScheduledNotification scheduled = scheduler.schedule(notification(Instant.now()));
+
+		verify(notificationService, timeout(2000)).deliverDurably(any());
+		verify(notificationService, after(300).times(1)).deliverDurably(any());
+		assertThat(scheduler.find(scheduled.getId())).isEmpty();
+	}
+
+	@Test
+	void givesUpAfterMaxAttempts() {
+		when(notificationService.deliverDurably(any())).thenReturn(new Undelivered(List.of("U1"), List.of()));
+		ScheduledNotification scheduled = scheduler.schedule(notification(Instant.now()));
+
+		verify(notificationService, timeout(2000).times(3)).deliverDurably(any());
+		verify(notificationService, after(500).times(3)).deliverDurably(any());
+		assertThat(scheduler.find(scheduled.getId())).isEmpty();
+		assertThat(scheduler.pending()).isZero();
+	}
+
+	@Test
+	void fullFireQueueDefersInsteadOfSendingOnTheTimerThread() throws Exception {
+		// 스레드 1개 + 큐 64 → 70건 중 일부는 넘기지 못함
+		NotificationScheduler saturated = new NotificationScheduler(
+			null, null, notificationService, new SimpleMeterRegistry(), false, Duration.ofMillis(10), 64,
+			Duration.ofMinutes(5), Duration.ofMillis(200), Duration.ofDays(1), 100, 1,
+			3, Duration.ofMillis(50), Duration.ofMillis(200), Duration.ofDays(7), false);
+		CountDownLatch release = new CountDownLatch(1);
+		Set<String> senderThreads = ConcurrentHashMap.newKeySet();
+		when(notificationService.deliverDurably(any())).thenAnswer(invocation -> {
+			senderThreads.add(Thread.currentThread().getName());
+			release.await(5, TimeUnit.SECONDS);
+			return Undelivered.none();
+		});
+		saturated.start();
+		try {
+			for (int i = 0; i < 70; i++) {
+				saturated.schedule(notification(Instant.now()));
+			}
+
+			verify(notificationService, timeout(2000)).deliverDurably(any());
+			release.countDown();
+
+			// 미룬 예약도 overdue-grace 뒤에 다시 올라가 결국 모두 전송
+			verify(notificationService, timeout(5000).times(70)).deliverDurably(any());
+			assertThat(senderThreads).allMatch(name -> name.startsWith("notification-schedule-"));
+		} finally {
+			saturated.shutdown();
+		}
+	}
+
+	private static ScheduledNotification notification(Instant fireAt) {
+		return ScheduledNotification.create(UUID.randomUUID(), List.of("U1"), "standup in 10 minutes",
+			NotificationPriority.NORMAL, null, null, null, false, fireAt);
+	}
+}
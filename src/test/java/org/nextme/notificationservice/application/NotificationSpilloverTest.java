@@ -0,0 +1,194 @@
+package org.nextme.notificationservice.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nextme.notificationservice.domain.InteractiveMessageSend;
+import org.nextme.notificationservice.domain.MessageSend;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.RecurringAlertSend;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationSpilloverTest {
+
+	private final MessageSend messageSend = mock(MessageSend.class);
+	private final InteractiveMessageSend interactiveMessageSend = mock(InteractiveMessageSend.class);
+	private final NotificationScheduler scheduler = mock(NotificationScheduler.class);
+	private final List<NotificationSpillover> spillovers = new ArrayList<>();
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		for (NotificationSpillover spillover : spillovers) {
+			spillover.shutdown();
+		}
+	}
+
+	@Test
+	void spillsOnlyWhenEveryFailureIsCircuitOpen() throws Exception {
+		when(messageSend.send(anyList(), anyString(), any())).thenReturn(circuitOpen("U1"));
+		NotificationSpillover spillover = spillover(Duration.ofHours(1), "");
+
+		SendReport mixed = new SendReport(List.of(
+			RecipientResult.failed("U1", RecipientResult.CIRCUIT_OPEN),
+			RecipientResult.failed("U2", "channel_not_found")));
+
+		assertThat(spillover.spill(mixed, "disk full", NotificationPriority.NORMAL)).isFalse();
+		assertThat(spillover.spill(circuitOpen("U1"), "disk full", NotificationPriority.NORMAL)).isTrue();
+		assertThat(spillover.size()).isEqualTo(1);
+	}
+
+	@Test
+	void drainsFailedRecipientsOnceCircuitCloses() throws Exception {
+		when(messageSend.send(anyList(), anyString(), any()))
+			.thenReturn(circuitOpen("U2"))
+			.thenReturn(new SendReport(List.of(RecipientResult.delivered("U2"))));
+		NotificationSpillover spillover = spillover(Duration.ofMillis(10), "");
+
+		SendReport partial = new SendReport(List.of(
+			RecipientResult.delivered("U1"),
+			RecipientResult.failed("U2", RecipientResult.CIRCUIT_OPEN)));
+		assertThat(spillover.spill(partial, "disk full", NotificationPriority.HIGH)).isTrue();
+
+		// 이미 받은 U1 에게는 다시 보내지 않음
+		verify(messageSend, timeout(2_000).times(2)).send(eq(List.of("U2")), eq("disk full"), eq(NotificationPriority.HIGH));
+		await().atMost(Duration.ofSeconds(2)).until(() -> spillover.size() == 0);
+	}
+
+	@Test
+	void spilledButtonMessageIsResentWithItsButtons() throws Exception {
+		when(interactiveMessageSend.sendWithButtons(anyList(), anyString(), anyString(), anyString(), any()))
+			.thenReturn(new SendReport(List.of(RecipientResult.delivered("U1"))));
+		NotificationSpillover spillover = spillover(Duration.ofMillis(10), "");
+		OutboundNotification approval = new OutboundNotification(List.of("U1", "U2"), "restart api?",
+			NotificationPriority.HIGH, "restart", "api", null, false);
+
+		SendReport partial = new SendReport(List.of(
+			RecipientResult.delivered("U2"),
+			RecipientResult.failed("U1", RecipientResult.CIRCUIT_OPEN)));
+		assertThat(spillover.spill(partial, approval)).isTrue();
+
+		verify(interactiveMessageSend, timeout(2_000)).sendWithButtons(
+			eq(List.of("U1")), eq("restart api?"), eq("restart"), eq("api"), eq(NotificationPriority.HIGH));
+	}
+
+	@Test
+	void rateLimitedRecipientsAreDeferredByRetryAfterInsteadOfQueued() throws Exception {
+		when(scheduler.durable()).thenReturn(true);
+		when(scheduler.defer(any(), any())).thenReturn(true);
+		NotificationSpillover spillover = spillover(Duration.ofHours(1), "");
+
+		SendReport report = new SendReport(List.of(
+			RecipientResult.delivered("U1"),
+			RecipientResult.rateLimited("U2", Duration.ofSeconds(30)),
+			RecipientResult.rateLimited("U3", Duration.ofSeconds(45))));
+
+		assertThat(spillover.spill(report, new OutboundNotification(List.of("U1", "U2", "U3"), "disk full"), true))
+			.isTrue();
+		verify(scheduler).defer(new OutboundNotification(List.of("U2", "U3"), "disk full"), Duration.ofSeconds(45));
+		assertThat(spillover.size()).isZero();
+	}
+
+	@Test
+	void durableSpillRefusesMemoryOnlyTargets() throws Exception {
+		when(scheduler.durable()).thenReturn(false);
+		NotificationSpillover spillover = spillover(Duration.ofHours(1), "");
+		OutboundNotification notification = new OutboundNotification(List.of("U1"), "disk full");
+
+		assertThat(spillover.spill(circuitOpen("U1"), notification, true)).isFalse();
+		assertThat(spillover.spill(new SendReport(List.of(RecipientResult.rateLimited("U1", Duration.ofSeconds(30)))),
+			notification, true)).isFalse();
+		verify(scheduler, never()).defer(any(), any());
+		assertThat(spillover.size()).isZero();
+	}
+
+	@Test
+	void reportsDurabilityOnlyWithAJournalOnDurableStorage() throws Exception {
+		String journal = tempDir.resolve("durable.ndjson").toString();
+
+		assertThat(spillover(Duration.ofHours(1), "", true).durable()).isFalse();
+		assertThat(spillover(Duration.ofHours(1), journal, false).durable()).isFalse();
+		assertThat(spillover(Duration.ofHours(1), journal, true).durable()).isTrue();
+	}
+
+	@Test
+	void refusesToSpillWhatTheJournalCannotRecord() throws Exception {
+		NotificationSpillover spillover = spillover(Duration.ofHours(1), tempDir.resolve("closed.ndjson").toString(), true);
+		spillover.shutdown();
+
+		assertThat(spillover.spill(circuitOpen("U1"), new OutboundNotification(List.of("U1"), "disk full"), true))
+			.isFalse();
+		assertThat(spillover.size()).isZero();
+	}
+
+	@Test
+	void journalKeepsAppendingAfterCompaction() throws Exception {
+		Path file = tempDir.resolve("compacted.ndjson");
+		OutboundNotification kept = new OutboundNotification(List.of("U1"), "kept");
+		OutboundNotification appended = new OutboundNotification(List.of("U2"), "appended");
+
+		try (SpilloverJournal journal = new SpilloverJournal(file, new ObjectMapper())) {
+			journal.append(new OutboundNotification(List.of("U0"), "drained"));
+			journal.rewrite(List.of(kept));
+			journal.append(appended);
+
+			assertThat(journal.load()).containsExactly(kept, appended);
+		}
+	}
+
+	@Test
+	void journalRestoresPendingNotificationsAfterRestart() throws Exception {
+		when(messageSend.send(anyList(), anyString(), any())).thenReturn(circuitOpen("U1"));
+		String journal = tempDir.resolve("spillover.ndjson").toString();
+
+		NotificationSpillover first = spillover(Duration.ofHours(1), journal);
+		first.spill(circuitOpen("U1"), "disk full", NotificationPriority.NORMAL);
+		first.shutdown();
+
+		NotificationSpillover restarted = spillover(Duration.ofHours(1), journal);
+
+		assertThat(restarted.size()).isEqualTo(1);
+	}
+
+	private NotificationSpillover spillover(Duration retryInterval, String journal) throws Exception {
+		return spillover(retryInterval, journal, true);
+	}
+
+	private NotificationSpillover spillover(Duration retryInterval, String journal, boolean journalDurable) throws Exception {
+		NotificationSender sender = new NotificationSender(messageSend, interactiveMessageSend, mock(RecurringAlertSend.class));
+		ObjectProvider<NotificationScheduler> schedulerProvider = mock(ObjectProvider.class);
+		when(schedulerProvider.getIfAvailable()).thenReturn(scheduler);
+		NotificationSpillover spillover = new NotificationSpillover(sender, mock(NotificationHistoryRecorder.class),
+			schedulerProvider, new ObjectMapper(), new SimpleMeterRegistry(), 100, 1_000, retryInterval, journal,
+			journalDurable, false);
+		spillovers.add(spillover);
+		return spillover;
+	}
+
+	private static SendReport circuitOpen(String recipient) {
+		return new SendReport(List.of(RecipientResult.failed(recipient, RecipientResult.CIRCUIT_OPEN)));
+	}
+}
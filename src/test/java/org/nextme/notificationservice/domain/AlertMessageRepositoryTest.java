@@ -0,0 +1,84 @@
+package org.nextme.notificationservice.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 호출처(SlackRecurringAlerts)처럼 바깥 트랜잭션 없이 쿼리마다 커밋
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AlertMessageRepositoryTest {
+
+	@Autowired
+	private AlertMessageRepository repository;
+
+	private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	void registersANewAlert() {
+		UUID id = UUID.randomUUID();
+
+		assertThat(repository.register(id, "api:p99", "U1", "D1", "1.1", now, now.plusHours(1))).isEqualTo(1);
+
+		AlertMessage registered = repository.findByAlertKeyAndTarget("api:p99", "U1").orElseThrow();
+		assertThat(registered.getId()).isEqualTo(id);
+		assertThat(registered.getChannelId()).isEqualTo("D1");
+		assertThat(registered.getMessageTs()).isEqualTo("1.1");
+		assertThat(registered.getOccurrences()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsTheLiveAlertAnotherInstanceRegistered() {
+		UUID first = UUID.randomUUID();
+		repository.register(first, "api:p99", "U1", "D1", "1.1", now, now.plusHours(1));
+		repository.recordOccurrence("api:p99", "U1", now, now.plusHours(1));
+
+		assertThat(repository.register(UUID.randomUUID(), "api:p99", "U1", "D2", "2.2", now, now.plusHours(1)))
+			.isZero();
+
+		AlertMessage kept = repository.findByAlertKeyAndTarget("api:p99", "U1").orElseThrow();
+		assertThat(kept.getId()).isEqualTo(first);
+		assertThat(kept.getMessageTs()).isEqualTo("1.1");
+		assertThat(kept.getOccurrences()).isEqualTo(2);
+	}
+
+	@Test
+	void replacesAnExpiredAlert() {
+		repository.register(UUID.randomUUID(), "api:p99", "U1", "D1", "1.1", now.minusHours(2), now.minusHours(1));
+		repository.recordOccurrence("api:p99", "U1", now.minusHours(2), now.minusHours(1));
+		UUID replacement = UUID.randomUUID();
+
+		assertThat(repository.register(replacement, "api:p99", "U1", "D2", "2.2", now, now.plusHours(1))).isEqualTo(1);
+
+		AlertMessage replaced = repository.findByAlertKeyAndTarget("api:p99", "U1").orElseThrow();
+		assertThat(replaced.getId()).isEqualTo(replacement);
+		assertThat(replaced.getChannelId()).isEqualTo("D2");
+		assertThat(replaced.getMessageTs()).isEqualTo("2.2");
+		assertThat(replaced.getOccurrences()).isEqualTo(1);
+		assertThat(repository.count()).isEqualTo(1);
+	}
+
+	@Test
+	void sameAlertKeyIsIndexedPerTarget() {
+		assertThat(repository.register(UUID.randomUUID(), "api:p99", "U1", "D1", "1.1", now, now.plusHours(1)))
+			.isEqualTo(1);
+		assertThat(repository.register(UUID.randomUUID(), "api:p99", "U2", "D2", "2.2", now, now.plusHours(1)))
+			.isEqualTo(1);
+
+		assertThat(repository.count()).isEqualTo(2);
+	}
+}
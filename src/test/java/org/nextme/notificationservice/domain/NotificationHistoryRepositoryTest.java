@@ -0,0 +1,81 @@
+package org.nextme.notificationservice.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+class NotificationHistoryRepositoryTest {
+
+	private static final UUID MIN_ID = new UUID(0, 0);
+
+	@Autowired
+	private NotificationHistoryRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void pagesThroughRowsSharingTheSameSentAtWithoutGapsOrRepeats() {
+		LocalDateTime sentAt = LocalDateTime.of(2026, 1, 5, 9, 0);
+		List<UUID> expected = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			expected.add(save(RecipientResult.delivered("U1"), sentAt).getId());
+		}
+		UUID older = save(RecipientResult.delivered("U1"), sentAt.minusSeconds(1)).getId();
+		expected.add(older);
+		// 다른 수신자 / to 와 같은 시각(미포함) / from 이전
+		save(RecipientResult.delivered("U2"), sentAt);
+		save(RecipientResult.delivered("U1"), sentAt.plusMinutes(1));
+		save(RecipientResult.delivered("U1"), sentAt.minusDays(1));
+		entityManager.flush();
+		entityManager.clear();
+
+		List<UUID> seen = new ArrayList<>();
+		LocalDateTime cursorSentAt = sentAt.plusMinutes(1);
+		UUID cursorId = MIN_ID;
+		List<NotificationHistory> page;
+		do {
+			page = repository.findPageByRecipient("U1", sentAt.minusHours(1), cursorSentAt, cursorId, Limit.of(2));
+			page.forEach(row -> seen.add(row.getId()));
+			if (!page.isEmpty()) {
+				cursorSentAt = page.get(page.size() - 1).getSentAt();
+				cursorId = page.get(page.size() - 1).getId();
+			}
+		} while (page.size() == 2);
+
+		assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+		assertThat(seen.get(seen.size() - 1)).isEqualTo(older);
+	}
+
+	@Test
+	void statusQueriesOnlyReturnThatStatus() {
+		LocalDateTime sentAt = LocalDateTime.of(2026, 1, 5, 9, 0);
+		UUID failed = save(RecipientResult.failed("U1", RecipientResult.CHANNEL_NOT_FOUND), sentAt).getId();
+		UUID otherFailed = save(RecipientResult.failed("U2", RecipientResult.CHANNEL_NOT_FOUND), sentAt).getId();
+		save(RecipientResult.delivered("U1"), sentAt);
+		entityManager.flush();
+		entityManager.clear();
+
+		LocalDateTime from = sentAt.minusHours(1);
+		LocalDateTime to = sentAt.plusHours(1);
+		assertThat(repository.findPageByRecipientAndStatus("U1", MessageStatus.FAILED, from, to, MIN_ID, Limit.of(10)))
+			.extracting(NotificationHistory::getId).containsExactly(failed);
+		assertThat(repository.findPageByStatus(MessageStatus.FAILED, from, to, MIN_ID, Limit.of(10)))
+			.extracting(NotificationHistory::getId).containsExactlyInAnyOrder(failed, otherFailed);
+		assertThat(repository.findPage(from, to, MIN_ID, Limit.of(10))).hasSize(3);
+	}
+
+	private NotificationHistory save(RecipientResult result, LocalDateTime sentAt) {
+		return entityManager.persist(NotificationHistory.of(result, "disk full", sentAt));
+	}
+}
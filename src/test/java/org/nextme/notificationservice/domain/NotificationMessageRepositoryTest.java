@@ -0,0 +1,84 @@
+package org.nextme.notificationservice.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+class NotificationMessageRepositoryTest {
+
+	@Autowired
+	private NotificationMessageRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void claimDueReturnsDuePendingAndExpiredLeasesInOrder() {
+		LocalDateTime now = LocalDateTime.now();
+		NotificationMessage later = save(NotificationMessage.pending(List.of("U1"), "later"));
+		later.retryAt(now.plusMinutes(1));
+		NotificationMessage retry = save(NotificationMessage.pending(List.of("U2"), "retry"));
+		retry.retryAt(now.minusSeconds(30));
+		NotificationMessage expiredLease = save(NotificationMessage.pending(List.of("U3"), "expired lease"));
+		expiredLease.markSending(now.minusSeconds(10));
+		NotificationMessage activeLease = save(NotificationMessage.pending(List.of("U4"), "active lease"));
+		activeLease.markSending(now.plusMinutes(5));
+		NotificationMessage sent = save(NotificationMessage.pending(List.of("U5"), "sent"));
+		sent.markSuccess();
+		NotificationMessage failed = save(NotificationMessage.pending(List.of("U6"), "failed"));
+		failed.markFailed();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(repository.claimDue(now, 10)).extracting(NotificationMessage::getMessage)
+			.containsExactly("retry", "expired lease");
+	}
+
+	@Test
+	void claimDueHonoursTheChunkLimit() {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 5; i++) {
+			NotificationMessage row = save(NotificationMessage.pending(List.of("U" + i), "m" + i));
+			row.retryAt(now.minusSeconds(10 - i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(repository.claimDue(now, 3)).extracting(NotificationMessage::getMessage)
+			.containsExactly("m0", "m1", "m2");
+	}
+
+	@Test
+	void storesLargeRecipientListsAndKeepsOnlyTheRemainingOnes() {
+		List<String> recipients = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			recipients.add("U" + String.format("%010d", i));
+		}
+		recipients.add("mailto:\"Ops, On-call\"@next-me.org");
+		NotificationMessage row = save(NotificationMessage.pending(recipients, "disk full"));
+		entityManager.flush();
+		entityManager.clear();
+
+		NotificationMessage claimed = repository.claimDue(LocalDateTime.now().plusSeconds(1), 10).get(0);
+		assertThat(claimed.recipientList()).containsExactlyElementsOf(recipients);
+
+		claimed.retainRecipients(List.of("U0000000007", "mailto:\"Ops, On-call\"@next-me.org"));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(repository.findById(row.getId()).orElseThrow().recipientList())
+			.containsExactly("U0000000007", "mailto:\"Ops, On-call\"@next-me.org");
+	}
+
+	private NotificationMessage save(NotificationMessage message) {
+		return entityManager.persist(message);
+	}
+}
@@ -0,0 +1,104 @@
+package org.nextme.notificationservice.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+class ScheduledNotificationRepositoryTest {
+
+	@Autowired
+	private ScheduledNotificationRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void storesLargeRecipientListsWithoutSplittingOnCommas() {
+		List<String> recipients = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			recipients.add("U" + String.format("%010d", i));
+		}
+		recipients.add("mailto:\"Ops, On-call\"@next-me.org");
+		UUID id = UUID.randomUUID();
+
+		repository.save(ScheduledNotification.create(id, recipients, "standup", NotificationPriority.NORMAL,
+			null, null, null, false, Instant.now().plus(Duration.ofMinutes(5))));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(repository.findById(id).orElseThrow().recipientList()).containsExactlyElementsOf(recipients);
+	}
+
+	@Test
+	void cancelOnlyWinsAgainstPendingRows() {
+		UUID pending = save(Instant.now().plus(Duration.ofMinutes(5)));
+		UUID claimed = save(Instant.now().minusSeconds(1));
+		Instant now = Instant.now();
+
+		assertThat(repository.claim(claimed, now, now.plus(Duration.ofMinutes(5)))).isEqualTo(1);
+		assertThat(repository.cancel(claimed)).isZero();
+		assertThat(repository.cancel(pending)).isEqualTo(1);
+		assertThat(repository.cancel(pending)).isZero();
+	}
+
+	@Test
+	void claimCountsAttemptsAndRetryKeepsOnlyRemainingRecipients() {
+		UUID id = UUID.randomUUID();
+		repository.save(ScheduledNotification.create(id, List.of("U1", "U2", "U3"), "standup",
+			NotificationPriority.NORMAL, null, null, null, false, Instant.now().minusSeconds(1)));
+		entityManager.flush();
+		entityManager.clear();
+		ScheduledNotification row = repository.findById(id).orElseThrow();
+		Instant now = Instant.now();
+
+		assertThat(repository.claim(id, now, now.plus(Duration.ofMinutes(5)))).isEqualTo(1);
+		entityManager.clear();
+		row.retry(List.of("U2"), row.getAttempts() + 1, now.plus(Duration.ofMinutes(1)));
+		repository.save(row);
+		entityManager.flush();
+		entityManager.clear();
+
+		ScheduledNotification retried = repository.findById(id).orElseThrow();
+		assertThat(retried.getStatus()).isEqualTo(ScheduledNotification.Status.PENDING);
+		assertThat(retried.getAttempts()).isEqualTo(1);
+		assertThat(retried.recipientList()).containsExactly("U2");
+	}
+
+	@Test
+	void purgeRemovesCancelledAndExpiredFailedRowsWithRecipients() {
+		UUID cancelled = save(Instant.now().plus(Duration.ofMinutes(5)));
+		UUID expired = save(Instant.now().minusSeconds(1));
+		UUID recent = save(Instant.now().minusSeconds(1));
+		UUID pending = save(Instant.now().plus(Duration.ofMinutes(5)));
+		repository.cancel(cancelled);
+		repository.markFailed(expired, Instant.now().minus(Duration.ofDays(8)));
+		repository.markFailed(recent, Instant.now());
+
+		Instant cutoff = Instant.now().minus(Duration.ofDays(7));
+		repository.deleteFinishedRecipients(cutoff);
+		assertThat(repository.deleteFinished(cutoff)).isEqualTo(2);
+		entityManager.clear();
+
+		assertThat(repository.findAll()).extracting(ScheduledNotification::getId)
+			.containsExactlyInAnyOrder(recent, pending);
+		assertThat(repository.countByStatus(ScheduledNotification.Status.FAILED)).isEqualTo(1);
+	}
+
+	private UUID save(Instant fireAt) {
+		UUID id = UUID.randomUUID();
+		repository.save(ScheduledNotification.create(id, List.of("U1"), "standup", NotificationPriority.NORMAL,
+			null, null, null, false, fireAt));
+		entityManager.flush();
+		return id;
+	}
+}
@@ -0,0 +1,116 @@
+package org.nextme.notificationservice.infrastructure.channel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.ChannelAdapter;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelDispatcherTest {
+
+	private final CountDownLatch relayStuck = new CountDownLatch(1);
+
+	private final ChannelAdapter slack = new FakeAdapter("slack", null);
+	private final ChannelAdapter email = new FakeAdapter("email", "mailto:") {
+		@Override
+		public SendReport send(List<String> recipients, String message, NotificationPriority priority) {
+			// 응답하지 않는 SMTP relay
+			try {
+				relayStuck.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.send(recipients, message, priority);
+		}
+	};
+
+	private final MockEnvironment environment = new MockEnvironment()
+		.withProperty("notification.channels.email.bulkhead.max-concurrency", "1")
+		.withProperty("notification.channels.email.bulkhead.queue-capacity", "1")
+		.withProperty("notification.channels.email.bulkhead.timeout", "200ms");
+
+	private final ChannelDispatcher dispatcher = new ChannelDispatcher(
+		List.of(slack, email), environment, new SimpleMeterRegistry(), ObservationRegistry.NOOP, false);
+
+	@AfterEach
+	void tearDown() {
+		relayStuck.countDown();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void routesRecipientsAndAggregatesPerChannel() {
+		relayStuck.countDown();
+
+		SendReport report = dispatcher.send(List.of("U1", "mailto:ops@next-me.org", "sms:010", "C1"), "disk full");
+
+		assertThat(report.channels()).containsOnlyKeys("slack", "email", ChannelDispatcher.UNROUTED);
+		assertThat(report.channels().get("slack").results()).extracting(RecipientResult::recipient).containsExactly("U1", "C1");
+		assertThat(report.channels().get("email").allDelivered()).isTrue();
+		assertThat(report.failedRecipients()).containsExactly("sms:010");
+		assertThat(report.results()).hasSize(4);
+	}
+
+	@Test
+	void slowEmailRelayDoesNotHoldUpSlack() {
+		long startedAt = System.nanoTime();
+		SendReport report = dispatcher.send(List.of("U1", "mailto:ops@next-me.org"), "disk full");
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		assertThat(report.channels().get("slack").allDelivered()).isTrue();
+		assertThat(report.channels().get("email").results())
+			.extracting(RecipientResult::error)
+			.containsExactly("timeout");
+		assertThat(elapsedMillis).isLessThan(5_000);
+	}
+
+	@Test
+	void fullBulkheadRejectsOnlyItsOwnChannel() {
+		// 워커 1 + 큐 1 을 채움
+		dispatcher.send(List.of("mailto:a@next-me.org"), "first");
+		dispatcher.send(List.of("mailto:b@next-me.org"), "second");
+
+		SendReport report = dispatcher.send(List.of("U1", "mailto:c@next-me.org"), "third");
+
+		assertThat(report.channels().get("slack").allDelivered()).isTrue();
+		assertThat(report.channels().get("email").results())
+			.extracting(RecipientResult::error)
+			.containsExactly("bulkhead_full");
+	}
+
+	private static class FakeAdapter implements ChannelAdapter {
+
+		private final String channel;
+		private final String prefix;
+
+		FakeAdapter(String channel, String prefix) {
+			this.channel = channel;
+			this.prefix = prefix;
+		}
+
+		@Override
+		public String channel() {
+			return channel;
+		}
+
+		@Override
+		public boolean accepts(String recipient) {
+			return prefix == null ? recipient.indexOf(':') < 0 : recipient.startsWith(prefix);
+		}
+
+		@Override
+		public SendReport send(List<String> recipients, String message, NotificationPriority priority) {
+			return new SendReport(recipients.stream().map(RecipientResult::delivered).toList());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamCircuitBreakersTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final DownstreamCircuitBreakers breakers = new DownstreamCircuitBreakers(new MockEnvironment()
+		.withProperty("http.client.circuit-breaker.slack.sliding-window-size", "4")
+		.withProperty("http.client.circuit-breaker.slack.minimum-calls", "4")
+		.withProperty("http.client.circuit-breaker.slack.wait-in-open", "1h"), meterRegistry);
+
+	@Test
+	void opensAfterFailuresAndFailsFastPerTarget() {
+		AtomicInteger calls = new AtomicInteger();
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> breakers.call("slack", "chat.postMessage", () -> {
+				calls.incrementAndGet();
+				throw new ResourceAccessException("read timed out");
+			})).isInstanceOf(ResourceAccessException.class);
+		}
+
+		assertThat(breakers.state("slack", "chat.postMessage")).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThatThrownBy(() -> breakers.call("slack", "chat.postMessage", calls::incrementAndGet))
+			.isInstanceOf(CallNotPermittedException.class);
+		assertThatThrownBy(() -> breakers.checkPermitted("slack", "chat.postMessage"))
+			.isInstanceOf(CallNotPermittedException.class);
+		assertThat(calls).hasValue(4);
+
+		// 다른 메서드는 영향 없음
+		assertThat(breakers.state("slack", "conversations.open")).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(meterRegistry.find("http.client.circuit.transitions").tag("to", "OPEN").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void clientErrorsDoNotOpenTheCircuit() {
+		for (int i = 0; i < 8; i++) {
+			assertThatThrownBy(() -> breakers.call("slack", "chat.postMessage", () -> {
+				throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+			})).isInstanceOf(HttpClientErrorException.class);
+		}
+
+		assertThat(breakers.state("slack", "chat.postMessage")).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void clientErrorsDoNotDiluteTheFailureRate() {
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> breakers.call("slack", "chat.update", () -> {
+				throw new ResourceAccessException("read timed out");
+			})).isInstanceOf(ResourceAccessException.class);
+		}
+		CircuitBreaker.Metrics before = breakers.breaker("slack", "chat.update").getMetrics();
+		int bufferedBefore = before.getNumberOfBufferedCalls();
+
+		for (int i = 0; i < 8; i++) {
+			assertThatThrownBy(() -> breakers.call("slack", "chat.update", () -> {
+				throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "ratelimited", null, null, null);
+			})).isInstanceOf(HttpClientErrorException.class);
+		}
+
+		CircuitBreaker.Metrics after = breakers.breaker("slack", "chat.update").getMetrics();
+		assertThat(after.getNumberOfBufferedCalls()).isEqualTo(bufferedBefore);
+		assertThat(after.getNumberOfSuccessfulCalls()).isZero();
+		assertThat(after.getNumberOfFailedCalls()).isEqualTo(2);
+
+		// 4xx 가 창을 밀어내지 않았으므로 실패 2번 더 → 4/4 실패로 OPEN
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> breakers.call("slack", "chat.update", () -> {
+				throw new ResourceAccessException("read timed out");
+			})).isInstanceOf(ResourceAccessException.class);
+		}
+		assertThat(breakers.state("slack", "chat.update")).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+}
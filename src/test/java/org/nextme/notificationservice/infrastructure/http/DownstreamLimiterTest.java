@@ -0,0 +1,94 @@
+package org.nextme.notificationservice.infrastructure.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void concurrentCallsNeverExceedLimit() throws Exception {
+		DownstreamLimiter limiter = new DownstreamLimiter("slack", 4, Duration.ofSeconds(10), meterRegistry);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 200; i++) {
+				executor.submit(() -> limiter.call(() -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					sleep(2);
+					inFlight.decrementAndGet();
+					return null;
+				}));
+			}
+		}
+
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+		assertThat(limiter.availablePermits()).isEqualTo(4);
+	}
+
+	@Test
+	void saturatedCallFailsAfterAcquireTimeout() throws Exception {
+		DownstreamLimiter limiter = new DownstreamLimiter("promotion", 1, Duration.ofMillis(50), meterRegistry);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<?> holder = executor.submit(() -> limiter.call(() -> {
+				holding.countDown();
+				await(release);
+				return null;
+			}));
+			holding.await(1, TimeUnit.SECONDS);
+
+			assertThatThrownBy(() -> limiter.call(() -> "late"))
+				.isInstanceOf(DownstreamSaturatedException.class);
+
+			release.countDown();
+			holder.get(1, TimeUnit.SECONDS);
+		}
+
+		assertThat(limiter.call(() -> "ok")).isEqualTo("ok");
+		assertThat(meterRegistry.get("http.client.downstream.waiting").tag("downstream", "promotion").gauge().value())
+			.isZero();
+	}
+
+	@Test
+	void permitIsReleasedWhenCallThrows() {
+		DownstreamLimiter limiter = new DownstreamLimiter("slack", 1, Duration.ofMillis(50), meterRegistry);
+
+		assertThatThrownBy(() -> limiter.call(() -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(limiter.availablePermits()).isEqualTo(1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.application.NotificationScheduler;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.OutboundNotification;
+import org.nextme.notificationservice.application.Undelivered;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.dedup.MonitoringEventDeduplicator;
+import org.nextme.notificationservice.infrastructure.kafka.dlt.MonitoringDeadLetterPublisher;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonitoringNotificationBatchConsumerTest {
+
+	private static final long SLACK_LATENCY_MS = 10;
+
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final MonitoringEventDeduplicator deduplicator = new MonitoringEventDeduplicator(
+		null, null, new SimpleMeterRegistry(), true, false, Duration.ofHours(1), 4, 10_000, 0.000001, 10_000);
+	private final MonitoringNotificationHandler handler = new MonitoringNotificationHandler(
+		notificationService, deduplicator, new SimpleMeterRegistry());
+	private final MonitoringDeadLetterPublisher deadLetters = mock(MonitoringDeadLetterPublisher.class);
+	private final NotificationScheduler scheduler = mock(NotificationScheduler.class);
+	private final MonitoringNotificationBatchConsumer consumer = new MonitoringNotificationBatchConsumer(
+		handler, deadLetters, scheduler, new SimpleMeterRegistry(), ObservationRegistry.NOOP, 8, false);
+
+	@AfterEach
+	void tearDown() {
+		consumer.shutdown();
+	}
+
+	@Test
+	void malformedRecordDoesNotFailTheBatch() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+
+		List<ConsumerRecord<String, byte[]>> records = List.of(
+			record(0, event("U1", "first")),
+			record(1, "{not json"),
+			record(2, event("U2", "second"))
+		);
+
+		MonitoringNotificationBatchConsumer.BatchResult result = consumer.dispatchBatch(records);
+
+		assertThat(result.sent()).isEqualTo(2);
+		assertThat(result.malformed()).isEqualTo(1);
+		assertThat(result.groups()).isEqualTo(2);
+		verify(deadLetters).publish(eq(records.get(1)), any(MalformedMonitoringEventException.class));
+	}
+
+	@Test
+	void failedDeliveryIsDeadLettered() {
+		when(notificationService.deliverDurably(any())).thenReturn(new Undelivered(List.of("U1"), List.of()));
+		ConsumerRecord<String, byte[]> record = record(3, event("U1", "disk full"));
+
+		MonitoringNotificationBatchConsumer.BatchResult result = consumer.dispatchBatch(List.of(record));
+
+		assertThat(result.failed()).isEqualTo(1);
+		verify(deadLetters).publish(eq(record), any(MonitoringDeliveryException.class));
+	}
+
+	@Test
+	void replayedRecordIsSentOnlyToTheRecipientsThatFailedBefore() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		ConsumerRecord<String, byte[]> replayed = record(4, """
+			{"slackUserIds":["U1","U2"],"message":"disk full","actionId":null,"actionValue":null}
+			""");
+		replayed.headers().add(MonitoringNotificationHandler.RECIPIENTS_HEADER, "U2".getBytes(StandardCharsets.UTF_8));
+
+		consumer.dispatchBatch(List.of(replayed));
+
+		verify(notificationService).deliverDurably(new OutboundNotification(List.of("U2"), "disk full"));
+	}
+
+	@Test
+	void redeliveredRecordIsSentOnlyOnce() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		ConsumerRecord<String, byte[]> record = record(7, event("U1", "disk full"));
+
+		MonitoringNotificationBatchConsumer.BatchResult first = consumer.dispatchBatch(List.of(record));
+		MonitoringNotificationBatchConsumer.BatchResult second = consumer.dispatchBatch(List.of(record));
+
+		verify(notificationService, times(1)).deliverDurably(any());
+		assertThat(first.sent()).isEqualTo(1);
+		// 건너뛴 재전달은 sent 가 아니라 duplicates 로 집계
+		assertThat(second.sent()).isZero();
+		assertThat(second.duplicates()).isEqualTo(1);
+	}
+
+	@Test
+	void futureDeliverAtIsScheduledInsteadOfSent() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		ConsumerRecord<String, byte[]> deferred = record(8, event("U1", "maintenance in 1h"));
+		deferred.headers().add(MonitoringNotificationHandler.DELIVER_AT_HEADER,
+			Long.toString(System.currentTimeMillis() + 3_600_000).getBytes(StandardCharsets.UTF_8));
+
+		MonitoringNotificationBatchConsumer.BatchResult result = consumer.dispatchBatch(
+			List.of(deferred, record(9, event("U2", "disk full"))));
+
+		assertThat(result.scheduled()).isEqualTo(1);
+		assertThat(result.sent()).isEqualTo(1);
+		verify(scheduler).schedule(eq(handler.scheduleKeyOf(deferred)), any(OutboundNotification.class), any(Instant.class));
+		verify(notificationService, times(1)).deliverDurably(any());
+	}
+
+	@Test
+	void groupedDispatchSendsEveryRecordInOrderPerRecipientAndGroupsInParallel() {
+		Map<String, List<String>> sentPerRecipient = new ConcurrentHashMap<>();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger peakInFlight = new AtomicInteger();
+		when(notificationService.deliverDurably(any())).thenAnswer(invocation -> {
+			OutboundNotification notification = invocation.getArgument(0);
+			peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(SLACK_LATENCY_MS);
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			sentPerRecipient.computeIfAbsent(notification.recipients().get(0), key -> new CopyOnWriteArrayList<>())
+				.add(notification.text());
+			return Undelivered.none();
+		});
+
+		List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+		for (int i = 0; i < 160; i++) {
+			records.add(record(i, event("U" + (i % 16), "alert " + i)));
+		}
+
+		MonitoringNotificationBatchConsumer.BatchResult result = consumer.dispatchBatch(records);
+
+		assertThat(result.sent()).isEqualTo(records.size());
+		assertThat(result.groups()).isEqualTo(16);
+		assertThat(sentPerRecipient).hasSize(16);
+		// 같은 수신자 그룹 안에서는 도착 순서대로
+		sentPerRecipient.forEach((recipient, texts) -> assertThat(texts)
+			.extracting(text -> Integer.parseInt(text.substring("alert ".length())))
+			.isSorted());
+		// 그룹끼리는 dispatch-concurrency(8) 까지 동시에
+		assertThat(peakInFlight.get()).isBetween(2, 8);
+	}
+
+	@Test
+	void readsDeliverAtHeaderAsIsoOrEpochMillis() {
+		Instant expected = Instant.parse("2026-01-05T00:50:00Z");
+
+		assertThat(MonitoringNotificationHandler.deliverAtOf(headers(Long.toString(expected.toEpochMilli()))))
+			.isEqualTo(expected);
+		assertThat(MonitoringNotificationHandler.deliverAtOf(headers("2026-01-05T09:50:00+09:00"))).isEqualTo(expected);
+		assertThat(MonitoringNotificationHandler.deliverAtOf(headers("tomorrow"))).isNull();
+		assertThat(MonitoringNotificationHandler.deliverAtOf(new RecordHeaders())).isNull();
+	}
+
+	private static RecordHeaders headers(String deliverAt) {
+		RecordHeaders headers = new RecordHeaders();
+		headers.add(MonitoringNotificationHandler.DELIVER_AT_HEADER, deliverAt.getBytes(StandardCharsets.UTF_8));
+		return headers;
+	}
+
+	private static ConsumerRecord<String, byte[]> record(long offset, String value) {
+		return new ConsumerRecord<>(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, 0, offset, null,
+			value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String event(String slackUserId, String message) {
+		return """
+			{"slackUserIds":["%s"],"message":"%s","actionId":null,"actionValue":null}
+			""".formatted(slackUserId, message);
+	}
+}
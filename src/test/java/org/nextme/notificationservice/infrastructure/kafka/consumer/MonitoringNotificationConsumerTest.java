@@ -0,0 +1,125 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.application.NotificationScheduler;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.mockito.ArgumentCaptor;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler.DispatchResult;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonitoringNotificationConsumerTest {
+
+	private final MonitoringNotificationHandler handler = mock(MonitoringNotificationHandler.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MonitoringNotificationConsumer consumer =
+		new MonitoringNotificationConsumer(handler, mock(NotificationScheduler.class), meterRegistry);
+
+	@Test
+	void failedDeliveryIsRetriedThroughRetryTopics() {
+		when(handler.dispatchOnce(any(), anyLong(), any()))
+			.thenThrow(new MonitoringDeliveryException("failed", List.of("U1")));
+
+		// 재시도 대상 예외 → 재시도 토픽으로
+		assertThatThrownBy(() -> consumer.handleMonitoringNotification(record(event())))
+			.isInstanceOf(MonitoringDeliveryException.class);
+		assertThat(isRetried(MonitoringDeliveryException.class)).isTrue();
+	}
+
+	@Test
+	void recipientsThatCanNeverReceiveSkipRetryTopics() {
+		assertThat(isRetried(UndeliverableMonitoringEventException.class)).isFalse();
+	}
+
+	@Test
+	void retryTopicRecordIsSentOnlyToTheRecipientsThatFailedBefore() {
+		when(handler.dispatchOnce(any(), anyLong(), any())).thenReturn(DispatchResult.SENT);
+		ConsumerRecord<String, MonitoringNotificationEvent> retried = record(
+			new MonitoringNotificationEvent(List.of("U1", "U2", "U3"), "disk full"));
+		retried.headers().add(MonitoringNotificationHandler.RECIPIENTS_HEADER, "U2".getBytes(StandardCharsets.UTF_8));
+
+		consumer.handleMonitoringNotification(retried);
+
+		ArgumentCaptor<MonitoringNotificationEvent> sent = ArgumentCaptor.forClass(MonitoringNotificationEvent.class);
+		verify(handler).dispatchOnce(any(), anyLong(), sent.capture());
+		assertThat(sent.getValue().slackUserIds()).containsExactly("U2");
+	}
+
+	@Test
+	void tombstoneSkipsRetryTopicsAndGoesStraightToDlt() {
+		assertThatThrownBy(() -> consumer.handleMonitoringNotification(record(null)))
+			.isInstanceOf(MalformedMonitoringEventException.class);
+		assertThat(isRetried(MalformedMonitoringEventException.class)).isFalse();
+		assertThat(retryableTopic().dltTopicSuffix()).isEqualTo(KafkaConfig.DLT_SUFFIX);
+	}
+
+	@Test
+	void sentOrDuplicateRecordIsCommitted() {
+		when(handler.dispatchOnce(any(), anyLong(), any())).thenReturn(DispatchResult.SENT, DispatchResult.DUPLICATE);
+
+		assertThatCode(() -> consumer.handleMonitoringNotification(record(event()))).doesNotThrowAnyException();
+		assertThatCode(() -> consumer.handleMonitoringNotification(record(event()))).doesNotThrowAnyException();
+	}
+
+	@Test
+	void deadLetterIsCountedByReason() {
+		consumer.handleDeadLetter(deadLetter(MalformedMonitoringEventException.class));
+		consumer.handleDeadLetter(deadLetter(DeserializationException.class));
+		consumer.handleDeadLetter(deadLetter(MonitoringDeliveryException.class));
+		consumer.handleDeadLetter(deadLetter(UndeliverableMonitoringEventException.class));
+
+		assertThat(dropped("malformed")).isEqualTo(2);
+		assertThat(dropped("retries_exhausted")).isEqualTo(1);
+		assertThat(dropped("undeliverable")).isEqualTo(1);
+	}
+
+	private double dropped(String reason) {
+		return meterRegistry.get("notification.monitoring.dropped").tag("reason", reason).counter().count();
+	}
+
+	// @RetryableTopic 의 exclude 에 없으면 재시도 토픽을 거침
+	private static boolean isRetried(Class<? extends Throwable> exception) {
+		return !List.of(retryableTopic().exclude()).contains(exception);
+	}
+
+	private static RetryableTopic retryableTopic() {
+		try {
+			return MonitoringNotificationConsumer.class
+				.getMethod("handleMonitoringNotification", ConsumerRecord.class)
+				.getAnnotation(RetryableTopic.class);
+		} catch (NoSuchMethodException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static ConsumerRecord<String, MonitoringNotificationEvent> record(MonitoringNotificationEvent event) {
+		return new ConsumerRecord<>(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, 0, 0L, null, event);
+	}
+
+	private static ConsumerRecord<String, MonitoringNotificationEvent> deadLetter(Class<? extends Exception> cause) {
+		ConsumerRecord<String, MonitoringNotificationEvent> record = new ConsumerRecord<>(
+			KafkaConfig.MONITORING_NOTIFICATION_TOPIC + KafkaConfig.DLT_SUFFIX, 0, 0L, null, event());
+		record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN, cause.getName().getBytes(StandardCharsets.UTF_8));
+		return record;
+	}
+
+	private static MonitoringNotificationEvent event() {
+		return new MonitoringNotificationEvent(List.of("U1"), "disk full");
+	}
+}
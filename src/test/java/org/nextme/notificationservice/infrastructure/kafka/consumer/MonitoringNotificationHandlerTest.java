@@ -0,0 +1,97 @@
+package org.nextme.notificationservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.Undelivered;
+import org.nextme.notificationservice.infrastructure.kafka.consumer.MonitoringNotificationHandler.DispatchResult;
+import org.nextme.notificationservice.infrastructure.kafka.dedup.MonitoringEventDeduplicator;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MonitoringNotificationHandlerTest {
+
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MonitoringNotificationHandler handler = new MonitoringNotificationHandler(notificationService,
+		new MonitoringEventDeduplicator(null, null, new SimpleMeterRegistry(), true, false, Duration.ofHours(1), 4, 10_000,
+			0.000001, 10_000),
+		meterRegistry);
+
+	@Test
+	void sentEventRecordsItsAgeFromTheRecordTimestamp() {
+		when(notificationService.deliverDurably(any())).thenReturn(Undelivered.none());
+		long recordTimestamp = System.currentTimeMillis() - 3_000;
+
+		assertThat(handler.dispatchOnce("k1", recordTimestamp, event())).isEqualTo(DispatchResult.SENT);
+
+		assertThat(dispatched("sent")).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.kafka.event.age").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.kafka.event.age").timer().totalTime(TimeUnit.MILLISECONDS))
+			.isGreaterThanOrEqualTo(3_000);
+	}
+
+	@Test
+	void duplicateAndFailedDispatchesAreCountedSeparately() {
+		when(notificationService.deliverDurably(any()))
+			.thenReturn(Undelivered.none(), new Undelivered(List.of("U1"), List.of()));
+
+		handler.dispatchOnce("k1", 0, event());
+		assertThat(handler.dispatchOnce("k1", 0, event())).isEqualTo(DispatchResult.DUPLICATE);
+		assertThatThrownBy(() -> handler.dispatchOnce("k2", 0, event()))
+			.isInstanceOf(MonitoringDeliveryException.class);
+
+		assertThat(dispatched("sent")).isEqualTo(1);
+		assertThat(dispatched("duplicate")).isEqualTo(1);
+		assertThat(dispatched("failed")).isEqualTo(1);
+		// timestamp 가 없는 레코드는 나이를 기록하지 않음
+		assertThat(meterRegistry.get("notification.kafka.event.age").timer().count()).isZero();
+	}
+
+	@Test
+	void partialFailureRetriesOnlyTheRecipientsThatCanStillReceive() {
+		when(notificationService.deliverDurably(any()))
+			.thenReturn(new Undelivered(List.of("U2"), List.of("C404")), new Undelivered(List.of(), List.of("C404")));
+		MonitoringNotificationEvent event = new MonitoringNotificationEvent(List.of("U1", "U2", "C404"), "disk full");
+
+		assertThatThrownBy(() -> handler.dispatchOnce("k1", 0, event))
+			.isInstanceOfSatisfying(MonitoringDeliveryException.class,
+				e -> assertThat(e.recipients()).containsExactly("U2"));
+		// 받을 수 없는 수신자만 남으면 재시도 없이 DLT 로 가는 예외
+		assertThatThrownBy(() -> handler.dispatchOnce("k2", 0, event))
+			.isInstanceOfSatisfying(UndeliverableMonitoringEventException.class,
+				e -> assertThat(e.recipients()).containsExactly("C404"));
+	}
+
+	@Test
+	void retriedRecordCarriesOnlyTheRemainingRecipients() {
+		Headers headers = MonitoringNotificationHandler.recipientsHeaders(null,
+			new RuntimeException(new MonitoringDeliveryException("failed", List.of("U2", "user:ops@next-me.org"))));
+
+		MonitoringNotificationEvent retried = MonitoringNotificationHandler.remainingOf(headers,
+			new MonitoringNotificationEvent(List.of("U1", "U2", "user:ops@next-me.org"), "disk full", "approve", "42"));
+
+		assertThat(retried.slackUserIds()).containsExactly("U2", "user:ops@next-me.org");
+		assertThat(retried.actionId()).isEqualTo("approve");
+		assertThat(MonitoringNotificationHandler.recipientsHeaders(null, new IllegalStateException("boom"))).isNull();
+		assertThat(MonitoringNotificationHandler.remainingOf(null, event())).isEqualTo(event());
+	}
+
+	private double dispatched(String result) {
+		return meterRegistry.get("notification.monitoring.dispatch").tag("result", result).counter().count();
+	}
+
+	private static MonitoringNotificationEvent event() {
+		return new MonitoringNotificationEvent(List.of("U1"), "disk full");
+	}
+}
@@ -0,0 +1,67 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.NotificationMessageRepository;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MonitoringEventDeduplicatorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final NotificationMessageRepository repository = mock(NotificationMessageRepository.class);
+
+	@Test
+	void bloomHitWithoutExactKeyIsDeliveredInsteadOfSuppressed() {
+		// LRU 에는 2개만 남으므로 앞에서 보낸 키는 Bloom filter 에만 있음
+		MonitoringEventDeduplicator deduplicator = deduplicator(false, 2);
+		deduplicator.markDelivered("id:1", event());
+		deduplicator.markDelivered("id:2", event());
+		deduplicator.markDelivered("id:3", event());
+
+		assertThat(deduplicator.isDuplicate("id:3")).isTrue();
+		assertThat(deduplicator.isDuplicate("id:1")).isFalse();
+		assertThat(deduplicator.isDuplicate("id:never-sent")).isFalse();
+		assertThat(meterRegistry.get("notification.dedup.duplicates").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.dedup.unconfirmed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void persistedDeliveryRecordConfirmsKeysEvictedFromTheLru() {
+		MonitoringEventDeduplicator deduplicator = deduplicator(true, 1);
+		deduplicator.markDelivered("id:1", event());
+		deduplicator.markDelivered("id:2", event());
+		when(repository.existsByDedupKeyAndSentAtGreaterThanEqual(eq("id:1"), any(LocalDateTime.class))).thenReturn(true);
+
+		assertThat(deduplicator.isDuplicate("id:1")).isTrue();
+	}
+
+	@Test
+	void unavailableDeliveryRecordsFailOpen() {
+		MonitoringEventDeduplicator deduplicator = deduplicator(true, 1);
+		deduplicator.markDelivered("id:1", event());
+		deduplicator.markDelivered("id:2", event());
+		when(repository.existsByDedupKeyAndSentAtGreaterThanEqual(eq("id:1"), any(LocalDateTime.class)))
+			.thenThrow(new IllegalStateException("db down"));
+
+		assertThat(deduplicator.isDuplicate("id:1")).isFalse();
+	}
+
+	private MonitoringEventDeduplicator deduplicator(boolean persist, int exactKeys) {
+		return new MonitoringEventDeduplicator(repository, null, meterRegistry, true, persist,
+			Duration.ofHours(1), 4, 1_000, 0.000001, exactKeys);
+	}
+
+	private static MonitoringNotificationEvent event() {
+		return new MonitoringNotificationEvent(List.of("U1"), "disk full");
+	}
+}
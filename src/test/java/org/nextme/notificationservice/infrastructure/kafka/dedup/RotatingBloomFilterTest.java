@@ -0,0 +1,44 @@
+package org.nextme.notificationservice.infrastructure.kafka.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	void remembersKeysForTheWholeWindowThenForgetsThem() {
+		Duration window = Duration.ofHours(3);
+		RotatingBloomFilter filter = new RotatingBloomFilter(window, 4, 1_000, 0.0001, clock::get);
+
+		filter.put("event-1");
+		clock.addAndGet(window.toNanos());
+		assertThat(filter.mightContain("event-1")).isTrue();
+
+		clock.addAndGet(window.toNanos());
+		assertThat(filter.mightContain("event-1")).isFalse();
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		RotatingBloomFilter filter = new RotatingBloomFilter(Duration.ofHours(1), 2, 10_000, 0.001, clock::get);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("delivered-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("unseen-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.005);
+		assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.005);
+	}
+}
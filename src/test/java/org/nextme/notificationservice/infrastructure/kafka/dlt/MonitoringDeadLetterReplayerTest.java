@@ -0,0 +1,127 @@
+package org.nextme.notificationservice.infrastructure.kafka.dlt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MonitoringDeadLetterReplayerTest {
+
+	private static final String LISTEN_TOPIC = KafkaConfig.MONITORING_NOTIFICATION_TOPIC;
+	private static final String DLT_TOPIC = LISTEN_TOPIC + KafkaConfig.DLT_SUFFIX;
+	private static final TopicPartition DLT_PARTITION = new TopicPartition(DLT_TOPIC, 0);
+
+	@SuppressWarnings("unchecked")
+	private final ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+	@SuppressWarnings("unchecked")
+	private final Consumer<String, byte[]> dltConsumer = mock(Consumer.class);
+	@SuppressWarnings("unchecked")
+	private final KafkaTemplate<Object, Object> kafkaTemplate = mock(KafkaTemplate.class);
+	private final MonitoringDeadLetterReplayer replayer =
+		new MonitoringDeadLetterReplayer(consumerFactory, kafkaTemplate, new SimpleMeterRegistry(), LISTEN_TOPIC);
+
+	@Test
+	void replayStripsRetryHeadersButKeepsTheEventId() {
+		ConsumerRecord<String, byte[]> dead = deadLetter(5);
+		dead.headers().add("eventId", bytes("evt-1"));
+		dead.headers().add("kafka_dlt-exception-fqcn", bytes("MonitoringDeliveryException"));
+		dead.headers().add("kafka_dlt-original-topic", bytes(LISTEN_TOPIC + "-retry-3"));
+		dead.headers().add("retry_topic-attempts", bytes("4"));
+		givenDeadLetters(dead);
+		givenSends(CompletableFuture.completedFuture(null));
+
+		assertThat(replayer.replay(10).replayed()).isEqualTo(1);
+
+		ProducerRecord<Object, Object> replayed = sent().get(0);
+		assertThat(replayed.topic()).isEqualTo(LISTEN_TOPIC);
+		assertThat(replayed.key()).isEqualTo(dead.key());
+		assertThat(replayed.value()).isEqualTo(dead.value());
+		assertThat(replayed.headers().toArray()).extracting(Header::key).containsExactly("eventId");
+	}
+
+	@Test
+	void offsetsAreCommittedOnlyAfterEverySendIsAcked() {
+		givenDeadLetters(deadLetter(5), deadLetter(6), deadLetter(7));
+		givenSends(CompletableFuture.completedFuture(null));
+
+		assertThat(replayer.replay(2).replayed()).isEqualTo(2);
+
+		// max 까지만 재발행하고 마지막으로 보낸 레코드 다음 offset 을 커밋
+		InOrder order = inOrder(kafkaTemplate, dltConsumer);
+		order.verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+		order.verify(dltConsumer).commitSync(Map.of(DLT_PARTITION, new OffsetAndMetadata(7)));
+	}
+
+	@Test
+	void failedSendLeavesOffsetsUncommitted() {
+		givenDeadLetters(deadLetter(5));
+		givenSends(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+		assertThatThrownBy(() -> replayer.replay(10)).isInstanceOf(CompletionException.class);
+		verify(dltConsumer, never()).commitSync(anyMap());
+		verify(dltConsumer).close();
+	}
+
+	@SafeVarargs
+	private void givenDeadLetters(ConsumerRecord<String, byte[]>... records) {
+		when(consumerFactory.createConsumer(eq(MonitoringDeadLetterReplayer.REPLAY_GROUP_ID), any(), any(),
+			any(Properties.class))).thenReturn(dltConsumer);
+		when(dltConsumer.partitionsFor(DLT_TOPIC))
+			.thenReturn(List.of(new PartitionInfo(DLT_TOPIC, 0, null, null, null)));
+		when(dltConsumer.poll(any(Duration.class)))
+			.thenReturn(new ConsumerRecords<>(Map.of(DLT_PARTITION, List.of(records))))
+			.thenReturn(ConsumerRecords.empty());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenSends(CompletableFuture<SendResult<Object, Object>> result) {
+		when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ProducerRecord<Object, Object>> sent() {
+		ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+		verify(kafkaTemplate).send(captor.capture());
+		return captor.getAllValues();
+	}
+
+	private static ConsumerRecord<String, byte[]> deadLetter(long offset) {
+		return new ConsumerRecord<>(DLT_TOPIC, 0, offset, "alert-" + offset, bytes("{\"message\":\"disk full\"}"));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
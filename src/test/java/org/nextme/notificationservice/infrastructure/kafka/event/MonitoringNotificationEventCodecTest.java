@@ -0,0 +1,84 @@
+package org.nextme.notificationservice.infrastructure.kafka.event;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec.WireFormat;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonitoringNotificationEventCodecTest {
+
+	private final MonitoringNotificationEventDeserializer deserializer = new MonitoringNotificationEventDeserializer();
+	private final MonitoringNotificationEventSerializer serializer = new MonitoringNotificationEventSerializer();
+
+	@Test
+	void missingOptionalFieldsDecodeAsNull() throws Exception {
+		MonitoringNotificationEvent event = MonitoringNotificationEventCodec.decode(
+			json("{\"slackUserIds\":[\"U1\",\"U2\"],\"message\":\"disk full\",\"extra\":{\"nested\":[1,2]}}"), WireFormat.JSON);
+
+		assertThat(event.slackUserIds()).containsExactly("U1", "U2");
+		assertThat(event.message()).isEqualTo("disk full");
+		assertThat(event.actionId()).isNull();
+		assertThat(event.actionValue()).isNull();
+		assertThat(event.priority()).isEqualTo(NotificationPriority.NORMAL);
+	}
+
+	@Test
+	void alertKeyAndResolutionRoundTrip() throws Exception {
+		MonitoringNotificationEvent event = new MonitoringNotificationEvent(
+			List.of("U1"), "disk 70%", null, null, null, "disk:/var", true);
+
+		MonitoringNotificationEvent decoded = MonitoringNotificationEventCodec.decode(
+			MonitoringNotificationEventCodec.encode(event, WireFormat.JSON), WireFormat.JSON);
+
+		assertThat(decoded).isEqualTo(event);
+		assertThat(MonitoringNotificationEventCodec.decode(
+			json("{\"slackUserIds\":[\"U1\"],\"message\":\"m\",\"alertKey\":\"k\"}"), WireFormat.JSON).resolved())
+			.isFalse();
+	}
+
+	@Test
+	void missingRequiredFieldIsMalformed() {
+		assertThatThrownBy(() -> MonitoringNotificationEventCodec.decode(
+			json("{\"slackUserIds\":[\"U1\"]}"), WireFormat.JSON))
+			.isInstanceOf(JsonParseException.class)
+			.hasMessageContaining("message");
+	}
+
+	@Test
+	void smileRoundTripFollowsContentTypeHeader() {
+		RecordHeaders headers = new RecordHeaders();
+		headers.add(MonitoringNotificationEventCodec.CONTENT_TYPE_HEADER,
+			WireFormat.SMILE.contentType().getBytes(StandardCharsets.UTF_8));
+		MonitoringNotificationEvent event = new MonitoringNotificationEvent(
+			List.of("U1"), "p99 2300ms", "scale_out", "promotion-api:+2");
+
+		byte[] encoded = serializer.serialize(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, headers, event);
+
+		assertThat(encoded).isNotEqualTo(serializer.serialize(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, event));
+		assertThat(deserializer.deserialize(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, headers, encoded)).isEqualTo(event);
+	}
+
+	@Test
+	void malformedValueFailsOnlyOutsideDlt() {
+		byte[] garbage = json("{not json");
+
+		assertThatThrownBy(() -> deserializer.deserialize(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, new RecordHeaders(), garbage))
+			.isInstanceOf(SerializationException.class);
+		assertThat(deserializer.deserialize(
+			KafkaConfig.MONITORING_NOTIFICATION_TOPIC + KafkaConfig.DLT_SUFFIX, new RecordHeaders(), garbage)).isNull();
+	}
+
+	private static byte[] json(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,152 @@
+package org.nextme.notificationservice.infrastructure.kafka.streams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.test.TestRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEventCodec.WireFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonitoringAlertCoalescingTopologyTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Instant start = Instant.parse("2026-01-01T00:00:00Z");
+
+	private TopologyTestDriver driver;
+	private TestInputTopic<String, byte[]> input;
+	private TestOutputTopic<String, byte[]> output;
+
+	@BeforeEach
+	void setUp() {
+		MonitoringAlertCoalescingTopology topology = new MonitoringAlertCoalescingTopology(
+			objectMapper, new SimpleMeterRegistry(), "tumbling",
+			Duration.ofSeconds(30), Duration.ofSeconds(5), ZoneId.of("UTC"), 1);
+		StreamsBuilder builder = new StreamsBuilder();
+		topology.monitoringAlertCoalescingStream(builder);
+
+		Properties props = new Properties();
+		props.put(StreamsConfig.APPLICATION_ID_CONFIG, "coalescing-test");
+		props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+		driver = new TopologyTestDriver(builder.build(), props);
+
+		input = driver.createInputTopic(KafkaConfig.MONITORING_NOTIFICATION_TOPIC,
+			new StringSerializer(), new ByteArraySerializer());
+		output = driver.createOutputTopic(KafkaConfig.MONITORING_NOTIFICATION_DIGEST_TOPIC,
+			new StringDeserializer(), new ByteArrayDeserializer());
+	}
+
+	@AfterEach
+	void tearDown() {
+		driver.close();
+	}
+
+	@Test
+	void stormIsCoalescedIntoOneDigestPerRecipientSet() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			input.pipeInput(null, event(List.of("U1", "U2"), "disk usage " + i, null), start.plusMillis(i * 100L));
+		}
+		// 순서가 달라도 같은 수신자 집합
+		input.pipeInput(null, event(List.of("U2", "U1"), "disk usage final", null), start.plusSeconds(20));
+
+		assertThat(output.isEmpty()).isTrue();
+
+		// 윈도우 + grace 가 지나야 digest 발행
+		input.pipeInput(null, event(List.of("U9"), "unrelated", null), start.plusSeconds(40));
+
+		List<byte[]> digests = output.readValuesToList();
+		assertThat(digests).hasSize(1);
+
+		MonitoringNotificationEvent digest = objectMapper.readValue(digests.get(0), MonitoringNotificationEvent.class);
+		assertThat(digest.slackUserIds()).containsExactlyInAnyOrder("U1", "U2");
+		assertThat(digest.message()).contains("101건").contains("disk usage final");
+	}
+
+	@Test
+	void smileEventsAreCoalescedIntoAJsonDigest() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			input.pipeInput(smile(List.of("U1"), "cpu high " + i, null, start.plusSeconds(i)));
+		}
+		input.pipeInput(null, event(List.of("U9"), "unrelated", null), start.plusSeconds(40));
+
+		TestRecord<String, byte[]> digest = output.readRecord();
+		assertThat(output.isEmpty()).isTrue();
+
+		// 마지막으로 묶인 이벤트가 Smile 이어도 digest 는 JSON 헤더/본문
+		assertThat(WireFormat.of(digest.headers())).isEqualTo(WireFormat.JSON);
+		MonitoringNotificationEvent decoded = MonitoringNotificationEventCodec.decode(digest.value(), WireFormat.JSON);
+		assertThat(decoded.slackUserIds()).containsExactly("U1");
+		assertThat(decoded.message()).contains("3건").contains("cpu high 2");
+	}
+
+	@Test
+	void smileInteractiveEventsPassThroughWithTheirBytesAndHeader() throws Exception {
+		TestRecord<String, byte[]> interactive = smile(List.of("U1"), "approve rollback?", "rollback", start);
+		input.pipeInput(interactive);
+
+		TestRecord<String, byte[]> passed = output.readRecord();
+		assertThat(passed.value()).isEqualTo(interactive.value());
+		Header contentType = passed.headers().lastHeader(MonitoringNotificationEventCodec.CONTENT_TYPE_HEADER);
+		assertThat(new String(contentType.value(), StandardCharsets.UTF_8)).isEqualTo(WireFormat.SMILE.contentType());
+		assertThat(MonitoringNotificationEventCodec.decode(passed.value(), WireFormat.of(passed.headers())).actionId())
+			.isEqualTo("rollback");
+	}
+
+	@Test
+	void interactiveEventsPassThroughImmediately() {
+		byte[] interactive = event(List.of("U1"), "approve rollback?", "rollback");
+		input.pipeInput(null, interactive, start);
+
+		assertThat(output.readValuesToList()).containsExactly(interactive);
+	}
+
+	@Test
+	void malformedEventsPassThroughUntouched() {
+		byte[] malformed = "{not json".getBytes(StandardCharsets.UTF_8);
+		input.pipeInput(null, malformed, start);
+
+		assertThat(output.readValuesToList()).containsExactly(malformed);
+	}
+
+	private byte[] event(List<String> slackUserIds, String message, String actionId) {
+		try {
+			return objectMapper.writeValueAsBytes(
+				new MonitoringNotificationEvent(slackUserIds, message, actionId, actionId == null ? null : "v"));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private TestRecord<String, byte[]> smile(List<String> slackUserIds, String message, String actionId, Instant at)
+		throws Exception {
+		byte[] value = MonitoringNotificationEventCodec.encode(
+			new MonitoringNotificationEvent(slackUserIds, message, actionId, actionId == null ? null : "v"), WireFormat.SMILE);
+		RecordHeaders headers = new RecordHeaders();
+		headers.add(MonitoringNotificationEventCodec.CONTENT_TYPE_HEADER,
+			WireFormat.SMILE.contentType().getBytes(StandardCharsets.UTF_8));
+		return new TestRecord<>(null, value, headers, at);
+	}
+}
@@ -0,0 +1,68 @@
+package org.nextme.notificationservice.infrastructure.promotion;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.nextme.notificationservice.infrastructure.http.DownstreamLimiter;
+import org.nextme.notificationservice.infrastructure.promotion.PromotionRemediationClient.RemediationResult;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class PromotionRemediationClientTest {
+
+    private static final String EXECUTE =
+            "http://promotion-service/v1/promotions/monitoring/remediation/execute?actionType=restart&approvedBy=U1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockRestServiceServer server;
+    private final PromotionRemediationClient client;
+
+    PromotionRemediationClientTest() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://promotion-service");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new PromotionRemediationClient(builder.build(),
+                new DownstreamLimiter("promotion", 4, Duration.ofMillis(100), meterRegistry),
+                new DownstreamCircuitBreakers(new MockEnvironment(), meterRegistry),
+                observationRegistry);
+    }
+
+    @Test
+    void remediationIsTimedWithItsOutcome() {
+        server.expect(requestTo(EXECUTE))
+                .andRespond(withSuccess("{\"success\":false,\"message\":\"pod not found\"}", MediaType.APPLICATION_JSON));
+
+        RemediationResult result = client.execute("restart", "U1");
+
+        assertThat(result.success()).isFalse();
+        assertThat(remediationCount("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void failedCallIsTimedAsErrorInsteadOfThrowing() {
+        server.expect(requestTo(EXECUTE)).andRespond(withServerError());
+
+        RemediationResult result = client.execute("restart", "U1");
+
+        assertThat(result.error()).isTrue();
+        assertThat(remediationCount("error")).isEqualTo(1);
+        assertThat(meterRegistry.find("promotion.remediation").tag("outcome", "success").timer()).isNull();
+    }
+
+    private long remediationCount(String outcome) {
+        return meterRegistry.get("promotion.remediation").tag("outcome", outcome).timer().count();
+    }
+}
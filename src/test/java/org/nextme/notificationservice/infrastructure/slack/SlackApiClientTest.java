@@ -0,0 +1,138 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.nextme.notificationservice.infrastructure.http.DownstreamLimiter;
+import org.nextme.notificationservice.infrastructure.slack.ratelimit.SlackRateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class SlackApiClientTest {
+
+    private static final String POST_MESSAGE = "https://slack.com/api/chat.postMessage";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private final List<Observation.Context> started = new CopyOnWriteArrayList<>();
+    private final MockRestServiceServer server;
+    private final SlackApiClient client;
+
+    SlackApiClientTest() {
+        observationRegistry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(meterRegistry))
+                .observationHandler(new ObservationHandler<Observation.Context>() {
+                    @Override
+                    public void onStart(Observation.Context context) {
+                        started.add(context);
+                    }
+
+                    @Override
+                    public boolean supportsContext(Observation.Context context) {
+                        return true;
+                    }
+                });
+
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://slack.com/api");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new SlackApiClient(builder.build(),
+                new SlackRateLimiter(meterRegistry, 1, 1, Duration.ofMillis(200), 0, 0.8, 0.4, Duration.ofMillis(100)),
+                new DownstreamLimiter("slack", 4, Duration.ofMillis(100), meterRegistry),
+                new DownstreamCircuitBreakers(new MockEnvironment(), meterRegistry),
+                observationRegistry);
+        ReflectionTestUtils.setField(client, "token", "xoxb-test");
+    }
+
+    @Test
+    void callIsTimedPerMethodWithItsOutcome() {
+        server.expect(requestTo(POST_MESSAGE))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer xoxb-test"))
+                .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
+
+        client.post("chat.postMessage", "C1", Map.of("channel", "C1", "text", "disk full"));
+
+        server.verify();
+        assertThat(slackTimer("chat.postMessage", "ok", "none").count()).isEqualTo(1);
+    }
+
+    @Test
+    void slackErrorCodeIsTagged() {
+        server.expect(requestTo(POST_MESSAGE))
+                .andRespond(withSuccess("{\"ok\":false,\"error\":\"channel_not_found\"}", MediaType.APPLICATION_JSON));
+
+        client.post("chat.postMessage", "C1", Map.of("channel", "C1", "text", "disk full"));
+
+        assertThat(slackTimer("chat.postMessage", "error", "channel_not_found").count()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitedCallIsTaggedAsRatelimited() {
+        server.expect(requestTo(POST_MESSAGE))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "30"));
+
+        assertThatThrownBy(() -> client.post("chat.postMessage", "C1", Map.of("channel", "C1", "text", "disk full")))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(slackTimer("chat.postMessage", "ratelimited", "ratelimited").count()).isEqualTo(1);
+    }
+
+    @Test
+    void slackSpanIsAChildOfTheCurrentConsumeSpan() {
+        server.expect(requestTo(POST_MESSAGE))
+                .andRespond(withSuccess("{\"ok\":true}", MediaType.APPLICATION_JSON));
+        Observation consume = Observation.createNotStarted("spring.kafka.listener", observationRegistry);
+
+        consume.observe(() -> client.post("chat.postMessage", "C1", Map.of("channel", "C1", "text", "disk full")));
+
+        Observation.Context slackCall = started.stream()
+                .filter(context -> "slack.api".equals(context.getName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(slackCall.getParentObservation()).isSameAs(consume);
+    }
+
+    @Test
+    void responseUrlHasItsOwnCircuitBreaker() {
+        server.expect(requestTo("https://hooks.slack.com/actions/T1/1/abc"))
+                .andRespond(withSuccess());
+
+        client.respond("https://hooks.slack.com/actions/T1/1/abc", Map.of("replace_original", true, "text", "done"));
+
+        server.verify();
+        assertThat(slackTimer("response_url", "ok", "none").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state")
+                .tag("name", SlackApiClient.RESPONSE_URL_CIRCUIT).meters()).isNotEmpty();
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state")
+                .tag("name", SlackApiClient.CIRCUIT + ":response_url").meters()).isEmpty();
+    }
+
+    private Timer slackTimer(String method, String outcome, String slackError) {
+        return meterRegistry.get("slack.api")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("slack.error", slackError)
+                .timer();
+    }
+}
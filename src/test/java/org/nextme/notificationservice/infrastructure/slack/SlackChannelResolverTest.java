@@ -0,0 +1,69 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackChannelResolverTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sameRecipientSetIsOpenedOnlyOnce() {
+        SlackChannelResolver resolver = new SlackChannelResolver(100, Duration.ofHours(1), meterRegistry);
+        AtomicInteger opens = new AtomicInteger();
+
+        String first = resolver.resolve(List.of("U2", "U1"), ids -> "D" + opens.incrementAndGet());
+        String second = resolver.resolve(List.of("U1", "U2", "U1"), ids -> "D" + opens.incrementAndGet());
+
+        assertThat(first).isEqualTo("D1");
+        assertThat(second).isEqualTo("D1");
+        assertThat(opens).hasValue(1);
+        assertThat(meterRegistry.get("slack.channel.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void expiredAndStaleEntriesAreReopened() {
+        SlackChannelResolver expiring = new SlackChannelResolver(100, Duration.ZERO, meterRegistry);
+        AtomicInteger opens = new AtomicInteger();
+
+        expiring.resolve(List.of("U1"), ids -> "D" + opens.incrementAndGet());
+        expiring.resolve(List.of("U1"), ids -> "D" + opens.incrementAndGet());
+        assertThat(opens).hasValue(2);
+
+        SlackChannelResolver resolver = new SlackChannelResolver(100, Duration.ofHours(1), meterRegistry);
+        resolver.resolve(List.of("U1"), ids -> "D1");
+
+        assertThat(resolver.invalidateIfStale(List.of("U1"), "not_in_channel")).isFalse();
+        assertThat(resolver.invalidateIfStale(List.of("U1"), "channel_not_found")).isTrue();
+        assertThat(resolver.resolve(List.of("U1"), ids -> "D2")).isEqualTo("D2");
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        SlackChannelResolver resolver = new SlackChannelResolver(2, Duration.ofHours(1), meterRegistry);
+
+        resolver.resolve(List.of("U1"), ids -> "D1");
+        resolver.resolve(List.of("U2"), ids -> "D2");
+        resolver.resolve(List.of("U1"), ids -> "unused");
+        resolver.resolve(List.of("U3"), ids -> "D3");
+
+        assertThat(resolver.size()).isEqualTo(2);
+        assertThat(resolver.resolve(List.of("U1"), ids -> "reopened")).isEqualTo("D1");
+        assertThat(resolver.resolve(List.of("U2"), ids -> "reopened")).isEqualTo("reopened");
+    }
+
+    @Test
+    void failedOpenIsNotCached() {
+        SlackChannelResolver resolver = new SlackChannelResolver(10, Duration.ofHours(1), meterRegistry);
+
+        assertThat(resolver.resolve(List.of("U1"), ids -> null)).isNull();
+        assertThat(resolver.size()).isZero();
+    }
+}
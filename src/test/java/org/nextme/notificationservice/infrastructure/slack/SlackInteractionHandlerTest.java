@@ -0,0 +1,145 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.promotion.PromotionRemediationClient;
+import org.nextme.notificationservice.infrastructure.promotion.PromotionRemediationClient.RemediationResult;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteractionHandler.Acceptance;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlackInteractionHandlerTest {
+
+    private static final String RESPONSE_URL = "https://hooks.slack.com/actions/T1/1/abc";
+
+    private final PromotionRemediationClient remediationClient = mock(PromotionRemediationClient.class);
+    private final SlackApiClient slackApiClient = mock(SlackApiClient.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 워커 1개, 큐 1칸
+    private final SlackInteractionHandler handler = new SlackInteractionHandler(
+            remediationClient, slackApiClient, new SimpleMeterRegistry(), ObservationRegistry.NOOP,
+            1, 1, 100, Duration.ofHours(1), false);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        handler.shutdown();
+    }
+
+    @Test
+    void clickIsAcknowledgedBeforeRemediationFinishes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(remediationClient.execute("restart", "U1")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new RemediationResult(true, "done");
+        });
+
+        assertThat(handler.accept(approve("T1"))).isEqualTo(Acceptance.ACCEPTED);
+
+        // accept 는 돌아왔지만 remediation 은 워커에서 아직 진행 중
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        verify(slackApiClient, never()).respond(anyString(), any());
+
+        release.countDown();
+        verify(slackApiClient, timeout(2_000)).respond(eq(RESPONSE_URL), any());
+    }
+
+    @Test
+    void redeliveredClickRunsRemediationOnce() {
+        when(remediationClient.execute("restart", "U1")).thenReturn(new RemediationResult(true, "done"));
+
+        assertThat(handler.accept(approve("T1"))).isEqualTo(Acceptance.ACCEPTED);
+        assertThat(handler.accept(approve("T1"))).isEqualTo(Acceptance.DUPLICATE);
+        // 다른 클릭(trigger_id)은 따로 처리
+        assertThat(handler.accept(approve("T2"))).isEqualTo(Acceptance.ACCEPTED);
+
+        verify(remediationClient, timeout(2_000).times(2)).execute("restart", "U1");
+        verify(remediationClient, after(100).times(2)).execute("restart", "U1");
+    }
+
+    @Test
+    void rejectedClickIsForgottenSoSlackRetryCanBeAccepted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(remediationClient.execute(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new RemediationResult(true, "done");
+        });
+        handler.accept(approve("T1"));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        handler.accept(approve("T2"));
+
+        // 워커와 큐가 모두 차 있음
+        assertThat(handler.accept(approve("T3"))).isEqualTo(Acceptance.REJECTED);
+
+        release.countDown();
+        verify(remediationClient, timeout(2_000).times(2)).execute(anyString(), anyString());
+        assertThat(handler.accept(approve("T3"))).isEqualTo(Acceptance.ACCEPTED);
+    }
+
+    @Test
+    void outcomeReplacesTheOriginalMessageThroughResponseUrl() {
+        when(remediationClient.execute("restart", "U1")).thenReturn(new RemediationResult(false, "pod not found"));
+
+        handler.accept(approve("T1"));
+        handler.accept(new SlackInteraction("monitoring_action_reject", "restart", "U1", "T2", "2.0", RESPONSE_URL));
+
+        verify(slackApiClient, timeout(2_000)).respond(eq(RESPONSE_URL), argThat(body -> replaces(body, "실행 실패: pod not found")));
+        verify(slackApiClient, timeout(2_000)).respond(eq(RESPONSE_URL), argThat(body -> replaces(body, "거부했습니다")));
+        // 거부는 remediation 을 호출하지 않음
+        verify(remediationClient, times(1)).execute(anyString(), anyString());
+    }
+
+    @Test
+    void missingResponseUrlSkipsTheFollowUp() {
+        when(remediationClient.execute("restart", "U1")).thenReturn(new RemediationResult(true, "done"));
+
+        handler.accept(new SlackInteraction("monitoring_action_approve", "restart", "U1", "T1", "1.0", null));
+
+        verify(remediationClient, timeout(2_000)).execute("restart", "U1");
+        verify(slackApiClient, after(100).never()).respond(any(), any());
+    }
+
+    @Test
+    void responseUrlOutsideSlackIsNeverCalled() {
+        when(remediationClient.execute("restart", "U1")).thenReturn(new RemediationResult(true, "done"));
+
+        handler.accept(new SlackInteraction("monitoring_action_approve", "restart", "U1", "T1", "1.0",
+                "http://hooks.slack.com/actions/T1/1/abc"));
+        handler.accept(new SlackInteraction("monitoring_action_approve", "restart", "U1", "T2", "1.0",
+                "https://hooks.slack.com.evil.example/actions/T1/1/abc"));
+
+        verify(remediationClient, timeout(2_000).times(2)).execute("restart", "U1");
+        verify(slackApiClient, after(100).never()).respond(any(), any());
+    }
+
+    private static SlackInteraction approve(String triggerId) {
+        return new SlackInteraction("monitoring_action_approve", "restart", "U1", triggerId, "1.0", RESPONSE_URL);
+    }
+
+    private static boolean replaces(Object body, String text) {
+        return body instanceof Map<?, ?> map
+                && Boolean.TRUE.equals(map.get("replace_original"))
+                && String.valueOf(map.get("text")).contains(text);
+    }
+}
@@ -0,0 +1,134 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.RecipientResult;
+import org.nextme.notificationservice.domain.SendReport;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackPayload;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlackMessageSendTest {
+
+	private static final long SLACK_LATENCY_MS = 20;
+	private static final int FAN_OUT_CONCURRENCY = 16;
+
+	private static final Map<String, String> DIRECTORY = Map.of(
+		"user:alice@example.com", "U1",
+		"user:6f1c2b1e-0000-4000-8000-000000000001", "U1"
+	);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SlackApiClient slackApiClient = mock(SlackApiClient.class);
+	private final SlackMessageSend messageSend = new SlackMessageSend(
+		slackApiClient,
+		new SlackChannelResolver(100, Duration.ofHours(1), new SimpleMeterRegistry()),
+		new SlackMessageTemplates(),
+		recipient -> Optional.ofNullable(DIRECTORY.get(recipient)),
+		8,
+		FAN_OUT_CONCURRENCY,
+		false
+	);
+
+	@AfterEach
+	void tearDown() {
+		messageSend.shutdown();
+	}
+
+	@Test
+	void planSplitsChannelsAnywhereInTheListAndFansOutLargeUserLists() {
+		List<SlackTarget> small = SlackTarget.plan(List.of("U1", "C1", "U2", "U1"), 8);
+		assertThat(small).containsExactly(SlackTarget.direct("C1"), SlackTarget.groupDm(List.of("U1", "U2")));
+
+		List<String> many = IntStream.range(0, 9).mapToObj(i -> "U" + i).toList();
+		assertThat(SlackTarget.plan(many, 8)).hasSize(9).noneMatch(SlackTarget::isGroupDm);
+	}
+
+	@Test
+	void mixedListReportsPerRecipientResults() throws Exception {
+		when(slackApiClient.post(eq("chat.postMessage"), eq("C1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":false,\"error\":\"not_in_channel\"}"));
+		when(slackApiClient.post(eq("chat.postMessage"), eq("D12"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true}"));
+		when(slackApiClient.post(eq("conversations.open"), any()))
+			.thenReturn(json("{\"ok\":true,\"channel\":{\"id\":\"D12\"}}"));
+
+		SendReport report = messageSend.send(List.of("U1", "C1", "U2"), "hello");
+
+		assertThat(report.results()).containsExactlyInAnyOrder(
+			RecipientResult.failed("C1", "not_in_channel"),
+			RecipientResult.delivered("U1"),
+			RecipientResult.delivered("U2")
+		);
+		assertThat(report.allDelivered()).isFalse();
+		assertThat(report.failedRecipients()).containsExactly("C1");
+	}
+
+	@Test
+	void directoryRecipientsAreResolvedAndReportedAsRequested() throws Exception {
+		when(slackApiClient.post(eq("chat.postMessage"), eq("D12"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true}"));
+		when(slackApiClient.post(eq("conversations.open"), any()))
+			.thenReturn(json("{\"ok\":true,\"channel\":{\"id\":\"D12\"}}"));
+
+		SendReport report = messageSend.send(List.of(
+			"user:alice@example.com", "user:6f1c2b1e-0000-4000-8000-000000000001", "U2", "user:nobody@example.com"), "hello");
+
+		assertThat(messageSend.accepts("user:alice@example.com")).isTrue();
+		assertThat(report.results()).containsExactlyInAnyOrder(
+			RecipientResult.delivered("user:alice@example.com"),
+			RecipientResult.delivered("user:6f1c2b1e-0000-4000-8000-000000000001"),
+			RecipientResult.delivered("U2"),
+			RecipientResult.failed("user:nobody@example.com", RecipientResult.RECIPIENT_NOT_FOUND)
+		);
+		// 같은 Slack 유저로 풀린 수신자는 한 번만 보냄 (U1, U2 그룹 DM)
+		verify(slackApiClient).post(eq("conversations.open"), eq(Map.of("users", "U1,U2")));
+	}
+
+	@Test
+	void broadcastToFiveHundredUsersRunsInParallelWithoutOpeningConversations() throws Exception {
+		JsonNode ok = json("{\"ok\":true}");
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		when(slackApiClient.post(eq("chat.postMessage"), anyString(), any(SlackPayload.class))).thenAnswer(invocation -> {
+			peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(SLACK_LATENCY_MS);
+				return ok;
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		});
+		List<String> users = IntStream.range(0, 500).mapToObj(i -> "U%04d".formatted(i)).toList();
+
+		SendReport report = messageSend.send(users, "incident broadcast");
+
+		assertThat(report.allDelivered()).isTrue();
+		assertThat(report.results()).hasSize(500);
+		// 동시에 나간 요청 수로 병렬 여부 확인, 상한은 slack.fan-out.concurrency
+		assertThat(peak.get()).isBetween(2, FAN_OUT_CONCURRENCY);
+		verify(slackApiClient, never()).post(eq("conversations.open"), any());
+	}
+
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+}
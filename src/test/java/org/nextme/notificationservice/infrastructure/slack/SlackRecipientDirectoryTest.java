@@ -0,0 +1,207 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.http.DownstreamCircuitBreakers;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlackRecipientDirectoryTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SlackApiClient slackApiClient = mock(SlackApiClient.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SlackRecipientDirectory directory = new SlackRecipientDirectory(
+		slackApiClient,
+		mock(RestClient.class),
+		new DownstreamCircuitBreakers(new StandardEnvironment(), meterRegistry),
+		meterRegistry,
+		"",
+		"/v1/users/{userId}",
+		false,
+		200,
+		Duration.ofMinutes(15),
+		1000,
+		Duration.ofHours(6),
+		Duration.ofMinutes(10)
+	);
+
+	@AfterEach
+	void tearDown() {
+		directory.shutdown();
+	}
+
+	@Test
+	void preloadedIndexAnswersWithoutCallingSlack() throws Exception {
+		when(slackApiClient.get(eq("users.list"), anyMap())).thenAnswer(invocation -> {
+			Map<String, String> params = invocation.getArgument(1);
+			return params.containsKey("cursor")
+				? json("""
+					{"ok":true,"members":[
+					  {"id":"U3","updated":120,"profile":{"email":"bot@example.com"},"is_bot":true},
+					  {"id":"U4","updated":130,"deleted":true,"profile":{"email":"gone@example.com"}}
+					],"response_metadata":{"next_cursor":""}}
+					""")
+				: json("""
+					{"ok":true,"members":[
+					  {"id":"U1","updated":100,"profile":{"email":"Alice@Example.com"}},
+					  {"id":"U2","updated":110,"profile":{}}
+					],"response_metadata":{"next_cursor":"page2"}}
+					""");
+		});
+
+		directory.refresh();
+
+		assertThat(directory.slackIdOf("user:alice@example.com")).contains("U1");
+		assertThat(directory.slackIdOf("user:ALICE@example.com ")).contains("U1");
+		verify(slackApiClient, times(2)).get(eq("users.list"), anyMap());
+		verify(slackApiClient, never()).get(eq("users.lookupByEmail"), anyMap());
+		assertThat(meterRegistry.get("slack.directory.index.size").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	void incrementalRefreshAppliesOnlyChangedMembers() throws Exception {
+		when(slackApiClient.get(eq("users.list"), anyMap()))
+			.thenReturn(json("""
+				{"ok":true,"members":[
+				  {"id":"U1","updated":100,"profile":{"email":"alice@example.com"}},
+				  {"id":"U2","updated":100,"profile":{"email":"bob@example.com"}}
+				]}
+				"""))
+			.thenReturn(json("""
+				{"ok":true,"members":[
+				  {"id":"U1","updated":100,"profile":{"email":"alice@example.com"}},
+				  {"id":"U2","updated":200,"deleted":true,"profile":{"email":"bob@example.com"}}
+				]}
+				"""));
+		when(slackApiClient.get(eq("users.lookupByEmail"), anyMap()))
+			.thenReturn(json("{\"ok\":false,\"error\":\"users_not_found\"}"));
+
+		directory.refresh();
+		assertThat(directory.slackIdOf("user:bob@example.com")).contains("U2");
+
+		directory.refresh();
+		assertThat(directory.slackIdOf("user:alice@example.com")).contains("U1");
+		assertThat(directory.slackIdOf("user:bob@example.com")).isEmpty();
+	}
+
+	@Test
+	void incrementalRefreshEvictsTheEmailAMemberMovedAwayFrom() throws Exception {
+		when(slackApiClient.get(eq("users.list"), anyMap()))
+			.thenReturn(json("""
+				{"ok":true,"members":[
+				  {"id":"U1","updated":100,"profile":{"email":"alice@example.com"}}
+				]}
+				"""))
+			.thenReturn(json("""
+				{"ok":true,"members":[
+				  {"id":"U1","updated":200,"profile":{"email":"alice.kim@example.com"}}
+				]}
+				"""));
+		when(slackApiClient.get(eq("users.lookupByEmail"), anyMap()))
+			.thenReturn(json("{\"ok\":false,\"error\":\"users_not_found\"}"));
+
+		directory.refresh();
+		assertThat(directory.slackIdOf("user:alice@example.com")).contains("U1");
+
+		directory.refresh();
+		assertThat(directory.slackIdOf("user:alice.kim@example.com")).contains("U1");
+		// 이전 이메일은 인덱스에서 빠지고 Slack 에 다시 물어봄
+		assertThat(directory.slackIdOf("user:alice@example.com")).isEmpty();
+		verify(slackApiClient).get(eq("users.lookupByEmail"), eq(Map.of("email", "alice@example.com")));
+	}
+
+	@Test
+	void missesAreNegativelyCached() throws Exception {
+		when(slackApiClient.get(eq("users.lookupByEmail"), anyMap()))
+			.thenReturn(json("{\"ok\":false,\"error\":\"users_not_found\"}"));
+
+		assertThat(directory.slackIdOf("user:nobody@example.com")).isEmpty();
+		assertThat(directory.slackIdOf("user:nobody@example.com")).isEmpty();
+
+		verify(slackApiClient, times(1)).get(eq("users.lookupByEmail"), eq(Map.of("email", "nobody@example.com")));
+		assertThat(meterRegistry.get("slack.directory.lookups").tag("result", "negative_hit").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void concurrentLookupsForTheSameRecipientShareOneCall() throws Exception {
+		JsonNode found = json("{\"ok\":true,\"user\":{\"id\":\"U9\"}}");
+		when(slackApiClient.get(eq("users.lookupByEmail"), any())).thenAnswer(invocation -> {
+			Thread.sleep(200);
+			return found;
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<CompletableFuture<Optional<String>>> lookups = IntStream.range(0, 8)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> directory.slackIdOf("user:carol@example.com"), executor))
+				.toList();
+
+			assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).contains("U9"));
+		} finally {
+			executor.shutdown();
+		}
+		verify(slackApiClient, times(1)).get(eq("users.lookupByEmail"), any());
+	}
+
+	@Test
+	void waitingLookupsAreReleasedWhenTheLeaderDiesWithAnError() throws Exception {
+		when(slackApiClient.get(eq("users.lookupByEmail"), any())).thenAnswer(invocation -> {
+			Thread.sleep(200);
+			throw new LinkageError("broken client");
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<CompletableFuture<Optional<String>>> lookups = IntStream.range(0, 8)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> directory.slackIdOf("user:dave@example.com"), executor))
+				.toList();
+
+			// 호출한 요청은 Error 를 그대로 던지고, 기다리던 요청은 빈 결과로 끝남 (join 에서 멈추지 않음)
+			CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+				.exceptionally(e -> null)
+				.get(2, TimeUnit.SECONDS);
+			assertThat(lookups).filteredOn(CompletableFuture::isCompletedExceptionally).hasSize(1);
+			assertThat(lookups).filteredOn(lookup -> !lookup.isCompletedExceptionally())
+				.allSatisfy(lookup -> assertThat(lookup.join()).isEmpty());
+		} finally {
+			executor.shutdown();
+		}
+		verify(slackApiClient, times(1)).get(eq("users.lookupByEmail"), any());
+	}
+
+	@Test
+	void userIdsAreNotResolvedWithoutUserService() {
+		assertThat(directory.slackIdOf("user:6f1c2b1e-0000-4000-8000-000000000001")).isEmpty();
+		assertThat(directory.slackIdOf("U1")).isEmpty();
+		verify(slackApiClient, never()).get(any(), any());
+	}
+
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+}
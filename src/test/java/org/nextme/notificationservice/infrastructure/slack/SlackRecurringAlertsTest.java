@@ -0,0 +1,198 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.nextme.notificationservice.domain.AlertMessage;
+import org.nextme.notificationservice.domain.AlertMessageRepository;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackMessageTemplates;
+import org.nextme.notificationservice.infrastructure.slack.template.SlackPayload;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlackRecurringAlertsTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SlackApiClient slackApiClient = mock(SlackApiClient.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SlackMessageTemplates templates = new SlackMessageTemplates();
+	private final SlackMessageSend messageSend = new SlackMessageSend(
+		slackApiClient,
+		new SlackChannelResolver(100, Duration.ofHours(1), meterRegistry),
+		templates,
+		recipient -> Optional.empty(),
+		8,
+		16,
+		false
+	);
+
+	@AfterEach
+	void tearDown() {
+		messageSend.shutdown();
+	}
+
+	@Test
+	void repeatsUpdateTheFirstMessageInPlace() throws Exception {
+		SlackRecurringAlerts alerts = alerts("update");
+		when(slackApiClient.post(eq("chat.postMessage"), eq("U1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"D1\",\"ts\":\"1700000000.000100\"}"));
+		when(slackApiClient.post(eq("chat.update"), eq("D1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true}"));
+
+		assertThat(alerts.send(List.of("U1"), "api:p99", "p99 2300ms", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+		assertThat(alerts.send(List.of("U1"), "api:p99", "p99 2500ms", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+		assertThat(alerts.send(List.of("U1"), "api:p99", "p99 2700ms", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+
+		ArgumentCaptor<SlackPayload> updates = ArgumentCaptor.forClass(SlackPayload.class);
+		verify(slackApiClient, times(1)).post(eq("chat.postMessage"), eq("U1"), any(SlackPayload.class));
+		verify(slackApiClient, times(2)).post(eq("chat.update"), eq("D1"), updates.capture());
+
+		JsonNode last = render(updates.getValue());
+		assertThat(last.path("ts").asText()).isEqualTo("1700000000.000100");
+		assertThat(last.path("text").asText()).isEqualTo("p99 2700ms");
+		assertThat(last.path("blocks").get(1).path("elements").get(0).path("text").asText()).contains("3회 발생");
+		assertThat(alerts.indexSize()).isEqualTo(1);
+	}
+
+	@Test
+	void resolutionEvictsSoTheNextOccurrencePostsAgain() throws Exception {
+		SlackRecurringAlerts alerts = alerts("update");
+		when(slackApiClient.post(eq("chat.postMessage"), eq("U1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"D1\",\"ts\":\"1.1\"}"));
+		when(slackApiClient.post(eq("chat.update"), eq("D1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true}"));
+
+		alerts.send(List.of("U1"), "disk:/var", "disk 91%", false, NotificationPriority.NORMAL);
+		alerts.send(List.of("U1"), "disk:/var", "disk 70%", true, NotificationPriority.NORMAL);
+		assertThat(alerts.indexSize()).isZero();
+
+		alerts.send(List.of("U1"), "disk:/var", "disk 92%", false, NotificationPriority.NORMAL);
+		verify(slackApiClient, times(2)).post(eq("chat.postMessage"), eq("U1"), any(SlackPayload.class));
+		verify(slackApiClient, times(1)).post(eq("chat.update"), eq("D1"), any(SlackPayload.class));
+	}
+
+	@Test
+	void resolutionWithoutAnIndexedMessageIsDropped() {
+		SlackRecurringAlerts alerts = alerts("update");
+
+		assertThat(alerts.send(List.of("U1"), "disk:/var", "disk 70%", true, NotificationPriority.NORMAL).allDelivered()).isTrue();
+
+		verify(slackApiClient, never()).post(any(), any(), any(SlackPayload.class));
+		assertThat(meterRegistry.get("slack.alert.updates").tag("action", "dropped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void persistedIndexIsReadFromTheDatabaseOnEveryRepeat() throws Exception {
+		AlertMessageRepository repository = mock(AlertMessageRepository.class);
+		SlackRecurringAlerts alerts = new SlackRecurringAlerts(messageSend, slackApiClient, templates, repository,
+			meterRegistry, true, "update", 100, Duration.ofHours(24), true);
+		LocalDateTime now = LocalDateTime.now();
+		// 다른 인스턴스가 처음 메시지를 보내고 한 번 갱신한 상태
+		AlertMessage indexed = AlertMessage.posted("api:p99", "U1", "D1", "1.1", now.minusMinutes(5), now.plusHours(1));
+		indexed.recur(now.minusMinutes(1), now.plusHours(1));
+		when(repository.findByAlertKeyAndTarget("api:p99", "U1")).thenReturn(Optional.of(indexed));
+		when(slackApiClient.post(eq("chat.update"), eq("D1"), any(SlackPayload.class))).thenReturn(json("{\"ok\":true}"));
+
+		alerts.send(List.of("U1"), "api:p99", "p99 2700ms", false, NotificationPriority.NORMAL);
+
+		ArgumentCaptor<SlackPayload> update = ArgumentCaptor.forClass(SlackPayload.class);
+		verify(slackApiClient).post(eq("chat.update"), eq("D1"), update.capture());
+		assertThat(render(update.getValue()).path("blocks").get(1).path("elements").get(0).path("text").asText())
+			.contains("3회 발생");
+		verify(repository).recordOccurrence(eq("api:p99"), eq("U1"), any(), any());
+		verify(repository, never()).save(any());
+		assertThat(alerts.indexSize()).isZero();
+	}
+
+	@Test
+	void firstPostIsRegisteredWithoutOverwritingAnotherInstancesEntry() throws Exception {
+		AlertMessageRepository repository = mock(AlertMessageRepository.class);
+		SlackRecurringAlerts alerts = new SlackRecurringAlerts(messageSend, slackApiClient, templates, repository,
+			meterRegistry, true, "update", 100, Duration.ofHours(24), true);
+		when(repository.findByAlertKeyAndTarget("api:p99", "U1")).thenReturn(Optional.empty());
+		when(slackApiClient.post(eq("chat.postMessage"), eq("U1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"D1\",\"ts\":\"1.1\"}"));
+
+		alerts.send(List.of("U1"), "api:p99", "p99 2300ms", false, NotificationPriority.NORMAL);
+
+		verify(repository).register(any(), eq("api:p99"), eq("U1"), eq("D1"), eq("1.1"), any(), any());
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	void deletedOriginalIsReplacedByANewMessage() throws Exception {
+		SlackRecurringAlerts alerts = alerts("update");
+		when(slackApiClient.post(eq("chat.postMessage"), eq("C1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"C1\",\"ts\":\"1.1\"}"))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"C1\",\"ts\":\"2.2\"}"));
+		when(slackApiClient.post(eq("chat.update"), eq("C1"), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":false,\"error\":\"message_not_found\"}"))
+			.thenReturn(json("{\"ok\":true}"));
+
+		assertThat(alerts.send(List.of("C1"), "queue:lag", "lag 10k", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+		assertThat(alerts.send(List.of("C1"), "queue:lag", "lag 20k", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+		assertThat(alerts.send(List.of("C1"), "queue:lag", "lag 30k", false, NotificationPriority.NORMAL).allDelivered()).isTrue();
+
+		ArgumentCaptor<SlackPayload> updates = ArgumentCaptor.forClass(SlackPayload.class);
+		verify(slackApiClient, times(2)).post(eq("chat.update"), eq("C1"), updates.capture());
+		assertThat(render(updates.getValue()).path("ts").asText()).isEqualTo("2.2");
+	}
+
+	@Test
+	void threadModeRepliesUnderTheFirstMessage() throws Exception {
+		SlackRecurringAlerts alerts = alerts("thread");
+		when(slackApiClient.post(eq("chat.postMessage"), any(), any(SlackPayload.class)))
+			.thenReturn(json("{\"ok\":true,\"channel\":\"D1\",\"ts\":\"1.1\"}"));
+
+		alerts.send(List.of("U1"), "api:5xx", "5xx 3%", false, NotificationPriority.NORMAL);
+		alerts.send(List.of("U1"), "api:5xx", "5xx 4%", false, NotificationPriority.NORMAL);
+
+		ArgumentCaptor<SlackPayload> reply = ArgumentCaptor.forClass(SlackPayload.class);
+		verify(slackApiClient).post(eq("chat.postMessage"), eq("D1"), reply.capture());
+		assertThat(render(reply.getValue()).path("thread_ts").asText()).isEqualTo("1.1");
+	}
+
+	@Test
+	void nonSlackRecipientsAreLeftToTheRegularPath() {
+		SlackRecurringAlerts alerts = alerts("update");
+
+		assertThat(alerts.accepts(List.of("U1", "C1", "user:dev@next-me.org"))).isTrue();
+		assertThat(alerts.accepts(List.of("U1", "mailto:ops@next-me.org"))).isFalse();
+	}
+
+	private SlackRecurringAlerts alerts(String mode) {
+		return new SlackRecurringAlerts(messageSend, slackApiClient, templates, mock(AlertMessageRepository.class),
+			meterRegistry, true, mode, 100, Duration.ofHours(24), false);
+	}
+
+	private JsonNode render(SlackPayload payload) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			payload.writeTo(generator);
+		}
+		return objectMapper.readTree(out.toByteArray());
+	}
+
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+}
@@ -0,0 +1,47 @@
+package org.nextme.notificationservice.infrastructure.slack;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackSignatureVerifierTest {
+
+	private static final byte[] BODY = "payload=%7B%22type%22%3A%22block_actions%22%7D".getBytes(StandardCharsets.UTF_8);
+
+	private final SlackSignatureVerifier verifier = new SlackSignatureVerifier("secret", Duration.ofMinutes(5));
+	private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+	private final String timestamp = String.valueOf(now.getEpochSecond());
+
+	@Test
+	void acceptsTheSignatureOfTheRawBody() {
+		assertThat(verifier.verify(timestamp, verifier.sign(timestamp, BODY), BODY, now.plusSeconds(30))).isTrue();
+	}
+
+	@Test
+	void rejectsASignatureFromAnotherSecret() {
+		String forged = new SlackSignatureVerifier("other", Duration.ofMinutes(5)).sign(timestamp, BODY);
+
+		assertThat(verifier.verify(timestamp, forged, BODY, now)).isFalse();
+	}
+
+	@Test
+	void rejectsTimestampsOutsideTheTolerance() {
+		String signature = verifier.sign(timestamp, BODY);
+
+		assertThat(verifier.verify(timestamp, signature, BODY, now.plus(Duration.ofMinutes(6)))).isFalse();
+		assertThat(verifier.verify(timestamp, signature, BODY, now.minus(Duration.ofMinutes(6)))).isFalse();
+		assertThat(verifier.verify("not-a-number", signature, BODY, now)).isFalse();
+	}
+
+	@Test
+	void rejectsEverythingWithoutASigningSecret() {
+		SlackSignatureVerifier unconfigured = new SlackSignatureVerifier("", Duration.ofMinutes(5));
+
+		assertThat(unconfigured.verify(timestamp, verifier.sign(timestamp, BODY), BODY, now)).isFalse();
+		assertThat(verifier.verify(timestamp, null, BODY, now)).isFalse();
+	}
+}
@@ -0,0 +1,111 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlackRateLimiterTest {
+
+    // api.test: Tier 4 (분당 100, 버스트 10)
+    private static final String METHOD = "api.test";
+
+    private final SlackRateLimiter rateLimiter =
+            new SlackRateLimiter(new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(200), 0, 0.8, 0.1, Duration.ofMillis(100));
+
+    @Test
+    void lowPriorityIsCappedToItsShareWhileHighKeepsTheReservedBudget() {
+        // LOW lane: 분당 10, 버스트 1 → 두 번째 호출은 6초를 기다려야 해서 max-wait 초과
+        assertThat(call(NotificationPriority.LOW)).isEqualTo("ok");
+        assertThatThrownBy(() -> call(NotificationPriority.LOW))
+                .isInstanceOf(SlackRateLimitTimeoutException.class);
+
+        // HIGH 는 lane 한도 없이 메서드 버킷만 사용
+        for (int i = 0; i < 5; i++) {
+            assertThat(call(NotificationPriority.HIGH)).isEqualTo("ok");
+        }
+    }
+
+    @Test
+    void normalFloodIsHandedBackAtItsLaneWhileHighKeepsTheReservedShare() {
+        // NORMAL lane: 분당 80, 버스트 8 / 메서드 버킷: 분당 100, 버스트 10
+        int delivered = 0;
+        int handedBack = 0;
+        for (int i = 0; i < 20; i++) {
+            try {
+                call(NotificationPriority.NORMAL);
+                delivered++;
+            } catch (SlackRateLimitTimeoutException e) {
+                // lane-max-wait(100ms) 보다 오래 기다려야 하면 잠들지 않고 바로 돌려줌 (다음 lane 토큰까지 남은 시간과 함께)
+                assertThat(e.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1));
+                handedBack++;
+            }
+        }
+        assertThat(delivered).isEqualTo(8);
+        assertThat(handedBack).isEqualTo(12);
+
+        // 거절된 NORMAL 은 메서드 버킷 토큰을 쓰지 않았으므로 HIGH 몫(버스트 10 - 8)이 그대로 남아 있음
+        assertThat(call(NotificationPriority.HIGH)).isEqualTo("ok");
+        assertThat(call(NotificationPriority.HIGH)).isEqualTo("ok");
+    }
+
+    @Test
+    void refusedLaneReservationDoesNotPushBackLaterCallers() {
+        assertThat(call(NotificationPriority.LOW)).isEqualTo("ok");
+
+        Duration first = retryAfterOf(NotificationPriority.LOW);
+        Duration second = retryAfterOf(NotificationPriority.LOW);
+
+        // 거절될 때마다 토큰을 쓰면 두 번째는 6초(LOW lane 간격) 더 밀림
+        assertThat(second).isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    void retryAfterBeyondMaxWaitIsHandedBackInsteadOfBlocking() {
+        SlackRateLimiter retrying = new SlackRateLimiter(new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(200), 5, 0.8, 0.4,
+                Duration.ofMillis(100));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retrying.execute(METHOD, null, () -> {
+            calls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+        }))
+                .isInstanceOfSatisfying(SlackRateLimitTimeoutException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(30)));
+        // max-retries 가 남아 있어도 Retry-After 가 max-wait 보다 길면 다시 기다리지 않음
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void priorityIsRestoredAfterScope() {
+        SlackRateLimiter.withPriority(NotificationPriority.HIGH, () -> {
+            assertThat(SlackRateLimiter.currentPriority()).isEqualTo(NotificationPriority.HIGH);
+            return null;
+        });
+
+        assertThat(SlackRateLimiter.currentPriority()).isEqualTo(NotificationPriority.NORMAL);
+    }
+
+    private Duration retryAfterOf(NotificationPriority priority) {
+        try {
+            call(priority);
+        } catch (SlackRateLimitTimeoutException e) {
+            return e.getRetryAfter();
+        }
+        throw new AssertionError("expected " + priority + " call to be rate limited");
+    }
+
+    private String call(NotificationPriority priority) {
+        return SlackRateLimiter.withPriority(priority, () -> rateLimiter.execute(METHOD, null, () -> "ok"));
+    }
+}
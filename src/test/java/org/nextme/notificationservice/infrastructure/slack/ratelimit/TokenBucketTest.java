@@ -0,0 +1,63 @@
+package org.nextme.notificationservice.infrastructure.slack.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstIsServedImmediatelyThenSmoothedToRate() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+        long now = 0;
+
+        assertThat(bucket.reserve(now)).isZero();
+        assertThat(bucket.reserve(now)).isZero();
+        assertThat(bucket.reserve(now)).isZero();
+        assertThat(bucket.reserve(now)).isEqualTo(SECOND);
+        assertThat(bucket.reserve(now)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void pauseDelaysOnlyUntilRetryAfterAndResumesWithoutBurst() {
+        TokenBucket bucket = new TokenBucket(1, 3);
+        long now = 0;
+
+        bucket.pauseUntil(now + 30 * SECOND);
+
+        assertThat(bucket.isPaused(now)).isTrue();
+        assertThat(bucket.reserve(now)).isEqualTo(30 * SECOND);
+        assertThat(bucket.reserve(now)).isEqualTo(31 * SECOND);
+        assertThat(bucket.isPaused(now + 30 * SECOND)).isFalse();
+    }
+
+    @Test
+    void tryReserveRefusesWithoutConsumingWhenTheWaitIsTooLong() {
+        TokenBucket bucket = new TokenBucket(1, 1);
+        long now = 0;
+
+        assertThat(bucket.tryReserve(now, 0)).isZero();
+        assertThat(bucket.tryReserve(now, SECOND / 2)).isEqualTo(-1);
+        assertThat(bucket.waitNanos(now)).isEqualTo(SECOND);
+        assertThat(bucket.tryReserve(now, SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.waitNanos(now)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void idleBucketRefillsUpToBurst() {
+        TokenBucket bucket = new TokenBucket(1, 2);
+
+        bucket.reserve(0);
+        bucket.reserve(0);
+        long later = 100 * SECOND;
+
+        assertThat(bucket.isIdle(later)).isTrue();
+        assertThat(bucket.reserve(later)).isZero();
+        assertThat(bucket.reserve(later)).isZero();
+        assertThat(bucket.reserve(later)).isEqualTo(SECOND);
+    }
+}
@@ -0,0 +1,99 @@
+package org.nextme.notificationservice.infrastructure.slack.template;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlackMessageTemplatesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SlackMessageTemplates templates = new SlackMessageTemplates();
+
+    @Test
+    void approvalRequestMatchesPreviousMapLayout() throws Exception {
+        String message = "*CPU 95%* \"promotion-api\"\n롤백할까요?";
+
+        JsonNode rendered = objectMapper.readTree(render(templates.approvalRequest("D123", message, "rollback", "v42")));
+        JsonNode legacy = objectMapper.valueToTree(legacyApprovalRequest("D123", message, "rollback", "v42"));
+
+        // block_id 는 전송 시각이 들어가므로 비교에서 제외
+        ((ObjectNode) rendered.path("blocks").get(2)).remove("block_id");
+        ((ObjectNode) legacy.path("blocks").get(2)).remove("block_id");
+        assertThat(rendered).isEqualTo(legacy);
+    }
+
+    @Test
+    void plainMessageEscapesTextAndWritesNullSlots() throws Exception {
+        JsonNode rendered = objectMapper.readTree(render(templates.plainMessage("C1", "a \"quoted\" \\ line\n")));
+        assertThat(rendered.path("text").asText()).isEqualTo("a \"quoted\" \\ line\n");
+
+        JsonNode withNull = objectMapper.readTree(render(templates.plainMessage("C1", null)));
+        assertThat(withNull.path("text").isNull()).isTrue();
+    }
+
+    @Test
+    void compileRejectsUndeclaredSlots() {
+        assertThatThrownBy(() -> SlackTemplate.compile("broken", "{\"text\":\"{{missing}}\"}", "text"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String render(SlackPayload payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTemplate(out, payload);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void writeTemplate(OutputStream out, SlackPayload payload) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            payload.writeTo(generator);
+        }
+    }
+
+    /**
+     * 템플릿 도입 전 SlackInteractiveMessageSend 가 만들던 Map 트리
+     */
+    private static Map<String, Object> legacyApprovalRequest(String channel, String message, String actionId,
+            String actionValue) {
+        return Map.of(
+            "channel", channel,
+            "text", message,
+            "blocks", List.of(
+                Map.of("type", "section", "text", Map.of("type", "mrkdwn", "text", message)),
+                Map.of("type", "divider"),
+                Map.of(
+                    "type", "actions",
+                    "block_id", "actions_block_" + System.currentTimeMillis(),
+                    "elements", List.of(
+                        Map.of(
+                            "type", "button",
+                            "text", Map.of("type", "plain_text", "text", "✅ 실행", "emoji", true),
+                            "style", "primary",
+                            "action_id", actionId + "_approve",
+                            "value", actionValue
+                        ),
+                        Map.of(
+                            "type", "button",
+                            "text", Map.of("type", "plain_text", "text", "❌ 거부", "emoji", true),
+                            "style", "danger",
+                            "action_id", actionId + "_reject",
+                            "value", actionValue
+                        )
+                    )
+                )
+            )
+        );
+    }
+}
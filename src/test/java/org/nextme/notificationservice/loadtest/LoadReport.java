@@ -0,0 +1,122 @@
+package org.nextme.notificationservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트 집계
+ *
+ * - 보낸 메시지 텍스트에 "lt:{id}:{nanoTime}" 마커를 넣고, Slack 대역이 받은 시점과의 차이로 end-to-end 지연 측정
+ * - 같은 id 가 여러 번 도착하면(재시도/중복) 첫 도착만 집계
+ */
+public final class LoadReport {
+
+	private static final Pattern MARKER = Pattern.compile("lt:(\\d+):(\\d+)");
+
+	private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(10), 3);
+	private final Set<Long> delivered = ConcurrentHashMap.newKeySet();
+	private final LongAdder duplicates = new LongAdder();
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final AtomicLong firstSentAt = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong lastDeliveredAt = new AtomicLong();
+	private final AtomicLong ids = new AtomicLong();
+
+	/**
+	 * 마커가 들어간 메시지 텍스트 생성 (호출 시점을 전송 시각으로 기록)
+	 */
+	public String nextMessage(String prefix) {
+		long now = System.nanoTime();
+		firstSentAt.accumulateAndGet(now, Math::min);
+		return prefix + " lt:" + ids.incrementAndGet() + ":" + now;
+	}
+
+	/**
+	 * 서비스가 접수한 메시지 (Kafka 발행 완료 / HTTP 2xx)
+	 */
+	public void sent() {
+		sent.increment();
+	}
+
+	/**
+	 * 서비스가 실패로 응답했거나 접수 자체를 거절한 메시지
+	 */
+	public void failed() {
+		failed.increment();
+	}
+
+	/**
+	 * Slack 대역이 받은 메시지 텍스트
+	 */
+	public void received(String text) {
+		if (text == null) {
+			return;
+		}
+		Matcher matcher = MARKER.matcher(text);
+		if (!matcher.find()) {
+			return;
+		}
+		long now = System.nanoTime();
+		long id = Long.parseLong(matcher.group(1));
+		long sentAt = Long.parseLong(matcher.group(2));
+		if (!delivered.add(id)) {
+			duplicates.increment();
+			return;
+		}
+		latency.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(now - sentAt)));
+		lastDeliveredAt.accumulateAndGet(now, Math::max);
+	}
+
+	public long sentCount() {
+		return sent.sum();
+	}
+
+	public long deliveredCount() {
+		return delivered.size();
+	}
+
+	public long failedCount() {
+		return failed.sum();
+	}
+
+	public long dropped() {
+		return Math.max(0, sentCount() - deliveredCount());
+	}
+
+	public double throughputPerSecond() {
+		long elapsed = lastDeliveredAt.get() - firstSentAt.get();
+		return elapsed <= 0 ? 0 : deliveredCount() / (elapsed / 1e9);
+	}
+
+	public String summary(String title, SlackApiSimulator slack) {
+		return """
+			===== %s =====
+			sent: %d, delivered: %d, failed: %d, dropped: %d, duplicates: %d
+			sustained throughput: %.1f msg/s
+			end-to-end latency (ms): p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f
+			slack requests: conversations.open %d, chat.postMessage %d, chat.update %d, response_url %d
+			slack 429: limit %d, injected %d / injected channel_not_found: %d
+			""".formatted(
+			title,
+			sentCount(), deliveredCount(), failedCount(), dropped(), duplicates.sum(),
+			throughputPerSecond(),
+			percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+			latency.getMaxValue() / 1000.0,
+			slack.requests("conversations.open"), slack.requests("chat.postMessage"),
+			slack.requests("chat.update"), slack.requests("response_url"),
+			slack.rateLimited(), slack.injectedRateLimited(), slack.injectedChannelNotFound()
+		);
+	}
+
+	private double percentileMillis(double percentile) {
+		return latency.getValueAtPercentile(percentile) / 1000.0;
+	}
+}
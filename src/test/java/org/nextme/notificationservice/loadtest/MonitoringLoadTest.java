@@ -0,0 +1,228 @@
+package org.nextme.notificationservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.kafka.KafkaConfig;
+import org.nextme.notificationservice.infrastructure.kafka.event.MonitoringNotificationEvent;
+import org.nextme.notificationservice.presentation.dto.SlackUserMessageRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * end-to-end 부하 테스트 (기본 test 태스크에서는 제외, ./gradlew loadTest 로 실행)
+ *
+ * - embedded Kafka → MonitoringNotificationConsumer → Slack 대역
+ * - POST /v1/notifications/slack/users → Slack 대역
+ * - 목표 속도로 일정 시간 보낸 뒤, 처리량/지연 분포/유실 건수를 로그로 남기고 build/reports/loadtest/ 에 저장
+ *
+ * 조절: -Dloadtest.rate=20 -Dloadtest.duration=60s -Dloadtest.users=500 -Dloadtest.http-async=true
+ *      -Dloadtest.ratelimited-rate=0.01 -Dloadtest.channel-not-found-rate=0.001
+ */
+@Tag("load")
+@EmbeddedKafka(partitions = 3, topics = KafkaConfig.MONITORING_NOTIFICATION_TOPIC)
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+		"spring.cloud.config.enabled=false",
+		"eureka.client.enabled=false",
+		"slack.token=xoxb-load-test",
+		"promotion.service.url=http://127.0.0.1:9",
+		"http.client.warmup.enabled=false",
+		"slack.directory.enabled=false",
+		"notification.spillover.journal=build/load-test/notification-spillover.ndjson",
+		// 재시도 토픽으로 간 알림이 drain 대기 시간 안에 다시 처리되도록 backoff 를 줄임
+		"notification.kafka.retry.initial-delay-ms=500",
+		"notification.kafka.retry.max-delay-ms=5000"
+	}
+)
+class MonitoringLoadTest {
+
+	private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "8"));
+	private static final Duration DURATION = Duration.parse("PT" + System.getProperty("loadtest.duration", "30s"));
+	private static final int USERS = Integer.getInteger("loadtest.users", 200);
+	private static final boolean HTTP_ASYNC = Boolean.parseBoolean(System.getProperty("loadtest.http-async", "false"));
+	private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(2);
+
+	private static final Logger log = LoggerFactory.getLogger(MonitoringLoadTest.class);
+	private static final Path REPORT_FILE = Path.of("build", "reports", "loadtest", "monitoring-load-test.txt");
+
+	private static final LoadReport REPORT = new LoadReport();
+	private static final SlackApiSimulator SLACK = startSlack(REPORT::received);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Autowired
+	private EmbeddedKafkaBroker broker;
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void slackProperties(DynamicPropertyRegistry registry) {
+		registry.add("slack.api.base-url", SLACK::baseUrl);
+	}
+
+	@AfterAll
+	static void stopSlack() {
+		SLACK.close();
+	}
+
+	@Test
+	void sustainedLoad() throws Exception {
+		KafkaTemplate<String, String> kafka = kafkaTemplate();
+		HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+		List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+		// 절반은 Kafka, 절반은 HTTP 로 같은 속도를 나눠서 보냄
+		long intervalNanos = (long) (1e9 / RATE);
+		long deadline = System.nanoTime() + DURATION.toNanos();
+		long next = System.nanoTime();
+		boolean viaKafka = true;
+
+		while (next < deadline) {
+			LockSupport.parkNanos(next - System.nanoTime());
+			inFlight.add(viaKafka ? sendViaKafka(kafka) : sendViaHttp(http));
+			viaKafka = !viaKafka;
+			next += intervalNanos;
+		}
+
+		CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+		awaitDrain();
+
+		String summary = REPORT.summary(
+			"monitoring load test (%.1f msg/s for %s, %d users, http async=%s)".formatted(RATE, DURATION, USERS, HTTP_ASYNC),
+			SLACK);
+		log.info("{}", summary);
+		writeReport(summary);
+
+		// 유실은 주입한 channel_not_found 로만 설명되어야 함
+		assertThat(REPORT.sentCount()).isPositive();
+		assertThat(REPORT.dropped()).isLessThanOrEqualTo(SLACK.injectedChannelNotFound());
+	}
+
+	private CompletableFuture<?> sendViaKafka(KafkaTemplate<String, String> kafka) {
+		MonitoringNotificationEvent event = new MonitoringNotificationEvent(
+			List.of(randomUser()), REPORT.nextMessage("[kafka] load alert"));
+		return kafka.send(KafkaConfig.MONITORING_NOTIFICATION_TOPIC, toJson(event))
+			.whenComplete((result, error) -> {
+				if (error == null) {
+					REPORT.sent();
+				} else {
+					REPORT.failed();
+				}
+			});
+	}
+
+	private CompletableFuture<?> sendViaHttp(HttpClient http) {
+		SlackUserMessageRequest body = new SlackUserMessageRequest(
+			List.of(randomUser()), REPORT.nextMessage("[http] load alert"));
+		HttpRequest request = HttpRequest.newBuilder(
+				URI.create("http://127.0.0.1:" + port + "/v1/notifications/slack/users?async=" + HTTP_ASYNC))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+			.build();
+		return http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+			.whenComplete((response, error) -> {
+				if (error == null && response.statusCode() / 100 == 2) {
+					REPORT.sent();
+				} else {
+					REPORT.failed();
+				}
+			});
+	}
+
+	/**
+	 * 전달 건수가 더 늘지 않을 때까지 (최대 DRAIN_TIMEOUT) 대기
+	 */
+	private void awaitDrain() throws InterruptedException {
+		long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+		long lastDelivered = -1;
+		int stableSeconds = 0;
+		while (System.nanoTime() < deadline && REPORT.dropped() > 0 && stableSeconds < 10) {
+			Thread.sleep(1000);
+			long delivered = REPORT.deliveredCount();
+			stableSeconds = delivered == lastDelivered ? stableSeconds + 1 : 0;
+			lastDelivered = delivered;
+		}
+	}
+
+	private KafkaTemplate<String, String> kafkaTemplate() {
+		Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+	}
+
+	private static String randomUser() {
+		return "ULOAD%05d".formatted(ThreadLocalRandom.current().nextInt(USERS));
+	}
+
+	private String toJson(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static SlackApiSimulator startSlack(Consumer<String> onText) {
+		try {
+			return SlackApiSimulator.builder()
+				.latency("conversations.open", Duration.ofMillis(60), Duration.ofMillis(300))
+				.latency("chat.postMessage", Duration.ofMillis(80), Duration.ofMillis(400))
+				.latency("chat.update", Duration.ofMillis(80), Duration.ofMillis(400))
+				.rateLimit("conversations.open", Integer.getInteger("loadtest.open-limit", 50))
+				.rateLimit("chat.postMessage", Integer.getInteger("loadtest.post-limit", 50))
+				.ratelimitedRate(Double.parseDouble(System.getProperty("loadtest.ratelimited-rate", "0.01")))
+				.channelNotFoundRate(Double.parseDouble(System.getProperty("loadtest.channel-not-found-rate", "0.001")))
+				.onMessage(message -> onText.accept(message.path("text").asText(null)))
+				.start();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeReport(String summary) {
+		try {
+			Files.createDirectories(REPORT_FILE.getParent());
+			Files.writeString(REPORT_FILE, summary);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
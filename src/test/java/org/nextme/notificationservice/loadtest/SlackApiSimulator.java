@@ -0,0 +1,309 @@
+package org.nextme.notificationservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 Slack Web API 대역 (부하 테스트용)
+ *
+ * - conversations.open / chat.postMessage / chat.update / response_url 구현
+ * - 메서드별 지연 분포(log-normal, 중앙값 + p99), 메서드별 초당 한도 (넘으면 429 + Retry-After)
+ * - 확률적 오류 주입: ratelimited(429), channel_not_found
+ * - chat.postMessage / chat.update 로 받은 본문은 onMessage 콜백으로 넘김 (지연 측정용)
+ */
+public final class SlackApiSimulator implements AutoCloseable {
+
+	public static final String RESPONSE_URL_PATH = "/response/";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Map<String, Latency> latencies;
+	private final Map<String, Integer> rateLimits;
+	private final double ratelimitedRate;
+	private final double channelNotFoundRate;
+	private final int retryAfterSeconds;
+	private final Consumer<JsonNode> onMessage;
+
+	private final Map<String, WindowCounter> windows = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+	private final LongAdder rateLimited = new LongAdder();
+	private final LongAdder injectedRateLimited = new LongAdder();
+	private final LongAdder injectedChannelNotFound = new LongAdder();
+	private final AtomicLong messageTs = new AtomicLong(1_700_000_000_000_000L);
+
+	private SlackApiSimulator(Builder builder) throws IOException {
+		this.latencies = Map.copyOf(builder.latencies);
+		this.rateLimits = Map.copyOf(builder.rateLimits);
+		this.ratelimitedRate = builder.ratelimitedRate;
+		this.channelNotFoundRate = builder.channelNotFoundRate;
+		this.retryAfterSeconds = builder.retryAfterSeconds;
+		this.onMessage = builder.onMessage;
+
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		server.createContext("/api/", this::handleApi);
+		server.createContext(RESPONSE_URL_PATH, this::handleResponseUrl);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * slack.api.base-url 로 넣을 주소
+	 */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+	}
+
+	/**
+	 * interactive callback payload 의 response_url 로 넣을 주소
+	 */
+	public String responseUrl(String id) {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + RESPONSE_URL_PATH + id;
+	}
+
+	public long requests(String method) {
+		LongAdder count = requests.get(method);
+		return count == null ? 0 : count.sum();
+	}
+
+	public long rateLimited() {
+		return rateLimited.sum();
+	}
+
+	public long injectedRateLimited() {
+		return injectedRateLimited.sum();
+	}
+
+	public long injectedChannelNotFound() {
+		return injectedChannelNotFound.sum();
+	}
+
+	private void handleApi(HttpExchange exchange) throws IOException {
+		String method = exchange.getRequestURI().getPath().substring("/api/".length());
+		requests.computeIfAbsent(method, key -> new LongAdder()).increment();
+		byte[] body = readBody(exchange);
+
+		sleep(latencies.getOrDefault(method, Latency.NONE));
+
+		Integer limit = rateLimits.get(method);
+		if (limit != null && !windows.computeIfAbsent(method, key -> new WindowCounter()).tryAcquire(limit)) {
+			rateLimited.increment();
+			respondRateLimited(exchange);
+			return;
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < ratelimitedRate) {
+			injectedRateLimited.increment();
+			respondRateLimited(exchange);
+			return;
+		}
+
+		switch (method) {
+			case "conversations.open" -> {
+				String users = field(exchange, body, "users");
+				respond(exchange, 200, Map.of("ok", true, "channel", Map.of("id", dmChannelOf(users))));
+			}
+			case "chat.postMessage", "chat.update" -> {
+				if (random.nextDouble() < channelNotFoundRate) {
+					injectedChannelNotFound.increment();
+					respond(exchange, 200, Map.of("ok", false, "error", "channel_not_found"));
+					return;
+				}
+				JsonNode json = objectMapper.readTree(body);
+				String ts = "chat.update".equals(method)
+					? json.path("ts").asText()
+					: formatTs(messageTs.incrementAndGet());
+				onMessage.accept(json);
+				respond(exchange, 200, Map.of("ok", true, "channel", json.path("channel").asText(), "ts", ts));
+			}
+			default -> respond(exchange, 200, Map.of("ok", false, "error", "unknown_method"));
+		}
+	}
+
+	private void handleResponseUrl(HttpExchange exchange) throws IOException {
+		requests.computeIfAbsent("response_url", key -> new LongAdder()).increment();
+		byte[] body = readBody(exchange);
+		sleep(latencies.getOrDefault("response_url", Latency.NONE));
+		onMessage.accept(objectMapper.readTree(body));
+
+		byte[] ok = "ok".getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, ok.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(ok);
+		}
+	}
+
+	/**
+	 * JSON 본문 또는 form 본문(users=U1,U2)에서 필드 추출
+	 */
+	private String field(HttpExchange exchange, byte[] body, String name) throws IOException {
+		String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+		if (contentType != null && contentType.startsWith("application/json")) {
+			return objectMapper.readTree(body).path(name).asText();
+		}
+		Map<String, String> form = new HashMap<>();
+		for (String pair : new String(body, StandardCharsets.UTF_8).split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0) {
+				form.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+			}
+		}
+		return form.getOrDefault(name, "");
+	}
+
+	private static String dmChannelOf(String users) {
+		String sorted = String.join(",", new TreeSet<>(Arrays.asList(users.split(","))));
+		return "D" + Integer.toHexString(sorted.hashCode()).toUpperCase();
+	}
+
+	private static String formatTs(long micros) {
+		return (micros / 1_000_000) + "." + String.format("%06d", micros % 1_000_000);
+	}
+
+	private void respondRateLimited(HttpExchange exchange) throws IOException {
+		exchange.getResponseHeaders().set("Retry-After", Integer.toString(retryAfterSeconds));
+		respond(exchange, 429, Map.of("ok", false, "error", "ratelimited"));
+	}
+
+	private void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static byte[] readBody(HttpExchange exchange) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static void sleep(Latency latency) {
+		long nanos = latency.sampleNanos();
+		if (nanos <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(Duration.ofNanos(nanos));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * log-normal 지연 분포 (중앙값, p99 로 지정)
+	 */
+	public record Latency(Duration median, Duration p99) {
+
+		static final Latency NONE = new Latency(Duration.ZERO, Duration.ZERO);
+
+		// 표준정규분포 99 백분위수
+		private static final double Z_99 = 2.3263;
+
+		long sampleNanos() {
+			if (median.isZero()) {
+				return 0;
+			}
+			double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+			return (long) (median.toNanos() * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+		}
+	}
+
+	/**
+	 * 1초 고정 윈도우 카운터 (Slack 의 분당 한도를 초 단위로 단순화)
+	 */
+	private static final class WindowCounter {
+
+		private long windowStart = System.nanoTime();
+		private int count;
+
+		synchronized boolean tryAcquire(int limitPerSecond) {
+			long now = System.nanoTime();
+			if (now - windowStart >= 1_000_000_000L) {
+				windowStart = now;
+				count = 0;
+			}
+			return ++count <= limitPerSecond;
+		}
+	}
+
+	public static final class Builder {
+
+		private final Map<String, Latency> latencies = new HashMap<>();
+		private final Map<String, Integer> rateLimits = new HashMap<>();
+		private double ratelimitedRate;
+		private double channelNotFoundRate;
+		private int retryAfterSeconds = 1;
+		private Consumer<JsonNode> onMessage = message -> {
+		};
+
+		public Builder latency(String method, Duration median, Duration p99) {
+			latencies.put(method, new Latency(median, p99));
+			return this;
+		}
+
+		public Builder rateLimit(String method, int permitsPerSecond) {
+			rateLimits.put(method, permitsPerSecond);
+			return this;
+		}
+
+		public Builder ratelimitedRate(double rate) {
+			this.ratelimitedRate = rate;
+			return this;
+		}
+
+		public Builder channelNotFoundRate(double rate) {
+			this.channelNotFoundRate = rate;
+			return this;
+		}
+
+		public Builder retryAfterSeconds(int seconds) {
+			this.retryAfterSeconds = seconds;
+			return this;
+		}
+
+		public Builder onMessage(Consumer<JsonNode> onMessage) {
+			this.onMessage = onMessage;
+			return this;
+		}
+
+		public SlackApiSimulator start() throws IOException {
+			return new SlackApiSimulator(this);
+		}
+	}
+}
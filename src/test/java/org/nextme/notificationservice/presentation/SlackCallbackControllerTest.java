@@ -0,0 +1,129 @@
+package org.nextme.notificationservice.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteraction;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteractionHandler;
+import org.nextme.notificationservice.infrastructure.slack.SlackInteractionHandler.Acceptance;
+import org.nextme.notificationservice.infrastructure.slack.SlackSignatureVerifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlackCallbackControllerTest {
+
+	private static final String PAYLOAD = """
+		{"user":{"id":"U1"},"trigger_id":"T1","response_url":"https://hooks.slack.com/actions/T1/1/abc",
+		 "actions":[{"action_id":"monitoring_action_approve","value":"restart","action_ts":"1.0"}]}
+		""";
+
+	private static final String SIGNING_SECRET = "8f742231b10e8888abcd99yyyzzz85a5";
+
+	private final SlackInteractionHandler interactionHandler = mock(SlackInteractionHandler.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SlackCallbackController controller = new SlackCallbackController(new ObjectMapper(),
+		interactionHandler, meterRegistry, new SlackSignatureVerifier(SIGNING_SECRET, Duration.ofMinutes(5)));
+
+	@Test
+	void clickIsAcknowledgedAsSoonAsItIsQueued() {
+		when(interactionHandler.accept(any())).thenReturn(Acceptance.ACCEPTED);
+
+		assertThat(handle(PAYLOAD).getStatusCode()).isEqualTo(HttpStatus.OK);
+		verify(interactionHandler).accept(argThat((SlackInteraction interaction) ->
+			interaction.idempotencyKey().equals("T1:monitoring_action_approve:1.0")
+				&& interaction.responseUrl().endsWith("/abc")));
+		assertThat(meterRegistry.get("slack.callback.ack").tag("outcome", "accepted").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void duplicateIsAcknowledgedSoSlackStopsRetrying() {
+		when(interactionHandler.accept(any())).thenReturn(Acceptance.DUPLICATE);
+
+		assertThat(handle(PAYLOAD).getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void fullQueueAsksSlackToRetry() {
+		when(interactionHandler.accept(any())).thenReturn(Acceptance.REJECTED);
+
+		assertThat(handle(PAYLOAD).getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	@Test
+	void unsignedCallbackIsRejectedBeforeAnythingRuns() {
+		MockHttpServletRequest request = request(form(PAYLOAD));
+
+		assertThat(controller.handleInteractive(null, null, request).getStatusCode())
+			.isEqualTo(HttpStatus.UNAUTHORIZED);
+		verify(interactionHandler, never()).accept(any());
+		assertThat(meterRegistry.get("slack.callback.ack").tag("outcome", "unauthorized").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void tamperedBodyIsRejected() {
+		String timestamp = String.valueOf(Instant.now().getEpochSecond());
+		String signature = sign(timestamp, form(PAYLOAD));
+		String tampered = form(PAYLOAD.replace("restart", "drop-database"));
+
+		assertThat(controller.handleInteractive(timestamp, signature, request(tampered)).getStatusCode())
+			.isEqualTo(HttpStatus.UNAUTHORIZED);
+		verify(interactionHandler, never()).accept(any());
+	}
+
+	@Test
+	void replayedCallbackIsRejected() {
+		String timestamp = String.valueOf(Instant.now().minus(Duration.ofMinutes(6)).getEpochSecond());
+		String body = form(PAYLOAD);
+
+		assertThat(controller.handleInteractive(timestamp, sign(timestamp, body), request(body)).getStatusCode())
+			.isEqualTo(HttpStatus.UNAUTHORIZED);
+		verify(interactionHandler, never()).accept(any());
+	}
+
+	private ResponseEntity<Void> handle(String payload) {
+		String timestamp = String.valueOf(Instant.now().getEpochSecond());
+		String body = form(payload);
+		return controller.handleInteractive(timestamp, sign(timestamp, body), request(body));
+	}
+
+	private static String form(String payload) {
+		return "token=legacy&payload=" + URLEncoder.encode(payload, StandardCharsets.UTF_8);
+	}
+
+	private static MockHttpServletRequest request(String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/notifications/interactive");
+		request.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	private static String sign(String timestamp, String body) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return "v0=" + HexFormat.of().formatHex(
+				mac.doFinal(("v0:" + timestamp + ":" + body).getBytes(StandardCharsets.UTF_8)));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package org.nextme.notificationservice.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.nextme.notificationservice.application.NotificationDelivery;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.application.OutboundNotification;
+import org.nextme.notificationservice.domain.NotificationMessage;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.presentation.dto.BulkAcceptResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkNotificationControllerTest {
+
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final BulkNotificationController controller = new BulkNotificationController(
+		notificationService, new ObjectMapper(), new SimpleMeterRegistry(), 2, 5, 3, Duration.ZERO);
+
+	@Test
+	void ndjsonItemsAreAcceptedInChunksWithPerItemResults() throws Exception {
+		acceptEverything();
+
+		BulkAcceptResponse response = post("""
+			{"slackUserIds":["U1"],"text":"first"}
+			{"slackUserIds":"U2","text":"wrong type"}
+			{"slackUserIds":["U3"],"text":"urgent","priority":"HIGH"}
+			{"slackUserIds":["U4"],"text":"bad priority","priority":"URGENT"}
+			{"slackUserIds":["U5"],"text":""}
+			""");
+
+		assertThat(response.complete()).isTrue();
+		assertThat(response.accepted()).isEqualTo(2);
+		assertThat(response.items()).extracting(BulkAcceptResponse.Item::error)
+			.containsExactly(null, "invalid_request", null, "invalid_priority", "invalid_request");
+		verify(notificationService, times(1)).acceptAll(anyList(), any());
+	}
+
+	@Test
+	void itemsWithTooManyOrOversizedRecipientsAreRejected() throws Exception {
+		acceptEverything();
+
+		BulkAcceptResponse response = post("""
+			{"slackUserIds":["U1","U2","U3"],"text":"fits"}
+			{"slackUserIds":["U1","U2"],"emails":["a@next-me.org","b@next-me.org"],"text":"four recipients"}
+			{"slackUserIds":["%s"],"text":"too long"}
+			""".formatted("U".repeat(NotificationMessage.RECIPIENT_LENGTH + 1)));
+
+		assertThat(response.accepted()).isEqualTo(1);
+		assertThat(response.items()).extracting(BulkAcceptResponse.Item::error)
+			.containsExactly(null, "too_many_recipients", "invalid_recipient");
+	}
+
+	@Test
+	void jsonArrayIsReadElementByElement() throws Exception {
+		acceptEverything();
+
+		BulkAcceptResponse response = post("""
+			[{"slackUserIds":["U1"],"text":"a"},{"slackUserIds":["U2"],"text":"b"},{"slackUserIds":["U3"],"text":"c"}]
+			""");
+
+		assertThat(response.accepted()).isEqualTo(3);
+		assertThat(response.items()).extracting(BulkAcceptResponse.Item::index).containsExactly(0, 1, 2);
+		verify(notificationService, times(2)).acceptAll(anyList(), any());
+	}
+
+	@Test
+	void fullQueueRejectsOnlyTheItemsThatDidNotFit() throws Exception {
+		when(notificationService.acceptAll(anyList(), any())).thenAnswer(invocation -> {
+			List<OutboundNotification> notifications = invocation.getArgument(0);
+			return notifications.stream()
+				.map(notification -> notification.priority() == NotificationPriority.LOW
+					? Optional.<NotificationDelivery>empty()
+					: Optional.of(delivery(notification)))
+				.toList();
+		});
+
+		BulkAcceptResponse response = post("""
+			{"slackUserIds":["U1"],"text":"normal"}
+			{"slackUserIds":["U2"],"text":"bulk notice","priority":"LOW"}
+			""");
+
+		assertThat(response.items()).extracting(BulkAcceptResponse.Item::status).containsExactly("ACCEPTED", "REJECTED");
+		assertThat(response.items().get(1).error()).isEqualTo("queue_full");
+	}
+
+	@Test
+	void malformedJsonStopsAfterTheItemsReadSoFar() throws Exception {
+		acceptEverything();
+
+		ResponseEntity<BulkAcceptResponse> result = controller.acceptBulk(body("""
+			{"slackUserIds":["U1"],"text":"ok"}
+			{"slackUserIds":["U2"],"text":
+			"""));
+
+		// 잘못된 본문은 4xx, 오류 전까지 접수된 항목은 본문에 그대로
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		BulkAcceptResponse response = result.getBody();
+		assertThat(response.complete()).isFalse();
+		assertThat(response.error()).isEqualTo("malformed_json");
+		assertThat(response.accepted()).isEqualTo(1);
+	}
+
+	@Test
+	void itemsBeyondTheLimitAreNotRead() throws Exception {
+		acceptEverything();
+
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 7; i++) {
+			body.append("{\"slackUserIds\":[\"U").append(i).append("\"],\"text\":\"t\"}\n");
+		}
+		BulkAcceptResponse response = post(body.toString());
+
+		assertThat(response.complete()).isFalse();
+		assertThat(response.error()).isEqualTo("too_many_items");
+		assertThat(response.items()).hasSize(5);
+	}
+
+	@Test
+	void queueWaitIsOneBudgetForTheWholeRequest() throws Exception {
+		BulkNotificationController waiting = new BulkNotificationController(
+			notificationService, new ObjectMapper(), new SimpleMeterRegistry(), 2, 10, 3, Duration.ofSeconds(1));
+		when(notificationService.acceptAll(anyList(), any())).thenAnswer(invocation -> {
+			// 큐가 가득 차서 chunk 마다 기다린 것처럼
+			Thread.sleep(300);
+			List<OutboundNotification> notifications = invocation.getArgument(0);
+			return notifications.stream().map(notification -> Optional.of(delivery(notification))).toList();
+		});
+
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 6; i++) {
+			body.append("{\"slackUserIds\":[\"U").append(i).append("\"],\"text\":\"t\"}\n");
+		}
+		waiting.acceptBulk(body(body.toString()));
+
+		ArgumentCaptor<Duration> budgets = ArgumentCaptor.forClass(Duration.class);
+		verify(notificationService, times(3)).acceptAll(anyList(), budgets.capture());
+		assertThat(budgets.getAllValues().get(0)).isLessThanOrEqualTo(Duration.ofSeconds(1));
+		assertThat(budgets.getAllValues().get(1)).isLessThanOrEqualTo(Duration.ofMillis(700));
+		assertThat(budgets.getAllValues().get(2)).isLessThanOrEqualTo(Duration.ofMillis(400));
+	}
+
+	private void acceptEverything() {
+		when(notificationService.acceptAll(anyList(), any())).thenAnswer(invocation -> {
+			List<OutboundNotification> notifications = invocation.getArgument(0);
+			return notifications.stream().map(notification -> Optional.of(delivery(notification))).toList();
+		});
+	}
+
+	private static NotificationDelivery delivery(OutboundNotification notification) {
+		return NotificationDelivery.pending(UUID.randomUUID(), notification.recipients());
+	}
+
+	private BulkAcceptResponse post(String body) throws Exception {
+		return controller.acceptBulk(body(body)).getBody();
+	}
+
+	private static ByteArrayInputStream body(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
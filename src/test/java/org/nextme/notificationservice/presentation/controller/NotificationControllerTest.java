@@ -0,0 +1,102 @@
+package org.nextme.notificationservice.presentation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.nextme.notificationservice.application.NotificationDelivery;
+import org.nextme.notificationservice.application.NotificationScheduler;
+import org.nextme.notificationservice.application.NotificationService;
+import org.nextme.notificationservice.domain.MessageStatus;
+import org.nextme.notificationservice.domain.NotificationPriority;
+import org.nextme.notificationservice.presentation.dto.DeliveryStatusResponse;
+import org.nextme.notificationservice.presentation.dto.SlackUserMessageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationControllerTest {
+
+	private final NotificationService notificationService = mock(NotificationService.class);
+	private final NotificationScheduler notificationScheduler = mock(NotificationScheduler.class);
+	private final NotificationController controller = new NotificationController(notificationService, notificationScheduler);
+
+	@Test
+	void asyncRequestIsAcceptedWithLocationOfTheDelivery() {
+		NotificationDelivery delivery = NotificationDelivery.pending(UUID.randomUUID(), List.of("U1"));
+		when(notificationService.acceptForUsers(List.of("U1"), "disk full", NotificationPriority.NORMAL))
+			.thenReturn(Optional.of(delivery));
+
+		ResponseEntity<?> response = controller.sendToUsers(new SlackUserMessageRequest(List.of("U1"), "disk full"), true);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+		assertThat(response.getHeaders().getLocation()).isEqualTo(URI.create("/v1/notifications/deliveries/" + delivery.id()));
+		assertThat(response.getBody()).isEqualTo(DeliveryStatusResponse.from(delivery));
+		verify(notificationService, never()).sendToUsers(anyList(), any(), any());
+	}
+
+	@Test
+	void fullQueueAsksTheCallerToRetryLater() {
+		when(notificationService.acceptForUsers(anyList(), any(), any())).thenReturn(Optional.empty());
+
+		ResponseEntity<?> response = controller.sendToUsers(new SlackUserMessageRequest(List.of("U1"), "disk full"), true);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+	}
+
+	@Test
+	void asyncRequestWithoutRecipientsOrTextIsRejectedBeforeQueueing() {
+		assertThat(controller.sendToUsers(new SlackUserMessageRequest(List.of(), "disk full"), true).getStatusCode())
+			.isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(controller.sendToUsers(new SlackUserMessageRequest(List.of("U1"), " "), true).getStatusCode())
+			.isEqualTo(HttpStatus.BAD_REQUEST);
+		verifyNoInteractions(notificationService);
+	}
+
+	@Test
+	void deliveryStatusIsReturnedOrNotFound() {
+		NotificationDelivery delivery = NotificationDelivery.pending(UUID.randomUUID(), List.of("U1")).sending().completed(true);
+		when(notificationService.findDelivery(any(UUID.class))).thenReturn(Optional.empty());
+		when(notificationService.findDelivery(delivery.id())).thenReturn(Optional.of(delivery));
+
+		ResponseEntity<DeliveryStatusResponse> found = controller.getDelivery(delivery.id());
+		assertThat(found.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(found.getBody().status()).isEqualTo(MessageStatus.SUCCESS);
+		assertThat(found.getBody().completedAt()).isNotNull();
+
+		assertThat(controller.getDelivery(UUID.randomUUID()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void unknownPriorityIsRejectedInsteadOfSentAsNormal() {
+		SlackUserMessageRequest request = new SlackUserMessageRequest(List.of("U1"), "disk full", "URGENT");
+
+		assertThat(controller.sendToUsers(request, false).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(controller.sendToUsers(request, true).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		verifyNoInteractions(notificationService);
+	}
+
+	@Test
+	void priorityIsCaseInsensitive() {
+		when(notificationService.sendToUsers(anyList(), eq("notice"), eq(NotificationPriority.LOW))).thenReturn(true);
+
+		ResponseEntity<?> response = controller.sendToUsers(
+			new SlackUserMessageRequest(List.of("U1"), "notice", "low"), false);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		verify(notificationService).sendToUsers(List.of("U1"), "notice", NotificationPriority.LOW);
+	}
+}